@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>Maintains a canonical instance per distinct value, such that equal
+ * values can be compared by identity. Canonical instances are weakly
+ * referenced and are discarded once no longer used elsewhere. Lookups do
+ * not lock, so that interning from many threads does not contend.</p>
+ *
+ * @param <T> type of value.
+ */
+// Internal implementation class.
+// The proper way for users to obtain canonical instances is via
+// the Order.intern and Sort.intern methods
+final class Interner<T> {
+
+    private final ConcurrentMap<Key<T>, Key<T>> instances = new ConcurrentHashMap<>();
+
+    /**
+     * Keys whose values were discarded, which are removed on the next use.
+     */
+    private final ReferenceQueue<T> discarded = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical instance that is equal to the given value,
+     * which becomes the canonical instance if there is none.
+     *
+     * @param value the value.
+     * @return the canonical instance.
+     */
+    T intern(T value) {
+        for (Reference<? extends T> ref; (ref = discarded.poll()) != null; ) {
+            instances.remove(ref);
+        }
+
+        Key<T> key = new Key<>(value, discarded);
+        while (true) {
+            Key<T> existing = instances.putIfAbsent(key, key);
+            if (existing == null) {
+                return value;
+            }
+            T canonical = existing.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            // discarded after it was found; replace it
+            instances.remove(existing, existing);
+        }
+    }
+
+    /**
+     * A weak reference to a value that is equal to a reference to an equal
+     * value, for as long as the value is not discarded.
+     *
+     * @param <T> type of value.
+     */
+    private static final class Key<T> extends WeakReference<T> {
+        private final int hash;
+
+        Key(T value, ReferenceQueue<? super T> queue) {
+            super(value, queue);
+            this.hash = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key<?> key) || hash != key.hash) {
+                return false;
+            }
+            T value = get();
+            return value != null && value.equals(key.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
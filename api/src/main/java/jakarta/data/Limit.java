@@ -23,6 +23,10 @@ import jakarta.data.page.PageRequest;
 import jakarta.data.repository.Find;
 import jakarta.data.repository.Query;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collector;
+
 /**
  * <p>Specifies a limit on the number of results retrieved by a repository
  * method. The results of a single invocation of a repository method may be
@@ -202,4 +206,38 @@ public record Limit(int maxResults, long startAt) {
 
         return new Limit((int) (endAt - startAt + 1), startAt);
     }
+
+    /**
+     * <p>Returns a collector that sorts results according to the given
+     * comparator and retains only the results that fall within this limit.
+     * This is useful when results cannot be sorted or limited by the data
+     * store and are instead sorted and limited in memory. For example,</p>
+     *
+     * <pre>
+     * List&lt;Product&gt; page3 = allProducts.stream()
+     *         .collect(Limit.range(41, 60).collector(byPrice));
+     * </pre>
+     *
+     * <p>Rather than sorting all of the results, the collector retains at
+     * most {@code startAt + maxResults - 1} results in a bounded heap, such
+     * that the memory that is required is proportional to the end of the
+     * limit instead of to the number of results. Results that compare as
+     * equal are retained in encounter order, as with a stable sort.</p>
+     *
+     * @param <T>        type of result.
+     * @param comparator comparator that orders results.
+     * @return a collector that produces an unmodifiable list of the results
+     *         within this limit, in sorted order.
+     * @throws NullPointerException if the comparator is {@code null}.
+     * @since 1.1
+     */
+    @Nonnull
+    public <T> Collector<T, ?, List<T>> collector(@Nonnull Comparator<? super T> comparator) {
+        Messages.requireNonNull(comparator, "comparator");
+
+        return Collector.of(() -> new TopK<T>(this, comparator),
+                            TopK::add,
+                            TopK::combine,
+                            TopK::results);
+    }
 }
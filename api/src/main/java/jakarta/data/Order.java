@@ -17,6 +17,8 @@
  */
 package jakarta.data;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -79,6 +81,16 @@ public class Order<T> implements Iterable<Sort<? super T>> {
      */
     private final List<Sort<? super T>> sorts;
 
+    /**
+     * Canonical instances of orders.
+     */
+    private static final Interner<Order<?>> INTERNED = new Interner<>();
+
+    /**
+     * Cached hash code, or 0 if not computed yet.
+     */
+    private int hash;
+
     /**
      * Creates a new instance.
      *
@@ -135,6 +147,25 @@ public class Order<T> implements Iterable<Sort<? super T>> {
         return sorts;
     }
 
+    /**
+     * <p>Returns the sort criteria that order results in the opposite
+     * direction. Each {@link Sort} is {@linkplain Sort#reversed() reversed},
+     * while the order of precedence is preserved. Reading results in the
+     * reversed order visits them from last to first.</p>
+     *
+     * @return a new instance with each sort criterion reversed.
+     *         This method never returns {@code null}.
+     * @since 1.1
+     */
+    @Nonnull
+    public Order<T> reversed() {
+        List<Sort<? super T>> reversed = new ArrayList<>(sorts.size());
+        for (Sort<? super T> sort : sorts) {
+            reversed.add(sort.reversed());
+        }
+        return new Order<T>(Collections.unmodifiableList(reversed));
+    }
+
     /**
      * Determines whether this instance specifies matching {@link Sort} criteria
      * in the same order of precedence as another instance.
@@ -145,17 +176,61 @@ public class Order<T> implements Iterable<Sort<? super T>> {
     @Override
     public boolean equals(@Nullable Object other) {
         return this == other
-                || other instanceof Order s && sorts.equals(s.sorts);
+                || other instanceof Order s
+                && hashCode() == s.hashCode()
+                && sorts.equals(s.sorts);
     }
 
     /**
-     * Computes a hash code for this instance.
+     * Computes a hash code for this instance. The hash code is computed once
+     * and cached by this instance.
      *
      * @return hash code.
      */
     @Override
     public int hashCode() {
-        return sorts.hashCode();
+        int h = hash;
+        if (h == 0) {
+            h = sorts.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * <p>Returns the canonical instance of this {@code Order}. Instances that
+     * are equal have the same canonical instance, which allows them to be
+     * compared by identity. Along with the cached hash code, this makes the
+     * canonical instance inexpensive to use as part of the key of a cache,
+     * such as a cache of queries that a Jakarta Data provider has translated
+     * for the sort criteria. For example,</p>
+     *
+     * <pre>
+     * static final Order&lt;Car&gt; BY_PRICE =
+     *         Order.by(_Car.price.desc(), _Car.vin.asc()).intern();
+     * </pre>
+     *
+     * <p>Each {@link Sort} of the canonical instance is
+     * {@linkplain Sort#intern() canonical} as well. Canonical instances are
+     * retained only while they are in use.</p>
+     *
+     * @return the canonical instance that is equal to this instance.
+     * @since 1.1
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Order<T> intern() {
+        List<Sort<? super T>> canonicalSorts = new ArrayList<>(sorts.size());
+        boolean allCanonical = true;
+        for (Sort<? super T> sort : sorts) {
+            Sort<? super T> canonical = sort.intern();
+            allCanonical &= canonical == sort;
+            canonicalSorts.add(canonical);
+        }
+        Order<T> candidate = allCanonical
+                ? this
+                : new Order<T>(Collections.unmodifiableList(canonicalSorts));
+        return (Order<T>) INTERNED.intern(candidate);
     }
 
     /**
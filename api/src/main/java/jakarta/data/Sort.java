@@ -28,6 +28,8 @@ import jakarta.data.metamodel.TextAttribute;
 import jakarta.data.repository.OrderBy;
 import jakarta.annotation.Nonnull;
 
+import java.util.Objects;
+
 /**
  * <p>Requests sorting on a given entity attribute or expression.</p>
  *
@@ -107,6 +109,11 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
                       boolean ignoreCase,
                       @Nonnull Nulls nullOrdering) {
 
+    /**
+     * Canonical instances of sorts.
+     */
+    private static final Interner<Sort<?>> INTERNED = new Interner<>();
+
     /**
      * Indicates how {@code null} values are ordered.
      *
@@ -566,4 +573,86 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
                           ignoreCase,
                           Nulls.LAST);
     }
+
+    /**
+     * <p>Returns an otherwise-equivalent sort that orders in the opposite
+     * direction. The ordering of {@code null} values is also reversed, such
+     * that values which are ordered {@link Nulls#FIRST first} by this sort
+     * are ordered {@link Nulls#LAST last} by the reversed sort, and vice
+     * versa. The reversed sort of a sort that leaves the ordering of
+     * {@code null} values {@linkplain Nulls#UNSPECIFIED unspecified} also
+     * leaves it unspecified.</p>
+     *
+     * @return a sort in the opposite direction.
+     * @since 1.1
+     */
+    @Nonnull
+    public Sort<T> reversed() {
+        return new Sort<>(expression,
+                          expression == null ? property : null,
+                          !isAscending,
+                          ignoreCase,
+                          switch (nullOrdering) {
+                              case FIRST -> Nulls.LAST;
+                              case LAST -> Nulls.FIRST;
+                              case UNSPECIFIED -> Nulls.UNSPECIFIED;
+                          });
+    }
+
+    /**
+     * Compares with another sort, first by identity, which is how the sorts
+     * that are reused by the static metamodel usually compare equal.
+     *
+     * @param other another object.
+     * @return whether the other object is an equal sort.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || other instanceof Sort<?> s
+                && isAscending == s.isAscending
+                && ignoreCase == s.ignoreCase
+                && nullOrdering == s.nullOrdering
+                && Objects.equals(property, s.property)
+                && Objects.equals(expression, s.expression);
+    }
+
+    /**
+     * Computes a hash code for this instance. A sort on an entity attribute
+     * derives its hash code from the name of the attribute, of which the
+     * hash code is cached by the {@code String}, rather than from the whole
+     * expression, so that the hash code is not recomputed over the
+     * expression on every call.
+     *
+     * @return hash code.
+     */
+    @Override
+    public int hashCode() {
+        int h = property == null ? expression.hashCode() : property.hashCode();
+        h = 31 * h + (isAscending ? 1 : 0);
+        h = 31 * h + (ignoreCase ? 1 : 0);
+        return 31 * h + nullOrdering.ordinal();
+    }
+
+    /**
+     * <p>Returns the canonical instance of this sort. Sorts that are equal
+     * have the same canonical instance, which allows them to be compared by
+     * identity, such as when sorts or the {@link Order} that contains them
+     * are used as keys of a cache. The sorts that are obtained from an
+     * entity attribute of the {@linkplain StaticMetamodel static metamodel}
+     * are already reused by the attribute, without interning. Applications
+     * that build other sorts, such as sorts on expressions, and reuse them
+     * many times can intern them once and reuse the canonical
+     * instances.</p>
+     *
+     * <p>Canonical instances are retained only while they are in use.</p>
+     *
+     * @return the canonical instance that is equal to this sort.
+     * @since 1.1
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Sort<T> intern() {
+        return (Sort<T>) INTERNED.intern(this);
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * <p>Retains the results that fall within a {@link Limit} according to the
+ * order of a comparator, while results are supplied one at a time in no
+ * particular order.</p>
+ *
+ * <p>Only the first {@code startAt + maxResults - 1} results in sorted order
+ * can fall within the limit. Those results are kept in a heap that has the
+ * last of them at its root, so that each further result is compared with
+ * the root and then either discarded or swapped with it. Memory is therefore
+ * proportional to the end of the limit rather than to the number of
+ * results. Results that compare as equal retain the order in which they
+ * were supplied, as with a stable sort.</p>
+ *
+ * @param <T> type of result.
+ */
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the Limit.collector or Order.collector methods
+class TopK<T> {
+
+    /**
+     * Maximum number of results to retain.
+     */
+    private final long capacity;
+
+    private final Comparator<Entry<T>> comparator;
+
+    /**
+     * Order of results.
+     */
+    private final Comparator<? super T> order;
+
+    /**
+     * Results, with the result that is ordered last at the root.
+     */
+    private final PriorityQueue<Entry<T>> heap;
+
+    /**
+     * Number of results that have been supplied.
+     */
+    private long count;
+
+    /**
+     * Number of results to skip before the limit starts.
+     */
+    private final long skip;
+
+    TopK(Limit limit, Comparator<? super T> comparator) {
+        long startAt = limit.startAt();
+        int maxResults = limit.maxResults();
+        this.skip = startAt - 1;
+        this.capacity = Long.MAX_VALUE - skip < maxResults
+                ? Long.MAX_VALUE
+                : skip + maxResults;
+        this.order = comparator;
+        this.comparator = (entry1, entry2) -> {
+            int comparison = comparator.compare(entry1.value, entry2.value);
+            return comparison == 0
+                    ? Long.compare(entry1.position, entry2.position)
+                    : comparison;
+        };
+        this.heap = new PriorityQueue<>((int) Math.min(capacity, 64L),
+                                        this.comparator.reversed());
+    }
+
+    /**
+     * Supplies a result.
+     *
+     * @param value the result.
+     */
+    void add(T value) {
+        long position = count++;
+        if (heap.size() < capacity) {
+            heap.add(entry(value, position));
+        } else {
+            Entry<T> last = heap.peek();
+            // results that are supplied later are ordered after equal results
+            if (order.compare(last.value, value) > 0) {
+                heap.poll();
+                last.value = value;
+                last.position = position;
+                heap.add(last);
+            }
+        }
+    }
+
+    /**
+     * Merges the results that were supplied to another instance, which all
+     * follow the results that were supplied to this instance.
+     *
+     * @param other the other instance.
+     * @return this instance.
+     */
+    TopK<T> combine(TopK<T> other) {
+        long offset = count;
+        count += other.count;
+        for (Entry<T> entry : other.heap) {
+            entry.position += offset;
+            if (heap.size() < capacity) {
+                heap.add(entry);
+            } else if (comparator.compare(heap.peek(), entry) > 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the results that fall within the limit, in sorted order.
+     *
+     * @return unmodifiable list of results.
+     */
+    List<T> results() {
+        List<Entry<T>> entries = new ArrayList<>(heap);
+        entries.sort(comparator);
+
+        int size = (int) Math.max(0L, entries.size() - skip);
+        List<T> results = new ArrayList<>(size);
+        for (int i = entries.size() - size; i < entries.size(); i++) {
+            results.add(entries.get(i).value);
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private static <T> Entry<T> entry(T value, long position) {
+        return new Entry<>(value, position);
+    }
+
+    /**
+     * A result and the position in which it was supplied.
+     */
+    private static class Entry<T> {
+        private long position;
+
+        private T value;
+
+        Entry(T value, long position) {
+            this.position = position;
+            this.value = value;
+        }
+    }
+}
@@ -71,7 +71,8 @@ import jakarta.annotation.Nonnull;
  *            type for the entity attribute.
  * @since 1.1
  */
-public interface AtLeast<V extends Comparable<?>> extends Constraint<V> {
+public sealed interface AtLeast<V extends Comparable<?>> extends Constraint<V>
+        permits AtLeastRecord {
 
     /**
      * <p>Requires that the constraint target evaluates to a value that is
@@ -122,4 +123,9 @@ public interface AtLeast<V extends Comparable<?>> extends Constraint<V> {
      */
     @Nonnull
     ComparableExpression<?, V> bound();
+
+    @Override
+    default <R> R accept(@Nonnull ConstraintVisitor<R> visitor) {
+        return visitor.visitAtLeast(this);
+    }
 }
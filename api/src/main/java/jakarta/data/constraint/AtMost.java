@@ -72,7 +72,8 @@ import jakarta.annotation.Nonnull;
  *            type for the entity attribute.
  * @since 1.1
  */
-public interface AtMost<V extends Comparable<?>> extends Constraint<V> {
+public sealed interface AtMost<V extends Comparable<?>> extends Constraint<V>
+        permits AtMostRecord {
 
     /**
      * <p>Requires that the constraint target evaluates to a value that is
@@ -123,4 +124,9 @@ public interface AtMost<V extends Comparable<?>> extends Constraint<V> {
      */
     @Nonnull
     ComparableExpression<?, V> bound();
+
+    @Override
+    default <R> R accept(@Nonnull ConstraintVisitor<R> visitor) {
+        return visitor.visitAtMost(this);
+    }
 }
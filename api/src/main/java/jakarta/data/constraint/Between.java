@@ -64,7 +64,8 @@ import jakarta.annotation.Nonnull;
  *            type for the entity attribute.
  * @since 1.1
  */
-public interface Between<V extends Comparable<?>> extends Constraint<V> {
+public sealed interface Between<V extends Comparable<?>> extends Constraint<V>
+        permits BetweenRecord {
 
     /**
      * <p>Requires that the constraint target evaluates to a value that is
@@ -189,4 +190,9 @@ public interface Between<V extends Comparable<?>> extends Constraint<V> {
      */
     @Nonnull
     ComparableExpression<?, V> upperBound();
+
+    @Override
+    default <R> R accept(@Nonnull ConstraintVisitor<R> visitor) {
+        return visitor.visitBetween(this);
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.data.expression.Expression;
+import jakarta.annotation.Nonnull;
+
+record BulkNotInRecord<V>(@Nonnull BulkValues<V> bulk) implements NotIn<V> {
+
+    @Override
+    @Nonnull
+    public Optional<BulkValues<V>> bulkValues() {
+        return Optional.of(bulk);
+    }
+
+    @Override
+    @Nonnull
+    public List<Expression<?, V>> expressions() {
+        return new LiteralList<>(bulk.values());
+    }
+
+    @Override
+    @Nonnull
+    public In<V> negate() {
+        return new BulkInRecord<>(bulk);
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "NOT IN " + bulk;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.messages.Messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>A large collection of values of an {@link In} or {@link NotIn}
+ * constraint that is held without wrapping each value in a literal
+ * expression. Bulk values are obtained from the
+ * {@link In#bulkValues()} or {@link NotIn#bulkValues()} method of a
+ * constraint that was created by one of the {@code bulk} methods, such as
+ * {@link In#bulk(Set)} or {@link In#bulk(long[])}.</p>
+ *
+ * <p>A Jakarta Data provider that recognizes bulk values can avoid
+ * translating each value individually. For example, it might bind the
+ * values to a single array parameter, insert them into a temporary table
+ * that the query joins, or split them into {@linkplain #chunks(int) chunks}
+ * that fit the limits of the datastore and combine the results of a query
+ * per chunk,</p>
+ *
+ * <pre>
+ * for (List&lt;Long&gt; chunk : bulk.chunks(1000)) {
+ *     query.setParameter("ids", chunk);
+ *     results.addAll(query.getResultList());
+ * }
+ * </pre>
+ *
+ * <p>Bulk values are immutable. Values that are supplied as a primitive
+ * array are sorted in ascending order, without duplicates.</p>
+ *
+ * @param <V> type of the values.
+ * @since 1.1
+ */
+public interface BulkValues<V> {
+
+    /**
+     * <p>Splits the values into consecutive chunks, each with at most the
+     * given number of values. The chunks are views of the
+     * {@linkplain #values() values} and do not copy them.</p>
+     *
+     * @param maxSize maximum number of values per chunk.
+     * @return the chunks of values, in order.
+     * @throws IllegalArgumentException if the maximum size is less than 1.
+     */
+    @Nonnull
+    default List<List<V>> chunks(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "maxSize", maxSize));
+        }
+
+        List<V> values = values();
+        int size = values.size();
+        List<List<V>> chunks = new ArrayList<>(size / maxSize + (size % maxSize == 0 ? 0 : 1));
+        for (int start = 0; start < size; start += maxSize) {
+            chunks.add(values.subList(start, Math.min(start + maxSize, size)));
+        }
+        return chunks;
+    }
+
+    /**
+     * <p>Determines whether the given value is one of the values, without
+     * iterating over the values. Values that are supplied as a primitive
+     * array contain any {@link Long}, {@link Integer}, {@link Short}, or
+     * {@link Byte} of equal numeric value.</p>
+     *
+     * @param value a value, which can be {@code null}.
+     * @return {@code true} if the value is one of the values,
+     *         otherwise {@code false}.
+     */
+    boolean contains(Object value);
+
+    /**
+     * <p>The number of values.</p>
+     *
+     * @return the number of values, which is at least 1.
+     */
+    int size();
+
+    /**
+     * <p>An unmodifiable list view of the values, in the iteration order of
+     * the supplied {@link Set} or in ascending order for values that are
+     * supplied as a primitive array. Values that are supplied as a
+     * primitive array are boxed as they are read from the list.</p>
+     *
+     * @return the values.
+     */
+    @Nonnull
+    List<V> values();
+}
@@ -87,7 +87,22 @@ import jakarta.annotation.Nonnull;
  * @param <V> type of the entity attribute.
  * @since 1.1
  */
-public interface Constraint<V> {
+public sealed interface Constraint<V>
+        permits AtLeast, AtMost, Between, EqualTo, GreaterThan, In, LessThan,
+        Like, NotBetween, NotEqualTo, NotIn, NotLike, NotNull, Null {
+
+    /**
+     * <p>Invokes the method of the given visitor that corresponds to the
+     * subtype of this {@code Constraint}. For example, an {@link AtLeast}
+     * constraint invokes {@link ConstraintVisitor#visitAtLeast(AtLeast)}.
+     * The set of {@code Constraint} subtypes is closed, so every constraint
+     * is handled by exactly one method of the visitor.</p>
+     *
+     * @param <R>     type of result of the visitor.
+     * @param visitor the visitor.
+     * @return the result of the visitor.
+     */
+    <R> R accept(@Nonnull ConstraintVisitor<R> visitor);
 
     /**
      * <p>Obtains the negation of the {@code Constraint}. For example, the negation 
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * <p>Performs an operation on a {@link Constraint} according to the subtype
+ * of the constraint, without inspecting the type of the constraint with
+ * {@code instanceof}. A visitor is applied to a constraint by
+ * {@link Constraint#accept(ConstraintVisitor)}, which invokes the one method
+ * of this interface that corresponds to the subtype of the constraint.</p>
+ *
+ * <p>Because the subtypes of {@code Constraint} are sealed, an implementation
+ * of this interface handles every constraint. If a subtype of
+ * {@code Constraint} is added in a future version, a method is added to this
+ * interface as well, so that implementations that do not handle the new
+ * subtype fail to compile rather than silently ignoring it.</p>
+ *
+ * <p>For example, a Jakarta Data provider might translate constraints to
+ * query language operators as follows,</p>
+ *
+ * <pre>
+ * String operator = constraint.accept(new ConstraintVisitor&lt;&gt;() {
+ *     public String visitAtLeast(AtLeast&lt;?&gt; c) { return "&gt;="; }
+ *     public String visitAtMost(AtMost&lt;?&gt; c) { return "&lt;="; }
+ *     ...
+ * });
+ * </pre>
+ *
+ * @param <R> type of result of the visitor.
+ * @since 1.1
+ */
+public interface ConstraintVisitor<R> {
+
+    /**
+     * Visits an {@link AtLeast} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitAtLeast(@Nonnull AtLeast<?> constraint);
+
+    /**
+     * Visits an {@link AtMost} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitAtMost(@Nonnull AtMost<?> constraint);
+
+    /**
+     * Visits a {@link Between} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitBetween(@Nonnull Between<?> constraint);
+
+    /**
+     * Visits an {@link EqualTo} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitEqualTo(@Nonnull EqualTo<?> constraint);
+
+    /**
+     * Visits a {@link GreaterThan} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitGreaterThan(@Nonnull GreaterThan<?> constraint);
+
+    /**
+     * Visits an {@link In} constraint, including a constraint that is
+     * backed by {@linkplain In#bulkValues() bulk values}.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitIn(@Nonnull In<?> constraint);
+
+    /**
+     * Visits a {@link LessThan} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitLessThan(@Nonnull LessThan<?> constraint);
+
+    /**
+     * Visits a {@link Like} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitLike(@Nonnull Like constraint);
+
+    /**
+     * Visits a {@link NotBetween} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitNotBetween(@Nonnull NotBetween<?> constraint);
+
+    /**
+     * Visits a {@link NotEqualTo} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitNotEqualTo(@Nonnull NotEqualTo<?> constraint);
+
+    /**
+     * Visits a {@link NotIn} constraint, including a constraint that is
+     * backed by {@linkplain NotIn#bulkValues() bulk values}.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitNotIn(@Nonnull NotIn<?> constraint);
+
+    /**
+     * Visits a {@link NotLike} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitNotLike(@Nonnull NotLike constraint);
+
+    /**
+     * Visits a {@link NotNull} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitNotNull(@Nonnull NotNull<?> constraint);
+
+    /**
+     * Visits a {@link Null} constraint.
+     *
+     * @param constraint the constraint.
+     * @return the result of the visitor.
+     */
+    R visitNull(@Nonnull Null<?> constraint);
+}
@@ -87,7 +87,8 @@ import jakarta.annotation.Nonnull;
  *            type for the entity attribute.
  * @since 1.1
  */
-public interface EqualTo<V> extends Constraint<V> {
+public sealed interface EqualTo<V> extends Constraint<V>
+        permits EqualToRecord {
 
     /**
      * <p>Requires that the constraint target equal the value to which the
@@ -147,4 +148,9 @@ public interface EqualTo<V> extends Constraint<V> {
      */
     @Nonnull
     Expression<?, V> expression();
+
+    @Override
+    default <R> R accept(@Nonnull ConstraintVisitor<R> visitor) {
+        return visitor.visitEqualTo(this);
+    }
 }
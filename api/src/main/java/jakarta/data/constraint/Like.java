@@ -27,9 +27,12 @@ import jakarta.data.messages.Messages;
 import jakarta.data.metamodel.Attribute;
 import jakarta.data.repository.Is;
 import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.expression.literal.Literal;
 import jakarta.data.spi.expression.literal.StringLiteral;
 import jakarta.annotation.Nonnull;
 
+import java.util.Optional;
+
 /**
  * <p>A constraint that requires matching a pattern.</p>
  *
@@ -84,7 +87,8 @@ import jakarta.annotation.Nonnull;
  *
  * @since 1.1
  */
-public interface Like extends Constraint<String> {
+public sealed interface Like extends Constraint<String>
+        permits LikeRecord {
 
     /**
      * <p>Requires that the constraint target match the given {@code pattern},
@@ -318,6 +322,23 @@ public interface Like extends Constraint<String> {
      */
     char escape();
 
+    /**
+     * <p>The {@link #pattern()} in parsed form, if the pattern is a literal.
+     * The parsed form classifies the pattern as exact text, a prefix, a
+     * suffix, a substring, or a general pattern, and matches text against
+     * the pattern in memory. The pattern is parsed each time this method
+     * is invoked.</p>
+     *
+     * @return the parsed pattern, or {@link Optional#empty()} if the
+     *         pattern is not a literal.
+     */
+    @Nonnull
+    default Optional<LikePattern> parsed() {
+        return pattern() instanceof Literal<?> literal
+                ? Optional.of(LikePattern.of((String) literal.value(), escape()))
+                : Optional.empty();
+    }
+
     /**
      * <p>An expression that evaluates to a pattern against which the
      * constraint target must match.</p>
@@ -336,4 +357,9 @@ public interface Like extends Constraint<String> {
      */
     @Nonnull
     TextExpression<?> pattern();
+
+    @Override
+    default <R> R accept(@Nonnull ConstraintVisitor<R> visitor) {
+        return visitor.visitLike(this);
+    }
 }
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.messages.Messages;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * <p>The parsed form of the pattern of a {@link Like} or {@link NotLike}
+ * constraint, in which {@code _} matches any single character and {@code %}
+ * matches any sequence of characters, unless preceded by the escape
+ * character. A parsed pattern is obtained from {@link Like#parsed()} or
+ * {@link NotLike#parsed()}, or by parsing a pattern with
+ * {@link #of(String, char)}.</p>
+ *
+ * <p>The pattern is classified by its {@link Kind}. A Jakarta Data provider
+ * can use the classification to choose an efficient operation, for example
+ * turning a {@link Kind#PREFIX PREFIX} pattern into a range scan of an index,
+ * </p>
+ *
+ * <pre>
+ * LikePattern parsed = like.parsed().orElseThrow();
+ * if (parsed.kind() == LikePattern.Kind.PREFIX) {
+ *     range = index.range(parsed.prefix(), parsed.prefixEnd().orElse(null));
+ * }
+ * </pre>
+ *
+ * <p>The {@link #matches(String)} method and the {@link #matcher()} match
+ * text against the pattern in memory, without a regular expression. The
+ * matcher is chosen according to the kind of pattern: equality,
+ * {@link String#startsWith(String) startsWith},
+ * {@link String#endsWith(String) endsWith}, a Boyer-Moore-Horspool search,
+ * or a wildcard matcher for general patterns. Each wildcard matches a
+ * single {@code char} of the text.</p>
+ *
+ * <p>Instances of this class are immutable and safe for use by multiple
+ * threads.</p>
+ *
+ * @since 1.1
+ */
+public final class LikePattern {
+
+    /**
+     * Classification of a pattern according to its wildcards.
+     */
+    public enum Kind {
+        /**
+         * A pattern without wildcards, which matches exactly its
+         * {@linkplain #literal() literal} text.
+         */
+        EXACT,
+
+        /**
+         * A pattern that consists of literal text followed by {@code %},
+         * which matches text that begins with the literal text.
+         */
+        PREFIX,
+
+        /**
+         * A pattern that consists of {@code %} followed by literal text,
+         * which matches text that ends with the literal text.
+         */
+        SUFFIX,
+
+        /**
+         * A pattern that consists of literal text between {@code %}
+         * wildcards, which matches text that contains the literal text.
+         * The pattern {@code %} on its own contains empty literal text and
+         * matches any text.
+         */
+        CONTAINS,
+
+        /**
+         * Any other pattern, such as a pattern with the {@code _} wildcard
+         * or with {@code %} between literal characters.
+         */
+        GENERAL
+    }
+
+    /**
+     * Token of a general pattern that matches any single character.
+     */
+    private static final int ANY_CHAR = -1;
+
+    /**
+     * Token of a general pattern that matches any sequence of characters.
+     */
+    private static final int ANY_STRING = -2;
+
+    /**
+     * Size of the table of shifts for the Boyer-Moore-Horspool search,
+     * which is indexed by the low-order bits of characters.
+     */
+    private static final int SHIFTS = 256;
+
+    /**
+     * Literal text of the search below which {@link String#contains} is
+     * faster than a Boyer-Moore-Horspool search.
+     */
+    private static final int MIN_SEARCH_LENGTH = 4;
+
+    private final char escape;
+
+    private final Kind kind;
+
+    private final String literal;
+
+    private final Predicate<String> matcher;
+
+    private final String pattern;
+
+    private final String prefix;
+
+    private LikePattern(String pattern, char escape) {
+        this.pattern = pattern;
+        this.escape = escape;
+
+        // Characters of the pattern without escapes, followed by wildcards,
+        // with consecutive % wildcards collapsed into one.
+        int[] tokens = new int[pattern.length()];
+        int count = 0;
+        int anyChar = 0;
+        int anyString = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == escape && i + 1 < pattern.length()) {
+                tokens[count++] = pattern.charAt(++i);
+            } else if (ch == LikeRecord.CHAR_WILDCARD) {
+                tokens[count++] = ANY_CHAR;
+                anyChar++;
+            } else if (ch == LikeRecord.STRING_WILDCARD) {
+                if (count == 0 || tokens[count - 1] != ANY_STRING) {
+                    tokens[count++] = ANY_STRING;
+                    anyString++;
+                }
+            } else {
+                tokens[count++] = ch;
+            }
+        }
+        tokens = Arrays.copyOf(tokens, count);
+
+        boolean leading = count > 0 && tokens[0] == ANY_STRING;
+        boolean trailing = count > 0 && tokens[count - 1] == ANY_STRING;
+        if (anyChar > 0 || anyString > 2 ||
+                anyString == 2 && !(leading && trailing) ||
+                anyString == 1 && !leading && !trailing) {
+            kind = Kind.GENERAL;
+            literal = null;
+        } else if (anyString == 0) {
+            kind = Kind.EXACT;
+            literal = text(tokens, 0, count);
+        } else if (leading && trailing) {
+            kind = Kind.CONTAINS;
+            literal = count == 1 ? "" : text(tokens, 1, count - 1);
+        } else if (trailing) {
+            kind = Kind.PREFIX;
+            literal = text(tokens, 0, count - 1);
+        } else {
+            kind = Kind.SUFFIX;
+            literal = text(tokens, 1, count);
+        }
+
+        int end = 0;
+        while (end < count && tokens[end] >= 0) {
+            end++;
+        }
+        prefix = text(tokens, 0, end);
+
+        matcher = switch (kind) {
+            case EXACT -> literal::equals;
+            case PREFIX -> text -> text.startsWith(literal);
+            case SUFFIX -> text -> text.endsWith(literal);
+            case CONTAINS -> search(literal);
+            case GENERAL -> wildcards(tokens);
+        };
+    }
+
+    /**
+     * <p>Parses a pattern in which {@code _} matches any single character and
+     * {@code %} matches any sequence of characters, unless preceded by the
+     * escape character. An escape character at the end of the pattern is
+     * a literal character.</p>
+     *
+     * @param pattern the pattern, such as the value of the
+     *                {@link Like#pattern() pattern} of a {@code Like}
+     *                constraint.
+     * @param escape  the escape character.
+     * @return the parsed pattern.
+     * @throws NullPointerException if the pattern is {@code null}.
+     */
+    @Nonnull
+    public static LikePattern of(@Nonnull String pattern, char escape) {
+        Messages.requireNonNull(pattern, "pattern");
+
+        return new LikePattern(pattern, escape);
+    }
+
+    /**
+     * <p>The escape character of the pattern.</p>
+     *
+     * @return the escape character.
+     */
+    public char escape() {
+        return escape;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other ||
+                other instanceof LikePattern like &&
+                escape == like.escape &&
+                pattern.equals(like.pattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return pattern.hashCode() * 31 + escape;
+    }
+
+    /**
+     * <p>The classification of the pattern.</p>
+     *
+     * @return the kind of pattern.
+     */
+    @Nonnull
+    public Kind kind() {
+        return kind;
+    }
+
+    /**
+     * <p>The literal text of the pattern, without escape characters and
+     * without the {@code %} wildcards that determine the
+     * {@linkplain #kind() kind} of pattern. For example, the literal text of
+     * the {@link Kind#CONTAINS CONTAINS} pattern {@code %Hybrid%} is
+     * {@code Hybrid}.</p>
+     *
+     * @return the literal text, or {@link Optional#empty()} if the pattern
+     *         is a {@link Kind#GENERAL GENERAL} pattern.
+     */
+    @Nonnull
+    public Optional<String> literal() {
+        return Optional.ofNullable(literal);
+    }
+
+    /**
+     * <p>A predicate that determines whether text matches the pattern.</p>
+     *
+     * @return the matcher.
+     */
+    @Nonnull
+    public Predicate<String> matcher() {
+        return matcher;
+    }
+
+    /**
+     * <p>Determines whether the given text matches the pattern.</p>
+     *
+     * @param text the text.
+     * @return {@code true} if the text matches the pattern,
+     *         otherwise {@code false}.
+     * @throws NullPointerException if the text is {@code null}.
+     */
+    public boolean matches(@Nonnull String text) {
+        return matcher.test(text);
+    }
+
+    /**
+     * <p>The pattern, as it was supplied.</p>
+     *
+     * @return the pattern.
+     */
+    @Nonnull
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * <p>The literal characters, without escape characters, that precede the
+     * first wildcard of the pattern. Every text that matches the pattern
+     * begins with the prefix, regardless of the kind of pattern. The prefix
+     * is empty if the pattern begins with a wildcard.</p>
+     *
+     * @return the prefix.
+     */
+    @Nonnull
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * <p>The least text that is greater than every text that begins with the
+     * {@linkplain #prefix() prefix}, when text is compared by the numeric
+     * values of its characters. Text that matches the pattern is at least
+     * the prefix and less than this end of the range, such that a provider
+     * can look up matching text with a range scan of an index that uses
+     * this ordering.</p>
+     *
+     * @return the end of the range, or {@link Optional#empty()} if the
+     *         prefix is empty or consists only of the character
+     *         {@link Character#MAX_VALUE}, in which case the range has no end.
+     */
+    @Nonnull
+    public Optional<String> prefixEnd() {
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            char ch = prefix.charAt(i);
+            if (ch != Character.MAX_VALUE) {
+                return Optional.of(prefix.substring(0, i) + (char) (ch + 1));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return kind + " " + pattern + " ESCAPE '" + escape + "'";
+    }
+
+    /**
+     * Returns a Boyer-Moore-Horspool search for the given text. The table of
+     * shifts is indexed by the low-order bits of characters, such that
+     * characters that share the bits share the smallest shift among them.
+     */
+    private static Predicate<String> search(String target) {
+        int length = target.length();
+        if (length < MIN_SEARCH_LENGTH) {
+            return text -> text.contains(target);
+        }
+
+        int[] shifts = new int[SHIFTS];
+        Arrays.fill(shifts, length);
+        for (int i = 0; i < length - 1; i++) {
+            shifts[target.charAt(i) % SHIFTS] = length - 1 - i;
+        }
+
+        return text -> {
+            int i = 0;
+            while (i <= text.length() - length) {
+                int j = length - 1;
+                while (j >= 0 && text.charAt(i + j) == target.charAt(j)) {
+                    j--;
+                }
+                if (j < 0) {
+                    return true;
+                }
+                i += shifts[text.charAt(i + length - 1) % SHIFTS];
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the characters of the given tokens, which must not be
+     * wildcards, as text.
+     */
+    private static String text(int[] tokens, int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            chars[i - start] = (char) tokens[i];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns a matcher for a general pattern. When a character does not
+     * match, the matcher returns to the most recent {@code %} wildcard and
+     * lets it match one more character, which needs no further backtracking
+     * because the tokens that follow an earlier {@code %} wildcard have
+     * already matched.
+     */
+    private static Predicate<String> wildcards(int[] tokens) {
+        return text -> {
+            int t = 0;
+            int i = 0;
+            int star = -1;
+            int resume = 0;
+            while (i < text.length()) {
+                if (t < tokens.length && (tokens[t] == ANY_CHAR || tokens[t] == text.charAt(i))) {
+                    t++;
+                    i++;
+                } else if (t < tokens.length && tokens[t] == ANY_STRING) {
+                    star = t++;
+                    resume = i;
+                } else if (star >= 0) {
+                    t = star + 1;
+                    i = ++resume;
+                } else {
+                    return false;
+                }
+            }
+            while (t < tokens.length && tokens[t] == ANY_STRING) {
+                t++;
+            }
+            return t == tokens.length;
+        };
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import jakarta.data.expression.Expression;
+import jakarta.data.spi.expression.literal.Literal;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list view of bulk values as literal expressions. A literal
+ * is created each time an element is read, such that the values of a bulk
+ * constraint are only wrapped when a provider that does not recognize
+ * {@link BulkValues} reads them as expressions.
+ *
+ * @param <V> type of the values.
+ */
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the expressions method of a bulk In or NotIn constraint
+final class LiteralList<V> extends AbstractList<Expression<?, V>>
+        implements RandomAccess {
+
+    private final List<V> values;
+
+    LiteralList(List<V> values) {
+        this.values = values;
+    }
+
+    @Override
+    public Expression<?, V> get(int index) {
+        return Literal.of(values.get(index));
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Bulk values that are backed by a sorted array of {@code long} values
+ * without duplicates.
+ */
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the static In.bulk and NotIn.bulk methods
+final class LongValues implements BulkValues<Long> {
+
+    private final long[] values;
+
+    /**
+     * View of the values as a list, which boxes each value as it is read.
+     */
+    private final List<Long> list = new Boxed();
+
+    LongValues(long[] values) {
+        this.values = distinct(values);
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return (value instanceof Long || value instanceof Integer ||
+                value instanceof Short || value instanceof Byte) &&
+                Arrays.binarySearch(values, ((Number) value).longValue()) >= 0;
+    }
+
+    /**
+     * Returns a sorted copy of the given array, without duplicates.
+     */
+    private static long[] distinct(long[] array) {
+        long[] sorted = array.clone();
+        Arrays.sort(sorted);
+        int count = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other ||
+                other instanceof LongValues longValues &&
+                Arrays.equals(values, longValues.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    @Override
+    public List<Long> values() {
+        return list;
+    }
+
+    /**
+     * Unmodifiable list view of the values.
+     */
+    private class Boxed extends AbstractList<Long> implements RandomAccess {
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
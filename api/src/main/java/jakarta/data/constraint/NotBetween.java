@@ -64,7 +64,8 @@ import jakarta.annotation.Nonnull;
  *            type for the entity attribute.
  * @since 1.1
  */
-public interface NotBetween<V extends Comparable<?>> extends Constraint<V> {
+public sealed interface NotBetween<V extends Comparable<?>> extends Constraint<V>
+        permits NotBetweenRecord {
 
     /**
      * <p>Requires that the constraint target evaluates to a value that is
@@ -185,4 +186,9 @@ public interface NotBetween<V extends Comparable<?>> extends Constraint<V> {
      */
     @Nonnull
     ComparableExpression<?, V> upperBound();
+
+    @Override
+    default <R> R accept(@Nonnull ConstraintVisitor<R> visitor) {
+        return visitor.visitNotBetween(this);
+    }
 }
@@ -73,7 +73,8 @@ import jakarta.annotation.Nonnull;
  *            type for the entity attribute.
  * @since 1.1
  */
-public interface NotEqualTo<V> extends Constraint<V> {
+public sealed interface NotEqualTo<V> extends Constraint<V>
+        permits NotEqualToRecord {
 
     /**
      * <p>Requires that the constraint target not equal the value to which the
@@ -133,4 +134,9 @@ public interface NotEqualTo<V> extends Constraint<V> {
      */
     @Nonnull
     Expression<?, V> expression();
+
+    @Override
+    default <R> R accept(@Nonnull ConstraintVisitor<R> visitor) {
+        return visitor.visitNotEqualTo(this);
+    }
 }
@@ -20,6 +20,8 @@ package jakarta.data.constraint;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import jakarta.data.expression.Expression;
 import jakarta.data.messages.Messages;
@@ -70,7 +72,8 @@ import jakarta.annotation.Nonnull;
  *            type for the entity attribute.
  * @since 1.1
  */
-public interface NotIn<V> extends Constraint<V> {
+public sealed interface NotIn<V> extends Constraint<V>
+        permits NotInRecord, BulkNotInRecord {
 
     /**
      * <p>Requires that the constraint target not equal any of the given
@@ -157,6 +160,110 @@ public interface NotIn<V> extends Constraint<V> {
         return new NotInRecord<>(unmodifiableList(expressions));
     }
 
+    /**
+     * <p>Requires that the constraint target not equal any of the given
+     * {@code values}, which are held in bulk, without wrapping each value
+     * in a literal expression. The constraint holds an unmodifiable copy
+     * of the set, so that later changes to the set do not affect the
+     * constraint. For example,</p>
+     *
+     * <pre>
+     * found = products.excludingIds(NotIn.bulk(productIds));
+     * </pre>
+     *
+     * <p>The values are available to Jakarta Data providers from
+     * {@link #bulkValues()}.</p>
+     *
+     * @param <V>    type of the entity attribute or a subtype or primitive
+     *               wrapper type for the entity attribute.
+     * @param values values against which the constraint target is compared.
+     * @return a {@code NotIn} constraint.
+     * @throws IllegalArgumentException if the set of values is empty.
+     * @throws NullPointerException     if the set of values or any value
+     *                                  within it is {@code null}.
+     */
+    @Nonnull
+    static <V> NotIn<V> bulk(@Nonnull Set<V> values) {
+        if (values == null) {
+            throw new NullPointerException(
+                    Messages.get("001.arg.required", "values"));
+        }
+
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException(
+                    Messages.get("002.no.elements", "values"));
+        }
+
+        for (V value : values) {
+            if (value == null) {
+                throw new NullPointerException(
+                        Messages.get("003.null.element", "values"));
+            }
+        }
+
+        return new BulkNotInRecord<>(new SetValues<>(values));
+    }
+
+    /**
+     * <p>Requires that the constraint target not equal any of the given
+     * {@code long} {@code values}, which are held in bulk as a sorted copy of
+     * the array, without boxing each value or wrapping it in a literal
+     * expression.</p>
+     *
+     * <p>The values are available to Jakarta Data providers from
+     * {@link #bulkValues()}, in ascending order and without duplicates.</p>
+     *
+     * @param values values against which the constraint target is compared.
+     * @return a {@code NotIn} constraint.
+     * @throws IllegalArgumentException if the array of values is empty.
+     * @throws NullPointerException     if the array of values is
+     *                                  {@code null}.
+     */
+    @Nonnull
+    static NotIn<Long> bulk(@Nonnull long[] values) {
+        if (values == null) {
+            throw new NullPointerException(
+                    Messages.get("001.arg.required", "values"));
+        }
+
+        if (values.length == 0) {
+            throw new IllegalArgumentException(
+                    Messages.get("002.no.elements", "values"));
+        }
+
+        return new BulkNotInRecord<>(new LongValues(values));
+    }
+
+    /**
+     * <p>Requires that the constraint target not equal any of the given
+     * {@code int} {@code values}, which are held in bulk as a sorted copy of
+     * the array, without boxing each value or wrapping it in a literal
+     * expression.</p>
+     *
+     * <p>The values are available to Jakarta Data providers from
+     * {@link #bulkValues()}, in ascending order and without duplicates.</p>
+     *
+     * @param values values against which the constraint target is compared.
+     * @return a {@code NotIn} constraint.
+     * @throws IllegalArgumentException if the array of values is empty.
+     * @throws NullPointerException     if the array of values is
+     *                                  {@code null}.
+     */
+    @Nonnull
+    static NotIn<Integer> bulk(@Nonnull int[] values) {
+        if (values == null) {
+            throw new NullPointerException(
+                    Messages.get("001.arg.required", "values"));
+        }
+
+        if (values.length == 0) {
+            throw new IllegalArgumentException(
+                    Messages.get("002.no.elements", "values"));
+        }
+
+        return new BulkNotInRecord<>(new IntValues(values));
+    }
+
     /**
      * <p>Requires that the constraint target not equal any of the values to
      * which the given {@code expressions} evaluate. For example,</p>
@@ -240,15 +347,36 @@ public interface NotIn<V> extends Constraint<V> {
         return new NotInRecord<>(List.of(expressions));
     }
 
+    /**
+     * <p>Values against which the constraint target is compared, if the
+     * constraint was created by one of the {@code bulk} methods. Jakarta
+     * Data providers that recognize bulk values should use them instead of
+     * the {@linkplain #expressions() expressions}, which wrap each value in
+     * a literal expression as it is read.</p>
+     *
+     * @return the bulk values, or {@link Optional#empty()} if the
+     *         constraint was not created from bulk values.
+     */
+    @Nonnull
+    default Optional<BulkValues<V>> bulkValues() {
+        return Optional.empty();
+    }
+
     /**
      * <p>Expressions that evaluate to the values against which the
      * constraint target is compared. The order of the list of expressions
      * matches the order of the array or the iteration order of the
      * {@link Collection} that was supplied to the static method that created
-     * the {@code NotIn} constraint.</p>
+     * the {@code NotIn} constraint. The order of bulk values is as
+     * described by {@link BulkValues#values()}.</p>
      *
      * @return expressions representing the values.
      */
     @Nonnull
     List<Expression<?, V>> expressions();
+
+    @Override
+    default <R> R accept(@Nonnull ConstraintVisitor<R> visitor) {
+        return visitor.visitNotIn(this);
+    }
 }
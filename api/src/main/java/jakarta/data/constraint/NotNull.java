@@ -66,7 +66,8 @@ import jakarta.annotation.Nonnull;
  *            type for the entity attribute.
  * @since 1.1
  */
-public interface NotNull<V> extends Constraint<V> {
+public sealed interface NotNull<V> extends Constraint<V>
+        permits NotNullRecord {
 
     /**
      * <p>Requires that the constraint target not have a {@code null} value.
@@ -86,4 +87,9 @@ public interface NotNull<V> extends Constraint<V> {
     static <V> NotNull<V> instance() {
         return (NotNull<V>) NotNullRecord.INSTANCE;
     }
+
+    @Override
+    default <R> R accept(@Nonnull ConstraintVisitor<R> visitor) {
+        return visitor.visitNotNull(this);
+    }
 }
@@ -63,7 +63,8 @@ import jakarta.annotation.Nonnull;
  *            type for the entity attribute.
  * @since 1.1
  */
-public interface Null<V> extends Constraint<V> {
+public sealed interface Null<V> extends Constraint<V>
+        permits NullRecord {
 
     /**
      * <p>Requires that the constraint target has a {@code null} value. For
@@ -83,4 +84,9 @@ public interface Null<V> extends Constraint<V> {
     static <V> Null<V> instance() {
         return (Null<V>) NullRecord.INSTANCE;
     }
+
+    @Override
+    default <R> R accept(@Nonnull ConstraintVisitor<R> visitor) {
+        return visitor.visitNull(this);
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Bulk values that are backed by an unmodifiable snapshot of a {@link Set}
+ * which is supplied by the application, so that later changes to the
+ * application's set do not change the values. The values are held both as
+ * a list in the iteration order of the set and as a set that looks up values
+ * in the same way as the supplied set, where a sorted set keeps its
+ * comparator.
+ *
+ * @param <V> type of the values.
+ */
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the static In.bulk and NotIn.bulk methods
+final class SetValues<V> implements BulkValues<V> {
+
+    private final Set<V> set;
+
+    private final List<V> list;
+
+    @SuppressWarnings("unchecked")
+    SetValues(Set<V> values) {
+        list = Collections.unmodifiableList(Arrays.asList((V[]) values.toArray()));
+        Set<V> copy = values instanceof SortedSet<V> sorted
+                ? new TreeSet<>(sorted.comparator())
+                : new HashSet<>(list.size() * 4 / 3 + 1);
+        copy.addAll(list);
+        set = Collections.unmodifiableSet(copy);
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        try {
+            return value != null && set.contains(value);
+        } catch (ClassCastException x) {
+            // the set does not allow values of this type
+            return false;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other ||
+                other instanceof SetValues<?> values && set.equals(values.set);
+    }
+
+    @Override
+    public int hashCode() {
+        return set.hashCode();
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public String toString() {
+        return list.toString();
+    }
+
+    @Override
+    public List<V> values() {
+        return list;
+    }
+}
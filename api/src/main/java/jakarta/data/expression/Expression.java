@@ -108,6 +108,24 @@ public interface Expression<T, V> {
     @Nonnull
     Class<? extends V> type();
 
+    /**
+     * <p>Invokes the method of the given visitor that corresponds to the kind
+     * of this expression, such as
+     * {@link ExpressionVisitor#visitAttribute} for an entity attribute or
+     * {@link ExpressionVisitor#visitLiteral} for a literal value.</p>
+     *
+     * <p>Expressions that are not of any kind that is known to the
+     * {@link ExpressionVisitor} invoke
+     * {@link ExpressionVisitor#visitOther(Expression)}.</p>
+     *
+     * @param <R>     type of result of the visitor.
+     * @param visitor the visitor.
+     * @return the result of the visitor.
+     */
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitOther(this);
+    }
+
     /**
      * <p>Obtains a {@link Restriction} that requires that this expression
      * evaluate to a value that is equal to the specified value.</p>
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.expression;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.messages.Messages;
+import jakarta.data.metamodel.BasicAttribute;
+import jakarta.data.spi.expression.function.CurrentDate;
+import jakarta.data.spi.expression.function.CurrentDateTime;
+import jakarta.data.spi.expression.function.CurrentTime;
+import jakarta.data.spi.expression.function.FunctionExpression;
+import jakarta.data.spi.expression.function.NumericCast;
+import jakarta.data.spi.expression.function.NumericOperatorExpression;
+import jakarta.data.spi.expression.literal.Literal;
+import jakarta.data.spi.expression.path.Path;
+
+/**
+ * <p>Performs an operation on an {@link Expression} according to the kind of
+ * expression, without inspecting the type of the expression with
+ * {@code instanceof}. A visitor is applied to an expression by
+ * {@link Expression#accept(ExpressionVisitor)}, which invokes the method of
+ * this interface that corresponds to the kind of the expression.</p>
+ *
+ * <p>Unlike {@code Restriction} and {@code Constraint}, the {@code Expression}
+ * hierarchy is not sealed. Expressions combine the interfaces of entity
+ * attributes, paths, and typed expressions, and the static metamodel that is
+ * generated for an application implements them. Expressions that are not of
+ * any kind for which this interface has a method invoke
+ * {@link #visitOther(Expression)}, which a visitor can override to handle
+ * them.</p>
+ *
+ * @param <R> type of result of the visitor.
+ * @since 1.1
+ */
+public interface ExpressionVisitor<R> {
+
+    /**
+     * Visits an entity attribute.
+     *
+     * @param attribute the entity attribute.
+     * @return the result of the visitor.
+     */
+    R visitAttribute(@Nonnull BasicAttribute<?, ?> attribute);
+
+    /**
+     * Visits an entity attribute that is reached by navigating from another
+     * expression. The path is also an {@link Expression}.
+     *
+     * @param path the path.
+     * @return the result of the visitor.
+     */
+    R visitPath(@Nonnull Path<?, ?> path);
+
+    /**
+     * Visits a literal value.
+     *
+     * @param literal the literal.
+     * @return the result of the visitor.
+     */
+    R visitLiteral(@Nonnull Literal<?> literal);
+
+    /**
+     * Visits a function that is applied to arguments.
+     *
+     * @param function the function.
+     * @return the result of the visitor.
+     */
+    R visitFunction(@Nonnull FunctionExpression<?, ?> function);
+
+    /**
+     * Visits an arithmetic operation on two numeric expressions.
+     *
+     * @param operation the arithmetic operation.
+     * @return the result of the visitor.
+     */
+    R visitNumericOperator(@Nonnull NumericOperatorExpression<?, ?> operation);
+
+    /**
+     * Visits the conversion of a numeric expression to another numeric type.
+     *
+     * @param cast the conversion.
+     * @return the result of the visitor.
+     */
+    R visitNumericCast(@Nonnull NumericCast<?, ?> cast);
+
+    /**
+     * Visits the current date.
+     *
+     * @param currentDate expression representing the current date.
+     * @return the result of the visitor.
+     */
+    R visitCurrentDate(@Nonnull CurrentDate<?> currentDate);
+
+    /**
+     * Visits the current date and time.
+     *
+     * @param currentDateTime expression representing the current date and
+     *                        time.
+     * @return the result of the visitor.
+     */
+    R visitCurrentDateTime(@Nonnull CurrentDateTime<?> currentDateTime);
+
+    /**
+     * Visits the current time.
+     *
+     * @param currentTime expression representing the current time.
+     * @return the result of the visitor.
+     */
+    R visitCurrentTime(@Nonnull CurrentTime<?> currentTime);
+
+    /**
+     * <p>Visits an expression that is not of any kind for which this
+     * interface has a method.</p>
+     *
+     * <p>By default, this method raises {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param expression the expression.
+     * @return the result of the visitor.
+     * @throws UnsupportedOperationException if the visitor does not handle
+     *         the expression.
+     */
+    default R visitOther(@Nonnull Expression<?, ?> expression) {
+        throw new UnsupportedOperationException(Messages.get(
+                "023.expr.unvisitable",
+                expression,
+                expression.getClass().getName(),
+                getClass().getName()));
+    }
+}
@@ -18,6 +18,7 @@
 package jakarta.data.metamodel;
 
 import jakarta.data.expression.Expression;
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.messages.Messages;
 import jakarta.annotation.Nonnull;
 
@@ -63,5 +64,9 @@ public interface BasicAttribute<T, V> extends Attribute<T>, Expression<T, V> {
 
         return new BasicAttributeRecord<>(entityClass, name, attributeType);
     }
-}
 
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitAttribute(this);
+    }
+}
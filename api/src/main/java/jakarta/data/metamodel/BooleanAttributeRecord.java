@@ -18,12 +18,40 @@
 package jakarta.data.metamodel;
 
 import jakarta.annotation.Nonnull;
+import jakarta.data.Sort;
 
 
 record BooleanAttributeRecord<T>
-        (@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<Boolean> type)
+        (@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<Boolean> type,
+         @Nonnull SortCache<T> sorts)
         implements BooleanAttribute<T> {
 
+    BooleanAttributeRecord(@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<Boolean> type) {
+        this(declaringType, name, type, new SortCache<>());
+    }
+
+    @Override
+    @Nonnull
+    public Sort<T> asc() {
+        Sort<T> sort = sorts.asc;
+        if (sort == null) {
+            sort = BooleanAttribute.super.asc();
+            sorts.asc = sort;
+        }
+        return sort;
+    }
+
+    @Override
+    @Nonnull
+    public Sort<T> desc() {
+        Sort<T> sort = sorts.desc;
+        if (sort == null) {
+            sort = BooleanAttribute.super.desc();
+            sorts.desc = sort;
+        }
+        return sort;
+    }
+
     @Override
     @Nonnull
     public String toString() {
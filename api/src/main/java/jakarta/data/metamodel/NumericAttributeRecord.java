@@ -18,12 +18,40 @@
 package jakarta.data.metamodel;
 
 import jakarta.annotation.Nonnull;
+import jakarta.data.Sort;
 
 
 record NumericAttributeRecord<T, V extends Number & Comparable<V>>
-        (@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<V> type)
+        (@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<V> type,
+         @Nonnull SortCache<T> sorts)
         implements NumericAttribute<T, V> {
 
+    NumericAttributeRecord(@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<V> type) {
+        this(declaringType, name, type, new SortCache<>());
+    }
+
+    @Override
+    @Nonnull
+    public Sort<T> asc() {
+        Sort<T> sort = sorts.asc;
+        if (sort == null) {
+            sort = NumericAttribute.super.asc();
+            sorts.asc = sort;
+        }
+        return sort;
+    }
+
+    @Override
+    @Nonnull
+    public Sort<T> desc() {
+        Sort<T> sort = sorts.desc;
+        if (sort == null) {
+            sort = NumericAttribute.super.desc();
+            sorts.desc = sort;
+        }
+        return sort;
+    }
+
     @Override
     @Nonnull
     public String toString() {
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import jakarta.data.Sort;
+
+/**
+ * <p>The sorts of an entity attribute of the static metamodel, each of which
+ * is created when first requested and then reused, so that obtaining a sort
+ * from the attribute neither allocates nor looks up an interned instance.
+ * Sorts are immutable, so a sort that is created concurrently by more than
+ * one thread is harmless, and no lock is needed.</p>
+ *
+ * <p>The sorts are derived from the attribute, so that a cache is equal to
+ * every other cache and does not affect the equality of the attribute that
+ * holds it.</p>
+ *
+ * @param <T> entity class of the static metamodel.
+ */
+// Internal implementation class.
+final class SortCache<T> {
+    Sort<T> asc;
+    Sort<T> desc;
+    Sort<T> ascIgnoreCase;
+    Sort<T> descIgnoreCase;
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SortCache;
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "SortCache";
+    }
+}
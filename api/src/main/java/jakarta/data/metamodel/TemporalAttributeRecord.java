@@ -19,11 +19,39 @@ package jakarta.data.metamodel;
 
 import java.time.temporal.Temporal;
 import jakarta.annotation.Nonnull;
+import jakarta.data.Sort;
 
 record TemporalAttributeRecord<T, V extends Temporal & Comparable<? extends Temporal>>
-        (@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<V> type)
+        (@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<V> type,
+         @Nonnull SortCache<T> sorts)
         implements TemporalAttribute<T, V> {
 
+    TemporalAttributeRecord(@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<V> type) {
+        this(declaringType, name, type, new SortCache<>());
+    }
+
+    @Override
+    @Nonnull
+    public Sort<T> asc() {
+        Sort<T> sort = sorts.asc;
+        if (sort == null) {
+            sort = TemporalAttribute.super.asc();
+            sorts.asc = sort;
+        }
+        return sort;
+    }
+
+    @Override
+    @Nonnull
+    public Sort<T> desc() {
+        Sort<T> sort = sorts.desc;
+        if (sort == null) {
+            sort = TemporalAttribute.super.desc();
+            sorts.desc = sort;
+        }
+        return sort;
+    }
+
     @Override
     @Nonnull
     public String toString() {
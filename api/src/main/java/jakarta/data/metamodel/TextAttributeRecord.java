@@ -18,11 +18,61 @@
 package jakarta.data.metamodel;
 
 import jakarta.annotation.Nonnull;
+import jakarta.data.Sort;
 
 
-record TextAttributeRecord<T>(@Nonnull Class<T> declaringType, @Nonnull String name)
+record TextAttributeRecord<T>
+        (@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull SortCache<T> sorts)
         implements TextAttribute<T> {
 
+    TextAttributeRecord(@Nonnull Class<T> declaringType, @Nonnull String name) {
+        this(declaringType, name, new SortCache<>());
+    }
+
+    @Override
+    @Nonnull
+    public Sort<T> asc() {
+        Sort<T> sort = sorts.asc;
+        if (sort == null) {
+            sort = TextAttribute.super.asc();
+            sorts.asc = sort;
+        }
+        return sort;
+    }
+
+    @Override
+    @Nonnull
+    public Sort<T> ascIgnoreCase() {
+        Sort<T> sort = sorts.ascIgnoreCase;
+        if (sort == null) {
+            sort = TextAttribute.super.ascIgnoreCase();
+            sorts.ascIgnoreCase = sort;
+        }
+        return sort;
+    }
+
+    @Override
+    @Nonnull
+    public Sort<T> desc() {
+        Sort<T> sort = sorts.desc;
+        if (sort == null) {
+            sort = TextAttribute.super.desc();
+            sorts.desc = sort;
+        }
+        return sort;
+    }
+
+    @Override
+    @Nonnull
+    public Sort<T> descIgnoreCase() {
+        Sort<T> sort = sorts.descIgnoreCase;
+        if (sort == null) {
+            sort = TextAttribute.super.descIgnoreCase();
+            sorts.descIgnoreCase = sort;
+        }
+        return sort;
+    }
+
     @Override
     @Nonnull
     public String toString() {
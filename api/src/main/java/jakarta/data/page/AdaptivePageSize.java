@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.messages.Messages;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>Adjusts the size of each following page of cursor-based pagination
+ * towards a target, based on measurements of the preceding page. The target
+ * is either a duration in which to retrieve each page or a number of bytes
+ * of results per page. The size of a page is adjusted to the number of
+ * results that would have met the target for the preceding page, but is
+ * never more than doubled or less than halved at a time, and always stays
+ * within a minimum and maximum size.</p>
+ *
+ * <p>For example, to export all products, retrieving pages of between 100
+ * and 10000 products that take about 200 milliseconds each,</p>
+ *
+ * <pre>
+ * try (Stream&lt;Product&gt; all =
+ *         Pages.stream(PageRequest.ofSize(500),
+ *                      req -&gt; products.all(req, Order.by(_Product.id.asc())),
+ *                      AdaptivePageSize.latency(Duration.ofMillis(200), 100, 10000))) {
+ *     all.forEach(exporter::write);
+ * }
+ * </pre>
+ *
+ * <p>The size of pages can only be changed between pages of
+ * {@linkplain PageRequest.Mode#CURSOR_NEXT cursor-based} pagination.
+ * With offset pagination, the position of a page is derived from its size,
+ * so pages of offset pagination keep the size of the first page.</p>
+ *
+ * <p>Instances of this class are immutable and safe for use by multiple
+ * threads.</p>
+ *
+ * @param <T> type of result.
+ * @since 1.1
+ */
+public class AdaptivePageSize<T> {
+
+    private final long targetBytes;
+
+    private final long targetNanos;
+
+    private final int maxSize;
+
+    private final int minSize;
+
+    private final ToLongFunction<? super T> rowSize;
+
+    private AdaptivePageSize(long targetNanos,
+                             long targetBytes,
+                             ToLongFunction<? super T> rowSize,
+                             int minSize,
+                             int maxSize) {
+        if (minSize < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "minSize", minSize));
+        }
+        if (maxSize < minSize) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "maxSize", maxSize));
+        }
+        this.targetNanos = targetNanos;
+        this.targetBytes = targetBytes;
+        this.rowSize = rowSize;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * <p>Adjusts the size of pages towards the number of results that can be
+     * retrieved within the target duration, based on the time it took to
+     * retrieve the preceding page.</p>
+     *
+     * @param <T>     type of result.
+     * @param target  duration in which to retrieve each page. Must be
+     *                positive.
+     * @param minSize minimum size of pages. Must be at least 1.
+     * @param maxSize maximum size of pages. Must be at least the minimum.
+     * @return the adaptive page size.
+     * @throws IllegalArgumentException if the target is not positive or the
+     *                                  sizes are out of range.
+     * @throws NullPointerException     if the target is {@code null}.
+     */
+    @Nonnull
+    public static <T> AdaptivePageSize<T> latency(@Nonnull Duration target,
+                                                  int minSize,
+                                                  int maxSize) {
+        Messages.requireNonNull(target, "target");
+        if (target.isZero() || target.isNegative()) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "target", target));
+        }
+        return new AdaptivePageSize<>(target.toNanos(), 0L, null, minSize, maxSize);
+    }
+
+    /**
+     * <p>Adjusts the size of pages towards the number of results that fit
+     * within the target number of bytes, based on the size of the results
+     * of the preceding page.</p>
+     *
+     * @param <T>     type of result.
+     * @param target  number of bytes of results per page. Must be positive.
+     * @param rowSize function that estimates the number of bytes of a result.
+     * @param minSize minimum size of pages. Must be at least 1.
+     * @param maxSize maximum size of pages. Must be at least the minimum.
+     * @return the adaptive page size.
+     * @throws IllegalArgumentException if the target is not positive or the
+     *                                  sizes are out of range.
+     * @throws NullPointerException     if the row size function is
+     *                                  {@code null}.
+     */
+    @Nonnull
+    public static <T> AdaptivePageSize<T> bytes(long target,
+                                                @Nonnull ToLongFunction<? super T> rowSize,
+                                                int minSize,
+                                                int maxSize) {
+        Messages.requireNonNull(rowSize, "rowSize");
+        if (target < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "target", target));
+        }
+        return new AdaptivePageSize<>(0L, target, rowSize, minSize, maxSize);
+    }
+
+    /**
+     * <p>Computes the size of the page that follows the given page.</p>
+     *
+     * @param page    the preceding page.
+     * @param elapsed time it took to retrieve the preceding page.
+     * @return the size for the following page. If the preceding page is
+     *         empty, its size, limited to the minimum and maximum size.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    public int nextSize(@Nonnull Page<? extends T> page,
+                        @Nonnull Duration elapsed) {
+        Messages.requireNonNull(page, "page");
+        Messages.requireNonNull(elapsed, "elapsed");
+
+        int size = page.pageRequest().size();
+        int count = page.numberOfElements();
+        double ideal;
+        if (count == 0) {
+            ideal = size;
+        } else if (rowSize == null) {
+            ideal = (double) targetNanos * count / Math.max(1L, elapsed.toNanos());
+        } else {
+            long bytes = 0L;
+            for (T result : page) {
+                bytes += rowSize.applyAsLong(result);
+            }
+            ideal = (double) targetBytes * count / Math.max(1L, bytes);
+        }
+
+        double bounded = Math.max(size / 2.0, Math.min(size * 2.0, ideal));
+        return (int) Math.max(minSize, Math.min(maxSize, Math.round(bounded)));
+    }
+
+    /**
+     * <p>Returns the request for the page that follows the given page.
+     * If the request is for cursor-based pagination, its size is
+     * {@linkplain #nextSize(Page, Duration) adjusted}. Otherwise, it is the
+     * {@link Page#nextPageRequest() next page request} of the page.</p>
+     *
+     * @param page    the preceding page, which must have a next page.
+     * @param elapsed time it took to retrieve the preceding page.
+     * @return the request for the following page.
+     * @throws NoSuchElementException if the page has no next page, as for
+     *                                {@link Page#nextPageRequest()}.
+     * @throws NullPointerException   if either argument is {@code null}.
+     */
+    @Nonnull
+    public PageRequest nextPageRequest(@Nonnull Page<? extends T> page,
+                                       @Nonnull Duration elapsed) {
+        PageRequest next = page.nextPageRequest();
+        return next.mode() == PageRequest.Mode.OFFSET
+                ? next
+                : next.size(nextSize(page, elapsed));
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.Order;
+import jakarta.data.messages.Messages;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * <p>Remembers the boundary cursors of pages of {@link CursoredPage cursored}
+ * query results that have been retrieved, so that a page can be requested by
+ * its page number without offset pagination reading past every result that
+ * precedes the page.</p>
+ *
+ * <p>A request for page {@code N} starts from the known page that is nearest
+ * to page {@code N} and requests each page between that page and page
+ * {@code N} with cursor-based pagination, which the database can satisfy
+ * with an index seek. Each page that is retrieved along the way becomes
+ * known as well. If no known page is within a configurable number of pages
+ * of page {@code N}, page {@code N} is requested with offset pagination.</p>
+ *
+ * <p>The pages of a query are identified by a query shape, which is supplied
+ * by the application and identifies the query along with its parameters,
+ * together with the {@link Order} and the size of pages. The checkpoints of
+ * the least recently used queries are discarded when more than the maximum
+ * number of queries is reached. When more than the maximum number of pages
+ * is known for a query, the checkpoint of the page that is closest to
+ * another known page is discarded.</p>
+ *
+ * <p>For example, a user interface that allows jumping to any page of
+ * a listing might request pages as follows,</p>
+ *
+ * <pre>
+ * static final CursorCheckpoints checkpoints = new CursorCheckpoints(1000, 200, 10);
+ * ...
+ * Order&lt;Product&gt; order = Order.by(_Product.name.asc(), _Product.id.asc());
+ * CursoredPage&lt;Product&gt; page =
+ *         checkpoints.page(List.of("byCategory", category),
+ *                          order,
+ *                          PageRequest.ofPage(57).size(20),
+ *                          req -&gt; products.byCategory(category, req, order));
+ * </pre>
+ *
+ * <p>The page numbers of checkpoints are only as accurate as the data allows.
+ * If entities are inserted or removed before a checkpoint after it is
+ * recorded, the page that is returned for a page number is shifted
+ * accordingly, just as offset pagination is affected by changes to the data
+ * between requests. Use {@link #invalidate(Object)} to discard the
+ * checkpoints of a query after such changes.</p>
+ *
+ * <p>Instances of this class are safe for use by multiple threads.</p>
+ *
+ * @since 1.1
+ */
+public class CursorCheckpoints {
+
+    /**
+     * Known pages per query, in order of least to most recent use.
+     */
+    private final Map<Key, NavigableMap<Long, Checkpoint>> queries;
+
+    private final int maxPagesPerQuery;
+
+    private final int maxPagesToWalk;
+
+    /**
+     * Creates an empty cache of checkpoints.
+     *
+     * @param maxQueries       maximum number of queries for which to retain
+     *                         checkpoints.
+     * @param maxPagesPerQuery maximum number of pages of a query for which to
+     *                         retain checkpoints.
+     * @param maxPagesToWalk   maximum number of pages to request, one after
+     *                         the other, to reach a requested page from the
+     *                         nearest checkpoint. If the nearest checkpoint
+     *                         is farther away, the requested page is
+     *                         requested with offset pagination instead.
+     * @throws IllegalArgumentException if any maximum is less than 1.
+     */
+    public CursorCheckpoints(int maxQueries, int maxPagesPerQuery, int maxPagesToWalk) {
+        if (maxQueries < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "maxQueries", maxQueries));
+        }
+        if (maxPagesPerQuery < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "maxPagesPerQuery", maxPagesPerQuery));
+        }
+        if (maxPagesToWalk < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "maxPagesToWalk", maxPagesToWalk));
+        }
+
+        this.maxPagesPerQuery = maxPagesPerQuery;
+        this.maxPagesToWalk = maxPagesToWalk;
+        this.queries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, NavigableMap<Long, Checkpoint>> eldest) {
+                return size() > maxQueries;
+            }
+        };
+    }
+
+    /**
+     * Discards all checkpoints.
+     */
+    public synchronized void clear() {
+        queries.clear();
+    }
+
+    /**
+     * Discards the checkpoints of a query, for all sort criteria and
+     * page sizes.
+     *
+     * @param queryShape identifies the query and its parameters.
+     */
+    public synchronized void invalidate(@Nonnull Object queryShape) {
+        queries.keySet().removeIf(key -> key.queryShape().equals(queryShape));
+    }
+
+    /**
+     * <p>Returns the request with which to start in order to reach the
+     * requested page. This is a cursor-based request for the page that
+     * adjoins the nearest checkpoint, in the direction of the requested page,
+     * or the requested page itself. The returned request has the same size
+     * and total strategy as the requested page.</p>
+     *
+     * @param queryShape  identifies the query and its parameters.
+     * @param order       sort criteria of the query.
+     * @param pageRequest request for a page, typically with offset
+     *                    pagination.
+     * @return a request relative to the nearest checkpoint from which the
+     *         requested page can be reached within the maximum number of
+     *         pages to walk. Otherwise, or if the supplied page request does
+     *         not use offset pagination, the supplied page request.
+     * @throws NullPointerException if any of the arguments is {@code null}.
+     */
+    @Nonnull
+    public synchronized PageRequest nearest(@Nonnull Object queryShape,
+                                            @Nonnull Order<?> order,
+                                            @Nonnull PageRequest pageRequest) {
+        Messages.requireNonNull(queryShape, "queryShape");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(pageRequest, "pageRequest");
+
+        long pageNumber = pageRequest.pageNumber();
+        NavigableMap<Long, Checkpoint> pages = pageRequest.mode() == PageRequest.Mode.OFFSET
+                ? queries.get(new Key(queryShape, order, pageRequest.size()))
+                : null;
+        if (pages == null) {
+            return pageRequest;
+        }
+
+        // Number of pages to request in order to reach the requested page
+        // from the checkpoint before it and the checkpoint after it.
+        Map.Entry<Long, Checkpoint> before = pages.lowerEntry(pageNumber);
+        Map.Entry<Long, Checkpoint> after = pages.higherEntry(pageNumber);
+        long walkBefore = before == null ? Long.MAX_VALUE : pageNumber - before.getKey();
+        long walkAfter = after == null ? Long.MAX_VALUE : after.getKey() - pageNumber;
+
+        if (walkBefore <= walkAfter && walkBefore <= maxPagesToWalk) {
+            return pageRequest.pageNumber(before.getKey() + 1)
+                    .afterCursor(before.getValue().last());
+        } else if (walkAfter < walkBefore && walkAfter <= maxPagesToWalk) {
+            return pageRequest.pageNumber(after.getKey() - 1)
+                    .beforeCursor(after.getValue().first());
+        } else {
+            return pageRequest;
+        }
+    }
+
+    /**
+     * <p>Retrieves the requested page, starting from the nearest checkpoint
+     * and requesting each page between the checkpoint and the requested page
+     * with cursor-based pagination. Each page that is retrieved is
+     * {@linkplain #record recorded} as a checkpoint.</p>
+     *
+     * <p>The query is invoked without holding a lock on this cache, such
+     * that multiple threads can retrieve pages concurrently.</p>
+     *
+     * @param <T>         type of result.
+     * @param queryShape  identifies the query and its parameters.
+     * @param order       sort criteria of the query.
+     * @param pageRequest request for a page, typically with offset
+     *                    pagination.
+     * @param query       function that retrieves the page for a page request.
+     * @return the requested page. If the results end before the requested
+     *         page, the last page that is retrieved, which might be empty.
+     * @throws NullPointerException if any of the arguments is {@code null}.
+     */
+    @Nonnull
+    public <T> CursoredPage<T> page(@Nonnull Object queryShape,
+                                    @Nonnull Order<?> order,
+                                    @Nonnull PageRequest pageRequest,
+                                    @Nonnull Function<? super PageRequest, ? extends CursoredPage<T>> query) {
+        Messages.requireNonNull(query, "query");
+
+        long pageNumber = pageRequest.pageNumber();
+        PageRequest next = nearest(queryShape, order, pageRequest);
+        while (true) {
+            CursoredPage<T> page = query.apply(next);
+            record(queryShape, order, page);
+
+            long retrieved = page.pageRequest().pageNumber();
+            if (retrieved == pageNumber || !page.hasContent()) {
+                return page;
+            } else if (retrieved < pageNumber) {
+                if (!page.hasNext()) {
+                    return page;
+                }
+                next = page.nextPageRequest();
+            } else {
+                if (!page.hasPrevious()) {
+                    return page;
+                }
+                next = page.previousPageRequest();
+            }
+        }
+    }
+
+    /**
+     * <p>Records the cursors of the first and last results of a page as a
+     * checkpoint for the page number of the page. Pages that are empty or for
+     * which cursors cannot be computed are not recorded.</p>
+     *
+     * @param queryShape identifies the query and its parameters.
+     * @param order      sort criteria of the query.
+     * @param page       a page that was retrieved by the query.
+     * @throws NullPointerException if any of the arguments is {@code null}.
+     */
+    public void record(@Nonnull Object queryShape,
+                       @Nonnull Order<?> order,
+                       @Nonnull CursoredPage<?> page) {
+        Messages.requireNonNull(queryShape, "queryShape");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(page, "page");
+
+        if (!page.hasContent()) {
+            return;
+        }
+
+        Checkpoint checkpoint;
+        try {
+            checkpoint = new Checkpoint(page.cursor(0),
+                                        page.cursor(page.numberOfElements() - 1));
+        } catch (UnsupportedOperationException x) {
+            // cursors cannot be computed for the sort criteria
+            return;
+        }
+
+        PageRequest pageRequest = page.pageRequest();
+        Key key = new Key(queryShape, order, pageRequest.size());
+        synchronized (this) {
+            NavigableMap<Long, Checkpoint> pages =
+                    queries.computeIfAbsent(key, k -> new TreeMap<>());
+            pages.put(pageRequest.pageNumber(), checkpoint);
+            if (pages.size() > maxPagesPerQuery) {
+                thin(pages);
+            }
+        }
+    }
+
+    /**
+     * Removes the checkpoint that is closest to the checkpoint that precedes
+     * it, keeping the first checkpoint, so that the remaining checkpoints
+     * stay spread across the pages.
+     *
+     * @param pages checkpoints of a query, by page number.
+     */
+    static void thin(NavigableMap<Long, Checkpoint> pages) {
+        Iterator<Long> pageNumbers = pages.keySet().iterator();
+        long previous = pageNumbers.next();
+        long closest = 0L;
+        long smallestGap = Long.MAX_VALUE;
+        while (pageNumbers.hasNext()) {
+            long pageNumber = pageNumbers.next();
+            if (pageNumber - previous < smallestGap) {
+                smallestGap = pageNumber - previous;
+                closest = pageNumber;
+            }
+            previous = pageNumber;
+        }
+        pages.remove(closest);
+    }
+
+    /**
+     * Cursors of the first and last results of a page.
+     *
+     * @param first cursor of the first result of the page.
+     * @param last  cursor of the last result of the page.
+     */
+    record Checkpoint(PageRequest.Cursor first, PageRequest.Cursor last) {
+    }
+
+    /**
+     * Identifies the pages of a query.
+     *
+     * @param queryShape identifies the query and its parameters.
+     * @param order      sort criteria of the query.
+     * @param size       maximum size of pages.
+     */
+    record Key(Object queryShape, Order<?> order, int size) {
+    }
+}
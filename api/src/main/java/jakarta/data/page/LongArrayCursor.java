@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Built-in implementation of Cursor for cursor-based pagination on a
+ * composite key of {@code long} values, which are stored without boxing.
+ */
+class LongArrayCursor implements PageRequest.Cursor {
+    /**
+     * Composite key that consists of two or more elements.
+     */
+    private final long[] key;
+
+    /**
+     * Constructs a cursor with a composite key that is made up of the
+     * given elements.
+     *
+     * @param key elements that together form a composite key.
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    LongArrayCursor(@Nonnull long... key) {
+        this.key = key;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        return this == o || o != null
+                && o.getClass() == getClass()
+                && Arrays.equals(key, ((LongArrayCursor) o).key);
+    }
+
+    @Override
+    @Nonnull
+    public Object get(int index) {
+        return key[index];
+    }
+
+    @Override
+    public long getLong(int index) {
+        return key[index];
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(key);
+    }
+
+    @Override
+    public int size() {
+        return key.length;
+    }
+
+    @Override
+    @Nonnull
+    public List<?> elements() {
+        return Arrays.stream(key).boxed().toList();
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "Cursor@" + Integer.toHexString(hashCode()) +
+                " with " + key.length + " values";
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.List;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Built-in implementation of Cursor for cursor-based pagination on a single
+ * {@code long} key, which is stored without boxing.
+ */
+class LongCursor implements PageRequest.Cursor {
+    /**
+     * Key that consists of a single value.
+     */
+    private final long key;
+
+    /**
+     * Constructs a cursor with the given key.
+     *
+     * @param key value of the key.
+     */
+    LongCursor(long key) {
+        this.key = key;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        return this == o || o != null
+                && o.getClass() == getClass()
+                && key == ((LongCursor) o).key;
+    }
+
+    @Override
+    @Nonnull
+    public Object get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public long getLong(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return key;
+    }
+
+    @Override
+    public int hashCode() {
+        // consistent with Arrays.hashCode for a key of one element
+        return 31 + Long.hashCode(key);
+    }
+
+    @Override
+    public int size() {
+        return 1;
+    }
+
+    @Override
+    @Nonnull
+    public List<?> elements() {
+        return List.of(key);
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "Cursor@" + Integer.toHexString(hashCode()) +
+                " with 1 values";
+    }
+}
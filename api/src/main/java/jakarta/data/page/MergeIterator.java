@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * <p>Merges the results of multiple sources, each of which is sorted
+ * according to the same comparator, into a single sorted sequence.</p>
+ *
+ * <p>A heap holds the next result of each source that is not exhausted, such
+ * that obtaining each result requires {@code O(log k)} comparisons for
+ * {@code k} sources. Each source is read only as far as is needed to produce
+ * the results that are consumed, starting when the first result is
+ * requested. Results that compare as equal are produced in the order of
+ * their sources.</p>
+ *
+ * @param <T> type of result.
+ */
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the static Pages.merge methods
+class MergeIterator<T> implements Iterator<T> {
+
+    private final PriorityQueue<Head<T>> heads;
+
+    private boolean primed;
+
+    /**
+     * Position of the source of the most recently produced result.
+     */
+    private int source = -1;
+
+    private final List<? extends Iterator<? extends T>> sources;
+
+    MergeIterator(List<? extends Iterator<? extends T>> sources,
+                  Comparator<? super T> comparator) {
+        this.sources = sources;
+        this.heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                (head1, head2) -> {
+                    int comparison = comparator.compare(head1.value, head2.value);
+                    return comparison == 0
+                            ? Integer.compare(head1.source, head2.source)
+                            : comparison;
+                });
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!primed) {
+            primed = true;
+            for (int i = 0; i < sources.size(); i++) {
+                Iterator<? extends T> it = sources.get(i);
+                if (it.hasNext()) {
+                    heads.add(head(i, it));
+                }
+            }
+        }
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Head<T> head = heads.poll();
+        T value = head.value;
+        source = head.source;
+        if (head.results.hasNext()) {
+            // reuse the head for the next result of the same source
+            head.value = head.results.next();
+            heads.add(head);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the position, within the list of sources, of the source of the
+     * result that was most recently returned by {@link #next()}.
+     *
+     * @return position of the source.
+     */
+    int source() {
+        return source;
+    }
+
+    private Head<T> head(int source, Iterator<? extends T> results) {
+        return new Head<>(source, results, results.next());
+    }
+
+    /**
+     * The next result of a source, which is not yet produced.
+     */
+    private static class Head<T> {
+        private final Iterator<? extends T> results;
+
+        private final int source;
+
+        private T value;
+
+        Head(int source, Iterator<? extends T> results, T value) {
+            this.results = results;
+            this.source = source;
+            this.value = value;
+        }
+    }
+}
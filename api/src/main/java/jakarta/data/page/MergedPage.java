@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * <p>A page of results that is merged from pages of the same query that are
+ * retrieved from multiple data stores, or from multiple shards of a data
+ * store, which is obtained from
+ * {@link Pages#merge(List, java.util.Comparator, int)}.</p>
+ *
+ * <p>In addition to the merged results, a merged page has a request per
+ * source with which to continue reading from that source, starting after the
+ * last of its results that is included in the merged page. The next merged
+ * page is obtained by requesting a page from each source that has a
+ * continuation, merging those pages, and so on. For example,</p>
+ *
+ * <pre>
+ * Comparator&lt;Car&gt; byPrice = OrderComparator.of(order, AttributeAccessor.reflective());
+ * List&lt;PageRequest&gt; requests = List.of(PageRequest.ofSize(20), PageRequest.ofSize(20));
+ * MergedPage&lt;Car&gt; merged;
+ * do {
+ *     List&lt;CursoredPage&lt;Car&gt;&gt; pages = Arrays.asList(
+ *             requests.get(0) == null ? null : eastCars.byMake(make, requests.get(0), order),
+ *             ...);
+ *     merged = Pages.merge(pages, byPrice, 20);
+ *     display(merged.content());
+ *     requests = merged.nextPageRequests();
+ * } while (merged.hasNext());
+ * </pre>
+ *
+ * @param <T>              type of result.
+ * @param content          the merged results, in sorted order.
+ * @param nextPageRequests for each source, in the order in which the pages
+ *                         were supplied, the request with which to continue
+ *                         reading from the source, or {@code null} if the
+ *                         source has no more results.
+ * @since 1.1
+ */
+public record MergedPage<T>(@Nonnull List<T> content,
+                            @Nonnull List<PageRequest> nextPageRequests) {
+
+    /**
+     * Determines whether any source has more results.
+     *
+     * @return {@code true} if a continuation request is available for at
+     *         least one source, otherwise {@code false}.
+     */
+    public boolean hasNext() {
+        for (PageRequest request : nextPageRequests) {
+            if (request != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the request with which to continue reading from a source.
+     *
+     * @param source position of the source, in the order in which the pages
+     *               were supplied.
+     * @return the request, or {@code null} if the source has no more results.
+     * @throws IndexOutOfBoundsException if there is no such source.
+     */
+    @Nullable
+    public PageRequest nextPageRequest(int source) {
+        return nextPageRequests.get(source);
+    }
+}
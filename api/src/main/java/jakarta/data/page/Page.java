@@ -164,6 +164,45 @@ public interface Page<T> extends Iterable<T> {
      */
     boolean hasTotals();
 
+    /**
+     * <p>Indicates whether the {@link #totalElements()} and
+     * {@link #totalPages()} are approximate, which is the case when they were
+     * obtained with the {@link PageRequest.TotalStrategy#ESTIMATE ESTIMATE}
+     * {@linkplain #totalStrategy() strategy}.</p>
+     *
+     * @return {@code true} if totals are available and are approximate.
+     * @since 1.1
+     */
+    default boolean isTotalApproximate() {
+        return totalStrategy() == PageRequest.TotalStrategy.ESTIMATE;
+    }
+
+    /**
+     * <p>Returns the strategy that produced the {@link #totalElements()}, or
+     * {@link PageRequest.TotalStrategy#NONE NONE} if totals are not
+     * available. A repository implementation might use a different strategy
+     * than the {@linkplain PageRequest#totalStrategy() requested strategy}
+     * if the database is incapable of the requested strategy.</p>
+     *
+     * <p>The default implementation returns the strategy of the
+     * {@link #pageRequest()}, or {@link PageRequest.TotalStrategy#EXACT EXACT}
+     * if the page request did not request totals but totals are available
+     * anyway.</p>
+     *
+     * @return the strategy that produced the totals.
+     * @since 1.1
+     */
+    @Nonnull
+    default PageRequest.TotalStrategy totalStrategy() {
+        if (!hasTotals()) {
+            return PageRequest.TotalStrategy.NONE;
+        }
+        PageRequest.TotalStrategy requested = pageRequest().totalStrategy();
+        return requested == PageRequest.TotalStrategy.NONE
+                ? PageRequest.TotalStrategy.EXACT
+                : requested;
+    }
+
     /**
      * Returns the total number of elements across all pages of query results,
      * if the {@link #pageRequest()} specified that
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Iterates over the results of every page of a query, retrieving each page
+ * from the consuming thread once the preceding page is exhausted. If an
+ * {@link AdaptivePageSize} is supplied, the time it takes to retrieve each
+ * page is measured and the size of the following page is adjusted.
+ *
+ * @param <T> type of result.
+ */
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the static Pages.iterator or Pages.stream methods
+class PageIterator<T> implements Iterator<T> {
+
+    private final Function<? super PageRequest, ? extends Page<T>> query;
+
+    private PageRequest nextPageRequest;
+
+    /**
+     * Adjusts the size of following pages, or {@code null} to keep the size.
+     */
+    private final AdaptivePageSize<? super T> pageSize;
+
+    private Iterator<T> results = Collections.emptyIterator();
+
+    PageIterator(PageRequest pageRequest,
+                 Function<? super PageRequest, ? extends Page<T>> query) {
+        this(pageRequest, query, null);
+    }
+
+    PageIterator(PageRequest pageRequest,
+                 Function<? super PageRequest, ? extends Page<T>> query,
+                 AdaptivePageSize<? super T> pageSize) {
+        this.query = query;
+        this.nextPageRequest = pageRequest;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!results.hasNext()) {
+            if (nextPageRequest == null) {
+                return false;
+            }
+            long start = System.nanoTime();
+            Page<T> page = query.apply(nextPageRequest);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            results = page.iterator();
+            nextPageRequest = following(page);
+            if (pageSize != null && nextPageRequest != null) {
+                nextPageRequest = pageSize.nextPageRequest(page, elapsed);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (hasNext()) {
+            return results.next();
+        } else {
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Returns the request for the page that follows the given page,
+     * or {@code null} if there are no more results to retrieve.
+     * An empty page ends the iteration even if it reports a next page.
+     */
+    static PageRequest following(Page<?> page) {
+        return page.hasContent() && page.hasNext()
+                ? page.nextPageRequest()
+                : null;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.messages.Messages;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <p>Publishes the results of every page of a query to each subscriber,
+ * retrieving a page only when the subscriber has requested results that
+ * the pages retrieved so far cannot satisfy. Cursor-based pages are sized
+ * to the outstanding demand of the subscriber, up to the size of the
+ * initial page request.</p>
+ *
+ * @param <T> type of result.
+ */
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the static Pages.publisher method
+class PagePublisher<T> implements Flow.Publisher<T> {
+
+    private final Executor executor;
+
+    private final PageRequest pageRequest;
+
+    private final Function<? super PageRequest, ? extends Page<T>> query;
+
+    PagePublisher(PageRequest pageRequest,
+                  Function<? super PageRequest, ? extends Page<T>> query,
+                  Executor executor) {
+        this.pageRequest = pageRequest;
+        this.query = query;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Messages.requireNonNull(subscriber, "subscriber");
+
+        subscriber.onSubscribe(
+                new PageSubscription<>(subscriber, pageRequest, query, executor));
+    }
+
+    /**
+     * <p>Delivers results to a subscriber from a task that runs on the
+     * executor. The task is started when the subscriber requests results
+     * and no task is running. A request that arrives while the task is
+     * running, including from within {@code onNext}, is counted in
+     * {@link #pending} and picked up by the running task before it ends,
+     * so that signals to the subscriber are never concurrent or recursive.
+     * </p>
+     *
+     * @param <T> type of result.
+     */
+    static class PageSubscription<T> implements Flow.Subscription, Runnable {
+
+        private final Executor executor;
+
+        /**
+         * Size of the page request from which the subscription started.
+         */
+        private final int maxPageSize;
+
+        private final Function<? super PageRequest, ? extends Page<T>> query;
+
+        /**
+         * Number of results requested by the subscriber and not yet
+         * delivered, which is {@code Long.MAX_VALUE} if unbounded.
+         */
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * Number of times the task was asked to run since it last checked.
+         */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private volatile boolean cancelled;
+
+        /**
+         * Invalid number of results that the subscriber requested, if any.
+         */
+        private volatile Long invalidRequest;
+
+        /**
+         * Request for the next page, or {@code null} after the last page.
+         */
+        private PageRequest nextPageRequest;
+
+        private Iterator<T> results = Collections.emptyIterator();
+
+        PageSubscription(Flow.Subscriber<? super T> subscriber,
+                         PageRequest pageRequest,
+                         Function<? super PageRequest, ? extends Page<T>> query,
+                         Executor executor) {
+            this.subscriber = subscriber;
+            this.nextPageRequest = pageRequest;
+            this.maxPageSize = pageRequest.size();
+            this.query = query;
+            this.executor = executor;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = n;
+            } else {
+                requested.accumulateAndGet(n, (r, m) -> r + m < 0 ? Long.MAX_VALUE : r + m);
+            }
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        /**
+         * Delivers requested results until the demand of the subscriber is
+         * met, the results end, or the subscription is cancelled.
+         */
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    return;
+                }
+                if (invalidRequest != null) {
+                    cancelled = true;
+                    subscriber.onError(new IllegalArgumentException(
+                            Messages.get("013.arg.invalid", "n", invalidRequest)));
+                    return;
+                }
+
+                long demand = requested.get();
+                long delivered = 0;
+                while (delivered < demand) {
+                    T result;
+                    try {
+                        if (!hasNext(demand - delivered)) {
+                            break;
+                        }
+                        result = results.next();
+                    } catch (RuntimeException | Error x) {
+                        cancelled = true;
+                        subscriber.onError(x);
+                        return;
+                    }
+                    deliver(result);
+                    delivered++;
+                    if (cancelled) {
+                        return;
+                    }
+                }
+                if (!results.hasNext() && nextPageRequest == null) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                    return;
+                }
+
+                if (demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-delivered);
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Delivers a result to the subscriber. A failure of the subscriber
+         * cancels the subscription and is not signaled back to the
+         * subscriber, as required by rule 2.13 of Reactive Streams.
+         */
+        private void deliver(T result) {
+            try {
+                subscriber.onNext(result);
+            } catch (RuntimeException | Error x) {
+                cancelled = true;
+                throw x;
+            }
+        }
+
+        /**
+         * Retrieves the next page if the results of the current page are
+         * exhausted. A cursor-based page is retrieved with a size that
+         * covers the outstanding demand, up to the maximum page size.
+         * The size of offset-based pages is kept, because the page numbers
+         * depend on it.
+         *
+         * @param demand number of results requested and not yet delivered.
+         * @return {@code true} if there is a result to deliver.
+         */
+        private boolean hasNext(long demand) {
+            while (!results.hasNext() && nextPageRequest != null) {
+                PageRequest request = nextPageRequest.mode() == PageRequest.Mode.OFFSET
+                        ? nextPageRequest
+                        : nextPageRequest.size((int) Math.min(demand, maxPageSize));
+                Page<T> page = query.apply(request);
+                results = page.iterator();
+                nextPageRequest = PageIterator.following(page);
+            }
+            return results.hasNext();
+        }
+    }
+}
@@ -26,6 +26,8 @@ import jakarta.data.messages.Messages;
 import jakarta.data.repository.First;
 import jakarta.data.repository.OrderBy;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -226,6 +228,26 @@ public interface PageRequest {
     @Nonnull
     Optional<Cursor> cursor();
 
+    /**
+     * <p>Returns the total number of elements that was computed by a previous
+     * request for a page of the same query, along with the duration for which
+     * the total can be reused rather than computed again.</p>
+     *
+     * <p>While the known total is {@linkplain KnownTotal#isFresh() fresh},
+     * the repository implementation may use it as the
+     * {@linkplain Page#totalElements() total} of the requested page instead
+     * of obtaining the total from the database.</p>
+     *
+     * <p>The default implementation returns {@link Optional#empty()}.</p>
+     *
+     * @return the known total; {@link Optional#empty()} if there is none.
+     * @since 1.1
+     */
+    @Nonnull
+    default Optional<KnownTotal> knownTotal() {
+        return Optional.empty();
+    }
+
     /**
      * Returns the type of pagination.
      *
@@ -278,11 +300,33 @@ public interface PageRequest {
      * the database request fails or if the database is incapable of computing
      * totals.</p>
      *
+     * <p>The {@link #totalStrategy()} of the page request indicates how the
+     * total is to be obtained.</p>
+     *
      * @return {@code true} if the total number of elements should be retrieved
      * from the database.
      */
     boolean requestTotal();
 
+    /**
+     * <p>Returns the strategy by which a query method which returns a
+     * {@link Page} obtains the
+     * {@linkplain Page#totalElements() total number of elements} available
+     * across all pages. The strategy is {@link TotalStrategy#NONE} if and only
+     * if {@link #requestTotal()} is {@code false}.</p>
+     *
+     * <p>The default implementation returns {@link TotalStrategy#EXACT} if
+     * {@link #requestTotal()} is {@code true}. Otherwise, it returns
+     * {@link TotalStrategy#NONE}.</p>
+     *
+     * @return the strategy for obtaining the total number of elements.
+     * @since 1.1
+     */
+    @Nonnull
+    default TotalStrategy totalStrategy() {
+        return requestTotal() ? TotalStrategy.EXACT : TotalStrategy.NONE;
+    }
+
     /**
      * Creates a new page request with the same pagination information,
      * but with the specified page number. The first page number is {@code 1}.
@@ -371,6 +415,199 @@ public interface PageRequest {
     @Nonnull
     PageRequest withTotal();
 
+    /**
+     * <p>Returns an otherwise-equivalent page request with the specified
+     * {@link #totalStrategy()}, which determines how the total number of
+     * elements is obtained from the database. Supplying
+     * {@link TotalStrategy#NONE} is equivalent to {@link #withoutTotal()}.
+     * Supplying {@link TotalStrategy#EXACT} is equivalent to
+     * {@link #withTotal()}.</p>
+     *
+     * <p>For example, to request an estimated total,</p>
+     *
+     * <pre>
+     * Page&lt;Event&gt; page = events.since(yesterday,
+     *                                PageRequest.ofSize(50)
+     *                                           .withTotal(TotalStrategy.ESTIMATE));
+     * </pre>
+     *
+     * <p>The default implementation supports only {@link TotalStrategy#NONE}
+     * and {@link TotalStrategy#EXACT}. The built-in implementation of
+     * {@code PageRequest} supports all strategies.</p>
+     *
+     * @param strategy strategy for obtaining the total number of elements.
+     * @return a page request with the specified {@link #totalStrategy()}.
+     * @throws NullPointerException          if the strategy is {@code null}.
+     * @throws UnsupportedOperationException if the implementation does not
+     *                                       support the strategy.
+     * @since 1.1
+     */
+    @Nonnull
+    default PageRequest withTotal(@Nonnull TotalStrategy strategy) {
+        Messages.requireNonNull(strategy, "strategy");
+        switch (strategy) {
+            case NONE:
+                return withoutTotal();
+            case EXACT:
+                return withTotal();
+            default:
+                throw new UnsupportedOperationException(strategy.name());
+        }
+    }
+
+    /**
+     * <p>Returns an otherwise-equivalent page request that carries a total
+     * number of elements that was computed for the same query, such as by
+     * the request for the first page. The repository implementation may reuse
+     * the total rather than computing it again, until the specified duration
+     * has elapsed.</p>
+     *
+     * <p>The {@link Page#nextPageRequest()} and
+     * {@link Page#previousPageRequest()} of a page that was requested with a
+     * known total carry the known total forward. If the repository
+     * implementation computed a different total for the page, the total that
+     * is carried forward is the newly computed total, which can be reused for
+     * the same duration. A total that was obtained with the
+     * {@link TotalStrategy#ESTIMATE ESTIMATE} strategy never replaces the
+     * known total. In this way, an application that moves from page to page
+     * computes the total only once per duration. A page that was requested
+     * without a known total does not carry a total forward. To stop carrying
+     * a known total forward, use {@link #withoutKnownTotal()}. For
+     * example,</p>
+     *
+     * <pre>
+     * Page&lt;Order&gt; page = orders.placedBy(customerId, PageRequest.ofSize(20));
+     * PageRequest next = page.nextPageRequest()
+     *                        .withKnownTotal(page.totalElements(),
+     *                                        Duration.ofMinutes(5));
+     * </pre>
+     *
+     * <p>The known total is not considered by {@link #equals(Object)}.</p>
+     *
+     * @param totalElements the total number of elements across all pages.
+     * @param maxAge        duration, starting now, for which the total can be
+     *                      reused.
+     * @return a page request with the specified {@link #knownTotal()}.
+     * @throws IllegalArgumentException if the total or the duration is
+     *                                  negative.
+     * @throws NullPointerException     if the duration is {@code null}.
+     * @since 1.1
+     */
+    @Nonnull
+    default PageRequest withKnownTotal(long totalElements, @Nonnull Duration maxAge) {
+        return withKnownTotal(new KnownTotal(totalElements, Instant.now(), maxAge));
+    }
+
+    /**
+     * <p>Returns an otherwise-equivalent page request that carries the
+     * specified known total. This method is used to carry a known total from
+     * one page request to another without changing the instant at which the
+     * total was computed.</p>
+     *
+     * <p>The default implementation raises
+     * {@link UnsupportedOperationException}. The built-in implementation of
+     * {@code PageRequest} supports known totals.</p>
+     *
+     * @param knownTotal a previously computed total.
+     * @return a page request with the specified {@link #knownTotal()}.
+     * @throws NullPointerException          if the known total is
+     *                                       {@code null}.
+     * @throws UnsupportedOperationException if the implementation does not
+     *                                       support known totals.
+     * @see #withKnownTotal(long, Duration)
+     * @since 1.1
+     */
+    @Nonnull
+    default PageRequest withKnownTotal(@Nonnull KnownTotal knownTotal) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * <p>Returns an otherwise-equivalent page request that does not carry a
+     * known total, such that the repository implementation computes the
+     * total again, and the {@link Page#nextPageRequest()} and
+     * {@link Page#previousPageRequest()} of the page do not carry a known
+     * total forward.</p>
+     *
+     * <p>The default implementation returns this page request if it does not
+     * have a {@link #knownTotal()}, and otherwise raises
+     * {@link UnsupportedOperationException}. The built-in implementation of
+     * {@code PageRequest} supports known totals.</p>
+     *
+     * @return a page request without a {@link #knownTotal()}.
+     * @throws UnsupportedOperationException if the implementation does not
+     *                                       support removing a known total.
+     * @see #withKnownTotal(long, Duration)
+     * @since 1.1
+     */
+    @Nonnull
+    default PageRequest withoutKnownTotal() {
+        if (knownTotal().isEmpty()) {
+            return this;
+        }
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * <p>A total number of elements that was computed for a query at a
+     * particular instant, and the duration after that instant for which
+     * the total can be reused.</p>
+     *
+     * @param totalElements the total number of elements across all pages.
+     * @param asOf          the instant at which the total was computed.
+     * @param maxAge        the duration after the instant of computation for
+     *                      which the total can be reused.
+     * @since 1.1
+     */
+    record KnownTotal(long totalElements,
+                      @Nonnull Instant asOf,
+                      @Nonnull Duration maxAge) {
+
+        /**
+         * Validates the components.
+         *
+         * @throws IllegalArgumentException if the total or the duration is
+         *                                  negative.
+         * @throws NullPointerException     if the instant or the duration
+         *                                  is {@code null}.
+         */
+        public KnownTotal {
+            Messages.requireNonNull(asOf, "asOf");
+            Messages.requireNonNull(maxAge, "maxAge");
+            if (totalElements < 0) {
+                throw new IllegalArgumentException(
+                        Messages.get("004.arg.negative", "totalElements"));
+            }
+            if (maxAge.isNegative()) {
+                throw new IllegalArgumentException(
+                        Messages.get("004.arg.negative", "maxAge"));
+            }
+        }
+
+        /**
+         * Indicates whether the total can still be reused at the current
+         * instant.
+         *
+         * @return {@code true} if the duration for which the total can be
+         *         reused has not yet elapsed.
+         */
+        public boolean isFresh() {
+            return isFresh(Instant.now());
+        }
+
+        /**
+         * Indicates whether the total can still be reused at the specified
+         * instant.
+         *
+         * @param now the instant at which the total would be reused.
+         * @return {@code true} if the duration for which the total can be
+         *         reused has not elapsed as of the specified instant.
+         */
+        public boolean isFresh(@Nonnull Instant now) {
+            return Duration.between(asOf, now).compareTo(maxAge) <= 0;
+        }
+    }
+
     /**
      * The type of pagination: offset-based or cursor-based, which includes a
      * direction.
@@ -400,6 +637,64 @@ public interface PageRequest {
         OFFSET
     }
 
+    /**
+     * <p>The strategy by which the
+     * {@linkplain Page#totalElements() total number of elements} across all
+     * pages is obtained.</p>
+     *
+     * <p>Counting every element that satisfies the query can cost more than
+     * retrieving a page of results, especially for large tables. The
+     * strategies other than {@link #EXACT} allow an application to request
+     * a less costly total, or no total at all.</p>
+     *
+     * @since 1.1
+     */
+    enum TotalStrategy {
+        /**
+         * Indicates that the total is obtained by a separate query that
+         * counts the elements which satisfy the query, such as a
+         * {@code SELECT COUNT(*)} statement. The total is exact.
+         */
+        EXACT,
+
+        /**
+         * <p>Indicates that the total is obtained in the same round trip to the
+         * database as the page of results, such as by including a
+         * {@code COUNT(*) OVER ()} window function in the query. The total is
+         * exact.</p>
+         *
+         * <p>If the database is incapable of computing the total in the same
+         * round trip, the repository implementation falls back to
+         * {@link #EXACT}.</p>
+         *
+         * <p>When the page of results is empty, because the page number is
+         * beyond the last page, the database does not return a total in the
+         * same round trip. In this case, the repository implementation
+         * obtains the total as for {@link #EXACT}.</p>
+         */
+        WINDOW,
+
+        /**
+         * <p>Indicates that the total is an estimate that is obtained from
+         * statistics that the database maintains, such as the row count
+         * estimate of a query plan or of a table. The total is approximate and
+         * might be higher or lower than the actual number of elements.
+         * Because the total is approximate, it is not used to determine whether
+         * there is a {@linkplain Page#hasNext() next page}.</p>
+         *
+         * <p>If the database is incapable of estimating the total, the
+         * repository implementation falls back to {@link #EXACT}.</p>
+         */
+        ESTIMATE,
+
+        /**
+         * Indicates that the total is not obtained. The operations
+         * {@link Page#totalElements()} and {@link Page#totalPages()} throw an
+         * {@link IllegalStateException} when called.
+         */
+        NONE
+    }
+
     /**
      * A cursor that is formed from a key, relative to which a next or previous
      * page can be requested.
@@ -427,6 +722,27 @@ public interface PageRequest {
          */
         Object get(int index);
 
+        /**
+         * <p>Returns the key value at the specified position as a
+         * {@code long}.</p>
+         *
+         * <p>Cursors that are created by {@link #ofLong(long)} and
+         * {@link #ofLongs(long...)} return the value without boxing it.
+         * Other cursors convert a numeric key value as by
+         * {@link Number#longValue()}.</p>
+         *
+         * @param index position (0 is first) of the key value to obtain.
+         * @return the key value at the specified position.
+         * @throws ClassCastException        if the key value is not numeric.
+         * @throws IndexOutOfBoundsException if the index is negative or greater
+         *                                   than or equal to the {@link #size}.
+         * @throws NullPointerException      if the key value is {@code null}.
+         * @since 1.1
+         */
+        default long getLong(int index) {
+            return ((Number) get(index)).longValue();
+        }
+
         /**
          * Returns a hash code based on the key values.
          *
@@ -476,5 +792,47 @@ public interface PageRequest {
         static Cursor forKey(@Nonnull Object... key) {
             return new PageRequestCursor(key);
         }
+
+        /**
+         * <p>Create a {@code Cursor} that has a key consisting of a single
+         * {@code long} value, such as a numeric identifier. The value is
+         * stored without boxing it, and can be obtained without boxing by
+         * {@link #getLong(int)}.</p>
+         *
+         * @param key the key to use for the {@code Cursor}.
+         * @return a new instance of {@code Cursor}
+         * @since 1.1
+         */
+        @Nonnull
+        static Cursor ofLong(long key) {
+            return new LongCursor(key);
+        }
+
+        /**
+         * <p>Create a {@code Cursor} that has the composite key formed
+         * by the given {@code long} values. Each key element corresponds
+         * to the respective entity attribute at the same position within
+         * the repository method's sort criteria. The values are stored without
+         * boxing them, and can be obtained without boxing by
+         * {@link #getLong(int)}.</p>
+         *
+         * <p>The array of key elements must not be modified after supplying
+         * it to this method.</p>
+         *
+         * @param key the composite key to use for the {@code Cursor}.
+         * @return a new instance of {@code Cursor}
+         * @throws IllegalArgumentException if no key elements are provided.
+         * @since 1.1
+         */
+        @Nonnull
+        static Cursor ofLongs(@Nonnull long... key) {
+            if (key == null || key.length == 0) {
+                throw new IllegalArgumentException(
+                        Messages.get("006.zero.size.key"));
+            }
+            return key.length == 1
+                    ? new LongCursor(key[0])
+                    : new LongArrayCursor(key);
+        }
     }
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * <p>Splits the results of an offset-paginated query into ranges of page
+ * numbers that are retrieved independently of each other.</p>
+ *
+ * <p>The first page is retrieved with a total on first use, which
+ * determines the range of pages that follow it. Splitting hands over the
+ * results of the current page along with the lower half of the remaining
+ * range of pages as a prefix, as required for an {@link #ORDERED}
+ * spliterator, and keeps the upper half. The spliterator that covers the
+ * last page of the range is open-ended: after its range is exhausted, it
+ * follows {@link Page#nextPageRequest()} for as long as there are more
+ * results, which covers totals that turn out to be estimates that are too
+ * low. A query that does not return a total, or a page request that is not
+ * for offset pagination, leaves the range empty, such that the results are
+ * only ever retrieved by following each page from the preceding page.</p>
+ *
+ * @param <T> type of result.
+ */
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the static Pages.parallelStream method
+class PageSpliterator<T> implements Spliterator<T> {
+
+    private final Function<? super PageRequest, ? extends Page<T>> query;
+
+    /**
+     * Request for the first page, which is {@code null} once retrieved.
+     */
+    private PageRequest firstPageRequest;
+
+    /**
+     * Request from which the requests for pages of the range are obtained.
+     */
+    private PageRequest template;
+
+    /**
+     * Number of the next page of the range to retrieve.
+     */
+    private long nextPage;
+
+    /**
+     * Number of the page that follows the range, which is excluded from it.
+     */
+    private long endPage;
+
+    /**
+     * Whether to follow the pages that come after the range.
+     */
+    private final boolean openEnded;
+
+    /**
+     * Whether the range is known to cover all of the pages that remain,
+     * other than pages that follow a total which is too low.
+     */
+    private boolean bounded;
+
+    /**
+     * Most recently retrieved page of an open-ended spliterator.
+     */
+    private Page<T> lastPage;
+
+    private Iterator<T> results;
+
+    /**
+     * Creates a spliterator over all results, starting from the first page.
+     */
+    PageSpliterator(PageRequest pageRequest,
+                    Function<? super PageRequest, ? extends Page<T>> query) {
+        this.query = query;
+        this.firstPageRequest = pageRequest;
+        this.openEnded = true;
+        this.results = Collections.emptyIterator();
+    }
+
+    /**
+     * Creates a spliterator that is split off as a prefix of another.
+     */
+    private PageSpliterator(Function<? super PageRequest, ? extends Page<T>> query,
+                            PageRequest template,
+                            long nextPage,
+                            long endPage,
+                            Iterator<T> results) {
+        this.query = query;
+        this.template = template;
+        this.nextPage = nextPage;
+        this.endPage = endPage;
+        this.openEnded = false;
+        this.bounded = true;
+        this.results = results;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+
+    /**
+     * Estimates the number of results as a full page for each page of the
+     * range, plus one for the current page if it has results left.
+     * The size is unknown unless the first page reported a total.
+     */
+    @Override
+    public long estimateSize() {
+        if (!bounded) {
+            return Long.MAX_VALUE;
+        }
+        long pages = endPage - nextPage + (results.hasNext() ? 1 : 0);
+        return pages * template.size();
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        do {
+            results.forEachRemaining(action);
+        } while (advance());
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (!results.hasNext()) {
+            if (!advance()) {
+                return false;
+            }
+        }
+        action.accept(results.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (firstPageRequest != null) {
+            retrieveFirst();
+        }
+
+        long remaining = endPage - nextPage;
+        if (remaining < 1 || remaining == 1 && !results.hasNext()) {
+            return null;
+        }
+
+        long middle = nextPage + remaining / 2;
+        PageSpliterator<T> prefix =
+                new PageSpliterator<>(query, template, nextPage, middle, results);
+        results = Collections.emptyIterator();
+        nextPage = middle;
+        return prefix;
+    }
+
+    /**
+     * Retrieves the next page, replacing the results of the current page.
+     *
+     * @return {@code false} if there are no more pages to retrieve.
+     */
+    private boolean advance() {
+        if (firstPageRequest != null) {
+            retrieveFirst();
+            return true;
+        }
+
+        PageRequest pageRequest;
+        if (nextPage < endPage) {
+            pageRequest = template.pageNumber(nextPage++);
+        } else if (openEnded && lastPage != null) {
+            pageRequest = PageIterator.following(lastPage);
+        } else {
+            pageRequest = null;
+        }
+
+        if (pageRequest == null) {
+            return false;
+        }
+
+        Page<T> page = query.apply(pageRequest);
+        if (openEnded) {
+            lastPage = page;
+        }
+        results = page.iterator();
+        return true;
+    }
+
+    /**
+     * Retrieves the first page, with a total if it is requested with offset
+     * pagination, and determines the range of pages that follow it.
+     */
+    private void retrieveFirst() {
+        PageRequest pageRequest = firstPageRequest;
+        firstPageRequest = null;
+
+        boolean offset = pageRequest.mode() == PageRequest.Mode.OFFSET;
+        if (offset && !pageRequest.requestTotal()) {
+            pageRequest = pageRequest.withTotal();
+        }
+
+        Page<T> page = query.apply(pageRequest);
+        lastPage = page;
+        results = page.iterator();
+        template = pageRequest.withoutTotal();
+        nextPage = pageRequest.pageNumber() + 1;
+        bounded = offset && page.hasTotals();
+        endPage = bounded && page.hasContent()
+                ? Math.max(nextPage, page.totalPages() + 1)
+                : nextPage;
+    }
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.messages.Messages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Iterates over the results of every page of a query, starting from a
+ * given {@link PageRequest} and following {@link Page#nextPageRequest()}
+ * until there are no more results.</p>
+ *
+ * <p>The query is supplied as a function that accepts a {@code PageRequest}
+ * and returns the corresponding {@link Page}, which is typically a
+ * repository method. For example,</p>
+ *
+ * <pre>
+ * try (Stream&lt;Car&gt; all = Pages.stream(PageRequest.ofSize(500),
+ *                                       req -&gt; cars.byMake(make, req, Order.by(_Car.vin.asc())))) {
+ *     all.forEach(exporter::write);
+ * }
+ * </pre>
+ *
+ * <p>Pages are only requested as the results of the preceding page are
+ * consumed. When a {@link CursoredPage} is returned by the query, each
+ * following page is requested with the cursor of the last result of the
+ * preceding page, so the iteration is not disturbed by the insertion or
+ * removal of entities that precede the current position.</p>
+ *
+ * <p>The {@link #stream(PageRequest, Function, Executor, int)} method
+ * additionally retrieves following pages in the background while the
+ * results of the current page are being consumed. The
+ * {@link #parallelStream(PageRequest, Function)} method divides the pages
+ * of an offset-paginated query among the threads of a parallel stream.
+ * The {@link #publisher(PageRequest, Function, Executor)} method retrieves
+ * pages as the subscriber of a {@link Flow.Publisher} requests results.
+ * The {@code merge} methods combine the sorted results of the same query
+ * from multiple data stores into a single sorted sequence.</p>
+ *
+ * @since 1.1
+ */
+public class Pages {
+
+    // prevent instantiation
+    private Pages() {
+    }
+
+    /**
+     * <p>Returns an iterator over the results of every page of a query,
+     * starting from the given page request. Each page is retrieved by
+     * invoking the query function from the thread that invokes
+     * {@link Iterator#hasNext()} or {@link Iterator#next()}, after all results
+     * of the preceding page have been consumed.</p>
+     *
+     * @param <T>         type of result.
+     * @param pageRequest request for the first page.
+     * @param query       function that retrieves the page for a page request.
+     * @return an iterator over the results of all pages.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    @Nonnull
+    public static <T> Iterator<T> iterator(
+            @Nonnull PageRequest pageRequest,
+            @Nonnull Function<? super PageRequest, ? extends Page<T>> query) {
+        Messages.requireNonNull(pageRequest, "pageRequest");
+        Messages.requireNonNull(query, "query");
+
+        return new PageIterator<>(pageRequest, query);
+    }
+
+    /**
+     * <p>Returns a sequential, ordered stream of the results of every page of
+     * a query, starting from the given page request. Pages are retrieved
+     * lazily, from the thread that consumes the stream, as described by
+     * {@link #iterator(PageRequest, Function)}.</p>
+     *
+     * @param <T>         type of result.
+     * @param pageRequest request for the first page.
+     * @param query       function that retrieves the page for a page request.
+     * @return a stream of the results of all pages.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    @Nonnull
+    public static <T> Stream<T> stream(
+            @Nonnull PageRequest pageRequest,
+            @Nonnull Function<? super PageRequest, ? extends Page<T>> query) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator(pageRequest, query),
+                                                    Spliterator.ORDERED),
+                false);
+    }
+
+    /**
+     * <p>Returns a sequential, ordered stream of the results of every page of
+     * a cursor-based query, starting from the given page request, where the
+     * size of each following page is adjusted towards the target of the
+     * supplied {@link AdaptivePageSize}. Pages are retrieved lazily, from the
+     * thread that consumes the stream, as described by
+     * {@link #iterator(PageRequest, Function)}, and the time it takes to
+     * retrieve each page is measured from that thread.</p>
+     *
+     * @param <T>         type of result.
+     * @param pageRequest request for the first page, the size of which is
+     *                    the initial size of pages.
+     * @param query       function that retrieves the page for a page request.
+     * @param pageSize    adjusts the size of following pages.
+     * @return a stream of the results of all pages.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    @Nonnull
+    public static <T> Stream<T> stream(
+            @Nonnull PageRequest pageRequest,
+            @Nonnull Function<? super PageRequest, ? extends CursoredPage<T>> query,
+            @Nonnull AdaptivePageSize<? super T> pageSize) {
+        Messages.requireNonNull(pageRequest, "pageRequest");
+        Messages.requireNonNull(query, "query");
+        Messages.requireNonNull(pageSize, "pageSize");
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        new PageIterator<T>(pageRequest, query, pageSize),
+                        Spliterator.ORDERED),
+                false);
+    }
+
+    /**
+     * <p>Returns a sequential, ordered stream of the results of every page of
+     * a query, starting from the given page request, where following pages
+     * are retrieved in the background by a task that runs on the supplied
+     * executor. While the results of one page are being consumed, the task
+     * retrieves up to {@code prefetch} following pages ahead of the consumer,
+     * so that the consumer does not wait for a round trip to the database
+     * after each page. No more than {@code prefetch} pages that have not yet
+     * been reached by the consumer are held in memory at any given time.</p>
+     *
+     * <p>The retrieval of pages is I/O bound, which makes a virtual thread
+     * well suited to it. On Java 21 or above, supply
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} or an equivalent
+     * executor that starts a virtual thread per task.</p>
+     *
+     * <p>A failure to retrieve a page is raised to the consumer once it
+     * reaches the position of the page that could not be retrieved.</p>
+     *
+     * <p>The stream must be closed if it is not consumed to the end, for
+     * example by using a try-with-resources block. Closing the stream stops
+     * the background task and discards any pages that were retrieved ahead
+     * of the consumer.</p>
+     *
+     * @param <T>         type of result.
+     * @param pageRequest request for the first page.
+     * @param query       function that retrieves the page for a page request.
+     *                    The function is invoked from the executor, which
+     *                    must be taken into account if the function relies
+     *                    on context, such as a transaction, that is
+     *                    associated with a thread.
+     * @param executor    executor that runs the task that retrieves pages.
+     * @param prefetch    maximum number of pages to retrieve ahead of the
+     *                    consumer. Must be at least 1.
+     * @return a stream of the results of all pages.
+     * @throws IllegalArgumentException if the prefetch value is less than 1.
+     * @throws NullPointerException     if any of the object arguments is
+     *                                  {@code null}.
+     */
+    @Nonnull
+    public static <T> Stream<T> stream(
+            @Nonnull PageRequest pageRequest,
+            @Nonnull Function<? super PageRequest, ? extends Page<T>> query,
+            @Nonnull Executor executor,
+            int prefetch) {
+        Messages.requireNonNull(pageRequest, "pageRequest");
+        Messages.requireNonNull(query, "query");
+        Messages.requireNonNull(executor, "executor");
+        if (prefetch < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "prefetch", prefetch));
+        }
+
+        PrefetchingPageIterator<T> iterator =
+                new PrefetchingPageIterator<>(pageRequest, query, prefetch);
+        executor.execute(iterator::fetchAll);
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator,
+                                                    Spliterator.ORDERED),
+                false).onClose(iterator::close);
+    }
+
+    /**
+     * <p>Returns a parallel, ordered stream of the results of every page of
+     * an offset-paginated query, starting from the given page request.
+     * The first page is requested with a {@linkplain PageRequest#withTotal()
+     * total}, unless the page request already requests one with a
+     * {@linkplain PageRequest#totalStrategy() strategy} of its own.
+     * The total determines the range of page numbers that follow, which the
+     * stream splits among the threads that process it, such that multiple
+     * pages are retrieved and processed at the same time. The following pages
+     * are requested {@linkplain PageRequest#withoutTotal() without a total}.
+     * For example,</p>
+     *
+     * <pre>
+     * Map&lt;String, Double&gt; scores =
+     *         Pages.parallelStream(PageRequest.ofSize(1000),
+     *                              req -&gt; sales.madeIn(year, req, Order.by(_Sale.id.asc())))
+     *              .collect(Collectors.groupingByConcurrent(Sale::region,
+     *                       Collectors.summingDouble(scorer::score)));
+     * </pre>
+     *
+     * <p>If the total is an {@linkplain Page#isTotalApproximate() estimate}
+     * that is lower than the actual number of results, the pages that follow
+     * the estimated last page are retrieved one after the other. If the query
+     * does not return a total, or if the page request is not for offset
+     * pagination, all pages are retrieved one after the other, as for
+     * {@link #stream(PageRequest, Function)}.</p>
+     *
+     * <p>As with any offset pagination, entities that are inserted or removed
+     * while the pages are being retrieved can cause results to be skipped or
+     * repeated. Each page is retrieved independently, typically in a separate
+     * transaction.</p>
+     *
+     * @param <T>         type of result.
+     * @param pageRequest request for the first page.
+     * @param query       function that retrieves the page for a page request.
+     *                    The function is invoked from the threads that
+     *                    process the stream and must be safe to invoke
+     *                    concurrently.
+     * @return a parallel stream of the results of all pages.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    @Nonnull
+    public static <T> Stream<T> parallelStream(
+            @Nonnull PageRequest pageRequest,
+            @Nonnull Function<? super PageRequest, ? extends Page<T>> query) {
+        Messages.requireNonNull(pageRequest, "pageRequest");
+        Messages.requireNonNull(query, "query");
+
+        return StreamSupport.stream(new PageSpliterator<>(pageRequest, query),
+                                    true);
+    }
+
+    /**
+     * <p>Returns a publisher of the results of every page of a query,
+     * starting from the given page request. Each subscriber receives all of
+     * the results, independently of other subscribers. A page is retrieved
+     * only when the subscriber has {@linkplain Flow.Subscription#request
+     * requested} more results than the pages that were retrieved so far
+     * have provided, such that no more than one page of results is held in
+     * memory for a subscriber that consumes them slowly. With cursor-based
+     * pagination, the size of each page that is retrieved is the number of
+     * results that the subscriber has requested and not yet received, up to
+     * the {@linkplain PageRequest#size() size} of the given page request.
+     * With offset pagination, every page has the size of the given page
+     * request, because the page numbers depend on it.</p>
+     *
+     * <p>Pages are retrieved and results are delivered to the subscriber by
+     * a task that runs on the supplied executor. The task runs for as long as
+     * there is outstanding demand, and a new task is started when the
+     * subscriber requests more results after that. As with
+     * {@link #stream(PageRequest, Function, Executor, int)}, a virtual thread
+     * per task is well suited to retrieving pages.</p>
+     *
+     * <p>A failure to retrieve a page is signaled to the subscriber via
+     * {@link Flow.Subscriber#onError(Throwable)}, as is a request for a number
+     * of results that is not positive. An exception that is thrown by the
+     * subscriber itself cancels the subscription and is not signaled back to
+     * the subscriber.</p>
+     *
+     * @param <T>         type of result.
+     * @param pageRequest request for the first page.
+     * @param query       function that retrieves the page for a page request.
+     *                    The function is invoked from the executor.
+     * @param executor    executor that runs the tasks that retrieve pages and
+     *                    deliver results to subscribers.
+     * @return a publisher of the results of all pages.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    @Nonnull
+    public static <T> Flow.Publisher<T> publisher(
+            @Nonnull PageRequest pageRequest,
+            @Nonnull Function<? super PageRequest, ? extends Page<T>> query,
+            @Nonnull Executor executor) {
+        Messages.requireNonNull(pageRequest, "pageRequest");
+        Messages.requireNonNull(query, "query");
+        Messages.requireNonNull(executor, "executor");
+
+        return new PagePublisher<>(pageRequest, query, executor);
+    }
+
+    /**
+     * <p>Merges streams of results that are each sorted according to the
+     * given comparator into a single stream that is sorted according to the
+     * comparator. This is typically used to combine the results of the same
+     * query from repositories for multiple data stores, or for multiple
+     * shards of a data store. For example,</p>
+     *
+     * <pre>
+     * Order&lt;Car&gt; order = Order.by(_Car.price.asc(), _Car.vin.asc());
+     * try (Stream&lt;Car&gt; cars = Pages.merge(List.of(eastCars.byMake(make, order),
+     *                                               westCars.byMake(make, order)),
+     *                                       OrderComparator.of(order, AttributeAccessor.reflective()))) {
+     *     cars.limit(100).forEach(listing::add);
+     * }
+     * </pre>
+     *
+     * <p>The merge is lazy. A result is read from a stream only when it might
+     * be the next result of the merged stream, and obtaining each result of
+     * the merged stream requires a number of comparisons that is logarithmic
+     * in the number of streams. Results that compare as equal are produced
+     * in the order of the streams that supply them. Closing the merged stream
+     * closes every stream that is supplied.</p>
+     *
+     * @param <T>        type of result.
+     * @param streams    streams of results, each sorted according to the
+     *                   comparator.
+     * @param comparator comparator that orders results.
+     * @return a sequential stream of the merged results.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    @Nonnull
+    public static <T> Stream<T> merge(
+            @Nonnull List<? extends Stream<? extends T>> streams,
+            @Nonnull Comparator<? super T> comparator) {
+        Messages.requireNonNull(streams, "streams");
+        Messages.requireNonNull(comparator, "comparator");
+
+        List<Iterator<? extends T>> sources = new ArrayList<>(streams.size());
+        for (Stream<? extends T> stream : streams) {
+            sources.add(stream.iterator());
+        }
+        MergeIterator<T> merged = new MergeIterator<>(sources, comparator);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED),
+                false).onClose(() -> closeAll(streams));
+    }
+
+    /**
+     * <p>Merges pages of results that are each sorted according to the given
+     * comparator into a single page of at most the given number of results,
+     * sorted according to the comparator. The pages are typically pages of
+     * the same query from repositories for multiple data stores, or for
+     * multiple shards of a data store, which are requested with a page size
+     * of at least the given number of results.</p>
+     *
+     * <p>Results are merged without sorting all of the results of all of the
+     * pages, and only until the merged page is full. If the last result of a
+     * page is merged before the merged page is full and the page reports a
+     * next page, the merged page ends at that result because results of the
+     * next page, which is not yet retrieved, might precede the results of
+     * other pages that are not yet merged. This cannot happen when each page
+     * has at least as many results as the size of the merged page.</p>
+     *
+     * <p>The merged page includes, for each page, the request with which to
+     * continue reading after the last of the results of that page that is
+     * included in the merged page. The request for a page of which no results
+     * are merged is the request for that same page. Results must be
+     * {@linkplain CursoredPage#cursor(int) cursored} in order to continue
+     * from a result within a page.</p>
+     *
+     * @param <T>        type of result.
+     * @param pages      pages of results, each sorted according to the
+     *                   comparator. An element is {@code null} for a source
+     *                   that has no more results.
+     * @param comparator comparator that orders results.
+     * @param maxResults maximum number of results of the merged page.
+     * @return the merged page.
+     * @throws IllegalArgumentException if the maximum number of results is
+     *                                  less than 1.
+     * @throws NullPointerException     if the list of pages or the
+     *                                  comparator is {@code null}.
+     */
+    @Nonnull
+    public static <T> MergedPage<T> merge(
+            @Nonnull List<? extends CursoredPage<? extends T>> pages,
+            @Nonnull Comparator<? super T> comparator,
+            int maxResults) {
+        Messages.requireNonNull(pages, "pages");
+        Messages.requireNonNull(comparator, "comparator");
+        if (maxResults < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "maxResults", maxResults));
+        }
+
+        List<Iterator<? extends T>> sources = new ArrayList<>(pages.size());
+        for (CursoredPage<? extends T> page : pages) {
+            sources.add(page == null
+                    ? Collections.emptyIterator()
+                    : page.iterator());
+        }
+
+        MergeIterator<T> merged = new MergeIterator<>(sources, comparator);
+        int[] taken = new int[pages.size()];
+        List<T> content = new ArrayList<>(maxResults);
+        while (content.size() < maxResults && merged.hasNext()) {
+            content.add(merged.next());
+            int source = merged.source();
+            CursoredPage<? extends T> page = pages.get(source);
+            if (++taken[source] == page.numberOfElements() && page.hasNext()) {
+                // the next page of the source might precede the other sources
+                break;
+            }
+        }
+
+        List<PageRequest> nextPageRequests = new ArrayList<>(pages.size());
+        for (int i = 0; i < taken.length; i++) {
+            nextPageRequests.add(continuation(pages.get(i), taken[i]));
+        }
+        return new MergedPage<>(Collections.unmodifiableList(content),
+                                Collections.unmodifiableList(nextPageRequests));
+    }
+
+    /**
+     * Returns the request with which to continue reading from a source after
+     * some of the results of its page are merged.
+     *
+     * @param page  page of the source, or {@code null}.
+     * @param taken number of results of the page that are merged.
+     * @return the request, or {@code null} if the source has no more results.
+     */
+    private static PageRequest continuation(CursoredPage<?> page, int taken) {
+        if (page == null || !page.hasContent()) {
+            return null;
+        } else if (taken == 0) {
+            return page.pageRequest();
+        } else if (taken < page.numberOfElements()) {
+            return page.pageRequest().afterCursor(page.cursor(taken - 1));
+        } else {
+            return page.hasNext() ? page.nextPageRequest() : null;
+        }
+    }
+
+    /**
+     * Closes streams such that every stream is closed even if closing one of
+     * them fails. The first failure is raised, with any later failures added
+     * to it as suppressed exceptions.
+     */
+    private static void closeAll(List<? extends Stream<?>> streams) {
+        Throwable failure = null;
+        for (Stream<?> stream : streams) {
+            try {
+                stream.close();
+            } catch (RuntimeException | Error x) {
+                if (failure == null) {
+                    failure = x;
+                } else if (failure != x) {
+                    failure.addSuppressed(x);
+                }
+            }
+        }
+        if (failure instanceof RuntimeException x) {
+            throw x;
+        } else if (failure != null) {
+            throw (Error) failure;
+        }
+    }
+}
@@ -17,6 +17,7 @@
  */
 package jakarta.data.page;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import jakarta.annotation.Nonnull;
@@ -25,9 +26,12 @@ import jakarta.data.messages.Messages;
 
 /**
  * Built-in implementation of PageRequest.
+ * The known total is not included in equality because it is
+ * a previously computed result rather than part of the request.
  */
 record Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Cursor type,
-                  boolean requestTotal) implements PageRequest {
+                  @Nonnull TotalStrategy totalStrategy, @Nullable KnownTotal known)
+        implements PageRequest {
 
     Pagination {
         if (pageNumber < 1) {
@@ -42,16 +46,75 @@ record Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Curso
         }
     }
 
+    Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Cursor type,
+               @Nonnull TotalStrategy totalStrategy) {
+        this(pageNumber, size, mode, type, totalStrategy, null);
+    }
+
+    Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Cursor type,
+               boolean requestTotal) {
+        this(pageNumber, size, mode, type,
+             requestTotal ? TotalStrategy.EXACT : TotalStrategy.NONE, null);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        return this == o || o instanceof Pagination p
+                && pageNumber == p.pageNumber
+                && size == p.size
+                && mode == p.mode
+                && totalStrategy == p.totalStrategy
+                && Objects.equals(type, p.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pageNumber, size, mode, type, totalStrategy);
+    }
+
+    @Override
+    @Nonnull
+    public Optional<KnownTotal> knownTotal() {
+        return Optional.ofNullable(known);
+    }
+
+    @Override
+    @Nonnull
+    public PageRequest withKnownTotal(@Nonnull KnownTotal knownTotal) {
+        Messages.requireNonNull(knownTotal, "knownTotal");
+        return new Pagination(pageNumber, size, mode, type, totalStrategy, knownTotal);
+    }
+
+    @Override
+    @Nonnull
+    public PageRequest withoutKnownTotal() {
+        return known == null
+                ? this
+                : new Pagination(pageNumber, size, mode, type, totalStrategy, null);
+    }
+
+    @Override
+    public boolean requestTotal() {
+        return totalStrategy != TotalStrategy.NONE;
+    }
+
     @Override
     @Nonnull
     public PageRequest withoutTotal() {
-        return new Pagination(pageNumber, size, mode, type, false);
+        return new Pagination(pageNumber, size, mode, type, TotalStrategy.NONE, known);
     }
 
     @Override
     @Nonnull
     public PageRequest withTotal() {
-        return new Pagination(pageNumber, size, mode, type, true);
+        return new Pagination(pageNumber, size, mode, type, TotalStrategy.EXACT, known);
+    }
+
+    @Override
+    @Nonnull
+    public PageRequest withTotal(@Nonnull TotalStrategy strategy) {
+        Messages.requireNonNull(strategy, "strategy");
+        return new Pagination(pageNumber, size, mode, type, strategy, known);
     }
 
     @Override
@@ -61,7 +124,8 @@ record Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Curso
                               size,
                               Mode.CURSOR_NEXT,
                               cursor,
-                              requestTotal);
+                              totalStrategy,
+                              known);
     }
 
     @Override
@@ -71,7 +135,8 @@ record Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Curso
                               size,
                               Mode.CURSOR_PREVIOUS,
                               cursor,
-                              requestTotal);
+                              totalStrategy,
+                              known);
     }
 
     @Override
@@ -96,13 +161,13 @@ record Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Curso
     @Override
     @Nonnull
     public PageRequest size(int maxPageSize) {
-        return new Pagination(pageNumber, maxPageSize, mode, type, requestTotal);
+        return new Pagination(pageNumber, maxPageSize, mode, type, totalStrategy, known);
     }
 
     @Override
     @Nonnull
     public PageRequest pageNumber(long pageNumber) {
-        return new Pagination(pageNumber, size, mode, type, requestTotal);
+        return new Pagination(pageNumber, size, mode, type, totalStrategy, known);
     }
 
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.exceptions.DataException;
+import jakarta.data.messages.Messages;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * <p>Iterates over the results of every page of a query, where pages are
+ * retrieved ahead of the consumer by the {@link #fetchAll()} task.</p>
+ *
+ * <p>The task hands over each page, followed by either an end marker or the
+ * failure that stopped it, through a queue. A semaphore with one permit per
+ * page of prefetch depth bounds the number of pages that the task retrieves
+ * before the consumer reaches them. The consumer returns a permit each time
+ * it takes a page from the queue. Closing the iterator returns a permit so
+ * that a waiting task can observe the closure and stop.</p>
+ *
+ * @param <T> type of result.
+ */
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the static Pages.stream method
+class PrefetchingPageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final Object END = new Object();
+
+    private final PageRequest firstPageRequest;
+
+    private final BlockingQueue<Object> pages = new LinkedBlockingQueue<>();
+
+    private final Semaphore permits;
+
+    private final Function<? super PageRequest, ? extends Page<T>> query;
+
+    private volatile boolean closed;
+
+    private boolean ended;
+
+    private Iterator<T> results = Collections.emptyIterator();
+
+    PrefetchingPageIterator(PageRequest pageRequest,
+                            Function<? super PageRequest, ? extends Page<T>> query,
+                            int prefetch) {
+        this.firstPageRequest = pageRequest;
+        this.query = query;
+        this.permits = new Semaphore(prefetch);
+    }
+
+    /**
+     * Stops the task that retrieves pages and discards the pages that it
+     * retrieved ahead of the consumer. A query that is already running
+     * completes, but its page is discarded.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        ended = true;
+        results = Collections.emptyIterator();
+        pages.clear();
+        permits.release();
+    }
+
+    /**
+     * Retrieves pages until there are no more results, the iterator is closed,
+     * or a query fails. This method is the task that runs on the executor.
+     */
+    void fetchAll() {
+        try {
+            PageRequest pageRequest = firstPageRequest;
+            while (pageRequest != null) {
+                permits.acquire();
+                if (closed) {
+                    break;
+                }
+                Page<T> page = query.apply(pageRequest);
+                pages.add(page);
+                pageRequest = PageIterator.following(page);
+            }
+            pages.add(END);
+        } catch (InterruptedException x) {
+            // the executor is shutting down
+            pages.add(x);
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error x) {
+            pages.add(x);
+        }
+        if (closed) {
+            pages.clear();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!results.hasNext()) {
+            if (ended) {
+                return false;
+            }
+            results = take();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (hasNext()) {
+            return results.next();
+        } else {
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Waits for the next item from the task that retrieves pages.
+     *
+     * @return iterator over the results of the next page, which is empty
+     *         if the task has ended.
+     */
+    @SuppressWarnings("unchecked")
+    private Iterator<T> take() {
+        Object item;
+        try {
+            item = pages.take();
+        } catch (InterruptedException x) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new DataException(Messages.get("016.fetch.interrupted"), x);
+        }
+
+        if (item instanceof Page) {
+            permits.release();
+            return ((Page<T>) item).iterator();
+        }
+
+        ended = true;
+        if (item instanceof RuntimeException) {
+            throw (RuntimeException) item;
+        } else if (item instanceof Error) {
+            throw (Error) item;
+        } else if (item instanceof InterruptedException) {
+            throw new DataException(Messages.get("016.fetch.interrupted"),
+                                    (InterruptedException) item);
+        }
+        return Collections.emptyIterator();
+    }
+}
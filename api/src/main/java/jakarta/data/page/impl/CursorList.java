@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.messages.Messages;
+import jakarta.data.page.PageRequest;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * An unmodifiable list of cursors that computes the cursor for a result
+ * only when the cursor is requested, rather than holding a cursor for every
+ * result of a page.
+ *
+ * @param <T> type of result.
+ */
+// Internal implementation class.
+// Instances are created by the CursoredPageRecord constructor that accepts
+// a cursor function.
+class CursorList<T> extends AbstractList<PageRequest.Cursor>
+        implements RandomAccess {
+
+    private final List<T> content;
+
+    private final Function<? super T, PageRequest.Cursor> cursorFunction;
+
+    CursorList(List<T> content,
+               Function<? super T, PageRequest.Cursor> cursorFunction) {
+        this.content = content;
+        this.cursorFunction = cursorFunction;
+    }
+
+    /**
+     * Returns a list that applies the same function to different content,
+     * which must have the same elements as the content of this list.
+     *
+     * @param copy an unmodifiable copy of the content.
+     * @return a list of cursors for the copy.
+     */
+    @SuppressWarnings("unchecked")
+    <E> List<PageRequest.Cursor> over(List<E> copy) {
+        return copy == content
+                ? this
+                : new CursorList<>(copy, (Function<? super E, PageRequest.Cursor>) cursorFunction);
+    }
+
+    /**
+     * Indicates whether this list computes cursors for the given content.
+     *
+     * @param list content of a page.
+     * @return true if this list computes cursors for the given content.
+     */
+    boolean isOver(List<?> list) {
+        return content == list;
+    }
+
+    @Override
+    public PageRequest.Cursor get(int index) {
+        PageRequest.Cursor cursor = cursorFunction.apply(content.get(index));
+        if (cursor == null) {
+            throw new NullPointerException(
+                    Messages.get("001.arg.required", "cursor"));
+        }
+        return cursor;
+    }
+
+    @Override
+    public int size() {
+        return content.size();
+    }
+}
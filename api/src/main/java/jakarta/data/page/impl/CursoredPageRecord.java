@@ -24,6 +24,7 @@ import jakarta.data.page.PageRequest;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
@@ -31,6 +32,13 @@ import jakarta.annotation.Nullable;
  * Record type implementing {@link CursoredPage}. This may be used to simplify
  * implementation of a repository interface.
  *
+ * <p>Instead of a list of cursors, a function that computes the cursor from
+ * a result can be supplied to the
+ * {@link #CursoredPageRecord(List, Function, long, PageRequest, boolean, boolean)}
+ * constructor. The function is invoked only when the cursor of a result is
+ * needed, such as the first and last results to compute the previous and next
+ * page requests, rather than once for every result on the page.</p>
+ *
  * @param content             The page content, that is, the query results, in
  *                            order
  * @param cursors             A list of {@link PageRequest.Cursor} instances for
@@ -64,7 +72,11 @@ public record CursoredPageRecord<T>
                       @Nullable PageRequest nextPageRequest,
                       @Nullable PageRequest previousPageRequest) {
         this.content = List.copyOf(content);
-        this.cursors = List.copyOf(cursors);
+        // Copying a CursorList would compute every cursor. Instead, the
+        // cursors of this page are computed from the copy of the content.
+        this.cursors = cursors instanceof CursorList<?> list && list.isOver(content)
+                ? list.over(this.content)
+                : List.copyOf(cursors);
         this.totalElements = totalElements;
         this.pageRequest = pageRequest;
         this.nextPageRequest = nextPageRequest;
@@ -87,20 +99,57 @@ public record CursoredPageRecord<T>
     (@Nonnull List<T> content, @Nonnull List<PageRequest.Cursor> cursors, long totalElements, @Nonnull PageRequest pageRequest,
      boolean firstPage, boolean lastPage) {
         this(content, cursors, totalElements, pageRequest,
-                lastPage ? null : PageRequest.afterCursor(
-                        cursors.get(cursors.size() - 1),
-                        pageRequest.pageNumber() + 1,
-                        pageRequest.size(),
-                        pageRequest.requestTotal()),
-                firstPage ? null : PageRequest.beforeCursor(
-                        cursors.get(0),
-                        pageRequest.pageNumber() == 1
-                                ? 1
-                                : pageRequest.pageNumber() - 1,
-                        pageRequest.size(),
-                        pageRequest.requestTotal()));
+                lastPage ? null : KnownTotals.carry(pageRequest, totalElements,
+                        KnownTotals.requested(pageRequest, totalElements),
+                        PageRequest.afterCursor(
+                                cursors.get(cursors.size() - 1),
+                                pageRequest.pageNumber() + 1,
+                                pageRequest.size(),
+                                pageRequest.requestTotal())
+                                .withTotal(pageRequest.totalStrategy())),
+                firstPage ? null : KnownTotals.carry(pageRequest, totalElements,
+                        KnownTotals.requested(pageRequest, totalElements),
+                        PageRequest.beforeCursor(
+                                cursors.get(0),
+                                pageRequest.pageNumber() == 1
+                                        ? 1
+                                        : pageRequest.pageNumber() - 1,
+                                pageRequest.size(),
+                                pageRequest.requestTotal())
+                                .withTotal(pageRequest.totalStrategy())));
     }
 
+    /**
+     * <p>Creates a page that computes the cursor for a result by applying
+     * the supplied function to the result, only when the cursor is requested.
+     * This avoids creating a cursor for every result on the page when only
+     * the cursors of the first and last results are used to request the
+     * previous and next pages.</p>
+     *
+     * <p>The {@link #cursors()} of the page is an unmodifiable list that
+     * applies the function each time that an element is obtained from it.
+     * </p>
+     *
+     * @param content        The page content, that is, the query results, in
+     *                       order
+     * @param cursorFunction A function that computes the
+     *                       {@link PageRequest.Cursor} of a result. The
+     *                       function must not return {@code null}.
+     * @param totalElements  The total number of elements across all pages
+     *                       that can be requested for the query
+     * @param pageRequest    The {@link PageRequest page request} for which
+     *                       this page was obtained
+     * @param firstPage      True, if this is the first page of results
+     * @param lastPage       True, if this is the last page of results
+     * @since 1.1
+     */
+    public CursoredPageRecord
+    (@Nonnull List<T> content, @Nonnull Function<? super T, PageRequest.Cursor> cursorFunction,
+     long totalElements, @Nonnull PageRequest pageRequest,
+     boolean firstPage, boolean lastPage) {
+        this(content, new CursorList<>(content, cursorFunction), totalElements,
+             pageRequest, firstPage, lastPage);
+    }
 
     @Override
     public boolean hasContent() {
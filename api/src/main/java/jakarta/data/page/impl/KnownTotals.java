@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.messages.Messages;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.PageRequest.KnownTotal;
+import jakarta.data.page.PageRequest.TotalStrategy;
+
+import java.util.Optional;
+
+/**
+ * Carries the known total of a page request forward to the requests
+ * for the next and previous pages, and determines the strategy that
+ * produced the total of a page.
+ */
+// Internal implementation class.
+class KnownTotals {
+
+    // prevent instantiation
+    private KnownTotals() {
+    }
+
+    /**
+     * Carries the known total of the request for a page, if any, forward to
+     * a request for an adjacent page. If the total of the page was computed
+     * exactly and differs from the known total, the total of the page is
+     * carried forward as of now, with the same maximum age. Otherwise, the
+     * known total is carried forward unchanged, so that it does not become
+     * any less stale by being reused. A total that is an estimate never
+     * replaces the known total. If the request for the page has no known
+     * total, the request for the adjacent page has none either.
+     *
+     * @param pageRequest   request for the page.
+     * @param totalElements total of the page, or a negative value if unknown.
+     * @param totalStrategy strategy that produced the total of the page.
+     * @param adjacent      request for an adjacent page.
+     * @return the request for the adjacent page, with the known total.
+     */
+    static PageRequest carry(PageRequest pageRequest,
+                             long totalElements,
+                             TotalStrategy totalStrategy,
+                             PageRequest adjacent) {
+        Optional<KnownTotal> known = pageRequest.knownTotal();
+        if (known.isEmpty()) {
+            return adjacent;
+        }
+
+        KnownTotal knownTotal = known.get();
+        return totalStrategy != TotalStrategy.EXACT
+                || totalElements == knownTotal.totalElements()
+                ? adjacent.withKnownTotal(knownTotal)
+                : adjacent.withKnownTotal(totalElements, knownTotal.maxAge());
+    }
+
+    /**
+     * Carries the known total of the request for a page forward to a request
+     * for an adjacent page, as {@link #carry(PageRequest, long, TotalStrategy, PageRequest)}
+     * does, for a page that reports the strategy that produced its total.
+     *
+     * @param page          the page.
+     * @param totalStrategy strategy that produced the total of the page.
+     * @param adjacent      request for an adjacent page.
+     * @return the request for the adjacent page, with the known total.
+     */
+    static PageRequest carry(Page<?> page,
+                             TotalStrategy totalStrategy,
+                             PageRequest adjacent) {
+        return carry(page.pageRequest(),
+                page.hasTotals() ? page.totalElements() : -1L,
+                totalStrategy,
+                adjacent);
+    }
+
+    /**
+     * Requires the strategy that produced the total of a page to be
+     * {@link TotalStrategy#NONE NONE} if and only if the page does not have
+     * totals.
+     *
+     * @param totalStrategy strategy that produced the total.
+     * @param hasTotals     whether the page has totals.
+     * @return the strategy.
+     * @throws IllegalArgumentException if the strategy is inconsistent with
+     *                                  the page.
+     * @throws NullPointerException     if the strategy is {@code null}.
+     */
+    static TotalStrategy requireConsistent(TotalStrategy totalStrategy,
+                                           boolean hasTotals) {
+        Messages.requireNonNull(totalStrategy, "totalStrategy");
+        if (hasTotals == (totalStrategy == TotalStrategy.NONE)) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "totalStrategy", totalStrategy));
+        }
+        return totalStrategy;
+    }
+
+    /**
+     * Determines the strategy that produced the total of a page when the
+     * repository does not report it, which is the strategy of the request
+     * for the page, or {@link TotalStrategy#EXACT EXACT} if the request did
+     * not request a total but the total is available anyway.
+     *
+     * @param pageRequest   request for the page.
+     * @param totalElements total of the page, or a negative value if unknown.
+     * @return the strategy that produced the total.
+     */
+    static TotalStrategy requested(PageRequest pageRequest,
+                                   long totalElements) {
+        if (totalElements < 0) {
+            return TotalStrategy.NONE;
+        }
+        TotalStrategy requested = pageRequest.totalStrategy();
+        return requested == TotalStrategy.NONE ? TotalStrategy.EXACT : requested;
+    }
+}
@@ -61,7 +61,10 @@ public record PageRecord<T>(@Nonnull PageRequest pageRequest, @Nonnull List<T> c
      * the {@code totalElements} is either unavailable (indicated by a negative
      * value) or it exceeds the current
      * {@linkplain PageRequest#pageNumber() page number} multiplied by the
-     * {@link PageRequest#size() size} of a full page.
+     * {@link PageRequest#size() size} of a full page. A total that is obtained
+     * with the {@link PageRequest.TotalStrategy#ESTIMATE ESTIMATE} strategy is
+     * approximate and is not used to compute the {@link #moreResults}
+     * component.
      *
      * @param pageRequest   The {@link PageRequest page request} for which this
      *                      page was obtained.
@@ -75,6 +78,7 @@ public record PageRecord<T>(@Nonnull PageRequest pageRequest, @Nonnull List<T> c
         this(pageRequest, content, totalElements,
                 content.size() == pageRequest.size()
                         && (totalElements < 0
+                        || pageRequest.totalStrategy() == PageRequest.TotalStrategy.ESTIMATE
                         || totalElements > pageRequest.size() * pageRequest.pageNumber()));
     }
 
@@ -100,9 +104,11 @@ public record PageRecord<T>(@Nonnull PageRequest pageRequest, @Nonnull List<T> c
             throw new NoSuchElementException();
         }
 
-        return PageRequest.ofPage(pageRequest.pageNumber() + 1,
-                pageRequest.size(),
-                pageRequest.requestTotal());
+        return KnownTotals.carry(pageRequest, totalElements, totalStrategy(),
+                PageRequest.ofPage(pageRequest.pageNumber() + 1,
+                        pageRequest.size(),
+                        pageRequest.requestTotal())
+                        .withTotal(pageRequest.totalStrategy()));
     }
 
     @Override
@@ -117,9 +123,11 @@ public record PageRecord<T>(@Nonnull PageRequest pageRequest, @Nonnull List<T> c
             throw new NoSuchElementException();
         }
 
-        return PageRequest.ofPage(pageRequest.pageNumber() - 1,
-                pageRequest.size(),
-                pageRequest.requestTotal());
+        return KnownTotals.carry(pageRequest, totalElements, totalStrategy(),
+                PageRequest.ofPage(pageRequest.pageNumber() - 1,
+                        pageRequest.size(),
+                        pageRequest.requestTotal())
+                        .withTotal(pageRequest.totalStrategy()));
     }
 
     @Override
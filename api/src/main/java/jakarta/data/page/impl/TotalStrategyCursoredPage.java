@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+
+import java.util.Iterator;
+import java.util.List;
+import jakarta.annotation.Nonnull;
+
+/**
+ * <p>Record type implementing {@link CursoredPage} by delegating to another
+ * cursored page, such as a {@link CursoredPageRecord}, and reporting the
+ * {@link PageRequest.TotalStrategy strategy} that actually produced the
+ * totals of the page. This may be used by a repository implementation that
+ * uses a different strategy than the
+ * {@linkplain PageRequest#totalStrategy() requested strategy}, for example,
+ * when the database is incapable of estimating the total and the total is
+ * counted exactly instead:</p>
+ *
+ * <pre>
+ * return new TotalStrategyCursoredPage&lt;&gt;(
+ *         new CursoredPageRecord&lt;&gt;(results, cursors, count, pageRequest,
+ *                                         firstPage, lastPage),
+ *         PageRequest.TotalStrategy.EXACT);
+ * </pre>
+ *
+ * @param page          The page to which all methods other than
+ *                      {@link #totalStrategy()} delegate
+ * @param totalStrategy The strategy that produced the totals of the page,
+ *                      which must be
+ *                      {@link PageRequest.TotalStrategy#NONE NONE} if and
+ *                      only if the page does not
+ *                      {@linkplain CursoredPage#hasTotals() have totals}
+ * @param <T>           The type of elements on the page
+ * @since 1.1
+ */
+public record TotalStrategyCursoredPage<T>(@Nonnull CursoredPage<T> page,
+                                           @Nonnull PageRequest.TotalStrategy totalStrategy)
+        implements CursoredPage<T> {
+
+    public TotalStrategyCursoredPage {
+        KnownTotals.requireConsistent(totalStrategy, page.hasTotals());
+    }
+
+    @Override
+    public List<T> content() {
+        return page.content();
+    }
+
+    @Override
+    public boolean hasContent() {
+        return page.hasContent();
+    }
+
+    @Override
+    public int numberOfElements() {
+        return page.numberOfElements();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return page.hasNext();
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return page.hasPrevious();
+    }
+
+    @Override
+    public PageRequest pageRequest() {
+        return page.pageRequest();
+    }
+
+    @Override
+    @Nonnull
+    public PageRequest nextPageRequest() {
+        return KnownTotals.carry(page, totalStrategy, page.nextPageRequest());
+    }
+
+    @Override
+    @Nonnull
+    public PageRequest previousPageRequest() {
+        return KnownTotals.carry(page, totalStrategy, page.previousPageRequest());
+    }
+
+    @Override
+    @Nonnull
+    public Iterator<T> iterator() {
+        return page.iterator();
+    }
+
+    @Override
+    @Nonnull
+    public PageRequest.Cursor cursor(int index) {
+        return page.cursor(index);
+    }
+
+    @Override
+    public boolean hasTotals() {
+        return page.hasTotals();
+    }
+
+    @Override
+    public long totalElements() {
+        return page.totalElements();
+    }
+
+    @Override
+    public long totalPages() {
+        return page.totalPages();
+    }
+}
@@ -106,6 +106,9 @@ import java.lang.annotation.Target;
  *     <li>an array type {@code E[]},
  *     <li>{@code List<E>},</li>
  *     <li>{@code Stream<E>},</li>
+ *     <li>{@link java.util.concurrent.Flow.Publisher Flow.Publisher}{@code <E>},
+ *         which reads results from the database as the subscriber
+ *         requests them,</li>
  *     <li>{@code Page<E>}, or</li>
  *     <li>{@code CursoredPage<E>} (only allowed when {@code E} is the entity type).</li>
  * </ul>
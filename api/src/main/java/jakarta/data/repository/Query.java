@@ -61,6 +61,12 @@ import java.lang.annotation.Target;
  *     the query directly returns the values of the path expression.
  * </ul>
  *
+ * <p>A {@code select} statement that can return multiple results may be
+ * declared with a return type of
+ * {@link java.util.concurrent.Flow.Publisher Flow.Publisher}{@code <R>}, where
+ * {@code R} is the type of result. The results are read from the database
+ * no faster than the subscriber requests them.</p>
+ *
  * <p>For {@code update} or {@code delete} statements, the return value must
  * be one of:</p>
  * <ul>
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import jakarta.data.Order;
+import jakarta.data.exceptions.EntityExistsException;
+import jakarta.data.exceptions.OptimisticLockingFailureException;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import static jakarta.data.repository.By.ID;
+import jakarta.annotation.Nonnull;
+
+/**
+ * <p>A built-in repository supertype for performing Create, Read, Update, and
+ * Delete (CRUD) operations without blocking the caller.</p>
+ *
+ * <p>This repository is the non-blocking counterpart of
+ * {@link CrudRepository}. Each operation that produces a single result
+ * returns a {@link CompletionStage} that completes once the database has
+ * performed the operation. Each operation that produces multiple results
+ * returns a {@link Flow.Publisher} that emits the results to its subscriber
+ * no faster than the subscriber {@linkplain Flow.Subscription#request
+ * requests} them. The repository implementation maps the demand of the
+ * subscriber onto the fetch size or page size with which results are read
+ * from the database, such that results are not buffered beyond what the
+ * subscriber has requested. Nothing is read from the database until a
+ * subscriber requests results.</p>
+ *
+ * <p>A failure to perform an operation, including the exceptions that are
+ * documented for the corresponding method of {@link CrudRepository}, is
+ * signaled by completing the {@code CompletionStage}
+ * {@linkplain java.util.concurrent.CompletableFuture#completeExceptionally
+ * exceptionally} or by {@linkplain Flow.Subscriber#onError signaling an
+ * error} to the subscriber, rather than being thrown to the caller.
+ * A {@link NullPointerException} for a {@code null} argument is thrown to
+ * the caller.</p>
+ *
+ * <p>The type parameters of {@code ReactiveCrudRepository<T,K>} capture the
+ * primary entity type ({@code T}) for the repository and the type of the
+ * unique identifier attribute ({@code K}) of the primary entity type.</p>
+ *
+ * <p>Example repository:</p>
+ *
+ * <pre>{@code
+ * @Repository
+ * public interface Cars extends ReactiveCrudRepository<Car, Long> {
+ *
+ *     @Find
+ *     Flow.Publisher<Car> byMake(String make, Order<Car> sorts);
+ *
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>{@code
+ * cars.insert(car1)
+ *     .thenAccept(inserted -> log.info("inserted " + inserted.vin));
+ *
+ * cars.byMake("Jakarta", Order.by(_Car.vin.asc()))
+ *     .subscribe(inventoryUpdater);
+ * }</pre>
+ *
+ * <p>The module Javadoc provides an {@link jakarta.data/ overview} of Jakarta
+ * Data.</p>
+ *
+ * @param <T> the type of the primary entity class of the repository.
+ * @param <K> the type of the unique identifier attribute of the primary
+ *            entity.
+ * @see CrudRepository
+ * @see DataRepository
+ * @since 1.1
+ */
+public interface ReactiveCrudRepository<T, K> extends DataRepository<T, K> {
+
+    /**
+     * <p>Inserts an entity into the database.</p>
+     *
+     * <p>The completion stage completes with the entity instance that
+     * includes all values that were written to the database, as for
+     * {@link CrudRepository#insert}.</p>
+     *
+     * @param entity the entity to insert. Must not be {@code null}.
+     * @param <S>    Type of the entity to insert.
+     * @return a completion stage for the inserted entity. It completes
+     *         exceptionally with {@link EntityExistsException} (in
+     *         ACID-supported databases) if the entity is already present in
+     *         the database.
+     * @throws NullPointerException if the entity is null.
+     */
+    @Insert
+    @Nonnull
+    <S extends T> CompletionStage<S> insert(@Nonnull S entity);
+
+    /**
+     * <p>Inserts multiple entities into the database.</p>
+     *
+     * <p>The publisher emits the inserted entities, which include all values
+     * that were written to the database, in the same order as the supplied
+     * entities, as for {@link CrudRepository#insertAll}. The entities are
+     * inserted when a subscriber subscribes, regardless of how many results
+     * the subscriber requests.</p>
+     *
+     * @param entities entities to insert.
+     * @param <S>      Type of the entities to insert.
+     * @return a publisher of the inserted entities. It signals
+     *         {@link EntityExistsException} (in ACID-supported databases) if
+     *         any of the entities are already present in the database.
+     * @throws NullPointerException if the list is null or any element is null.
+     */
+    @Insert
+    @Nonnull
+    <S extends T> Flow.Publisher<S> insertAll(@Nonnull List<S> entities);
+
+    /**
+     * <p>Modifies an entity that already exists in the database, as for
+     * {@link CrudRepository#update}.</p>
+     *
+     * @param entity the entity to update. Must not be {@code null}.
+     * @param <S>    Type of the entity to update.
+     * @return a completion stage for the updated entity. It completes
+     *         exceptionally with {@link OptimisticLockingFailureException}
+     *         if the entity is not found in the database or has a version that
+     *         differs from the version in the database.
+     * @throws NullPointerException if the entity is null.
+     */
+    @Update
+    @Nonnull
+    <S extends T> CompletionStage<S> update(@Nonnull S entity);
+
+    /**
+     * <p>Modifies entities that already exist in the database, as for
+     * {@link CrudRepository#updateAll}. The entities are updated when a
+     * subscriber subscribes, regardless of how many results the subscriber
+     * requests.</p>
+     *
+     * @param entities entities to update.
+     * @param <S>      Type of the entities to update.
+     * @return a publisher of the updated entities, in the same order as the
+     *         supplied entities. It signals
+     *         {@link OptimisticLockingFailureException} if any of the entities
+     *         is not found in the database or has a version that differs from
+     *         the version in the database.
+     * @throws NullPointerException if the list is null or any element is null.
+     */
+    @Update
+    @Nonnull
+    <S extends T> Flow.Publisher<S> updateAll(@Nonnull List<S> entities);
+
+    /**
+     * <p>Saves a given entity to the database, updating the existing record
+     * if the entity exists in the database and otherwise inserting a new
+     * record, as for {@link BasicRepository#save}.</p>
+     *
+     * @param entity The entity to be saved. Must not be {@code null}.
+     * @param <S>    Type of the entity to save.
+     * @return a completion stage for the saved entity. It completes
+     *         exceptionally with {@link OptimisticLockingFailureException}
+     *         if the entity uses optimistic locking and the version in the
+     *         database differs from the version in the entity.
+     * @throws NullPointerException if the entity is null.
+     */
+    @Save
+    @Nonnull
+    <S extends T> CompletionStage<S> save(@Nonnull S entity);
+
+    /**
+     * <p>Saves all given entities to the database, as for
+     * {@link BasicRepository#saveAll}. The entities are saved when a
+     * subscriber subscribes, regardless of how many results the subscriber
+     * requests.</p>
+     *
+     * @param entities entities to save.
+     * @param <S>      Type of entity to save.
+     * @return a publisher of the saved entities, in the same order as the
+     *         supplied entities.
+     * @throws NullPointerException if the list is null or any element is null.
+     */
+    @Save
+    @Nonnull
+    <S extends T> Flow.Publisher<S> saveAll(@Nonnull List<S> entities);
+
+    /**
+     * Retrieves an entity by its Id.
+     *
+     * @param id must not be {@code null}.
+     * @return a completion stage for the entity with the given Id, or for
+     *         {@link Optional#empty()} if none is found.
+     * @throws NullPointerException when the Id is {@code null}.
+     */
+    @Find
+    @Nonnull
+    CompletionStage<Optional<T>> findById(@By(ID) @Nonnull K id);
+
+    /**
+     * Retrieves all persistent entities of the specified type from the
+     * database, reading them as the subscriber requests them.
+     *
+     * @return a publisher of all entities; will never be {@code null}.
+     *         It signals {@link UnsupportedOperationException} for Key-Value
+     *         and Wide-Column databases that are not capable of the
+     *         {@code findAll} operation.
+     */
+    @Find
+    @Nonnull
+    Flow.Publisher<T> findAll();
+
+    /**
+     * Retrieves a {@link Page} of entities according to the page request that
+     * is provided as the {@link PageRequest} parameter.
+     *
+     * @param pageRequest the request for a paginated result; must not be
+     *                    {@code null}.
+     * @param sortBy      sort criteria that must deterministically order the
+     *                    results; must not be {@code null}.
+     * @return a completion stage for the page of entities.
+     * @throws NullPointerException when {@code pageRequest} or {@code sortBy}
+     *                              is {@code null}.
+     * @see PageRequest.Mode
+     */
+    @Find
+    @Nonnull
+    CompletionStage<Page<T>> findAll(@Nonnull PageRequest pageRequest,
+                                     @Nonnull Order<T> sortBy);
+
+    /**
+     * Deletes the entity with the given Id. If the entity is not found in the
+     * persistence store it is silently ignored.
+     *
+     * @param id must not be {@code null}.
+     * @return a completion stage that completes once the entity is deleted.
+     * @throws NullPointerException when the Id is {@code null}.
+     */
+    @Delete
+    @Nonnull
+    CompletionStage<Void> deleteById(@By(ID) @Nonnull K id);
+
+    /**
+     * Deletes a given entity, as for {@link BasicRepository#delete}.
+     *
+     * @param entity must not be {@code null}.
+     * @return a completion stage that completes once the entity is deleted.
+     *         It completes exceptionally with
+     *         {@link OptimisticLockingFailureException} if the entity is not
+     *         found in the database for deletion or has a version for
+     *         optimistic locking that is inconsistent with the version in the
+     *         database.
+     * @throws NullPointerException when the entity is null
+     */
+    @Delete
+    @Nonnull
+    CompletionStage<Void> delete(@Nonnull T entity);
+
+    /**
+     * Deletes the given entities, as for {@link BasicRepository#deleteAll}.
+     *
+     * @param entities Must not be {@code null}. Must not contain {@code null}
+     *                 elements.
+     * @return a completion stage that completes once the entities are deleted.
+     *         It completes exceptionally with
+     *         {@link OptimisticLockingFailureException} if an entity is not
+     *         found in the database for deletion or has a version for
+     *         optimistic locking that is inconsistent with the version in the
+     *         database.
+     * @throws NullPointerException If the list is {@code null} or contains
+     *                              {@code null} elements.
+     */
+    @Delete
+    @Nonnull
+    CompletionStage<Void> deleteAll(@Nonnull List<? extends T> entities);
+}
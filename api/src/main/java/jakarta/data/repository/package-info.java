@@ -32,6 +32,8 @@
  * <li>{@link jakarta.data.repository.CrudRepository} - extends the {@code BasicRepository} to
  * add {@link jakarta.data.repository.CrudRepository#insert(java.lang.Object)}
  *     and {@link jakarta.data.repository.CrudRepository#update(java.lang.Object)} operations.</li>
+ * <li>{@link jakarta.data.repository.ReactiveCrudRepository} - provides the operations of
+ *     {@code CrudRepository} as asynchronous operations that do not block the caller.</li>
  * </ul>
  *
  * <p>Repository interfaces can also define their own lifecycle methods using the
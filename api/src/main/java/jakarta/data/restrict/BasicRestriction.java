@@ -37,7 +37,8 @@ import jakarta.annotation.Nonnull;
  * @param <V> entity attribute type.
  * @since 1.1
  */
-public interface BasicRestriction<T, V> extends Restriction<T> {
+public sealed interface BasicRestriction<T, V> extends Restriction<T>
+        permits BasicRestrictionRecord {
 
     /**
      * <p>Returns the {@linkplain Attribute entity attribute} or
@@ -85,4 +86,9 @@ public interface BasicRestriction<T, V> extends Restriction<T> {
                                     @Nonnull Constraint<V> constraint) {
         return new BasicRestrictionRecord<>(expression, constraint);
     }
+
+    @Override
+    default <R> R accept(@Nonnull RestrictionVisitor<R> visitor) {
+        return visitor.visitBasic(this);
+    }
 }
@@ -33,7 +33,15 @@ import jakarta.annotation.Nonnull;
  * @param <T> entity type.
  * @since 1.1
  */
-public interface CompositeRestriction<T> extends Restriction<T> {
+public sealed interface CompositeRestriction<T> extends Restriction<T>
+        permits CompositeRestrictionRecord, KeysetRestriction,
+        Unmatchable, Unrestricted {
+
+    @Override
+    default <R> R accept(@Nonnull RestrictionVisitor<R> visitor) {
+        return visitor.visitComposite(this);
+    }
+
     /**
      * <p>Indicates if the collective combination of {@link #restrictions()}
      * should be negated. The combination of restrictions is evaluated first,
@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.BulkValues;
+import jakarta.data.constraint.Constraint;
+import jakarta.data.constraint.ConstraintVisitor;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.LikePattern;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.expression.Expression;
+import jakarta.data.spi.expression.literal.Literal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>Determines whether every entity that satisfies a
+ * {@linkplain RestrictionNormalizer normalized} restriction also satisfies
+ * another normalized restriction. The determination is sound but not
+ * complete: a result of {@code true} is always correct, whereas a result of
+ * {@code false} means only that the implication could not be shown.</p>
+ *
+ * <p>Composite restrictions are decomposed: a restriction implies
+ * {@link CompositeRestriction.Type#ALL ALL} of several restrictions if it
+ * implies each of them, and {@link CompositeRestriction.Type#ANY ANY} of
+ * several restrictions implies a restriction if each of them implies it.
+ * Otherwise, the values of each expression that a restriction guarantees
+ * are compared with the values of the expression that suffice to satisfy
+ * the other restriction, as a {@link RangeSet} for range constraints and
+ * as individual values for {@code EqualTo}, {@code In}, {@code NotEqualTo}
+ * and {@code NotIn} constraints, including constraints with
+ * {@linkplain In#bulkValues() bulk values}. {@code Like} constraints with
+ * literal patterns are compared by the {@linkplain LikePattern kind} of
+ * their patterns.</p>
+ *
+ * <p>A restriction is satisfied only if it evaluates to true. Every
+ * constraint except {@link Null} therefore guarantees that its expression
+ * is not {@code null}.</p>
+ */
+// Internal implementation class.
+// The proper way for users to compare restrictions is via
+// the static Restrict.implies method
+final class Containment {
+
+    // prevent instantiation
+    private Containment() {
+    }
+
+    /**
+     * Determines whether a normalized restriction implies another.
+     *
+     * @param restriction a normalized restriction.
+     * @param other       another normalized restriction.
+     * @return {@code true} if every entity that satisfies the restriction is
+     *         known to satisfy the other restriction, otherwise
+     *         {@code false}.
+     */
+    static boolean implies(Restriction<?> restriction, Restriction<?> other) {
+        if (restriction == Unmatchable.INSTANCE
+                || other == Unrestricted.INSTANCE
+                || restriction.equals(other)) {
+            return true;
+        }
+
+        if (isComposite(other, CompositeRestriction.Type.ALL)) {
+            for (Restriction<?> r : ((CompositeRestriction<?>) other).restrictions()) {
+                if (!implies(restriction, r)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (isComposite(restriction, CompositeRestriction.Type.ANY)) {
+            for (Restriction<?> r : ((CompositeRestriction<?>) restriction).restrictions()) {
+                if (!implies(r, other)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // The restriction is now basic or ALL, and the other is basic or ANY
+        if (restriction instanceof BasicRestriction<?, ?> basic
+                && other instanceof BasicRestriction<?, ?> otherBasic) {
+            return basic.expression().equals(otherBasic.expression())
+                    && implies(basic.constraint(), otherBasic.constraint());
+        }
+
+        if (isComposite(restriction, CompositeRestriction.Type.ALL)) {
+            for (Restriction<?> r : ((CompositeRestriction<?>) restriction).restrictions()) {
+                if (implies(r, other)) {
+                    return true;
+                }
+            }
+        }
+
+        if (isComposite(other, CompositeRestriction.Type.ANY)) {
+            for (Restriction<?> r : ((CompositeRestriction<?>) other).restrictions()) {
+                if (implies(restriction, r)) {
+                    return true;
+                }
+            }
+        }
+
+        return impliesByRange(restriction, other);
+    }
+
+    /**
+     * Determines whether a constraint on an expression implies another
+     * constraint on the same expression.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static boolean implies(Constraint<?> constraint, Constraint<?> other) {
+        if (constraint.equals(other)) {
+            return true;
+        } else if (constraint instanceof Null) {
+            return false;
+        } else if (other instanceof NotNull) {
+            return true;
+        }
+
+        Optional<List<?>> values = values(constraint);
+        if (values.isPresent()) {
+            // every value that satisfies the constraint satisfies the other
+            for (Object value : values.get()) {
+                if (test(other, value) != Boolean.TRUE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Optional<List<?>> excluded = excluded(other);
+        if (excluded.isPresent()) {
+            // no value that the other excludes satisfies the constraint
+            for (Object value : excluded.get()) {
+                if (test(constraint, value) != Boolean.FALSE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (constraint instanceof Like like && other instanceof Like otherLike) {
+            Optional<LikePattern> pattern = like.parsed();
+            Optional<LikePattern> otherPattern = otherLike.parsed();
+            return pattern.isPresent()
+                    && otherPattern.isPresent()
+                    && implies(pattern.get(), otherPattern.get());
+        }
+
+        Optional<RangeSet<?>> range = RangeSet.of((Constraint) constraint);
+        Optional<RangeSet<?>> otherRange = RangeSet.of((Constraint) other);
+        return range.isPresent()
+                && otherRange.isPresent()
+                && isSubset(range.get(), otherRange.get());
+    }
+
+    /**
+     * Determines whether all text that matches a pattern matches another
+     * pattern.
+     */
+    private static boolean implies(LikePattern pattern, LikePattern other) {
+        if (pattern.kind() == LikePattern.Kind.EXACT) {
+            return other.matches(pattern.literal().orElseThrow());
+        }
+
+        // All text that matches the pattern begins with its prefix and,
+        // unless the pattern is GENERAL, contains its literal text.
+        String text = pattern.literal().orElse(pattern.prefix());
+        switch (other.kind()) {
+            case PREFIX:
+                return pattern.prefix().startsWith(other.prefix());
+            case SUFFIX:
+                return pattern.kind() == LikePattern.Kind.SUFFIX
+                        && text.endsWith(other.literal().orElseThrow());
+            case CONTAINS:
+                return text.contains(other.literal().orElseThrow());
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Determines whether a restriction guarantees values of an expression
+     * that all suffice to satisfy the other restriction.
+     */
+    @SuppressWarnings("rawtypes")
+    private static boolean impliesByRange(Restriction<?> restriction, Restriction<?> other) {
+        List<Expression<?, ?>> expressions = new ArrayList<>();
+        if (other instanceof BasicRestriction<?, ?> basic) {
+            expressions.add(basic.expression());
+        } else if (isComposite(other, CompositeRestriction.Type.ANY)) {
+            for (Restriction<?> r : ((CompositeRestriction<?>) other).restrictions()) {
+                if (r instanceof BasicRestriction<?, ?> basic
+                        && !expressions.contains(basic.expression())) {
+                    expressions.add(basic.expression());
+                }
+            }
+        }
+
+        for (Expression<?, ?> expression : expressions) {
+            try {
+                Optional<RangeSet> guaranteed = guaranteed(restriction, expression);
+                Optional<RangeSet> sufficient = sufficient(other, expression);
+                if (guaranteed.isPresent()
+                        && sufficient.isPresent()
+                        && isSubset(guaranteed.get(), sufficient.get())) {
+                    return true;
+                }
+            } catch (ClassCastException x) {
+                // values of different types are not compared
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The range of values of an expression to which a restriction limits the
+     * expression, if known.
+     */
+    @SuppressWarnings("rawtypes")
+    private static Optional<RangeSet> guaranteed(Restriction<?> restriction,
+                                                 Expression<?, ?> expression) {
+        return restriction.accept(new Ranges(expression, true));
+    }
+
+    /**
+     * A range of values of an expression, each of which satisfies a
+     * restriction, if known.
+     */
+    @SuppressWarnings("rawtypes")
+    private static Optional<RangeSet> sufficient(Restriction<?> restriction,
+                                                 Expression<?, ?> expression) {
+        return restriction.accept(new Ranges(expression, false));
+    }
+
+    /**
+     * Computes either the range of values of an expression to which a
+     * restriction limits the expression, or a range of values of the
+     * expression, each of which satisfies the restriction.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class Ranges implements RestrictionVisitor<Optional<RangeSet>> {
+        private final Expression<?, ?> expression;
+        private final boolean guaranteed;
+
+        private Ranges(Expression<?, ?> expression, boolean guaranteed) {
+            this.expression = expression;
+            this.guaranteed = guaranteed;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Optional<RangeSet> visitBasic(BasicRestriction<?, ?> restriction) {
+            if (!restriction.expression().equals(expression)) {
+                return Optional.empty();
+            }
+            Constraint<?> constraint = restriction.constraint();
+            Optional<RangeSet> range = RangeSet.of((Constraint) constraint);
+            if (guaranteed) {
+                return range.isPresent() || constraint instanceof Null
+                        ? range
+                        : Optional.of(RangeSet.all());
+            } else {
+                return constraint instanceof NotNull
+                        ? Optional.of(RangeSet.all())
+                        : range;
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Optional<RangeSet> visitComposite(CompositeRestriction<?> restriction) {
+            if (restriction.isNegated()) {
+                return Optional.empty();
+            }
+            boolean all = restriction.type() == CompositeRestriction.Type.ALL;
+            RangeSet combined = null;
+            for (Restriction<?> r : restriction.restrictions()) {
+                Optional<RangeSet> range = r.accept(this);
+                if (range.isPresent()) {
+                    combined = combined == null ? range.get()
+                            : all ? combined.intersect(range.get())
+                            : combined.union(range.get());
+                } else if (all != guaranteed) {
+                    // an unknown ANY term widens what is guaranteed, and an
+                    // unknown ALL term narrows what suffices, without bound
+                    return Optional.empty();
+                }
+            }
+            return Optional.ofNullable(combined);
+        }
+    }
+
+    /**
+     * The values that do not satisfy a constraint that otherwise accepts
+     * every value that is not {@code null}.
+     */
+    private static Optional<List<?>> excluded(Constraint<?> constraint) {
+        if (constraint instanceof NotEqualTo<?> notEqualTo) {
+            return literals(List.of(notEqualTo.expression()));
+        } else if (constraint instanceof NotIn<?> notIn) {
+            return notIn.bulkValues().isPresent()
+                    ? Optional.of(notIn.bulkValues().get().values())
+                    : literals(notIn.expressions());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isComposite(Restriction<?> restriction,
+                                       CompositeRestriction.Type type) {
+        return restriction instanceof CompositeRestriction<?> composite
+                && !composite.isNegated()
+                && composite.type() == type;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static boolean isSubset(RangeSet range, RangeSet other) {
+        try {
+            return range.intersect(other.complement()).isEmpty();
+        } catch (ClassCastException x) {
+            // values of different types are not compared
+            return false;
+        }
+    }
+
+    private static Optional<List<?>> literals(List<? extends Expression<?, ?>> expressions) {
+        List<Object> values = new ArrayList<>(expressions.size());
+        for (Expression<?, ?> expression : expressions) {
+            if (expression instanceof Literal<?> literal) {
+                values.add(literal.value());
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(values);
+    }
+
+    /**
+     * Determines whether a value satisfies a constraint.
+     *
+     * @return {@code TRUE} or {@code FALSE}, or {@code null} if unknown.
+     */
+    private static Boolean test(Constraint<?> constraint, Object value) {
+        return constraint.accept(new Tester(value));
+    }
+
+    /**
+     * Determines whether a value satisfies each kind of constraint, or
+     * {@code null} if unknown.
+     */
+    private static final class Tester implements ConstraintVisitor<Boolean> {
+        private final Object value;
+
+        private Tester(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Boolean visitAtLeast(AtLeast<?> constraint) {
+            return range(constraint);
+        }
+
+        @Override
+        public Boolean visitAtMost(AtMost<?> constraint) {
+            return range(constraint);
+        }
+
+        @Override
+        public Boolean visitBetween(Between<?> constraint) {
+            return range(constraint);
+        }
+
+        @Override
+        public Boolean visitEqualTo(EqualTo<?> constraint) {
+            return range(constraint);
+        }
+
+        @Override
+        public Boolean visitGreaterThan(GreaterThan<?> constraint) {
+            return range(constraint);
+        }
+
+        @Override
+        public Boolean visitIn(In<?> constraint) {
+            Optional<? extends BulkValues<?>> bulk = constraint.bulkValues();
+            return bulk.isPresent() ? bulk.get().contains(value) : range(constraint);
+        }
+
+        @Override
+        public Boolean visitLessThan(LessThan<?> constraint) {
+            return range(constraint);
+        }
+
+        @Override
+        public Boolean visitLike(Like constraint) {
+            return matches(constraint.parsed());
+        }
+
+        @Override
+        public Boolean visitNotBetween(NotBetween<?> constraint) {
+            return range(constraint);
+        }
+
+        @Override
+        public Boolean visitNotEqualTo(NotEqualTo<?> constraint) {
+            return range(constraint);
+        }
+
+        @Override
+        public Boolean visitNotIn(NotIn<?> constraint) {
+            Optional<? extends BulkValues<?>> bulk = constraint.bulkValues();
+            return bulk.isPresent() ? !bulk.get().contains(value) : range(constraint);
+        }
+
+        @Override
+        public Boolean visitNotLike(NotLike constraint) {
+            Boolean matches = matches(constraint.parsed());
+            return matches == null ? null : !matches;
+        }
+
+        @Override
+        public Boolean visitNotNull(NotNull<?> constraint) {
+            return Boolean.TRUE;
+        }
+
+        @Override
+        public Boolean visitNull(Null<?> constraint) {
+            return Boolean.FALSE;
+        }
+
+        private Boolean matches(Optional<LikePattern> pattern) {
+            return value instanceof String text && pattern.isPresent()
+                    ? pattern.get().matches(text)
+                    : null;
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private Boolean range(Constraint<?> constraint) {
+            Optional<RangeSet> range = RangeSet.of((Constraint) constraint);
+            try {
+                return range.isPresent() ? range.get().contains((Comparable) value) : null;
+            } catch (ClassCastException x) {
+                // values of different types are not compared
+                return null;
+            }
+        }
+    }
+
+    /**
+     * The values that satisfy a constraint, if there are finitely many.
+     */
+    private static Optional<List<?>> values(Constraint<?> constraint) {
+        if (constraint instanceof EqualTo<?> equalTo) {
+            return literals(List.of(equalTo.expression()));
+        } else if (constraint instanceof In<?> in) {
+            return in.bulkValues().isPresent()
+                    ? Optional.of(in.bulkValues().get().values())
+                    : literals(in.expressions());
+        } else {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,523 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.BulkValues;
+import jakarta.data.constraint.ConstraintVisitor;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.expression.Expression;
+import jakarta.data.expression.ExpressionVisitor;
+import jakarta.data.expression.NavigableExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.metamodel.Attribute;
+import jakarta.data.metamodel.BasicAttribute;
+import jakarta.data.spi.expression.function.CurrentDate;
+import jakarta.data.spi.expression.function.CurrentDateTime;
+import jakarta.data.spi.expression.function.CurrentTime;
+import jakarta.data.spi.expression.function.FunctionExpression;
+import jakarta.data.spi.expression.function.NumericCast;
+import jakarta.data.spi.expression.function.NumericOperatorExpression;
+import jakarta.data.spi.expression.literal.Literal;
+import jakarta.data.spi.expression.path.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>The structure of a {@link Restriction} or {@link Expression}, separated
+ * from the values of the literals that it contains. Each {@link Literal} is
+ * replaced by a positional slot, and the values of the literals are
+ * available in the order of their slots.</p>
+ *
+ * <p>Two restrictions that differ only in the values of their literals have
+ * equal fingerprints, whereas the restrictions themselves are not equal.
+ * This allows a Jakarta Data provider to cache the translation of a
+ * restriction into a query, or a prepared statement for the query, by the
+ * fingerprint of the restriction, and to reuse it for every restriction with
+ * the same structure by binding the {@linkplain #values() values} of the
+ * restriction to the query parameters. For example,</p>
+ *
+ * <pre>
+ * Fingerprint fingerprint = Fingerprint.of(restriction);
+ * String jcql = translations.computeIfAbsent(fingerprint, this::translate);
+ * Query query = session.createQuery(jcql);
+ * List&lt;Object&gt; values = fingerprint.values();
+ * for (int i = 0; i &lt; values.size(); i++) {
+ *     query.setParameter(i + 1, values.get(i));
+ * }
+ * </pre>
+ *
+ * <p>The {@linkplain #shape() shape} of a fingerprint is a textual
+ * representation of the restriction that resembles query language, with
+ * {@code ?1}, {@code ?2}, and so forth in place of literals. Expressions are
+ * represented by the names of entity attributes, the names of functions, and
+ * arithmetic operators. A fingerprint is equal to another fingerprint with
+ * the same shape and the same entity classes, regardless of values. The
+ * entity classes are the {@linkplain Attribute#declaringType() declaring
+ * types} of the entity attributes from which the expressions of the
+ * restriction start, such that restrictions on different entities with
+ * attributes of the same names have different fingerprints. Attributes that
+ * were obtained in a way that does not identify the declaring type do not
+ * contribute an entity class. Fingerprints of restrictions with such
+ * attributes must only be used as keys of a cache that is specific to the
+ * entity. Because the number of values of an
+ * {@link In} or {@link NotIn} constraint is part of the structure of the
+ * restriction, restrictions that differ in this number have different
+ * fingerprints. The values of a constraint that was created from
+ * {@linkplain In#bulkValues() bulk values} are instead represented by a
+ * single value, which is the {@link BulkValues}.</p>
+ *
+ * <p>A restriction or expression can only be represented by a fingerprint
+ * if its expressions are literals, entity attributes, paths, arithmetic
+ * operations, casts, functions, or the current date or time. Otherwise, an
+ * {@link UnsupportedOperationException} is raised, rather than representing
+ * the expression by its text, which might contain values.</p>
+ *
+ * <p>Instances of this class are immutable. The hash code is computed
+ * once.</p>
+ *
+ * @since 1.1
+ */
+public final class Fingerprint {
+
+    /**
+     * Distinct declaring types of the attributes from which the expressions
+     * start, in order of first occurrence.
+     */
+    private final List<Class<?>> entityTypes;
+
+    private final int hash;
+
+    private final String shape;
+
+    private final List<Object> values;
+
+    private Fingerprint(String shape, List<Class<?>> entityTypes, List<Object> values) {
+        this.shape = shape;
+        this.entityTypes = entityTypes;
+        this.values = values;
+        this.hash = 31 * shape.hashCode() + entityTypes.hashCode();
+    }
+
+    /**
+     * <p>Computes the fingerprint of an expression.</p>
+     *
+     * @param expression the expression.
+     * @return the fingerprint.
+     * @throws NullPointerException          if the expression is
+     *                                       {@code null}.
+     * @throws UnsupportedOperationException if the expression, or an
+     *                                       expression within it, cannot be
+     *                                       represented by a fingerprint.
+     */
+    @Nonnull
+    public static Fingerprint of(@Nonnull Expression<?, ?> expression) {
+        Messages.requireNonNull(expression, "expression");
+
+        Builder builder = new Builder();
+        builder.expression(expression);
+        return builder.build();
+    }
+
+    /**
+     * <p>Computes the fingerprint of a restriction.</p>
+     *
+     * @param restriction the restriction.
+     * @return the fingerprint.
+     * @throws NullPointerException          if the restriction is
+     *                                       {@code null}.
+     * @throws UnsupportedOperationException if an expression within the
+     *                                       restriction cannot be
+     *                                       represented by a fingerprint.
+     */
+    @Nonnull
+    public static Fingerprint of(@Nonnull Restriction<?> restriction) {
+        Messages.requireNonNull(restriction, "restriction");
+
+        Builder builder = new Builder();
+        builder.restriction(restriction);
+        return builder.build();
+    }
+
+    /**
+     * Determines whether another fingerprint has the same shape and entity
+     * classes.
+     *
+     * @param other the other object.
+     * @return {@code true} if the other object is a fingerprint with the same
+     *         shape and entity classes, otherwise {@code false}.
+     */
+    @Override
+    public boolean equals(@Nullable Object other) {
+        return this == other
+                || other instanceof Fingerprint f
+                && hash == f.hash
+                && shape.equals(f.shape)
+                && entityTypes.equals(f.entityTypes);
+    }
+
+    /**
+     * Returns the hash code of the shape and entity classes.
+     *
+     * @return hash code.
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * <p>A textual representation of the structure, with {@code ?1},
+     * {@code ?2}, and so forth in place of the values of literals.</p>
+     *
+     * @return the shape.
+     */
+    @Nonnull
+    public String shape() {
+        return shape;
+    }
+
+    /**
+     * <p>The number of slots, which is the number of literals.</p>
+     *
+     * @return the number of slots.
+     */
+    public int slots() {
+        return values.size();
+    }
+
+    /**
+     * <p>The values of the literals, in the order of their slots, such that
+     * the value of slot {@code ?n} is at position {@code n - 1}.</p>
+     *
+     * @return unmodifiable list of values.
+     */
+    @Nonnull
+    public List<Object> values() {
+        return values;
+    }
+
+    /**
+     * Returns the shape.
+     *
+     * @return the shape.
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return shape;
+    }
+
+    /**
+     * Builds the shape and collects the values of literals while walking a
+     * restriction or expression.
+     */
+    private static class Builder implements RestrictionVisitor<Void>,
+            ConstraintVisitor<Void>, ExpressionVisitor<Void> {
+        private final StringBuilder shape = new StringBuilder(100);
+
+        private final List<Class<?>> entityTypes = new ArrayList<>(1);
+
+        private final List<Object> values = new ArrayList<>();
+
+        Fingerprint build() {
+            return new Fingerprint(shape.toString(),
+                                   List.copyOf(entityTypes),
+                                   Collections.unmodifiableList(values));
+        }
+
+        /**
+         * Records the declaring type of an attribute from which an
+         * expression starts, if known.
+         */
+        private void root(Attribute<?> attribute) {
+            Class<?> entityType;
+            try {
+                entityType = attribute.declaringType();
+            } catch (UnsupportedOperationException x) {
+                return;
+            }
+            if (!entityTypes.contains(entityType)) {
+                entityTypes.add(entityType);
+            }
+        }
+
+        void restriction(Restriction<?> restriction) {
+            restriction.accept(this);
+        }
+
+        void expression(Expression<?, ?> expression) {
+            expression.accept(this);
+        }
+
+        @Override
+        public Void visitBasic(BasicRestriction<?, ?> basic) {
+            basic.expression().accept(this);
+            shape.append(' ');
+            return basic.constraint().accept(this);
+        }
+
+        @Override
+        public Void visitComposite(CompositeRestriction<?> composite) {
+            if (composite.restrictions().isEmpty()) {
+                boolean satisfied = composite.isNegated()
+                        != (composite.type() == CompositeRestriction.Type.ALL);
+                shape.append(satisfied ? "UNRESTRICTED" : "UNMATCHABLE");
+                return null;
+            }
+
+            if (composite.isNegated()) {
+                shape.append("NOT (");
+            }
+            String operator = composite.type().asQueryLanguage();
+            boolean first = true;
+            for (Restriction<?> restriction : composite.restrictions()) {
+                if (first) {
+                    first = false;
+                } else {
+                    shape.append(' ').append(operator).append(' ');
+                }
+                shape.append('(');
+                restriction.accept(this);
+                shape.append(')');
+            }
+            if (composite.isNegated()) {
+                shape.append(')');
+            }
+            return null;
+        }
+
+        @Override
+        public Void visitAtLeast(AtLeast<?> atLeast) {
+            return operation(">= ", atLeast.bound());
+        }
+
+        @Override
+        public Void visitAtMost(AtMost<?> atMost) {
+            return operation("<= ", atMost.bound());
+        }
+
+        @Override
+        public Void visitBetween(Between<?> between) {
+            operation("BETWEEN ", between.lowerBound());
+            return operation(" AND ", between.upperBound());
+        }
+
+        @Override
+        public Void visitEqualTo(EqualTo<?> equalTo) {
+            return operation("= ", equalTo.expression());
+        }
+
+        @Override
+        public Void visitGreaterThan(GreaterThan<?> greaterThan) {
+            return operation("> ", greaterThan.bound());
+        }
+
+        @Override
+        public Void visitIn(In<?> in) {
+            return in.bulkValues().isPresent()
+                    ? bulk("IN ", in.bulkValues().get())
+                    : list("IN (", in.expressions());
+        }
+
+        @Override
+        public Void visitLessThan(LessThan<?> lessThan) {
+            return operation("< ", lessThan.bound());
+        }
+
+        @Override
+        public Void visitLike(Like like) {
+            operation("LIKE ", like.pattern());
+            shape.append(" ESCAPE '").append(like.escape()).append('\'');
+            return null;
+        }
+
+        @Override
+        public Void visitNotBetween(NotBetween<?> notBetween) {
+            operation("NOT BETWEEN ", notBetween.lowerBound());
+            return operation(" AND ", notBetween.upperBound());
+        }
+
+        @Override
+        public Void visitNotEqualTo(NotEqualTo<?> notEqualTo) {
+            return operation("<> ", notEqualTo.expression());
+        }
+
+        @Override
+        public Void visitNotIn(NotIn<?> notIn) {
+            return notIn.bulkValues().isPresent()
+                    ? bulk("NOT IN ", notIn.bulkValues().get())
+                    : list("NOT IN (", notIn.expressions());
+        }
+
+        @Override
+        public Void visitNotLike(NotLike notLike) {
+            operation("NOT LIKE ", notLike.pattern());
+            shape.append(" ESCAPE '").append(notLike.escape()).append('\'');
+            return null;
+        }
+
+        @Override
+        public Void visitNotNull(NotNull<?> notNull) {
+            shape.append("IS NOT NULL");
+            return null;
+        }
+
+        @Override
+        public Void visitNull(Null<?> isNull) {
+            shape.append("IS NULL");
+            return null;
+        }
+
+        /**
+         * Represents bulk values by a single value, such that the shape
+         * does not depend on the number of values.
+         */
+        private Void bulk(String prefix, BulkValues<?> bulkValues) {
+            values.add(bulkValues);
+            shape.append(prefix).append('?').append(values.size());
+            return null;
+        }
+
+        @Override
+        public Void visitAttribute(BasicAttribute<?, ?> attribute) {
+            root(attribute);
+            shape.append(attribute.name());
+            return null;
+        }
+
+        @Override
+        public Void visitPath(Path<?, ?> path) {
+            NavigableExpression<?, ?> parent = path.expression();
+            if (parent instanceof Path<?, ?> parentPath) {
+                visitPath(parentPath);
+            } else if (parent instanceof Attribute<?> attribute) {
+                root(attribute);
+                shape.append(attribute.name());
+            } else {
+                throw unsupported(parent);
+            }
+            shape.append('.').append(path.attribute().name());
+            return null;
+        }
+
+        @Override
+        public Void visitLiteral(Literal<?> literal) {
+            values.add(literal.value());
+            shape.append('?').append(values.size());
+            return null;
+        }
+
+        @Override
+        public Void visitFunction(FunctionExpression<?, ?> function) {
+            return list(function.name() + '(', function.arguments());
+        }
+
+        @Override
+        public Void visitNumericOperator(NumericOperatorExpression<?, ?> operation) {
+            shape.append('(');
+            operation.left().accept(this);
+            shape.append(switch (operation.operator()) {
+                case PLUS -> " + ";
+                case MINUS -> " - ";
+                case TIMES -> " * ";
+                case DIVIDE -> " / ";
+            });
+            operation.right().accept(this);
+            shape.append(')');
+            return null;
+        }
+
+        @Override
+        public Void visitNumericCast(NumericCast<?, ?> cast) {
+            shape.append("CAST(");
+            cast.expression().accept(this);
+            shape.append(" AS ").append(cast.type().getSimpleName()).append(')');
+            return null;
+        }
+
+        @Override
+        public Void visitCurrentDate(CurrentDate<?> currentDate) {
+            shape.append("LOCAL DATE");
+            return null;
+        }
+
+        @Override
+        public Void visitCurrentDateTime(CurrentDateTime<?> currentDateTime) {
+            shape.append("LOCAL DATETIME");
+            return null;
+        }
+
+        @Override
+        public Void visitCurrentTime(CurrentTime<?> currentTime) {
+            shape.append("LOCAL TIME");
+            return null;
+        }
+
+        @Override
+        public Void visitOther(Expression<?, ?> expression) {
+            throw unsupported(expression);
+        }
+
+        private Void list(String prefix, List<? extends Expression<?, ?>> expressions) {
+            shape.append(prefix);
+            boolean first = true;
+            for (Expression<?, ?> expression : expressions) {
+                if (first) {
+                    first = false;
+                } else {
+                    shape.append(", ");
+                }
+                expression.accept(this);
+            }
+            shape.append(')');
+            return null;
+        }
+
+        private Void operation(String operator, Expression<?, ?> operand) {
+            shape.append(operator);
+            return operand.accept(this);
+        }
+
+        /**
+         * Signals that an expression cannot be represented, rather than
+         * writing its text, which might contain the values of literals, into
+         * the shape.
+         */
+        private static UnsupportedOperationException unsupported(Object unknown) {
+            return new UnsupportedOperationException(Messages.get(
+                    "027.fingerprint.unsupported", unknown, unknown.getClass().getName()));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.page.PageRequest;
+
+/**
+ * <p>A restriction that is satisfied by the results that follow a
+ * {@linkplain PageRequest.Cursor cursor} in a given {@link Order}.
+ * This is the condition with which cursor-based pagination resumes
+ * after the key of the last result of a page, or, with the sort criteria
+ * {@linkplain Order#reversed() reversed}, before the key of the first
+ * result of a page.</p>
+ *
+ * <p>A keyset restriction is a {@link CompositeRestriction} of
+ * {@linkplain CompositeRestriction.Type#ANY type ANY} that is expanded from
+ * the sort criteria and the cursor, such that it can be processed in the
+ * same way as any other composite restriction. For example, for the sort
+ * criteria {@code lastName ASC, firstName ASC, id ASC} and the cursor
+ * {@code ("Smith", "Sam", 1234)}, the expanded form is</p>
+ *
+ * <pre>
+ * (lastName &gt; 'Smith')
+ *  OR (lastName = 'Smith' AND firstName &gt; 'Sam')
+ *  OR (lastName = 'Smith' AND firstName = 'Sam' AND id &gt; 1234)
+ * </pre>
+ *
+ * <p>When {@link #isRowValueComparable()} is {@code true}, the restriction
+ * can equivalently be expressed as a comparison of row values,</p>
+ *
+ * <pre>
+ * (lastName, firstName, id) &gt; ('Smith', 'Sam', 1234)
+ * </pre>
+ *
+ * <p>which a data store that supports row value comparison can satisfy with
+ * a single seek of an index on the sort criteria. The expressions of the row
+ * are those of the {@linkplain #order() sort criteria} and the values are
+ * those of the {@linkplain #cursor() cursor}.</p>
+ *
+ * <p>Sort criteria that {@linkplain Sort#ignoreCase() ignore case} compare
+ * the upper case form of text values. Sort criteria that order
+ * {@code null} values {@link Sort.Nulls#FIRST first} or
+ * {@link Sort.Nulls#LAST last} match {@code null} values accordingly.
+ * Sort criteria that leave the ordering of {@code null} values
+ * {@linkplain Sort.Nulls#UNSPECIFIED unspecified} do not match
+ * {@code null} values.</p>
+ *
+ * <p>Instances are obtained from {@link Restrict#after(Order, PageRequest.Cursor)},
+ * {@link Restrict#before(Order, PageRequest.Cursor)}, and
+ * {@link Restrict#keyset(Order, PageRequest)}.</p>
+ *
+ * @param <T> entity type.
+ * @since 1.1
+ */
+public sealed interface KeysetRestriction<T> extends CompositeRestriction<T>
+        permits KeysetRestrictionRecord {
+
+    /**
+     * <p>The sort criteria, in the order of which the restriction is
+     * satisfied by the results that follow the {@link #cursor()}.
+     * For a restriction that is obtained from
+     * {@link Restrict#before(Order, PageRequest.Cursor)}, these are the
+     * {@linkplain Order#reversed() reversed} sort criteria.</p>
+     *
+     * @return the sort criteria.
+     */
+    @Nonnull
+    Order<T> order();
+
+    /**
+     * <p>The key values after which results satisfy the restriction, one per
+     * {@linkplain #order() sort criterion}.</p>
+     *
+     * @return the cursor.
+     */
+    @Nonnull
+    PageRequest.Cursor cursor();
+
+    /**
+     * <p>Indicates whether the restriction is equivalent to a row value
+     * comparison of the expressions of the {@linkplain #order() sort criteria}
+     * to the values of the {@linkplain #cursor() cursor}, with the
+     * {@code >} operator if the sort criteria are ascending or the
+     * {@code <} operator if the sort criteria are descending.</p>
+     *
+     * <p>This is the case when all of the sort criteria have the same
+     * direction, none of the sort criteria ignore case, none of the sort
+     * criteria specify the ordering of {@code null} values, and none of
+     * the values of the cursor are {@code null}.</p>
+     *
+     * @return {@code true} if the restriction can be expressed as a row value
+     *         comparison, otherwise {@code false}.
+     */
+    boolean isRowValueComparable();
+
+    @Override
+    default <R> R accept(@Nonnull RestrictionVisitor<R> visitor) {
+        return visitor.visitKeyset(this);
+    }
+}
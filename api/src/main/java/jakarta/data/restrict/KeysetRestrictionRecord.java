@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.expression.ComparableExpression;
+import jakarta.data.expression.TextExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.page.PageRequest;
+import jakarta.data.spi.expression.literal.StringLiteral;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the Restrict.after(...), Restrict.before(...), or Restrict.keyset(...) methods
+
+record KeysetRestrictionRecord<T>(
+        @Nonnull Order<T> order,
+        @Nonnull PageRequest.Cursor cursor,
+        @Nonnull List<Restriction<? super T>> restrictions)
+        implements KeysetRestriction<T> {
+
+    KeysetRestrictionRecord(@Nonnull Order<T> order,
+                            @Nonnull PageRequest.Cursor cursor) {
+        this(order, cursor, expand(order, cursor));
+    }
+
+    @Override
+    public boolean isNegated() {
+        return false;
+    }
+
+    @Override
+    public boolean isRowValueComparable() {
+        List<Sort<? super T>> sorts = order.sorts();
+        boolean ascending = sorts.get(0).isAscending();
+        for (int i = 0; i < sorts.size(); i++) {
+            Sort<? super T> sort = sorts.get(i);
+            if (sort.isAscending() != ascending
+                    || sort.ignoreCase()
+                    || sort.nullOrdering() != Sort.Nulls.UNSPECIFIED
+                    || cursor.get(i) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public CompositeRestriction<T> negate() {
+        return restrictions.isEmpty()
+                ? (CompositeRestriction<T>) Unrestricted.INSTANCE
+                : new CompositeRestrictionRecord<>(Type.ANY, restrictions, true);
+    }
+
+    @Override
+    @Nonnull
+    public Type type() {
+        return Type.ANY;
+    }
+
+    /**
+     * Textual representation of a keyset restriction, which is the textual
+     * representation of its expanded form. For example,
+     * <pre>(name &gt; 'Smith') OR ((name = 'Smith') AND (id &gt; 1234))</pre>
+     *
+     * @return textual representation of a keyset restriction.
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return restrictions.isEmpty()
+                ? Unmatchable.INSTANCE.toString()
+                : new CompositeRestrictionRecord<>(Type.ANY, restrictions).toString();
+    }
+
+    /**
+     * Expands the keyset condition into a list of alternatives, one per sort
+     * criterion, where each alternative requires equality to the cursor for
+     * the sort criteria of higher precedence and that the value for its own
+     * sort criterion follows the value of the cursor.
+     *
+     * @param order  sort criteria.
+     * @param cursor key values, one per sort criterion.
+     * @return unmodifiable list of alternatives, which is empty if no results
+     *         can follow the cursor.
+     */
+    private static <T> List<Restriction<? super T>> expand(Order<T> order,
+                                                           PageRequest.Cursor cursor) {
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(cursor, "cursor");
+
+        List<Sort<? super T>> sorts = order.sorts();
+        if (sorts.isEmpty()) {
+            throw new IllegalArgumentException(
+                    Messages.get("002.no.elements", "order"));
+        }
+        if (sorts.size() != cursor.size()) {
+            throw new IllegalArgumentException(
+                    Messages.get("017.keyset.size", cursor.size(), sorts.size()));
+        }
+
+        List<Restriction<? super T>> equalities = new ArrayList<>(sorts.size());
+        List<Restriction<? super T>> alternatives = new ArrayList<>(sorts.size());
+        for (int i = 0; i < sorts.size(); i++) {
+            Sort<? super T> sort = sorts.get(i);
+            if (sort.expression() == null) {
+                throw new IllegalArgumentException(
+                        Messages.get("018.sort.no.expression", sort));
+            }
+
+            Restriction<? super T> follows = follows(sort, cursor.get(i));
+            if (follows != null) {
+                alternatives.add(equalities.isEmpty()
+                        ? follows
+                        : conjunction(equalities, follows));
+            }
+            equalities.add(equalTo(sort, cursor.get(i)));
+        }
+        return Collections.unmodifiableList(alternatives);
+    }
+
+    /**
+     * Combines equality to the cursor for the sort criteria of higher
+     * precedence with a restriction on a sort criterion.
+     */
+    private static <T> Restriction<T> conjunction(List<Restriction<? super T>> equalities,
+                                                  Restriction<? super T> restriction) {
+        List<Restriction<? super T>> all = new ArrayList<>(equalities.size() + 1);
+        all.addAll(equalities);
+        all.add(restriction);
+        return Restrict.all(all);
+    }
+
+    /**
+     * Obtains a restriction that the value of a sort criterion is equal to
+     * the value of the cursor.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T> Restriction<T> equalTo(Sort<? super T> sort, Object value) {
+        ComparableExpression expression = sort.expression();
+        if (value == null) {
+            return expression.isNull();
+        } else if (sort.ignoreCase()
+                && expression instanceof TextExpression text
+                && value instanceof String s) {
+            return text.upper().equalTo(StringLiteral.of(s).upper());
+        } else {
+            return expression.equalTo(value);
+        }
+    }
+
+    /**
+     * Obtains a restriction that the value of a sort criterion follows the
+     * value of the cursor in the direction of the sort criterion.
+     *
+     * @return the restriction, or {@code null} if no value can follow the
+     *         value of the cursor.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T> Restriction<T> follows(Sort<? super T> sort, Object value) {
+        ComparableExpression expression = sort.expression();
+        if (value == null) {
+            return switch (sort.nullOrdering()) {
+                case FIRST -> expression.notNull();
+                case LAST -> null;
+                case UNSPECIFIED -> throw new IllegalArgumentException(
+                        Messages.get("019.null.key.unordered", sort));
+            };
+        }
+
+        Restriction<T> follows;
+        if (sort.ignoreCase()
+                && expression instanceof TextExpression text
+                && value instanceof String s) {
+            TextExpression<Object> upper = StringLiteral.of(s).upper();
+            follows = sort.isAscending()
+                    ? text.upper().greaterThan(upper)
+                    : text.upper().lessThan(upper);
+        } else {
+            Comparable comparable = (Comparable) value;
+            follows = sort.isAscending()
+                    ? expression.greaterThan(comparable)
+                    : expression.lessThan(comparable);
+        }
+
+        return sort.nullOrdering() == Sort.Nulls.LAST
+                ? Restrict.any(follows, expression.isNull())
+                : follows;
+    }
+}
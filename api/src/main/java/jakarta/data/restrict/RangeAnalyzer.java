@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.data.constraint.Constraint;
+import jakarta.data.expression.Expression;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>Combines the range constraints on each expression within a
+ * {@linkplain RestrictionNormalizer normalized} restriction into a single
+ * {@link RangeSet} per expression and composite restriction, by intersecting
+ * them within {@link CompositeRestriction.Type#ALL ALL} and uniting them
+ * within {@link CompositeRestriction.Type#ANY ANY}. The range constraints on
+ * an expression are replaced by the canonical restriction of the range set,
+ * which is unmatchable if the range set is empty. Range constraints on an
+ * expression that compare with values of different types, or of types
+ * that the database might order differently than Java, such as text, are
+ * kept as they are.</p>
+ */
+// Internal implementation class.
+// The proper way for users to simplify ranges is via
+// the static Restrict.simplifyRanges method
+final class RangeAnalyzer {
+
+    // prevent instantiation
+    private RangeAnalyzer() {
+    }
+
+    /**
+     * Combines the range constraints within a normalized restriction.
+     *
+     * @param restriction a normalized restriction.
+     * @return a restriction in which range constraints are combined, and
+     *         which might need to be normalized again.
+     */
+    static Restriction<?> simplify(Restriction<?> restriction) {
+        return restriction.accept(Simplifier.INSTANCE);
+    }
+
+    /**
+     * Combines the range constraints within each kind of restriction.
+     */
+    private static final class Simplifier implements RestrictionVisitor<Restriction<?>> {
+        static final Simplifier INSTANCE = new Simplifier();
+
+        @Override
+        public Restriction<?> visitBasic(BasicRestriction<?, ?> restriction) {
+            Optional<RangeSet<?>> range = range(restriction);
+            return range.isPresent() && range.get().isEmpty()
+                    ? Unmatchable.INSTANCE
+                    : restriction;
+        }
+
+        @Override
+        public Restriction<?> visitComposite(CompositeRestriction<?> restriction) {
+            return restriction.isNegated() || restriction.restrictions().isEmpty()
+                    ? restriction
+                    : composite(restriction);
+        }
+
+        @Override
+        public Restriction<?> visitKeyset(KeysetRestriction<?> restriction) {
+            return restriction;
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Restriction<?> composite(CompositeRestriction<?> composite) {
+        boolean all = composite.type() == CompositeRestriction.Type.ALL;
+
+        List<Restriction<?>> terms = new ArrayList<>(composite.restrictions().size());
+        Map<Expression<?, ?>, RangeSet> ranges = new LinkedHashMap<>();
+        Map<Expression<?, ?>, Integer> counts = new LinkedHashMap<>();
+        Set<Expression<?, ?>> incomparable = new HashSet<>();
+        for (Restriction<?> restriction : composite.restrictions()) {
+            Restriction<?> term = simplify(restriction);
+            terms.add(term);
+            Optional<RangeSet<?>> range = term instanceof BasicRestriction<?, ?> basic
+                    ? range(basic)
+                    : Optional.empty();
+            if (range.isPresent()) {
+                Expression<?, ?> expression = ((BasicRestriction<?, ?>) term).expression();
+                RangeSet existing = ranges.get(expression);
+                if (existing == null) {
+                    ranges.put(expression, range.get());
+                } else if (!incomparable.contains(expression)) {
+                    try {
+                        ranges.put(expression, all
+                                ? existing.intersect(range.get())
+                                : existing.union(range.get()));
+                    } catch (ClassCastException x) {
+                        // values of different types are not compared
+                        incomparable.add(expression);
+                    }
+                }
+                counts.merge(expression, 1, Integer::sum);
+            }
+        }
+
+        List<Restriction<?>> combined = new ArrayList<>(terms.size());
+        Set<Expression<?, ?>> replaced = new HashSet<>();
+        for (Restriction<?> term : terms) {
+            if (term instanceof BasicRestriction<?, ?> basic
+                    && counts.getOrDefault(basic.expression(), 0) > 1
+                    && !incomparable.contains(basic.expression())
+                    && range(basic).isPresent()) {
+                if (replaced.add(basic.expression())) {
+                    // first range constraint on the expression
+                    combined.add(ranges.get(basic.expression())
+                            .restriction((Expression) basic.expression()));
+                }
+            } else {
+                combined.add(term);
+            }
+        }
+        return new CompositeRestrictionRecord(composite.type(), List.copyOf(combined));
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Optional<RangeSet<?>> range(BasicRestriction<?, ?> basic) {
+        return RangeSet.of((Constraint) basic.constraint());
+    }
+}
@@ -0,0 +1,743 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.Constraint;
+import jakarta.data.constraint.ConstraintVisitor;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.expression.Expression;
+import jakarta.data.messages.Messages;
+import jakarta.data.spi.expression.literal.Literal;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>A set of values, such as the values that satisfy one or more range
+ * constraints on an expression, which is represented as a sorted list of
+ * disjoint {@linkplain Interval intervals}. For example, the values that
+ * satisfy both {@code GreaterThan.bound(10)} and
+ * {@code NotBetween.bounds(20, 30)} are represented as {@code (10, 20)} and
+ * {@code (30, +inf)}.</p>
+ *
+ * <p>A range set is obtained from a constraint with {@link #of(Constraint)}
+ * and combined with other range sets for the same expression by
+ * {@linkplain #intersect intersection}, {@linkplain #union union}, and
+ * {@linkplain #complement() complement}. An {@linkplain #isEmpty() empty}
+ * range set means that no value satisfies the constraints. A Jakarta Data
+ * provider can translate the intervals into ranges of an index, or convert
+ * the range set back into a canonical {@linkplain #restriction(Expression)
+ * restriction}.</p>
+ *
+ * <p>A range set only contains values that are not {@code null}, because
+ * range constraints are never satisfied by {@code null}. The complement of
+ * a range set is therefore the set of values that are not {@code null} and
+ * are not in the range set. The values of a range set must be mutually
+ * comparable. Values of different types, such as {@code Integer} and
+ * {@code Long}, are not.</p>
+ *
+ * <p>Range sets order values by their natural ordering in Java, which only
+ * agrees with the database for types that the database orders by value,
+ * such as numbers and local dates and times. The order of text depends on
+ * the collation of the database, which might, for example, disregard case,
+ * and the order of enumerations depends on how they are stored. Constraints
+ * on values of other types are therefore not represented as range sets by
+ * {@link #of(Constraint)}.</p>
+ *
+ * <p>Instances of this class are immutable.</p>
+ *
+ * @param <V> type of the values.
+ * @since 1.1
+ */
+public final class RangeSet<V extends Comparable<?>> {
+
+    private static final RangeSet<?> ALL =
+            new RangeSet<>(List.of(new Interval<>(null, false, null, false)));
+
+    private static final RangeSet<?> NONE = new RangeSet<>(List.of());
+
+    /**
+     * Sorted intervals that neither overlap nor adjoin each other.
+     */
+    private final List<Interval<V>> intervals;
+
+    private RangeSet(List<Interval<V>> intervals) {
+        this.intervals = intervals;
+    }
+
+    /**
+     * <p>Returns the range set of all values that are not {@code null}.</p>
+     *
+     * @param <V> type of the values.
+     * @return the range set of all values.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public static <V extends Comparable<?>> RangeSet<V> all() {
+        return (RangeSet<V>) ALL;
+    }
+
+    /**
+     * <p>Returns the range set without any values.</p>
+     *
+     * @param <V> type of the values.
+     * @return the empty range set.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public static <V extends Comparable<?>> RangeSet<V> none() {
+        return (RangeSet<V>) NONE;
+    }
+
+    /**
+     * <p>Returns the range set of values that satisfy the given constraint,
+     * if the constraint compares with literal values of the same type. The
+     * constraints that can be represented as range sets are {@link AtLeast},
+     * {@link AtMost}, {@link GreaterThan}, {@link LessThan}, {@link Between},
+     * {@link NotBetween}, {@link EqualTo}, {@link NotEqualTo}, {@link In}, and
+     * {@link NotIn}, except for {@code In} and {@code NotIn} constraints with
+     * {@linkplain In#bulkValues() bulk values}. The values must be numbers,
+     * {@code Boolean}, {@code Instant}, {@code LocalDate},
+     * {@code LocalDateTime}, {@code LocalTime}, {@code Year}, or
+     * {@code YearMonth}, which the database orders in the same way as Java.
+     * Constraints on text, for example, are not represented as range sets,
+     * because the database might order text differently, such as without
+     * regard to case.</p>
+     *
+     * @param <V>        type of the values.
+     * @param constraint the constraint.
+     * @return the range set, or {@link Optional#empty()} if the constraint
+     *         cannot be represented as a range set.
+     * @throws NullPointerException if the constraint is {@code null}.
+     */
+    @Nonnull
+    public static <V extends Comparable<?>> Optional<RangeSet<V>> of(@Nonnull Constraint<V> constraint) {
+        Messages.requireNonNull(constraint, "constraint");
+
+        @SuppressWarnings("unchecked")
+        Optional<RangeSet<V>> range = (Optional<RangeSet<V>>) (Optional<?>)
+                constraint.accept(Ranges.INSTANCE);
+        return range;
+    }
+
+    /**
+     * <p>Returns the range set of values that are not {@code null} and are
+     * not in this range set.</p>
+     *
+     * @return the complement of this range set.
+     */
+    @Nonnull
+    public RangeSet<V> complement() {
+        if (intervals.isEmpty()) {
+            return all();
+        }
+
+        List<Interval<V>> gaps = new ArrayList<>(intervals.size() + 1);
+        Interval<V> first = intervals.get(0);
+        if (first.lower() != null) {
+            gaps.add(new Interval<>(null, false, first.lower(), !first.lowerInclusive()));
+        }
+        for (int i = 1; i < intervals.size(); i++) {
+            gaps.add(gap(intervals.get(i - 1), intervals.get(i)));
+        }
+        Interval<V> last = intervals.get(intervals.size() - 1);
+        if (last.upper() != null) {
+            gaps.add(new Interval<>(last.upper(), !last.upperInclusive(), null, false));
+        }
+        return gaps.isEmpty() ? none() : new RangeSet<>(List.copyOf(gaps));
+    }
+
+    /**
+     * <p>Determines whether the given value is in this range set.</p>
+     *
+     * @param value the value.
+     * @return {@code true} if the value is in this range set, otherwise
+     *         {@code false}, including if the value is {@code null}.
+     * @throws ClassCastException if the value is not comparable with the
+     *                            values of this range set.
+     */
+    public boolean contains(V value) {
+        if (value != null) {
+            for (Interval<V> interval : intervals) {
+                if (interval.contains(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other ||
+                other instanceof RangeSet<?> rangeSet &&
+                intervals.equals(rangeSet.intervals);
+    }
+
+    @Override
+    public int hashCode() {
+        return intervals.hashCode();
+    }
+
+    /**
+     * <p>Returns the range set of values that are in both this range set and
+     * the given range set.</p>
+     *
+     * @param other another range set for the same expression.
+     * @return the intersection of the range sets.
+     * @throws ClassCastException   if the values of the range sets are not
+     *                              mutually comparable.
+     * @throws NullPointerException if the other range set is {@code null}.
+     */
+    @Nonnull
+    public RangeSet<V> intersect(@Nonnull RangeSet<V> other) {
+        Messages.requireNonNull(other, "other");
+
+        return complement().union(other.complement()).complement();
+    }
+
+    /**
+     * <p>The sorted intervals of this range set, which neither overlap nor
+     * adjoin each other.</p>
+     *
+     * @return the intervals, which are empty if this range set is empty.
+     */
+    @Nonnull
+    public List<Interval<V>> intervals() {
+        return intervals;
+    }
+
+    /**
+     * <p>Determines whether this range set contains all values that are not
+     * {@code null}.</p>
+     *
+     * @return {@code true} if this range set is unbounded,
+     *         otherwise {@code false}.
+     */
+    public boolean isAll() {
+        return intervals.size() == 1 &&
+                intervals.get(0).lower() == null &&
+                intervals.get(0).upper() == null;
+    }
+
+    /**
+     * <p>Determines whether this range set is empty, which means that no
+     * value satisfies the constraints from which it was obtained.</p>
+     *
+     * @return {@code true} if this range set is empty,
+     *         otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return intervals.isEmpty();
+    }
+
+    /**
+     * <p>Returns a restriction that requires the given expression to have a
+     * value in this range set. The restriction is composed of as few
+     * constraints as possible:</p>
+     * <ul>
+     * <li>an empty range set is unmatchable,</li>
+     * <li>a range set of all values is {@link NotNull},</li>
+     * <li>a range set of individual values is {@link EqualTo} or {@link In},
+     *     </li>
+     * <li>a range set that excludes individual values is {@link NotEqualTo}
+     *     or {@link NotIn},</li>
+     * <li>a range set that excludes a closed interval is
+     *     {@link NotBetween},</li>
+     * <li>otherwise, each interval is a {@link Between}, {@link GreaterThan},
+     *     {@link AtLeast}, {@link LessThan}, or {@link AtMost} constraint, or
+     *     both a lower and an upper bound, and individual values are combined
+     *     into a single {@code In} constraint. A restriction with multiple
+     *     intervals requires any of them.</li>
+     * </ul>
+     *
+     * @param <T>        entity type.
+     * @param expression the expression.
+     * @return the restriction.
+     * @throws NullPointerException if the expression is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public <T> Restriction<T> restriction(@Nonnull Expression<T, V> expression) {
+        Messages.requireNonNull(expression, "expression");
+
+        if (intervals.isEmpty()) {
+            return (Restriction<T>) Unmatchable.INSTANCE;
+        } else if (isAll()) {
+            return BasicRestriction.of(expression, NotNull.instance());
+        }
+
+        List<V> points = new ArrayList<>();
+        List<Interval<V>> ranges = new ArrayList<>();
+        for (Interval<V> interval : intervals) {
+            if (interval.isPoint()) {
+                points.add(interval.lower());
+            } else {
+                ranges.add(interval);
+            }
+        }
+        if (ranges.isEmpty()) {
+            return BasicRestriction.of(expression, points.size() == 1
+                    ? EqualTo.value(points.get(0))
+                    : In.values(points));
+        }
+
+        List<Interval<V>> excluded = complement().intervals();
+        boolean excludesPoints = true;
+        for (Interval<V> interval : excluded) {
+            excludesPoints &= interval.isPoint();
+        }
+        if (excludesPoints) {
+            List<V> values = new ArrayList<>(excluded.size());
+            excluded.forEach(interval -> values.add(interval.lower()));
+            return BasicRestriction.of(expression, values.size() == 1
+                    ? NotEqualTo.value(values.get(0))
+                    : NotIn.values(values));
+        } else if (excluded.size() == 1 &&
+                excluded.get(0).lowerInclusive() &&
+                excluded.get(0).upperInclusive()) {
+            return BasicRestriction.of(expression,
+                    NotBetween.bounds(excluded.get(0).lower(), excluded.get(0).upper()));
+        }
+
+        List<Restriction<T>> any = new ArrayList<>(ranges.size() + 1);
+        for (Interval<V> interval : ranges) {
+            any.add(interval.restriction(expression));
+        }
+        if (!points.isEmpty()) {
+            any.add(BasicRestriction.of(expression, points.size() == 1
+                    ? EqualTo.value(points.get(0))
+                    : In.values(points)));
+        }
+        return any.size() == 1 ? any.get(0) : Restrict.any(any);
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        if (intervals.isEmpty()) {
+            return "{}";
+        }
+        StringBuilder s = new StringBuilder();
+        for (Interval<V> interval : intervals) {
+            if (s.length() > 0) {
+                s.append(" U ");
+            }
+            s.append(interval);
+        }
+        return s.toString();
+    }
+
+    /**
+     * <p>Returns the range set of values that are in this range set or the
+     * given range set, or both.</p>
+     *
+     * @param other another range set for the same expression.
+     * @return the union of the range sets.
+     * @throws ClassCastException   if the values of the range sets are not
+     *                              mutually comparable.
+     * @throws NullPointerException if the other range set is {@code null}.
+     */
+    @Nonnull
+    public RangeSet<V> union(@Nonnull RangeSet<V> other) {
+        Messages.requireNonNull(other, "other");
+
+        List<Interval<V>> combined = new ArrayList<>(intervals.size() + other.intervals.size());
+        combined.addAll(intervals);
+        combined.addAll(other.intervals);
+        return of(combined);
+    }
+
+    /**
+     * Compares values that are known to be mutually comparable.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static int compare(Object value, Object other) {
+        return ((Comparable) value).compareTo(other);
+    }
+
+    /**
+     * Returns the interval between two consecutive intervals.
+     */
+    private static <V extends Comparable<?>> Interval<V> gap(Interval<V> before,
+                                                             Interval<V> after) {
+        return new Interval<>(before.upper(), !before.upperInclusive(),
+                              after.lower(), !after.lowerInclusive());
+    }
+
+    /**
+     * Computes the range set of a constraint, or {@link Optional#empty()}
+     * if the constraint cannot be represented as a range set.
+     */
+    private static final class Ranges implements ConstraintVisitor<Optional<RangeSet<?>>> {
+        static final Ranges INSTANCE = new Ranges();
+
+        @Override
+        public Optional<RangeSet<?>> visitAtLeast(AtLeast<?> constraint) {
+            Object bound = literal(constraint.bound());
+            return range(List.of(interval(bound, true, null, false)), false, bound);
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitAtMost(AtMost<?> constraint) {
+            Object bound = literal(constraint.bound());
+            return range(List.of(interval(null, false, bound, true)), false, bound);
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitBetween(Between<?> constraint) {
+            return between(constraint.lowerBound(), constraint.upperBound(), false);
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitEqualTo(EqualTo<?> constraint) {
+            return values(List.of(constraint.expression()), false);
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitGreaterThan(GreaterThan<?> constraint) {
+            Object bound = literal(constraint.bound());
+            return range(List.of(interval(bound, false, null, false)), false, bound);
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitIn(In<?> constraint) {
+            return constraint.bulkValues().isPresent()
+                    ? Optional.empty()
+                    : values(constraint.expressions(), false);
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitLessThan(LessThan<?> constraint) {
+            Object bound = literal(constraint.bound());
+            return range(List.of(interval(null, false, bound, false)), false, bound);
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitLike(Like constraint) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitNotBetween(NotBetween<?> constraint) {
+            return between(constraint.lowerBound(), constraint.upperBound(), true);
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitNotEqualTo(NotEqualTo<?> constraint) {
+            return values(List.of(constraint.expression()), true);
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitNotIn(NotIn<?> constraint) {
+            return constraint.bulkValues().isPresent()
+                    ? Optional.empty()
+                    : values(constraint.expressions(), true);
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitNotLike(NotLike constraint) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitNotNull(NotNull<?> constraint) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<RangeSet<?>> visitNull(Null<?> constraint) {
+            return Optional.empty();
+        }
+
+        private static Optional<RangeSet<?>> between(Expression<?, ?> lowerBound,
+                                                     Expression<?, ?> upperBound,
+                                                     boolean excluded) {
+            Object lower = literal(lowerBound);
+            Object upper = literal(upperBound);
+            return range(List.of(interval(lower, true, upper, true)), excluded, lower, upper);
+        }
+
+        private static Optional<RangeSet<?>> values(List<? extends Expression<?, ?>> expressions,
+                                                    boolean excluded) {
+            Object[] values = new Object[expressions.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = literal(expressions.get(i));
+            }
+            return range(points(Arrays.asList(values)), excluded, values);
+        }
+
+        private static Optional<RangeSet<?>> range(List<Interval<Comparable<?>>> intervals,
+                                                   boolean excluded,
+                                                   Object... values) {
+            Optional<RangeSet<Comparable<?>>> range = optional(Arrays.asList(values), intervals);
+            return excluded
+                    ? range.map(RangeSet::complement)
+                    : range.map(r -> r);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V extends Comparable<?>> Interval<V> interval(Object lower,
+                                                                  boolean lowerInclusive,
+                                                                  Object upper,
+                                                                  boolean upperInclusive) {
+        return new Interval<>((V) lower, lowerInclusive, (V) upper, upperInclusive);
+    }
+
+    /**
+     * Returns the value of an expression that is a literal of a comparable
+     * value, otherwise {@code null}.
+     */
+    private static Object literal(Expression<?, ?> expression) {
+        return expression instanceof Literal<?> literal &&
+                literal.value() instanceof Comparable<?>
+                ? literal.value()
+                : null;
+    }
+
+    /**
+     * Returns a range set of the given intervals in any order, which can be
+     * empty, overlap, or adjoin each other.
+     */
+    private static <V extends Comparable<?>> RangeSet<V> of(List<Interval<V>> intervals) {
+        List<Interval<V>> sorted = new ArrayList<>(intervals.size());
+        for (Interval<V> interval : intervals) {
+            if (!interval.isEmpty()) {
+                sorted.add(interval);
+            }
+        }
+        sorted.sort(Interval::compareLower);
+
+        List<Interval<V>> merged = new ArrayList<>(sorted.size());
+        Interval<V> current = null;
+        for (Interval<V> interval : sorted) {
+            if (current == null) {
+                current = interval;
+            } else if (current.reaches(interval)) {
+                current = current.extend(interval);
+            } else {
+                merged.add(current);
+                current = interval;
+            }
+        }
+        if (current == null) {
+            return none();
+        }
+        merged.add(current);
+        return new RangeSet<>(List.copyOf(merged));
+    }
+
+    /**
+     * Whether values of a type are ordered in the same way by Java as by the
+     * database, regardless of the collation or mapping of the database.
+     */
+    private static boolean isOrderedByValue(Class<?> type) {
+        return Number.class.isAssignableFrom(type) ||
+                type == Boolean.class ||
+                type == Instant.class ||
+                type == LocalDate.class ||
+                type == LocalDateTime.class ||
+                type == LocalTime.class ||
+                type == Year.class ||
+                type == YearMonth.class;
+    }
+
+    /**
+     * Returns the range set of the given intervals if all of the values are
+     * literals of the same type, which is ordered by value.
+     */
+    private static <V extends Comparable<?>> Optional<RangeSet<V>> optional(List<Object> values,
+                                                                            List<Interval<V>> intervals) {
+        Class<?> type = null;
+        for (Object value : values) {
+            if (value == null || type != null && value.getClass() != type) {
+                return Optional.empty();
+            }
+            type = value.getClass();
+        }
+        return type == null || isOrderedByValue(type)
+                ? Optional.of(of(intervals))
+                : Optional.empty();
+    }
+
+    private static <V extends Comparable<?>> List<Interval<V>> points(List<Object> values) {
+        List<Interval<V>> points = new ArrayList<>(values.size());
+        for (Object value : values) {
+            points.add(interval(value, true, value, true));
+        }
+        return points;
+    }
+
+    /**
+     * <p>An interval of values between a lower bound and an upper bound,
+     * either of which can be inclusive or exclusive. An interval is
+     * unbounded below if its lower bound is {@code null} and unbounded above
+     * if its upper bound is {@code null}. The bound of an unbounded side is
+     * exclusive.</p>
+     *
+     * @param <V>            type of the values.
+     * @param lower          the lower bound, or {@code null} if unbounded.
+     * @param lowerInclusive whether the lower bound is in the interval.
+     * @param upper          the upper bound, or {@code null} if unbounded.
+     * @param upperInclusive whether the upper bound is in the interval.
+     */
+    public record Interval<V extends Comparable<?>>(V lower,
+                                                   boolean lowerInclusive,
+                                                   V upper,
+                                                   boolean upperInclusive) {
+
+        /**
+         * <p>Determines whether the given value is within this interval.</p>
+         *
+         * @param value the value.
+         * @return {@code true} if the value is within this interval,
+         *         otherwise {@code false}.
+         * @throws ClassCastException if the value is not comparable with the
+         *                            bounds.
+         */
+        public boolean contains(@Nonnull V value) {
+            if (lower != null) {
+                int c = compare(value, lower);
+                if (c < 0 || c == 0 && !lowerInclusive) {
+                    return false;
+                }
+            }
+            if (upper != null) {
+                int c = compare(value, upper);
+                return c < 0 || c == 0 && upperInclusive;
+            }
+            return true;
+        }
+
+        /**
+         * <p>Determines whether this interval consists of a single value.</p>
+         *
+         * @return {@code true} if the lower and upper bounds are the same
+         *         inclusive value, otherwise {@code false}.
+         */
+        public boolean isPoint() {
+            return lower != null && upper != null &&
+                    lowerInclusive && upperInclusive &&
+                    compare(lower, upper) == 0;
+        }
+
+        @Override
+        @Nonnull
+        public String toString() {
+            return (lower == null ? "(-inf" : (lowerInclusive ? "[" : "(") + lower) + ", " +
+                    (upper == null ? "+inf)" : upper + (upperInclusive ? "]" : ")"));
+        }
+
+        /**
+         * Orders intervals by their lower bounds, where an inclusive bound
+         * precedes an exclusive bound of the same value.
+         */
+        private int compareLower(Interval<?> other) {
+            if (lower == null || other.lower == null) {
+                return lower == null ? (other.lower == null ? 0 : -1) : 1;
+            }
+            int c = compare(lower, other.lower);
+            return c != 0 ? c : Boolean.compare(other.lowerInclusive, lowerInclusive);
+        }
+
+        /**
+         * Returns this interval extended to the upper bound of the given
+         * interval if that is greater.
+         */
+        private Interval<V> extend(Interval<V> other) {
+            if (upper == null) {
+                return this;
+            } else if (other.upper == null) {
+                return new Interval<>(lower, lowerInclusive, null, false);
+            }
+            int c = compare(other.upper, upper);
+            return c > 0 || c == 0 && other.upperInclusive && !upperInclusive
+                    ? new Interval<>(lower, lowerInclusive, other.upper, other.upperInclusive)
+                    : this;
+        }
+
+        private boolean isEmpty() {
+            if (lower == null || upper == null) {
+                return false;
+            }
+            int c = compare(lower, upper);
+            return c > 0 || c == 0 && !(lowerInclusive && upperInclusive);
+        }
+
+        /**
+         * Determines whether the given interval, which does not start before
+         * this interval, overlaps or adjoins this interval.
+         */
+        private boolean reaches(Interval<V> other) {
+            if (upper == null || other.lower == null) {
+                return true;
+            }
+            int c = compare(other.lower, upper);
+            return c < 0 || c == 0 && (upperInclusive || other.lowerInclusive);
+        }
+
+        /**
+         * Returns a restriction that requires the expression to have a value
+         * within this interval, which is not a single value.
+         */
+        private <T> Restriction<T> restriction(Expression<T, V> expression) {
+            if (lower == null) {
+                return BasicRestriction.of(expression, upperInclusive
+                        ? AtMost.max(upper)
+                        : LessThan.bound(upper));
+            } else if (upper == null) {
+                return BasicRestriction.of(expression, lowerInclusive
+                        ? AtLeast.min(lower)
+                        : GreaterThan.bound(lower));
+            } else if (lowerInclusive && upperInclusive) {
+                return BasicRestriction.of(expression, Between.bounds(lower, upper));
+            } else {
+                return Restrict.all(
+                        BasicRestriction.of(expression, lowerInclusive
+                                ? AtLeast.min(lower)
+                                : GreaterThan.bound(lower)),
+                        BasicRestriction.of(expression, upperInclusive
+                                ? AtMost.max(upper)
+                                : LessThan.bound(upper)));
+            }
+        }
+    }
+}
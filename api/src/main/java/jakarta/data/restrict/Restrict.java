@@ -17,8 +17,10 @@
  */
 package jakarta.data.restrict;
 
+import jakarta.data.Order;
 import jakarta.data.messages.Messages;
 import jakarta.data.metamodel.Attribute;
+import jakarta.data.page.PageRequest;
 
 import java.util.List;
 import jakarta.annotation.Nonnull;
@@ -54,6 +56,107 @@ public class Restrict {
     private Restrict() {
     }
 
+    /**
+     * <p>Returns a restriction that is satisfied by the results that follow
+     * the supplied cursor in the supplied order. This is the restriction with
+     * which to request the next page of results after a page for which the
+     * supplied cursor is the key of the last result.</p>
+     *
+     * <p>For example,</p>
+     * <pre>
+     * Order&lt;Person&gt; order = Order.by(_Person.lastName.asc(),
+     *                                  _Person.id.asc());
+     * List&lt;Person&gt; next =
+     *         people.search(Restrict.after(order, Cursor.forKey("Smith", 1234)),
+     *                       Limit.of(20),
+     *                       order);
+     * </pre>
+     *
+     * @param <T>    entity type.
+     * @param order  sort criteria, each of which must have an
+     *               {@linkplain jakarta.data.Sort#expression() expression}.
+     * @param cursor key values, one per sort criterion.
+     * @return the keyset restriction.
+     * @throws IllegalArgumentException if the number of key values differs
+     *                                  from the number of sort criteria, if
+     *                                  a sort criterion does not have an
+     *                                  expression, or if a key value is
+     *                                  {@code null} for a sort criterion that
+     *                                  does not specify the ordering of
+     *                                  {@code null} values.
+     * @throws NullPointerException     if either argument is {@code null}.
+     * @since 1.1
+     */
+    @Nonnull
+    public static <T> KeysetRestriction<T> after(@Nonnull Order<T> order,
+                                                 @Nonnull PageRequest.Cursor cursor) {
+        return new KeysetRestrictionRecord<>(order, cursor);
+    }
+
+    /**
+     * <p>Returns a restriction that is satisfied by the results that precede
+     * the supplied cursor in the supplied order. This is the restriction that
+     * follows the cursor in the {@linkplain Order#reversed() reversed} order,
+     * with which to request the previous page of results before a page for
+     * which the supplied cursor is the key of the first result. The results
+     * must be read in the reversed order and the results of each page
+     * reversed again to obtain them in the supplied order.</p>
+     *
+     * @param <T>    entity type.
+     * @param order  sort criteria, each of which must have an
+     *               {@linkplain jakarta.data.Sort#expression() expression}.
+     * @param cursor key values, one per sort criterion.
+     * @return the keyset restriction, of which the
+     *         {@link KeysetRestriction#order() order} is the reversed order.
+     * @throws IllegalArgumentException if the number of key values differs
+     *                                  from the number of sort criteria, if
+     *                                  a sort criterion does not have an
+     *                                  expression, or if a key value is
+     *                                  {@code null} for a sort criterion that
+     *                                  does not specify the ordering of
+     *                                  {@code null} values.
+     * @throws NullPointerException     if either argument is {@code null}.
+     * @since 1.1
+     */
+    @Nonnull
+    public static <T> KeysetRestriction<T> before(@Nonnull Order<T> order,
+                                                  @Nonnull PageRequest.Cursor cursor) {
+        Messages.requireNonNull(order, "order");
+        return new KeysetRestrictionRecord<>(order.reversed(), cursor);
+    }
+
+    /**
+     * <p>Returns the restriction with which to obtain the page of results that
+     * is requested by a page request. For a page request with the mode
+     * {@link PageRequest.Mode#CURSOR_NEXT CURSOR_NEXT}, this is the
+     * restriction that is obtained from {@link #after(Order, PageRequest.Cursor)}.
+     * For a page request with the mode
+     * {@link PageRequest.Mode#CURSOR_PREVIOUS CURSOR_PREVIOUS}, this is the
+     * restriction that is obtained from {@link #before(Order, PageRequest.Cursor)}.
+     * For a page request with the mode {@link PageRequest.Mode#OFFSET OFFSET},
+     * the {@linkplain #unrestricted() unrestricted} restriction is returned.</p>
+     *
+     * @param <T>         entity type.
+     * @param order       sort criteria, each of which must have an
+     *                    {@linkplain jakarta.data.Sort#expression() expression}.
+     * @param pageRequest request for a page of results.
+     * @return the restriction.
+     * @throws IllegalArgumentException if the cursor of the page request cannot
+     *                                  be combined with the sort criteria.
+     * @throws NullPointerException     if either argument is {@code null}.
+     * @since 1.1
+     */
+    @Nonnull
+    public static <T> Restriction<T> keyset(@Nonnull Order<T> order,
+                                            @Nonnull PageRequest pageRequest) {
+        Messages.requireNonNull(pageRequest, "pageRequest");
+        return switch (pageRequest.mode()) {
+            case CURSOR_NEXT -> after(order, pageRequest.cursor().orElseThrow());
+            case CURSOR_PREVIOUS -> before(order, pageRequest.cursor().orElseThrow());
+            case OFFSET -> unrestricted();
+        };
+    }
+
     /**
      * <p>Returns a composite restriction that is satisfied when all of the
      * supplied restrictions are satisfied. The order of the restrictions is
@@ -224,6 +327,143 @@ public class Restrict {
         return restriction.negate();
     }
 
+    /**
+     * <p>Determines whether every entity that satisfies a restriction also
+     * satisfies another restriction, such that the entities that satisfy the
+     * restriction can be found by filtering the entities that satisfy the
+     * other restriction. For example,</p>
+     *
+     * <pre>
+     * Restrict.implies(Restrict.all(_Car.make.equalTo("Ford"),
+     *                               _Car.price.lessThan(20000)),
+     *                  _Car.price.lessThan(30000))
+     * </pre>
+     *
+     * <p>is {@code true}. Both restrictions are
+     * {@linkplain #normalize(Restriction) normalized} and compared by the
+     * values that their constraints allow for each expression: ranges for
+     * {@code AtLeast}, {@code AtMost}, {@code GreaterThan}, {@code LessThan},
+     * {@code Between}, and {@code NotBetween}, individual values for
+     * {@code EqualTo}, {@code NotEqualTo}, {@code In}, and {@code NotIn},
+     * and the literal text of patterns for {@code Like}. Expressions are
+     * compared with {@code equals}.</p>
+     *
+     * <p>The determination is conservative. If this method returns
+     * {@code true}, the implication holds, including when the values
+     * involved are {@code null}. If this method returns {@code false},
+     * the implication might still hold for reasons that this method does
+     * not analyze.</p>
+     *
+     * @param <T>         entity type.
+     * @param restriction a restriction.
+     * @param other       another restriction.
+     * @return {@code true} if every entity that satisfies the restriction is
+     *         known to satisfy the other restriction, otherwise
+     *         {@code false}.
+     * @throws NullPointerException if either restriction is {@code null}.
+     * @since 1.1
+     */
+    public static <T> boolean implies(@Nonnull Restriction<T> restriction,
+                                      @Nonnull Restriction<? super T> other) {
+        Messages.requireNonNull(restriction, "restriction");
+        Messages.requireNonNull(other, "other");
+
+        return Containment.implies(RestrictionNormalizer.normalize(restriction, false),
+                                   RestrictionNormalizer.normalize(other, false));
+    }
+
+    /**
+     * <p>Returns a restriction that is equivalent to the given restriction,
+     * in a canonical form that is often smaller. Equivalent restrictions
+     * that are built in different ways often normalize to equal
+     * restrictions, which makes them more effective as the keys of caches
+     * of translated queries, and the normalized restriction is typically
+     * faster to evaluate. The normalized restriction:</p>
+     * <ul>
+     * <li>has negation applied only to the constraints of basic restrictions,
+     *     by pushing negation into composite restrictions with De Morgan's
+     *     laws and {@linkplain jakarta.data.constraint.Constraint#negate()
+     *     negating constraints},</li>
+     * <li>has no composite restriction nested within another of the
+     *     same {@linkplain CompositeRestriction.Type type},</li>
+     * <li>has no {@linkplain #unrestricted() unrestricted} or unmatchable
+     *     restrictions within a composite restriction, unless the entire
+     *     restriction is unrestricted or unmatchable,</li>
+     * <li>requires an expression to be {@code In} a list of values rather
+     *     than any of several {@code EqualTo} or {@code In} values, and to be
+     *     {@code NotIn} a list of values rather than all of several
+     *     {@code NotEqualTo} or {@code NotIn} values,</li>
+     * <li>has no repeated restrictions within a composite restriction,
+     *     and</li>
+     * <li>has no composite restriction of a single restriction.</li>
+     * </ul>
+     *
+     * <p>The normalized restriction is satisfied by the same entities as the
+     * given restriction, also when the values involved are {@code null}.
+     * A {@link KeysetRestriction} is left as it is, unless negated.</p>
+     *
+     * @param <T>         entity type.
+     * @param restriction the restriction to normalize.
+     * @return the normalized restriction.
+     * @throws NullPointerException if the restriction is {@code null}.
+     * @since 1.1
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public static <T> Restriction<T> normalize(@Nonnull Restriction<T> restriction) {
+        Messages.requireNonNull(restriction, "restriction");
+
+        return (Restriction<T>) RestrictionNormalizer.normalize(restriction, false);
+    }
+
+    /**
+     * <p>Returns a {@linkplain #normalize(Restriction) normalized} restriction
+     * that is equivalent to the given restriction, in which the range
+     * constraints on each expression within a composite restriction are
+     * combined into as few constraints as possible. The constraints that are
+     * combined are {@code AtLeast}, {@code AtMost}, {@code GreaterThan},
+     * {@code LessThan}, {@code Between}, {@code NotBetween}, {@code EqualTo},
+     * {@code NotEqualTo}, {@code In}, and {@code NotIn} with literal values
+     * of the same type. For example,</p>
+     *
+     * <pre>
+     * Restrict.simplifyRanges(Restrict.all(_Car.price.greaterThan(20000),
+     *                                      _Car.price.lessThanEqual(30000),
+     *                                      _Car.price.notBetween(25000, 26000)))
+     * </pre>
+     *
+     * <p>requires the price to be greater than 20000 and less than 25000, or
+     * greater than 26000 and at most 30000. The combined constraints are
+     * obtained from the {@link RangeSet} of the values that satisfy them.
+     * Constraints that no value can satisfy, such as a minimum that exceeds
+     * the maximum, make the restriction that requires them unmatchable,
+     * which a Jakarta Data provider can detect without querying the
+     * database.</p>
+     *
+     * <p>Only constraints on values that the database orders in the same way
+     * as Java, such as numbers and local dates and times, are combined, as
+     * described by {@link RangeSet#of RangeSet.of}.
+     * Constraints on text are kept as they are, because the database might
+     * compare text differently, such as without regard to case.</p>
+     *
+     * @param <T>         entity type.
+     * @param restriction the restriction to simplify.
+     * @return the simplified restriction.
+     * @throws NullPointerException if the restriction is {@code null}.
+     * @since 1.1
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public static <T> Restriction<T> simplifyRanges(@Nonnull Restriction<T> restriction) {
+        Messages.requireNonNull(restriction, "restriction");
+
+        Restriction<?> normalized = RestrictionNormalizer.normalize(restriction, false);
+        Restriction<?> simplified = RangeAnalyzer.simplify(normalized);
+        return (Restriction<T>) (simplified == normalized
+                ? normalized
+                : RestrictionNormalizer.normalize(simplified, false));
+    }
+
     /**
      * <p>Returns a restriction that always evaluates to satisfied. This can be
      * used to avoid imposing additional restrictions in places where a
@@ -86,7 +86,27 @@ import jakarta.annotation.Nonnull;
  * @param <T> entity type.
  * @since 1.1
  */
-public interface Restriction<T> {
+public sealed interface Restriction<T>
+        permits BasicRestriction, CompositeRestriction {
+
+    /**
+     * <p>Invokes the method of the given visitor that corresponds to the
+     * subtype of this restriction: {@link RestrictionVisitor#visitBasic}
+     * for a {@link BasicRestriction}, {@link RestrictionVisitor#visitKeyset}
+     * for a {@link KeysetRestriction}, and
+     * {@link RestrictionVisitor#visitComposite} for any other
+     * {@link CompositeRestriction}.</p>
+     *
+     * <p>The visitor is not applied to the restrictions that a composite
+     * restriction combines. Visitors that need to process nested
+     * restrictions apply themselves to each of the
+     * {@linkplain CompositeRestriction#restrictions() restrictions}.</p>
+     *
+     * @param <R>     type of result of the visitor.
+     * @param visitor the visitor.
+     * @return the result of the visitor.
+     */
+    <R> R accept(@Nonnull RestrictionVisitor<R> visitor);
 
     /**
      * <p>Returns the negation of this restriction.</p>
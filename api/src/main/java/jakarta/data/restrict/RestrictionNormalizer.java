@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.data.constraint.Constraint;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.expression.Expression;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Rewrites restrictions into an equivalent canonical form. The rewrites
+ * are valid under the three-valued logic of query language, where a
+ * comparison with a {@code null} value is unknown.</p>
+ *
+ * <ul>
+ * <li>Negation is pushed down to basic restrictions, which are negated by
+ *     {@linkplain Constraint#negate() negating} their constraints. A negated
+ *     composite restriction becomes a composite restriction of the opposite
+ *     type with its restrictions negated, per De Morgan's laws.</li>
+ * <li>Composite restrictions of the same type as the composite restriction
+ *     that contains them are replaced by their restrictions.</li>
+ * <li>Unrestricted and unmatchable restrictions are removed from composite
+ *     restrictions that they do not decide, and otherwise replace the
+ *     composite restriction.</li>
+ * <li>Within {@link CompositeRestriction.Type#ANY ANY}, restrictions that
+ *     require an expression to be {@linkplain EqualTo equal to} or
+ *     {@linkplain In in} values are merged into a single {@code In}
+ *     constraint. Within {@link CompositeRestriction.Type#ALL ALL},
+ *     {@link NotEqualTo} and {@link NotIn} are merged into {@code NotIn}.
+ *     Constraints that were created from bulk values are not merged.</li>
+ * <li>Repeated restrictions are removed.</li>
+ * <li>A composite restriction with a single restriction is replaced by that
+ *     restriction.</li>
+ * </ul>
+ *
+ * <p>A {@link KeysetRestriction} is kept as it is, so that a provider can
+ * still recognize it, unless it is negated.</p>
+ */
+// Internal implementation class.
+// The proper way for users to normalize restrictions is via
+// the static Restrict.normalize method
+final class RestrictionNormalizer {
+
+    // prevent instantiation
+    private RestrictionNormalizer() {
+    }
+
+    /**
+     * Normalizes a restriction or its negation.
+     *
+     * @param restriction the restriction.
+     * @param negate      whether to normalize the negation of the restriction.
+     * @return the normalized restriction.
+     */
+    static Restriction<?> normalize(Restriction<?> restriction, boolean negate) {
+        return restriction.accept(negate ? Normalizer.NEGATE : Normalizer.NORMALIZE);
+    }
+
+    /**
+     * Normalizes each kind of restriction, or its negation.
+     */
+    private static final class Normalizer implements RestrictionVisitor<Restriction<?>> {
+        static final Normalizer NORMALIZE = new Normalizer(false);
+        static final Normalizer NEGATE = new Normalizer(true);
+
+        private final boolean negate;
+
+        private Normalizer(boolean negate) {
+            this.negate = negate;
+        }
+
+        @Override
+        public Restriction<?> visitBasic(BasicRestriction<?, ?> restriction) {
+            return negate ? restriction.negate() : restriction;
+        }
+
+        @Override
+        public Restriction<?> visitComposite(CompositeRestriction<?> restriction) {
+            return composite(restriction, negate);
+        }
+
+        @Override
+        public Restriction<?> visitKeyset(KeysetRestriction<?> restriction) {
+            // kept as it is, so that a provider can still recognize it
+            return negate ? composite(restriction, true) : restriction;
+        }
+    }
+
+    private static Restriction<?> composite(CompositeRestriction<?> composite,
+                                            boolean negate) {
+        boolean negated = negate != composite.isNegated();
+        CompositeRestriction.Type type = negated
+                ? opposite(composite.type())
+                : composite.type();
+
+        Set<Restriction<?>> terms = new LinkedHashSet<>();
+        for (Restriction<?> restriction : composite.restrictions()) {
+            Restriction<?> term = normalize(restriction, negated);
+            if (term instanceof Unrestricted || term instanceof Unmatchable) {
+                CompositeRestriction.Type constant = ((CompositeRestriction<?>) term).type();
+                if (constant != type) {
+                    // decides the result of the composite restriction
+                    return term;
+                }
+            } else if (term instanceof CompositeRestriction<?> nested
+                    && !(term instanceof KeysetRestriction)
+                    && !nested.isNegated()
+                    && nested.type() == type) {
+                terms.addAll(nested.restrictions());
+            } else {
+                terms.add(term);
+            }
+        }
+
+        List<Restriction<?>> merged = merge(terms, type);
+        if (merged.isEmpty()) {
+            return type == CompositeRestriction.Type.ALL
+                    ? Unrestricted.INSTANCE
+                    : Unmatchable.INSTANCE;
+        } else if (merged.size() == 1) {
+            return merged.get(0);
+        } else {
+            return combine(type, merged);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Restriction<?> combine(CompositeRestriction.Type type,
+                                          List<Restriction<?>> restrictions) {
+        return new CompositeRestrictionRecord(type, List.copyOf(restrictions));
+    }
+
+    /**
+     * Merges restrictions on the same expression that compare it with
+     * values, into a single restriction per expression, where equality
+     * becomes {@code In} within {@code ANY} and inequality becomes
+     * {@code NotIn} within {@code ALL}.
+     */
+    private static List<Restriction<?>> merge(Set<Restriction<?>> terms,
+                                              CompositeRestriction.Type type) {
+        boolean any = type == CompositeRestriction.Type.ANY;
+
+        Map<Expression<?, ?>, Set<Expression<?, ?>>> operands = new LinkedHashMap<>();
+        Map<Expression<?, ?>, Integer> counts = new LinkedHashMap<>();
+        for (Restriction<?> term : terms) {
+            Collection<? extends Expression<?, ?>> values = mergeable(term, any);
+            if (values != null) {
+                Expression<?, ?> expression = ((BasicRestriction<?, ?>) term).expression();
+                operands.computeIfAbsent(expression, e -> new LinkedHashSet<>())
+                        .addAll(values);
+                counts.merge(expression, 1, Integer::sum);
+            }
+        }
+
+        List<Restriction<?>> merged = new ArrayList<>(terms.size());
+        for (Restriction<?> term : terms) {
+            if (mergeable(term, any) == null) {
+                merged.add(term);
+            } else {
+                Expression<?, ?> expression = ((BasicRestriction<?, ?>) term).expression();
+                Set<Expression<?, ?>> values = operands.remove(expression);
+                if (values != null) {
+                    // first restriction on the expression
+                    merged.add(counts.get(expression) == 1
+                            ? term
+                            : membership(expression, values, any));
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the values with which a restriction compares its expression,
+     * if the restriction can be merged, otherwise {@code null}.
+     */
+    private static Collection<? extends Expression<?, ?>> mergeable(Restriction<?> term,
+                                                                    boolean any) {
+        if (term instanceof BasicRestriction<?, ?> basic) {
+            Constraint<?> constraint = basic.constraint();
+            if (any && constraint instanceof EqualTo<?> equalTo) {
+                return List.of(equalTo.expression());
+            } else if (any && constraint instanceof In<?> in) {
+                // bulk values remain in bulk rather than being merged
+                return in.bulkValues().isPresent() ? null : in.expressions();
+            } else if (!any && constraint instanceof NotEqualTo<?> notEqualTo) {
+                return List.of(notEqualTo.expression());
+            } else if (!any && constraint instanceof NotIn<?> notIn) {
+                return notIn.bulkValues().isPresent() ? null : notIn.expressions();
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Restriction<?> membership(Expression expression,
+                                             Set<Expression<?, ?>> values,
+                                             boolean in) {
+        List list = new ArrayList<>(values);
+        Constraint<?> constraint = in
+                ? In.expressions(list)
+                : NotIn.expressions(list);
+        return BasicRestriction.of(expression, constraint);
+    }
+
+    private static CompositeRestriction.Type opposite(CompositeRestriction.Type type) {
+        return type == CompositeRestriction.Type.ALL
+                ? CompositeRestriction.Type.ANY
+                : CompositeRestriction.Type.ALL;
+    }
+}
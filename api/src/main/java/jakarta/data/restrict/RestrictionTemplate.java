@@ -0,0 +1,493 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.Constraint;
+import jakarta.data.constraint.ConstraintVisitor;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.expression.ComparableExpression;
+import jakarta.data.expression.Expression;
+import jakarta.data.expression.TextExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.spi.expression.literal.Literal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * <p>A {@link Restriction} with parameters, which is built and validated
+ * once and then {@linkplain #bind(Object...) bound} to values each time it
+ * is used, in the way that a prepared statement is bound to values.</p>
+ *
+ * <p>A template is obtained from a prototype restriction, in which the
+ * literal values of constraints are placeholders for the parameters. The
+ * parameters are the literal values of the constraints of the prototype,
+ * in the order in which they occur within the prototype, and each
+ * parameter accepts values of the same type as its literal value. For
+ * example,</p>
+ *
+ * <pre>
+ * static final RestrictionTemplate&lt;Car&gt; SEARCH = RestrictionTemplate.of(
+ *         Restrict.all(_Car.make.equalTo(""),
+ *                      _Car.price.between(0, 0)),
+ *         "make", "minPrice", "maxPrice");
+ * ...
+ * found = cars.search(SEARCH.bind(make, minPrice, maxPrice));
+ * </pre>
+ *
+ * <p>The following are not parameters and are the same in every restriction
+ * that is bound from the template:</p>
+ * <ul>
+ * <li>operands of constraints that are expressions other than literals,
+ *     such as entity attributes,</li>
+ * <li>literals within expressions, such as the {@code 1000} of
+ *     {@code _Car.price.minus(1000)},</li>
+ * <li>the values of {@code In} and {@code NotIn} constraints that were
+ *     created from {@linkplain In#bulkValues() bulk values}, and</li>
+ * <li>{@link KeysetRestriction keyset restrictions}.</li>
+ * </ul>
+ *
+ * <p>The parameter of a {@link Like} or {@link NotLike} constraint is the
+ * entire pattern, including wildcards, with the escape character of the
+ * prototype. For example, the parameter of {@code _Car.model.startsWith("")}
+ * is bound to {@code "F-%"} rather than to {@code "F-"}.</p>
+ *
+ * <p>The template is compiled when it is obtained, such that binding values
+ * does not inspect the prototype again. Subtrees of the prototype without
+ * parameters are shared by every bound restriction. The restrictions that
+ * are bound from a template have the same {@link Fingerprint} as the
+ * template, so that a Jakarta Data provider that caches the translation of
+ * restrictions by fingerprint translates the template once.</p>
+ *
+ * <p>Instances of this class are immutable and safe for use by multiple
+ * threads.</p>
+ *
+ * @param <T> entity type.
+ * @since 1.1
+ */
+public final class RestrictionTemplate<T> {
+
+    private final Binder binder;
+
+    private final Fingerprint fingerprint;
+
+    private final List<String> names;
+
+    private final Map<String, Integer> positions;
+
+    private final Restriction<T> prototype;
+
+    private final Class<?>[] types;
+
+    private RestrictionTemplate(Restriction<T> prototype, String[] names) {
+        List<Class<?>> types = new ArrayList<>();
+        this.binder = compile(prototype, types);
+        this.types = types.toArray(new Class<?>[0]);
+        this.prototype = prototype;
+        this.fingerprint = Fingerprint.of(prototype);
+
+        if (names.length > 0 && names.length != this.types.length) {
+            throw new IllegalArgumentException(
+                    Messages.get("024.param.count", this.types.length, names.length));
+        }
+        this.positions = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            Messages.requireNonNull(names[i], "names");
+            if (positions.put(names[i], i) != null) {
+                throw new IllegalArgumentException(
+                        Messages.get("013.arg.invalid", "names", names[i]));
+            }
+        }
+        this.names = List.of(names);
+    }
+
+    /**
+     * <p>Obtains a template with positional parameters from a prototype
+     * restriction.</p>
+     *
+     * @param <T>       entity type.
+     * @param prototype restriction in which the literal values of
+     *                  constraints are placeholders for parameters.
+     * @return the template.
+     * @throws NullPointerException if the prototype is {@code null}.
+     */
+    @Nonnull
+    public static <T> RestrictionTemplate<T> of(@Nonnull Restriction<T> prototype) {
+        Messages.requireNonNull(prototype, "prototype");
+
+        return new RestrictionTemplate<>(prototype, new String[0]);
+    }
+
+    /**
+     * <p>Obtains a template with named parameters from a prototype
+     * restriction. Values can be bound to the parameters by
+     * {@linkplain #bind(Map) name} or by {@linkplain #bind(Object...)
+     * position}.</p>
+     *
+     * @param <T>       entity type.
+     * @param prototype restriction in which the literal values of
+     *                  constraints are placeholders for parameters.
+     * @param names     names of the parameters, in the order of the
+     *                  parameters.
+     * @return the template.
+     * @throws IllegalArgumentException if the number of names differs from
+     *                                  the number of parameters, or a name
+     *                                  is repeated.
+     * @throws NullPointerException     if the prototype or any name is
+     *                                  {@code null}.
+     */
+    @Nonnull
+    public static <T> RestrictionTemplate<T> of(@Nonnull Restriction<T> prototype,
+                                                @Nonnull String... names) {
+        Messages.requireNonNull(prototype, "prototype");
+        Messages.requireNonNull(names, "names");
+
+        return new RestrictionTemplate<>(prototype, names.clone());
+    }
+
+    /**
+     * <p>Binds values to the parameters of the template by position.</p>
+     *
+     * @param values a value for each parameter, in the order of the
+     *               parameters.
+     * @return a restriction in which the parameters are replaced by the
+     *         values.
+     * @throws IllegalArgumentException if the number of values differs from
+     *                                  the number of parameters, or a value
+     *                                  is not of the type of its parameter.
+     * @throws NullPointerException     if any value is {@code null}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Restriction<T> bind(@Nonnull Object... values) {
+        Messages.requireNonNull(values, "values");
+        if (values.length != types.length) {
+            throw new IllegalArgumentException(
+                    Messages.get("024.param.count", types.length, values.length));
+        }
+        for (int i = 0; i < values.length; i++) {
+            check(i, values[i]);
+        }
+
+        return (Restriction<T>) binder.bind(values);
+    }
+
+    /**
+     * <p>Binds values to the named parameters of the template.</p>
+     *
+     * @param values a value for each parameter, by the name of the
+     *               parameter.
+     * @return a restriction in which the parameters are replaced by the
+     *         values.
+     * @throws IllegalArgumentException if the number of values differs from
+     *                                  the number of parameters, a name is
+     *                                  not the name of a parameter, or a
+     *                                  value is not of the type of its
+     *                                  parameter.
+     * @throws NullPointerException     if the map or any value is
+     *                                  {@code null}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Restriction<T> bind(@Nonnull Map<String, ?> values) {
+        Messages.requireNonNull(values, "values");
+        if (values.size() != types.length) {
+            throw new IllegalArgumentException(
+                    Messages.get("024.param.count", types.length, values.size()));
+        }
+        Object[] array = new Object[types.length];
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            Integer position = positions.get(entry.getKey());
+            if (position == null) {
+                throw new IllegalArgumentException(
+                        Messages.get("026.param.unknown", entry.getKey()));
+            }
+            check(position, entry.getValue());
+            array[position] = entry.getValue();
+        }
+
+        return (Restriction<T>) binder.bind(array);
+    }
+
+    /**
+     * <p>The fingerprint of the template, which is also the fingerprint of
+     * every restriction that is bound from the template.</p>
+     *
+     * @return the fingerprint.
+     */
+    @Nonnull
+    public Fingerprint fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * <p>The names of the parameters, in the order of the parameters.</p>
+     *
+     * @return the names, which are empty if the parameters are
+     *         positional.
+     */
+    @Nonnull
+    public List<String> names() {
+        return names;
+    }
+
+    /**
+     * <p>The restriction from which the template was obtained.</p>
+     *
+     * @return the prototype.
+     */
+    @Nonnull
+    public Restriction<T> prototype() {
+        return prototype;
+    }
+
+    /**
+     * <p>The types of the parameters, in the order of the parameters.</p>
+     *
+     * @return the types.
+     */
+    @Nonnull
+    public List<Class<?>> types() {
+        return Collections.unmodifiableList(Arrays.asList(types));
+    }
+
+    /**
+     * Textual representation of the template, which is the
+     * {@linkplain Fingerprint#shape() shape} of its fingerprint.
+     *
+     * @return textual representation of the template.
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return fingerprint.shape();
+    }
+
+    private void check(int position, Object value) {
+        String name = names.isEmpty() ? "?" + (position + 1) : names.get(position);
+        Messages.requireNonNull(value, name);
+        if (!types[position].isInstance(value)) {
+            throw new IllegalArgumentException(
+                    Messages.get("025.param.type", value, name, types[position].getName()));
+        }
+    }
+
+    /**
+     * Compiles a restriction into a binder, appending the types of its
+     * parameters.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Binder compile(Restriction<?> restriction, List<Class<?>> types) {
+        int first = types.size();
+        if (restriction instanceof BasicRestriction<?, ?> basic) {
+            Operands operands = basic.constraint().accept(OperandVisitor.INSTANCE);
+            int[] slots = new int[operands.expressions().size()];
+            for (int i = 0; i < slots.length; i++) {
+                if (operands.expressions().get(i) instanceof Literal<?> literal) {
+                    slots[i] = types.size();
+                    types.add(literal.type());
+                } else {
+                    slots[i] = -1;
+                }
+            }
+            if (types.size() == first) {
+                return values -> restriction;
+            }
+            Expression expression = basic.expression();
+            List<Expression<?, ?>> expressions = operands.expressions();
+            Function<List<Expression<?, ?>>, Constraint<?>> factory = operands.factory();
+            return values -> new BasicRestrictionRecord(
+                    expression,
+                    factory.apply(bind(expressions, slots, values)));
+        } else if (restriction instanceof CompositeRestriction<?> composite
+                && !(restriction instanceof KeysetRestriction)) {
+            List<Restriction<?>> restrictions = (List) composite.restrictions();
+            Binder[] binders = new Binder[restrictions.size()];
+            for (int i = 0; i < binders.length; i++) {
+                binders[i] = compile(restrictions.get(i), types);
+            }
+            if (types.size() == first) {
+                return values -> restriction;
+            }
+            CompositeRestriction.Type type = composite.type();
+            boolean negated = composite.isNegated();
+            return values -> new CompositeRestrictionRecord(type, bind(binders, values), negated);
+        } else {
+            return values -> restriction;
+        }
+    }
+
+    private static List<Expression<?, ?>> bind(List<Expression<?, ?>> expressions,
+                                               int[] slots,
+                                               Object[] values) {
+        Expression<?, ?>[] bound = new Expression<?, ?>[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            bound[i] = slots[i] < 0 ? expressions.get(i) : Literal.of(values[slots[i]]);
+        }
+        return Arrays.asList(bound);
+    }
+
+    private static List<Restriction<?>> bind(Binder[] binders, Object[] values) {
+        Restriction<?>[] bound = new Restriction<?>[binders.length];
+        for (int i = 0; i < binders.length; i++) {
+            bound[i] = binders[i].bind(values);
+        }
+        return List.of(bound);
+    }
+
+    /**
+     * Creates a restriction or part of a restriction from the values of
+     * parameters.
+     */
+    @FunctionalInterface
+    private interface Binder {
+        Restriction<?> bind(Object[] values);
+    }
+
+    /**
+     * The operands of a constraint and a function that creates a constraint
+     * of the same type from other operands.
+     *
+     * @param expressions the operands.
+     * @param factory     creates a constraint from operands.
+     */
+    private record Operands(List<Expression<?, ?>> expressions,
+                            Function<List<Expression<?, ?>>, Constraint<?>> factory) {
+    }
+
+    /**
+     * Obtains the operands of constraints.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static class OperandVisitor implements ConstraintVisitor<Operands> {
+        static final OperandVisitor INSTANCE = new OperandVisitor();
+
+        private static Operands none(Constraint<?> constraint) {
+            return new Operands(List.of(), operands -> constraint);
+        }
+
+        @Override
+        public Operands visitAtLeast(AtLeast<?> constraint) {
+            return new Operands(List.of(constraint.bound()),
+                    ops -> AtLeast.min((ComparableExpression) ops.get(0)));
+        }
+
+        @Override
+        public Operands visitAtMost(AtMost<?> constraint) {
+            return new Operands(List.of(constraint.bound()),
+                    ops -> AtMost.max((ComparableExpression) ops.get(0)));
+        }
+
+        @Override
+        public Operands visitBetween(Between<?> constraint) {
+            return new Operands(List.of(constraint.lowerBound(), constraint.upperBound()),
+                    ops -> Between.bounds((ComparableExpression) ops.get(0),
+                                          (ComparableExpression) ops.get(1)));
+        }
+
+        @Override
+        public Operands visitEqualTo(EqualTo<?> constraint) {
+            return new Operands(List.of(constraint.expression()),
+                    ops -> EqualTo.expression((Expression) ops.get(0)));
+        }
+
+        @Override
+        public Operands visitGreaterThan(GreaterThan<?> constraint) {
+            return new Operands(List.of(constraint.bound()),
+                    ops -> GreaterThan.bound((ComparableExpression) ops.get(0)));
+        }
+
+        @Override
+        public Operands visitIn(In<?> constraint) {
+            return constraint.bulkValues().isPresent()
+                    ? none(constraint)
+                    : new Operands((List) constraint.expressions(),
+                                   ops -> In.expressions((List) ops));
+        }
+
+        @Override
+        public Operands visitLessThan(LessThan<?> constraint) {
+            return new Operands(List.of(constraint.bound()),
+                    ops -> LessThan.bound((ComparableExpression) ops.get(0)));
+        }
+
+        @Override
+        public Operands visitLike(Like constraint) {
+            char escape = constraint.escape();
+            return new Operands(List.of(constraint.pattern()),
+                    ops -> Like.pattern((TextExpression<?>) ops.get(0), escape));
+        }
+
+        @Override
+        public Operands visitNotBetween(NotBetween<?> constraint) {
+            return new Operands(List.of(constraint.lowerBound(), constraint.upperBound()),
+                    ops -> NotBetween.bounds((ComparableExpression) ops.get(0),
+                                             (ComparableExpression) ops.get(1)));
+        }
+
+        @Override
+        public Operands visitNotEqualTo(NotEqualTo<?> constraint) {
+            return new Operands(List.of(constraint.expression()),
+                    ops -> NotEqualTo.expression((Expression) ops.get(0)));
+        }
+
+        @Override
+        public Operands visitNotIn(NotIn<?> constraint) {
+            return constraint.bulkValues().isPresent()
+                    ? none(constraint)
+                    : new Operands((List) constraint.expressions(),
+                                   ops -> NotIn.expressions((List) ops));
+        }
+
+        @Override
+        public Operands visitNotLike(NotLike constraint) {
+            char escape = constraint.escape();
+            return new Operands(List.of(constraint.pattern()),
+                    ops -> NotLike.pattern((TextExpression<?>) ops.get(0), escape));
+        }
+
+        @Override
+        public Operands visitNotNull(NotNull<?> constraint) {
+            return none(constraint);
+        }
+
+        @Override
+        public Operands visitNull(Null<?> constraint) {
+            return none(constraint);
+        }
+    }
+}
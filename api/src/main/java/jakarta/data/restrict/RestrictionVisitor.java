@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.constraint.ConstraintVisitor;
+
+/**
+ * <p>Performs an operation on a {@link Restriction} according to the subtype
+ * of the restriction, without inspecting the type of the restriction with
+ * {@code instanceof}. A visitor is applied to a restriction by
+ * {@link Restriction#accept(RestrictionVisitor)}.</p>
+ *
+ * <p>The subtypes of {@code Restriction} are sealed, such that every
+ * restriction is either a {@link BasicRestriction} or a
+ * {@link CompositeRestriction}. A {@link ConstraintVisitor} can be applied to
+ * the {@linkplain BasicRestriction#constraint() constraint} of a basic
+ * restriction in the same way.</p>
+ *
+ * <p>For example, a Jakarta Data provider might count the basic restrictions
+ * within a restriction as follows,</p>
+ *
+ * <pre>
+ * RestrictionVisitor&lt;Integer&gt; counter = new RestrictionVisitor&lt;&gt;() {
+ *     public Integer visitBasic(BasicRestriction&lt;?, ?&gt; basic) {
+ *         return 1;
+ *     }
+ *
+ *     public Integer visitComposite(CompositeRestriction&lt;?&gt; composite) {
+ *         int count = 0;
+ *         for (Restriction&lt;?&gt; r : composite.restrictions()) {
+ *             count += r.accept(this);
+ *         }
+ *         return count;
+ *     }
+ * };
+ * int count = restriction.accept(counter);
+ * </pre>
+ *
+ * @param <R> type of result of the visitor.
+ * @since 1.1
+ */
+public interface RestrictionVisitor<R> {
+
+    /**
+     * Visits a restriction on a single entity attribute or expression.
+     *
+     * @param restriction the restriction.
+     * @return the result of the visitor.
+     */
+    R visitBasic(@Nonnull BasicRestriction<?, ?> restriction);
+
+    /**
+     * Visits a restriction that combines other restrictions.
+     *
+     * @param restriction the restriction.
+     * @return the result of the visitor.
+     */
+    R visitComposite(@Nonnull CompositeRestriction<?> restriction);
+
+    /**
+     * <p>Visits a restriction that is satisfied by the results that follow
+     * the cursor of a {@linkplain KeysetRestriction keyset}.</p>
+     *
+     * <p>A keyset restriction is also a composite restriction. By default,
+     * this method delegates to {@link #visitComposite}. Visitors that
+     * translate a keyset restriction differently, for example, as a row value
+     * comparison, override this method.</p>
+     *
+     * @param restriction the restriction.
+     * @return the result of the visitor.
+     */
+    default R visitKeyset(@Nonnull KeysetRestriction<?> restriction) {
+        return visitComposite(restriction);
+    }
+}
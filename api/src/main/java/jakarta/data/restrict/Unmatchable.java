@@ -20,7 +20,7 @@ package jakarta.data.restrict;
 import java.util.List;
 import jakarta.annotation.Nonnull;
 
-class Unmatchable<T> implements CompositeRestriction<T> {
+final class Unmatchable<T> implements CompositeRestriction<T> {
     static final Unmatchable<?> INSTANCE = new Unmatchable<>();
 
     // prevent instantiation by others
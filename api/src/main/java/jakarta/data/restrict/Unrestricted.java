@@ -20,7 +20,7 @@ package jakarta.data.restrict;
 import java.util.List;
 import jakarta.annotation.Nonnull;
 
-class Unrestricted<T> implements CompositeRestriction<T> {
+final class Unrestricted<T> implements CompositeRestriction<T> {
     static final Unrestricted<?> INSTANCE = new Unrestricted<>();
 
     // prevent instantiation by others
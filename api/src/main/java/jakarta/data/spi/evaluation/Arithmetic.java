@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.data.spi.expression.function.NumericOperatorExpression.Operator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * Arithmetic on numeric values of any of the types that entity attributes
+ * can have, where the result has the wider type of the two operands.
+ */
+// Internal implementation class.
+// The proper way for users to evaluate expressions is via
+// the static ExpressionEvaluator.compile method
+final class Arithmetic {
+
+    // prevent instantiation
+    private Arithmetic() {
+    }
+
+    static Number apply(Operator operator, Number left, Number right) {
+        if (left instanceof BigDecimal || right instanceof BigDecimal
+                || left instanceof BigInteger && isFloatingPoint(right)
+                || right instanceof BigInteger && isFloatingPoint(left)) {
+            BigDecimal l = toBigDecimal(left);
+            BigDecimal r = toBigDecimal(right);
+            return switch (operator) {
+                case PLUS -> l.add(r);
+                case MINUS -> l.subtract(r);
+                case TIMES -> l.multiply(r);
+                case DIVIDE -> l.divide(r, MathContext.DECIMAL128);
+            };
+        } else if (left instanceof BigInteger || right instanceof BigInteger) {
+            BigInteger l = toBigInteger(left);
+            BigInteger r = toBigInteger(right);
+            return switch (operator) {
+                case PLUS -> l.add(r);
+                case MINUS -> l.subtract(r);
+                case TIMES -> l.multiply(r);
+                case DIVIDE -> l.divide(r);
+            };
+        } else if (left instanceof Double || right instanceof Double) {
+            double l = left.doubleValue();
+            double r = right.doubleValue();
+            return switch (operator) {
+                case PLUS -> l + r;
+                case MINUS -> l - r;
+                case TIMES -> l * r;
+                case DIVIDE -> l / r;
+            };
+        } else if (left instanceof Float || right instanceof Float) {
+            float l = left.floatValue();
+            float r = right.floatValue();
+            return switch (operator) {
+                case PLUS -> l + r;
+                case MINUS -> l - r;
+                case TIMES -> l * r;
+                case DIVIDE -> l / r;
+            };
+        } else if (left instanceof Long || right instanceof Long) {
+            long l = left.longValue();
+            long r = right.longValue();
+            return switch (operator) {
+                case PLUS -> l + r;
+                case MINUS -> l - r;
+                case TIMES -> l * r;
+                case DIVIDE -> l / r;
+            };
+        } else {
+            int l = left.intValue();
+            int r = right.intValue();
+            return switch (operator) {
+                case PLUS -> l + r;
+                case MINUS -> l - r;
+                case TIMES -> l * r;
+                case DIVIDE -> l / r;
+            };
+        }
+    }
+
+    static Number abs(Number value) {
+        if (value instanceof Integer i) {
+            return Math.abs(i);
+        } else if (value instanceof Long l) {
+            return Math.abs(l);
+        } else if (value instanceof Double d) {
+            return Math.abs(d);
+        } else if (value instanceof Float f) {
+            return Math.abs(f);
+        } else if (value instanceof BigDecimal d) {
+            return d.abs();
+        } else if (value instanceof BigInteger i) {
+            return i.abs();
+        } else {
+            return convert(Math.abs(value.intValue()), value.getClass());
+        }
+    }
+
+    static Number negate(Number value) {
+        if (value instanceof Integer i) {
+            return -i;
+        } else if (value instanceof Long l) {
+            return -l;
+        } else if (value instanceof Double d) {
+            return -d;
+        } else if (value instanceof Float f) {
+            return -f;
+        } else if (value instanceof BigDecimal d) {
+            return d.negate();
+        } else if (value instanceof BigInteger i) {
+            return i.negate();
+        } else {
+            return convert(-value.intValue(), value.getClass());
+        }
+    }
+
+    /**
+     * Compares numeric values, which can be of different types, by their
+     * numeric value.
+     */
+    static int compare(Number left, Number right) {
+        if (left.getClass() == right.getClass() && left instanceof Comparable) {
+            @SuppressWarnings("unchecked")
+            Comparable<Object> l = (Comparable<Object>) left;
+            return l.compareTo(right);
+        } else if ((isFloatingPoint(left) || isFloatingPoint(right))
+                && !(left instanceof BigDecimal || right instanceof BigDecimal)) {
+            return Double.compare(left.doubleValue(), right.doubleValue());
+        } else {
+            return toBigDecimal(left).compareTo(toBigDecimal(right));
+        }
+    }
+
+    /**
+     * Converts a numeric value to the given type, as a numeric cast does.
+     */
+    static Number convert(Number value, Class<?> type) {
+        if (type.isInstance(value)) {
+            return value;
+        } else if (type == Integer.class) {
+            return value.intValue();
+        } else if (type == Long.class) {
+            return value.longValue();
+        } else if (type == Double.class) {
+            return value.doubleValue();
+        } else if (type == Float.class) {
+            return value.floatValue();
+        } else if (type == Short.class) {
+            return value.shortValue();
+        } else if (type == Byte.class) {
+            return value.byteValue();
+        } else if (type == BigDecimal.class) {
+            return toBigDecimal(value);
+        } else if (type == BigInteger.class) {
+            return toBigInteger(value);
+        } else {
+            return value;
+        }
+    }
+
+    private static boolean isFloatingPoint(Number value) {
+        return value instanceof Double || value instanceof Float;
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal d) {
+            return d;
+        } else if (value instanceof BigInteger i) {
+            return new BigDecimal(i);
+        } else if (isFloatingPoint(value)) {
+            return BigDecimal.valueOf(value.doubleValue());
+        } else {
+            return BigDecimal.valueOf(value.longValue());
+        }
+    }
+
+    private static BigInteger toBigInteger(Number value) {
+        if (value instanceof BigInteger i) {
+            return i;
+        } else if (value instanceof BigDecimal d) {
+            return d.toBigInteger();
+        } else {
+            return BigInteger.valueOf(value.longValue());
+        }
+    }
+}
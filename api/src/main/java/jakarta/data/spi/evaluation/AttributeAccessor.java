@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * <p>Reads the values of entity attributes from instances of entities and
+ * embeddables, for the evaluation of expressions in memory rather than by a
+ * database.</p>
+ *
+ * <p>A reader is obtained once per attribute, when an expression or sort
+ * criteria are {@linkplain ExpressionEvaluator#compile compiled}, and is
+ * then applied to each instance. Implementations should therefore do any
+ * lookup work in {@link #reader(Class, String)} rather than in the function
+ * that it returns.</p>
+ *
+ * <p>A Jakarta Data provider that maintains its own representation of
+ * entities, such as a provider for a key-value or column store, can supply
+ * an implementation that reads from that representation. Otherwise, the
+ * {@link #reflective()} accessor reads attributes from Java objects, and the
+ * {@link #ofMap()} accessor reads attributes from instances of {@link Map}.
+ * </p>
+ *
+ * @since 1.1
+ */
+@FunctionalInterface
+public interface AttributeAccessor {
+
+    /**
+     * <p>Obtains a function that reads the value of an attribute from an
+     * instance of the given type. The function is never supplied a
+     * {@code null} instance.</p>
+     *
+     * @param type          the entity or embeddable class that declares the
+     *                      attribute, or {@code Object.class} if the class
+     *                      is not known, in which case the attribute is
+     *                      read from whatever instance is supplied.
+     * @param attributeName name of the attribute, which is never a path of
+     *                      multiple attribute names.
+     * @return a function that reads the value of the attribute.
+     * @throws IllegalArgumentException if the type does not have the
+     *                                  attribute.
+     */
+    @Nonnull
+    Function<Object, Object> reader(@Nonnull Class<?> type,
+                                    @Nonnull String attributeName);
+
+    /**
+     * <p>Returns an accessor that reads attributes from instances of
+     * {@link Map}, where the attribute name is the key. The value of an
+     * attribute that is absent from a map is {@code null}.</p>
+     *
+     * @return the accessor.
+     */
+    @Nonnull
+    static AttributeAccessor ofMap() {
+        return (type, attributeName) ->
+                instance -> ((Map<?, ?>) instance).get(attributeName);
+    }
+
+    /**
+     * <p>Returns an accessor that reads attributes from Java objects. The
+     * value of an attribute is read from the first of the following that the
+     * class has:</p>
+     * <ul>
+     * <li>the accessor method of a record component with the name of the
+     *     attribute,</li>
+     * <li>a public method without parameters that is named
+     *     {@code get} or {@code is} followed by the name of the attribute
+     *     with its first letter capitalized,</li>
+     * <li>a field with the name of the attribute, which is declared by the
+     *     class or a superclass.</li>
+     * </ul>
+     *
+     * <p>Methods and fields that are not public are only accessible if the
+     * package of the class is open to the {@code jakarta.data} module.
+     * The methods and fields are looked up once per class and attribute.</p>
+     *
+     * @return the accessor.
+     */
+    @Nonnull
+    static AttributeAccessor reflective() {
+        return ReflectiveAttributeAccessor.INSTANCE;
+    }
+}
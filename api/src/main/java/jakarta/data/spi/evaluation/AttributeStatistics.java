@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.messages.Messages;
+
+import java.util.List;
+
+/**
+ * <p>Statistics about the values of an entity attribute, from which the
+ * {@linkplain RestrictionPlanner planner} estimates the fraction of entities
+ * that satisfy a restriction on the attribute.</p>
+ *
+ * <p>The histogram is a list of bounds, in ascending order, that divide the
+ * values that are not {@code null} into buckets that each hold the same
+ * number of values. For example, the bounds {@code 0, 100, 250, 1000}
+ * indicate that a third of the values are between {@code 0} and
+ * {@code 100}, a third are between {@code 100} and {@code 250}, and a third
+ * are between {@code 250} and {@code 1000}. The bounds must be mutually
+ * comparable. A histogram with fewer than 2 bounds is not used.</p>
+ *
+ * @param distinctValues number of distinct values that are not
+ *                       {@code null}, or {@code 0} if unknown.
+ * @param nullFraction   fraction of entities for which the attribute is
+ *                       {@code null}, from {@code 0.0} to {@code 1.0}.
+ * @param histogram      bounds of buckets of equal numbers of values, in
+ *                       ascending order, which can be empty.
+ * @since 1.1
+ */
+public record AttributeStatistics(long distinctValues,
+                                  double nullFraction,
+                                  @Nonnull List<? extends Comparable<?>> histogram) {
+
+    /**
+     * Validates the components and copies the histogram.
+     *
+     * @throws IllegalArgumentException if the number of distinct values is
+     *                                  negative or the null fraction is not
+     *                                  between 0 and 1.
+     * @throws NullPointerException     if the histogram or any bound within
+     *                                  it is {@code null}.
+     */
+    public AttributeStatistics {
+        Messages.requireNonNull(histogram, "histogram");
+        if (distinctValues < 0) {
+            throw new IllegalArgumentException(
+                    Messages.get("004.arg.negative", "distinctValues"));
+        }
+        if (!(nullFraction >= 0.0 && nullFraction <= 1.0)) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "nullFraction", nullFraction));
+        }
+        histogram = List.copyOf(histogram);
+    }
+
+    /**
+     * <p>Statistics without a histogram.</p>
+     *
+     * @param distinctValues number of distinct values that are not
+     *                       {@code null}, or {@code 0} if unknown.
+     * @param nullFraction   fraction of entities for which the attribute is
+     *                       {@code null}, from {@code 0.0} to {@code 1.0}.
+     * @return the statistics.
+     * @throws IllegalArgumentException if the number of distinct values is
+     *                                  negative or the null fraction is not
+     *                                  between 0 and 1.
+     */
+    @Nonnull
+    public static AttributeStatistics of(long distinctValues, double nullFraction) {
+        return new AttributeStatistics(distinctValues, nullFraction, List.of());
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.expression.Expression;
+import jakarta.data.expression.ExpressionVisitor;
+import jakarta.data.expression.NavigableExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.metamodel.Attribute;
+import jakarta.data.metamodel.BasicAttribute;
+import jakarta.data.spi.expression.function.CurrentDate;
+import jakarta.data.spi.expression.function.CurrentDateTime;
+import jakarta.data.spi.expression.function.CurrentTime;
+import jakarta.data.spi.expression.function.FunctionExpression;
+import jakarta.data.spi.expression.function.NumericCast;
+import jakarta.data.spi.expression.function.NumericFunctionExpression;
+import jakarta.data.spi.expression.function.NumericOperatorExpression;
+import jakarta.data.spi.expression.function.TextFunctionExpression;
+import jakarta.data.spi.expression.literal.Literal;
+import jakarta.data.spi.expression.path.Path;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * <p>Compiles {@linkplain Expression expressions} into functions that
+ * evaluate them in memory against instances of an entity, reading entity
+ * attributes through an {@link AttributeAccessor}. This allows a Jakarta Data
+ * provider for a data store that lacks the capability to evaluate an
+ * expression, or a layer that caches entities, to apply the same sort
+ * criteria and restrictions to entities in memory.</p>
+ *
+ * <p>An expression is compiled once, which obtains the readers for the
+ * attributes that it involves, after which the function can be applied to
+ * any number of entities without any further lookup. The following
+ * expressions can be compiled:</p>
+ * <ul>
+ * <li>entity attributes and paths that navigate to attributes of embeddables
+ *     or related entities,</li>
+ * <li>literals,</li>
+ * <li>the {@linkplain TextFunctionExpression text functions} {@code CONCAT},
+ *     {@code LEFT}, {@code LOWER}, {@code RIGHT}, and {@code UPPER},</li>
+ * <li>the {@linkplain NumericFunctionExpression numeric functions}
+ *     {@code ABS}, {@code LENGTH}, and negation,</li>
+ * <li>{@linkplain NumericOperatorExpression arithmetic operators} and
+ *     {@linkplain NumericCast numeric casts}, and</li>
+ * <li>the current date, time, and date and time, which are obtained from
+ *     the system clock each time the function is applied.</li>
+ * </ul>
+ *
+ * <p>As in query language, the value of an expression is {@code null} if the
+ * value of one of its arguments is {@code null}, or if a path navigates
+ * through a {@code null} value.</p>
+ *
+ * @since 1.1
+ */
+public class ExpressionEvaluator {
+
+    // prevent instantiation
+    private ExpressionEvaluator() {
+    }
+
+    /**
+     * <p>Compiles an expression into a function that evaluates it against an
+     * entity.</p>
+     *
+     * @param <T>        entity type.
+     * @param expression the expression.
+     * @param accessor   reads entity attributes.
+     * @return a function that evaluates the expression against an entity,
+     *         which must not be {@code null}.
+     * @throws IllegalArgumentException      if the accessor cannot read an
+     *                                       attribute of the expression.
+     * @throws NullPointerException          if either argument is
+     *                                       {@code null}.
+     * @throws UnsupportedOperationException if the expression, or an
+     *                                       expression within it, cannot
+     *                                       be evaluated in memory.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <T> Function<T, Object> compile(
+            @Nonnull Expression<? super T, ?> expression,
+            @Nonnull AttributeAccessor accessor) {
+        Messages.requireNonNull(expression, "expression");
+        Messages.requireNonNull(accessor, "accessor");
+
+        return (Function<T, Object>) evaluator(expression, accessor);
+    }
+
+    /**
+     * <p>Compiles the name of an entity attribute into a function that reads
+     * the attribute from an entity. The name can be a path that navigates to
+     * an attribute of an embeddable or related entity, with the names of the
+     * attributes along the path delimited by {@code .} characters.</p>
+     *
+     * @param <T>           entity type.
+     * @param attributeName name of the attribute.
+     * @param accessor      reads entity attributes.
+     * @return a function that reads the attribute from an entity, which must
+     *         not be {@code null}.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <T> Function<T, Object> compile(
+            @Nonnull String attributeName,
+            @Nonnull AttributeAccessor accessor) {
+        Messages.requireNonNull(attributeName, "attributeName");
+        Messages.requireNonNull(accessor, "accessor");
+
+        Function<Object, Object> reader = null;
+        int start = 0;
+        int end;
+        do {
+            end = attributeName.indexOf('.', start);
+            String name = end < 0
+                    ? attributeName.substring(start)
+                    : attributeName.substring(start, end);
+            reader = navigate(reader, accessor.reader(Object.class, name));
+            start = end + 1;
+        } while (end >= 0);
+        return (Function<T, Object>) reader;
+    }
+
+    /**
+     * Chains a reader for an attribute after the evaluation of an expression.
+     *
+     * @param from   evaluates the expression, or {@code null} to apply the
+     *               reader to the entity.
+     * @param reader reads the attribute from the value of the expression.
+     * @return the chained function.
+     */
+    private static Function<Object, Object> navigate(Function<Object, Object> from,
+                                                     Function<Object, Object> reader) {
+        if (from == null) {
+            return reader;
+        }
+        return entity -> {
+            Object value = from.apply(entity);
+            return value == null ? null : reader.apply(value);
+        };
+    }
+
+    /**
+     * Compiles an expression of any entity type.
+     */
+    static Function<Object, Object> evaluator(Expression<?, ?> expression,
+                                              AttributeAccessor accessor) {
+        return expression.accept(new Evaluator(accessor));
+    }
+
+    private static Function<Object, Object> path(Path<?, ?> path,
+                                                 AttributeAccessor accessor) {
+        NavigableExpression<?, ?> parent = path.expression();
+        Function<Object, Object> from;
+        if (parent instanceof Path<?, ?> parentPath) {
+            from = path(parentPath, accessor);
+        } else if (parent instanceof Attribute<?> attribute) {
+            from = accessor.reader(declaringType(attribute), attribute.name());
+        } else {
+            throw new UnsupportedOperationException(
+                    Messages.get("021.expr.unevaluable", path));
+        }
+        return navigate(from, accessor.reader(targetType(parent), path.attribute().name()));
+    }
+
+    private static Function<Object, Object> function(FunctionExpression<?, ?> function,
+                                                     AttributeAccessor accessor) {
+        List<Function<Object, Object>> args = new ArrayList<>(function.arguments().size());
+        for (Expression<?, ?> argument : function.arguments()) {
+            args.add(evaluator(argument, accessor));
+        }
+        Function<Object, Object> first = args.get(0);
+        Function<Object, Object> second = args.size() > 1 ? args.get(1) : null;
+
+        switch (function.name()) {
+            case TextFunctionExpression.UPPER:
+                return text(first, s -> s.toUpperCase(Locale.ROOT));
+            case TextFunctionExpression.LOWER:
+                return text(first, s -> s.toLowerCase(Locale.ROOT));
+            case NumericFunctionExpression.LENGTH:
+                return text(first, String::length);
+            case NumericFunctionExpression.ABS:
+                return number(first, Arithmetic::abs);
+            case NumericFunctionExpression.NEG:
+                return number(first, Arithmetic::negate);
+            case TextFunctionExpression.CONCAT:
+                return binary(first, second, (l, r) -> (String) l + r);
+            case TextFunctionExpression.LEFT:
+                return binary(first, second, (l, r) -> {
+                    String s = (String) l;
+                    return s.substring(0, Math.min(s.length(), ((Number) r).intValue()));
+                });
+            case TextFunctionExpression.RIGHT:
+                return binary(first, second, (l, r) -> {
+                    String s = (String) l;
+                    return s.substring(Math.max(0, s.length() - ((Number) r).intValue()));
+                });
+            default:
+                throw new UnsupportedOperationException(
+                        Messages.get("021.expr.unevaluable", function));
+        }
+    }
+
+    private static Function<Object, Object> text(Function<Object, Object> argument,
+                                                 Function<String, Object> operation) {
+        return entity -> {
+            Object value = argument.apply(entity);
+            return value == null ? null : operation.apply((String) value);
+        };
+    }
+
+    private static Function<Object, Object> number(Function<Object, Object> argument,
+                                                   Function<Number, Object> operation) {
+        return entity -> {
+            Object value = argument.apply(entity);
+            return value == null ? null : operation.apply((Number) value);
+        };
+    }
+
+    private static Function<Object, Object> binary(Function<Object, Object> left,
+                                                   Function<Object, Object> right,
+                                                   BinaryOperator<Object> operation) {
+        return entity -> {
+            Object l = left.apply(entity);
+            Object r = l == null ? null : right.apply(entity);
+            return r == null ? null : operation.apply(l, r);
+        };
+    }
+
+    /**
+     * Compiles expressions into functions that evaluate them.
+     */
+    private static class Evaluator implements ExpressionVisitor<Function<Object, Object>> {
+        private final AttributeAccessor accessor;
+
+        Evaluator(AttributeAccessor accessor) {
+            this.accessor = accessor;
+        }
+
+        @Override
+        public Function<Object, Object> visitAttribute(BasicAttribute<?, ?> attribute) {
+            return accessor.reader(declaringType(attribute), attribute.name());
+        }
+
+        @Override
+        public Function<Object, Object> visitPath(Path<?, ?> path) {
+            return path(path, accessor);
+        }
+
+        @Override
+        public Function<Object, Object> visitLiteral(Literal<?> literal) {
+            Object value = literal.value();
+            return entity -> value;
+        }
+
+        @Override
+        public Function<Object, Object> visitFunction(FunctionExpression<?, ?> function) {
+            return function(function, accessor);
+        }
+
+        @Override
+        public Function<Object, Object> visitNumericOperator(NumericOperatorExpression<?, ?> operation) {
+            Function<Object, Object> left = operation.left().accept(this);
+            Function<Object, Object> right = operation.right().accept(this);
+            NumericOperatorExpression.Operator operator = operation.operator();
+            return entity -> {
+                Object l = left.apply(entity);
+                Object r = l == null ? null : right.apply(entity);
+                return r == null ? null : Arithmetic.apply(operator, (Number) l, (Number) r);
+            };
+        }
+
+        @Override
+        public Function<Object, Object> visitNumericCast(NumericCast<?, ?> cast) {
+            Function<Object, Object> value = cast.expression().accept(this);
+            Class<?> type = cast.type();
+            return entity -> {
+                Object v = value.apply(entity);
+                return v == null ? null : Arithmetic.convert((Number) v, type);
+            };
+        }
+
+        @Override
+        public Function<Object, Object> visitCurrentDate(CurrentDate<?> currentDate) {
+            return entity -> LocalDate.now();
+        }
+
+        @Override
+        public Function<Object, Object> visitCurrentDateTime(CurrentDateTime<?> currentDateTime) {
+            return entity -> LocalDateTime.now();
+        }
+
+        @Override
+        public Function<Object, Object> visitCurrentTime(CurrentTime<?> currentTime) {
+            return entity -> LocalTime.now();
+        }
+
+        @Override
+        public Function<Object, Object> visitOther(Expression<?, ?> expression) {
+            throw new UnsupportedOperationException(
+                    Messages.get("021.expr.unevaluable", expression));
+        }
+    }
+
+    /**
+     * The class that declares an attribute, or {@code Object.class} if the
+     * attribute was obtained in a way that does not identify the class.
+     */
+    private static Class<?> declaringType(Attribute<?> attribute) {
+        try {
+            return attribute.declaringType();
+        } catch (UnsupportedOperationException x) {
+            return Object.class;
+        }
+    }
+
+    /**
+     * The class of the value of an expression that navigates to an embeddable
+     * or related entity, or {@code Object.class} if not known.
+     */
+    private static Class<?> targetType(NavigableExpression<?, ?> expression) {
+        Attribute<?> attribute;
+        if (expression instanceof Path<?, ?> path) {
+            attribute = path.attribute();
+        } else if (expression instanceof Attribute<?> a) {
+            attribute = a;
+        } else {
+            return Object.class;
+        }
+        try {
+            return attribute.type();
+        } catch (UnsupportedOperationException x) {
+            return Object.class;
+        }
+    }
+}
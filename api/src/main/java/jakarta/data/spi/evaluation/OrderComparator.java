@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.messages.Messages;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * <p>Compares entities in memory according to the sort criteria of an
+ * {@link Order}, reading the sort keys of entities through an
+ * {@link AttributeAccessor}. This allows a Jakarta Data provider for a data
+ * store that lacks the capability to sort by an expression, or a layer that
+ * caches or merges results, to order entities in the same manner as the data
+ * store.</p>
+ *
+ * <p>The sort criteria are compiled once, when the comparator is
+ * {@linkplain #of(Order, AttributeAccessor) obtained}, into a function per
+ * {@link Sort} that obtains the sort key from an entity, together with the
+ * direction, case sensitivity, and placement of {@code null} values of the
+ * sort. Comparisons do not interpret the sort criteria or look up entity
+ * attributes. Compiling is not free, so callers that order entities for the
+ * same sort criteria repeatedly should retain the comparator.</p>
+ *
+ * <p>Sort keys that {@linkplain Sort#ignoreCase() ignore case} are compared
+ * by their upper case form, which is obtained for the whole text with
+ * {@link String#toUpperCase(Locale) toUpperCase(Locale.ROOT)}, in the same
+ * way that the {@code UPPER} of text is evaluated in memory, so that the
+ * order agrees with {@link jakarta.data.restrict.KeysetRestriction keyset
+ * restrictions}. When a whole list is {@linkplain #sort(List) sorted}, the
+ * sort keys of each entity are obtained and case folded once, before
+ * sorting, rather than once per comparison.</p>
+ *
+ * <p>A {@code null} sort key is ordered according to
+ * {@link Sort#nullOrdering()}. When the ordering of {@code null} values is
+ * {@link Sort.Nulls#UNSPECIFIED unspecified}, a {@code null} value is
+ * ordered as if it were larger than any other value.</p>
+ *
+ * @param <T> entity type.
+ * @since 1.1
+ */
+public final class OrderComparator<T> implements Comparator<T> {
+
+    private final boolean[] ascending;
+
+    private final boolean[] ignoreCase;
+
+    private final Function<T, Object>[] keys;
+
+    private final boolean[] nullsFirst;
+
+    @SuppressWarnings("unchecked")
+    private OrderComparator(List<Sort<? super T>> sorts, AttributeAccessor accessor) {
+        int count = sorts.size();
+        this.ascending = new boolean[count];
+        this.ignoreCase = new boolean[count];
+        this.keys = (Function<T, Object>[]) new Function<?, ?>[count];
+        this.nullsFirst = new boolean[count];
+
+        for (int i = 0; i < count; i++) {
+            Sort<? super T> sort = sorts.get(i);
+            ascending[i] = sort.isAscending();
+            ignoreCase[i] = sort.ignoreCase();
+            keys[i] = sort.expression() == null
+                    ? ExpressionEvaluator.compile(sort.property(), accessor)
+                    : ExpressionEvaluator.compile(sort.expression(), accessor);
+            nullsFirst[i] = switch (sort.nullOrdering()) {
+                case FIRST -> true;
+                case LAST -> false;
+                case UNSPECIFIED -> !sort.isAscending();
+            };
+        }
+    }
+
+    /**
+     * <p>Compiles the sort criteria of an {@code Order} into a comparator
+     * that reads the sort keys of entities through the given accessor.</p>
+     *
+     * @param <T>      entity type.
+     * @param order    the sort criteria.
+     * @param accessor reads entity attributes.
+     * @return a comparator for entities. This method never returns
+     *         {@code null}.
+     * @throws IllegalArgumentException      if the accessor cannot read an
+     *                                       entity attribute of the sort
+     *                                       criteria.
+     * @throws NullPointerException          if either argument is
+     *                                       {@code null}.
+     * @throws UnsupportedOperationException if the expression of a sort
+     *                                       cannot be evaluated in memory.
+     */
+    @Nonnull
+    public static <T> OrderComparator<T> of(@Nonnull Order<T> order,
+                                            @Nonnull AttributeAccessor accessor) {
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(accessor, "accessor");
+
+        return new OrderComparator<>(order.sorts(), accessor);
+    }
+
+    /**
+     * <p>Returns a collector that sorts entities with this comparator and
+     * retains only the entities that fall within the given limit. The
+     * collector retains no more than
+     * {@code limit.startAt() + limit.maxResults() - 1} entities at a time.
+     * See {@link Limit#collector(Comparator)}.</p>
+     *
+     * @param limit the limit to apply.
+     * @return a collector that produces an unmodifiable list of the entities
+     *         within the limit, in sorted order.
+     * @throws NullPointerException if the limit is {@code null}.
+     */
+    @Nonnull
+    public Collector<T, ?, List<T>> collector(@Nonnull Limit limit) {
+        Messages.requireNonNull(limit, "limit");
+        return limit.collector(this);
+    }
+
+    @Override
+    public int compare(T entity1, T entity2) {
+        for (int i = 0; i < keys.length; i++) {
+            int comparison = compare(i,
+                                     keys[i].apply(entity1),
+                                     keys[i].apply(entity2),
+                                     ignoreCase[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compares the sort keys of two entities for the sort at the given
+     * position.
+     *
+     * @param i          position of the sort.
+     * @param key1       sort key of the first entity.
+     * @param key2       sort key of the second entity.
+     * @param ignoreCase whether to compare text without regard to case.
+     *                   This is {@code false} for keys that are already
+     *                   case folded.
+     * @return negative, zero, or positive as the first entity is ordered
+     *         before, with, or after the second entity.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private int compare(int i, Object key1, Object key2, boolean ignoreCase) {
+        if (key1 == key2) {
+            return 0;
+        } else if (key1 == null) {
+            return nullsFirst[i] ? -1 : 1;
+        } else if (key2 == null) {
+            return nullsFirst[i] ? 1 : -1;
+        }
+
+        int comparison = ignoreCase && key1 instanceof String s1 && key2 instanceof String s2
+                ? fold(s1).compareTo(fold(s2))
+                : ((Comparable) key1).compareTo(key2);
+        return ascending[i] ? comparison : -Integer.signum(comparison);
+    }
+
+    /**
+     * <p>Sorts a list of entities in the order of this comparator. This
+     * produces the same order as sorting the list with this comparator, but
+     * reads the sort keys of each entity, and case folds those that ignore
+     * case, only once rather than once per comparison. The sort is
+     * stable.</p>
+     *
+     * @param list modifiable list of entities to sort.
+     * @throws IllegalArgumentException      if the accessor cannot read an
+     *                                       entity attribute of the sort
+     *                                       criteria.
+     * @throws NullPointerException          if the list is {@code null}.
+     * @throws UnsupportedOperationException if the list is unmodifiable.
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(@Nonnull List<T> list) {
+        Messages.requireNonNull(list, "list");
+
+        Keyed<T>[] entries = (Keyed<T>[]) new Keyed<?>[list.size()];
+        int index = 0;
+        for (T entity : list) {
+            entries[index++] = keyed(entity);
+        }
+
+        Arrays.sort(entries, this::compareKeys);
+
+        ListIterator<T> it = list.listIterator();
+        for (Keyed<T> entry : entries) {
+            it.next();
+            it.set(entry.entity());
+        }
+    }
+
+    private int compareKeys(Keyed<T> entry1, Keyed<T> entry2) {
+        Object[] keys1 = entry1.keys();
+        Object[] keys2 = entry2.keys();
+        for (int i = 0; i < keys1.length; i++) {
+            int comparison = compare(i, keys1[i], keys2[i], false);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Case folds text to its upper case form, as the {@code UPPER} of text
+     * is evaluated in memory.
+     */
+    private static String fold(String text) {
+        return text.toUpperCase(Locale.ROOT);
+    }
+
+    private Keyed<T> keyed(T entity) {
+        Object[] values = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            Object value = keys[i].apply(entity);
+            values[i] = ignoreCase[i] && value instanceof String s
+                    ? fold(s)
+                    : value;
+        }
+        return new Keyed<>(values, entity);
+    }
+
+    /**
+     * An entity with its precomputed sort keys.
+     *
+     * @param keys   sort keys, in order of precedence of the sorts.
+     * @param entity the entity.
+     */
+    private record Keyed<T>(Object[] keys, T entity) {
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.exceptions.DataException;
+import jakarta.data.messages.Messages;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Internal implementation class.
+// The proper way for users to obtain the instance is via
+// the static AttributeAccessor.reflective method
+class ReflectiveAttributeAccessor implements AttributeAccessor {
+
+    static final ReflectiveAttributeAccessor INSTANCE = new ReflectiveAttributeAccessor();
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType READER_TYPE =
+            MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Readers for the attributes of each class, by attribute name.
+     */
+    private final ClassValue<Map<String, Function<Object, Object>>> readers =
+            new ClassValue<>() {
+                @Override
+                protected Map<String, Function<Object, Object>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    // prevent instantiation by others
+    private ReflectiveAttributeAccessor() {
+    }
+
+    @Override
+    @Nonnull
+    public Function<Object, Object> reader(@Nonnull Class<?> type,
+                                           @Nonnull String attributeName) {
+        Messages.requireNonNull(type, "type");
+        Messages.requireNonNull(attributeName, "attributeName");
+
+        if (Object.class.equals(type)) {
+            // look up the attribute on the class of each instance
+            return instance ->
+                    readerOf(instance.getClass(), attributeName).apply(instance);
+        } else {
+            return readerOf(type, attributeName);
+        }
+    }
+
+    private Function<Object, Object> readerOf(Class<?> type, String attributeName) {
+        return readers.get(type).computeIfAbsent(attributeName,
+                                                 name -> find(type, name));
+    }
+
+    /**
+     * Finds the record component accessor, getter method, or field from which
+     * to read an attribute.
+     */
+    static Function<Object, Object> find(Class<?> type, String attributeName) {
+        AccessibleObject member = member(type, attributeName);
+        if (member == null) {
+            throw new IllegalArgumentException(Messages.get(
+                    "020.attr.unreadable", attributeName, type.getName()));
+        }
+
+        MethodHandle handle;
+        member.trySetAccessible();
+        try {
+            handle = member instanceof Method method
+                    ? LOOKUP.unreflect(method)
+                    : LOOKUP.unreflectGetter((Field) member);
+        } catch (IllegalAccessException x) {
+            throw new IllegalArgumentException(Messages.get(
+                    "020.attr.unreadable", attributeName, type.getName()), x);
+        }
+
+        MethodHandle reader = handle.asType(READER_TYPE);
+        return instance -> read(reader, instance);
+    }
+
+    private static AccessibleObject member(Class<?> type, String attributeName) {
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                if (component.getName().equals(attributeName)) {
+                    return component.getAccessor();
+                }
+            }
+        }
+
+        String suffix = Character.toUpperCase(attributeName.charAt(0)) +
+                attributeName.substring(1);
+        String getter = "get" + suffix;
+        String booleanGetter = "is" + suffix;
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() == 0
+                    && !void.class.equals(method.getReturnType())
+                    && (getter.equals(method.getName())
+                            || booleanGetter.equals(method.getName()))) {
+                return method;
+            }
+        }
+
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.getName().equals(attributeName)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Object read(MethodHandle reader, Object instance) {
+        try {
+            return reader.invokeExact(instance);
+        } catch (RuntimeException | Error x) {
+            throw x;
+        } catch (Throwable x) {
+            throw new DataException(x);
+        }
+    }
+}
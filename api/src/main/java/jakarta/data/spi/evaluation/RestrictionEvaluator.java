@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.BulkValues;
+import jakarta.data.constraint.ConstraintVisitor;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.LikePattern;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.expression.Expression;
+import jakarta.data.expression.TextExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.CompositeRestriction;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.restrict.RestrictionVisitor;
+import jakarta.data.spi.expression.literal.Literal;
+
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <p>Compiles {@linkplain Restriction restrictions} into predicates that
+ * test entities in memory, reading entity attributes through an
+ * {@link AttributeAccessor}. This allows entities that are already in
+ * memory, such as entities in a cache or entities of lifecycle events, to be
+ * filtered by the same restrictions that a repository applies to a query,
+ * and allows a Jakarta Data provider to apply restrictions that its data
+ * store is not capable of.</p>
+ *
+ * <p>A restriction is compiled once, which compiles the expressions of its
+ * basic restrictions and constraints with the {@link ExpressionEvaluator}
+ * and compiles patterns of {@link Like} constraints that are literals, after
+ * which the predicate can be applied to any number of entities without
+ * interpreting the restriction again. The following restrictions can be
+ * compiled:</p>
+ * <ul>
+ * <li>{@linkplain CompositeRestriction composite restrictions}, including
+ *     negated composite restrictions, and</li>
+ * <li>{@linkplain BasicRestriction basic restrictions} with any of the
+ *     constraints of the {@code jakarta.data.constraint} package, on any
+ *     expression that the {@code ExpressionEvaluator} can compile.</li>
+ * </ul>
+ *
+ * <p>Restrictions are evaluated with the three-valued logic of query
+ * language. A constraint that compares a {@code null} value is neither
+ * satisfied nor unsatisfied, and neither is its negation, and an entity
+ * satisfies the predicate only if it satisfies the restriction. For
+ * example, an entity with a {@code null} price satisfies neither
+ * {@code _Product.price.greaterThan(10)} nor the negation of that
+ * restriction.</p>
+ *
+ * <p>Numeric values of different types are compared by their numeric
+ * value. Other values are compared with their natural ordering.</p>
+ *
+ * @since 1.1
+ */
+public class RestrictionEvaluator {
+
+    // prevent instantiation
+    private RestrictionEvaluator() {
+    }
+
+    /**
+     * <p>Compiles a restriction into a predicate that determines whether an
+     * entity satisfies the restriction.</p>
+     *
+     * @param <T>         entity type.
+     * @param restriction the restriction.
+     * @param accessor    reads entity attributes.
+     * @return a predicate that tests an entity, which must not be
+     *         {@code null}.
+     * @throws IllegalArgumentException      if the accessor cannot read an
+     *                                       attribute of the restriction.
+     * @throws NullPointerException          if either argument is
+     *                                       {@code null}.
+     * @throws UnsupportedOperationException if the restriction, or an
+     *                                       expression within it, cannot
+     *                                       be evaluated in memory.
+     */
+    @Nonnull
+    public static <T> Predicate<T> compile(
+            @Nonnull Restriction<? super T> restriction,
+            @Nonnull AttributeAccessor accessor) {
+        Messages.requireNonNull(restriction, "restriction");
+        Messages.requireNonNull(accessor, "accessor");
+
+        Condition condition = restriction.accept(new Compiler(accessor));
+        return entity -> condition.evaluate(entity) == Truth.TRUE;
+    }
+
+    private static Condition between(Function<Object, Object> value,
+                                     Function<Object, Object> lower,
+                                     Function<Object, Object> upper) {
+        return entity -> {
+            Object v = value.apply(entity);
+            if (v == null) {
+                return Truth.UNKNOWN;
+            }
+            Object l = lower.apply(entity);
+            Object u = upper.apply(entity);
+            Truth aboveLower = l == null ? Truth.UNKNOWN : Truth.of(compare(v, l) >= 0);
+            Truth belowUpper = u == null ? Truth.UNKNOWN : Truth.of(compare(v, u) <= 0);
+            return aboveLower.and(belowUpper);
+        };
+    }
+
+    private static Condition compare(Function<Object, Object> value,
+                                     Function<Object, Object> operand,
+                                     BiPredicate<Object, Object> comparison) {
+        return entity -> {
+            Object v = value.apply(entity);
+            Object o = v == null ? null : operand.apply(entity);
+            return o == null ? Truth.UNKNOWN : Truth.of(comparison.test(v, o));
+        };
+    }
+
+    /**
+     * Compares non-{@code null} values, where numeric values of different
+     * types are compared by their numeric value.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static int compare(Object value, Object other) {
+        if (value instanceof Number n1 && other instanceof Number n2) {
+            return Arithmetic.compare(n1, n2);
+        }
+        return ((Comparable) value).compareTo(other);
+    }
+
+    /**
+     * Determines whether non-{@code null} values are equal, where numeric
+     * values are equal if their numeric value is the same.
+     */
+    static boolean equal(Object value, Object other) {
+        if (value instanceof Number n1 && other instanceof Number n2) {
+            return Arithmetic.compare(n1, n2) == 0;
+        }
+        return value.equals(other);
+    }
+
+    /**
+     * Looks up the value among bulk values rather than comparing it with
+     * each value in turn.
+     */
+    private static Condition in(Function<Object, Object> value,
+                                BulkValues<?> values) {
+        return entity -> {
+            Object v = value.apply(entity);
+            return v == null ? Truth.UNKNOWN : Truth.of(values.contains(v));
+        };
+    }
+
+    private static Condition in(Function<Object, Object> value,
+                                Function<Object, Object>[] operands) {
+        return entity -> {
+            Object v = value.apply(entity);
+            if (v == null) {
+                return Truth.UNKNOWN;
+            }
+            Truth result = Truth.FALSE;
+            for (Function<Object, Object> operand : operands) {
+                Object o = operand.apply(entity);
+                if (o == null) {
+                    result = Truth.UNKNOWN;
+                } else if (equal(v, o)) {
+                    return Truth.TRUE;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Condition like(Function<Object, Object> value,
+                                  TextExpression<?> pattern,
+                                  char escape,
+                                  AttributeAccessor accessor) {
+        if (pattern instanceof Literal<?> literal) {
+            Predicate<String> matcher =
+                    LikePattern.of((String) literal.value(), escape).matcher();
+            return entity -> {
+                Object v = value.apply(entity);
+                return v == null
+                        ? Truth.UNKNOWN
+                        : Truth.of(matcher.test((String) v));
+            };
+        }
+
+        Function<Object, Object> patterns = operand(pattern, accessor);
+        return compare(value, patterns,
+                       (v, p) -> LikePattern.of((String) p, escape).matches((String) v));
+    }
+
+    private static Condition not(Condition condition) {
+        return entity -> condition.evaluate(entity).not();
+    }
+
+    private static Function<Object, Object> operand(Expression<?, ?> expression,
+                                                    AttributeAccessor accessor) {
+        return ExpressionEvaluator.evaluator(expression, accessor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object>[] operands(List<? extends Expression<?, ?>> expressions,
+                                                       AttributeAccessor accessor) {
+        Function<Object, Object>[] operands = (Function<Object, Object>[]) new Function<?, ?>[expressions.size()];
+        for (int i = 0; i < operands.length; i++) {
+            operands[i] = operand(expressions.get(i), accessor);
+        }
+        return operands;
+    }
+
+    /**
+     * Compiles restrictions into conditions.
+     */
+    private static class Compiler implements RestrictionVisitor<Condition> {
+        private final AttributeAccessor accessor;
+
+        Compiler(AttributeAccessor accessor) {
+            this.accessor = accessor;
+        }
+
+        @Override
+        public Condition visitBasic(BasicRestriction<?, ?> restriction) {
+            Function<Object, Object> value =
+                    ExpressionEvaluator.evaluator(restriction.expression(), accessor);
+            return restriction.constraint().accept(new ConstraintCompiler(value, accessor));
+        }
+
+        @Override
+        public Condition visitComposite(CompositeRestriction<?> composite) {
+            List<? extends Restriction<?>> restrictions = composite.restrictions();
+            Condition[] conditions = new Condition[restrictions.size()];
+            for (int i = 0; i < conditions.length; i++) {
+                conditions[i] = restrictions.get(i).accept(this);
+            }
+
+            boolean all = composite.type() == CompositeRestriction.Type.ALL;
+            boolean negated = composite.isNegated();
+            // the value that decides the result regardless of other restrictions
+            Truth decisive = all ? Truth.FALSE : Truth.TRUE;
+            return entity -> {
+                Truth result = decisive.not();
+                for (Condition condition : conditions) {
+                    Truth truth = condition.evaluate(entity);
+                    if (truth == decisive) {
+                        result = decisive;
+                        break;
+                    } else if (truth == Truth.UNKNOWN) {
+                        result = Truth.UNKNOWN;
+                    }
+                }
+                return negated ? result.not() : result;
+            };
+        }
+    }
+
+    /**
+     * Compiles the constraint of a basic restriction into a condition on the
+     * value of its expression.
+     */
+    private static class ConstraintCompiler implements ConstraintVisitor<Condition> {
+        private final AttributeAccessor accessor;
+
+        private final Function<Object, Object> value;
+
+        ConstraintCompiler(Function<Object, Object> value,
+                           AttributeAccessor accessor) {
+            this.accessor = accessor;
+            this.value = value;
+        }
+
+        @Override
+        public Condition visitAtLeast(AtLeast<?> atLeast) {
+            return compare(value, operand(atLeast.bound(), accessor),
+                           (v, o) -> RestrictionEvaluator.compare(v, o) >= 0);
+        }
+
+        @Override
+        public Condition visitAtMost(AtMost<?> atMost) {
+            return compare(value, operand(atMost.bound(), accessor),
+                           (v, o) -> RestrictionEvaluator.compare(v, o) <= 0);
+        }
+
+        @Override
+        public Condition visitBetween(Between<?> between) {
+            return between(value,
+                           operand(between.lowerBound(), accessor),
+                           operand(between.upperBound(), accessor));
+        }
+
+        @Override
+        public Condition visitEqualTo(EqualTo<?> equalTo) {
+            return compare(value, operand(equalTo.expression(), accessor),
+                           RestrictionEvaluator::equal);
+        }
+
+        @Override
+        public Condition visitGreaterThan(GreaterThan<?> greaterThan) {
+            return compare(value, operand(greaterThan.bound(), accessor),
+                           (v, o) -> RestrictionEvaluator.compare(v, o) > 0);
+        }
+
+        @Override
+        public Condition visitIn(In<?> in) {
+            return in.bulkValues().isPresent()
+                    ? in(value, in.bulkValues().get())
+                    : in(value, operands(in.expressions(), accessor));
+        }
+
+        @Override
+        public Condition visitLessThan(LessThan<?> lessThan) {
+            return compare(value, operand(lessThan.bound(), accessor),
+                           (v, o) -> RestrictionEvaluator.compare(v, o) < 0);
+        }
+
+        @Override
+        public Condition visitLike(Like like) {
+            return like(value, like.pattern(), like.escape(), accessor);
+        }
+
+        @Override
+        public Condition visitNotBetween(NotBetween<?> notBetween) {
+            return not(between(value,
+                               operand(notBetween.lowerBound(), accessor),
+                               operand(notBetween.upperBound(), accessor)));
+        }
+
+        @Override
+        public Condition visitNotEqualTo(NotEqualTo<?> notEqualTo) {
+            return compare(value, operand(notEqualTo.expression(), accessor),
+                           (v, o) -> !equal(v, o));
+        }
+
+        @Override
+        public Condition visitNotIn(NotIn<?> notIn) {
+            return not(notIn.bulkValues().isPresent()
+                    ? in(value, notIn.bulkValues().get())
+                    : in(value, operands(notIn.expressions(), accessor)));
+        }
+
+        @Override
+        public Condition visitNotLike(NotLike notLike) {
+            return not(like(value, notLike.pattern(), notLike.escape(), accessor));
+        }
+
+        @Override
+        public Condition visitNotNull(NotNull<?> notNull) {
+            return entity -> Truth.of(value.apply(entity) != null);
+        }
+
+        @Override
+        public Condition visitNull(Null<?> isNull) {
+            return entity -> Truth.of(value.apply(entity) == null);
+        }
+    }
+
+    /**
+     * A restriction that is compiled for evaluation against entities.
+     */
+    @FunctionalInterface
+    private interface Condition {
+        Truth evaluate(Object entity);
+    }
+}
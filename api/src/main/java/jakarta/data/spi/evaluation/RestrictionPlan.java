@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.restrict.Restriction;
+
+/**
+ * <p>A restriction with its children reordered by the
+ * {@linkplain RestrictionPlanner planner}, together with estimates of the
+ * fraction and the number of entities that satisfy it. A Jakarta Data
+ * provider can report the estimated number of results as the total of a
+ * page that is requested with the
+ * {@link jakarta.data.page.PageRequest.TotalStrategy#ESTIMATE ESTIMATE}
+ * strategy.</p>
+ *
+ * @param <T>           entity type.
+ * @param restriction   a restriction that is equivalent to the planned
+ *                      restriction, with the children of composite
+ *                      restrictions in the order in which to evaluate
+ *                      them.
+ * @param selectivity   estimated fraction of entities that satisfy the
+ *                      restriction, from {@code 0.0} to {@code 1.0}.
+ * @param estimatedRows estimated number of entities that satisfy the
+ *                      restriction.
+ * @since 1.1
+ */
+public record RestrictionPlan<T>(@Nonnull Restriction<T> restriction,
+                                 double selectivity,
+                                 long estimatedRows) {
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.ConstraintVisitor;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.LikePattern;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.expression.Expression;
+import jakarta.data.messages.Messages;
+import jakarta.data.metamodel.Attribute;
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.CompositeRestriction;
+import jakarta.data.restrict.KeysetRestriction;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.restrict.RestrictionVisitor;
+import jakarta.data.spi.expression.literal.Literal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>Estimates the fraction of entities that satisfy a restriction, from
+ * {@link Statistics} about the entities, and reorders the children of
+ * composite restrictions such that evaluation that stops at the first
+ * child that decides the result does as little work as possible. The
+ * children of an {@link CompositeRestriction.Type#ALL ALL} restriction are
+ * ordered from the least to the most likely to be satisfied, and the
+ * children of an {@link CompositeRestriction.Type#ANY ANY} restriction are
+ * ordered from the most to the least likely to be satisfied. Children with
+ * equal estimates keep their order. For example,</p>
+ *
+ * <pre>
+ * RestrictionPlan&lt;Car&gt; plan = RestrictionPlanner.plan(restriction, statistics);
+ * Predicate&lt;Car&gt; filter = RestrictionEvaluator.compile(plan.restriction(), accessor);
+ * </pre>
+ *
+ * <p>The selectivity of a restriction on an entity attribute is estimated
+ * from the number of distinct values of the attribute, the fraction of
+ * {@code null} values, and a histogram of the values. Comparison with a
+ * value that is not a literal, or with an attribute for which no statistics
+ * are available, is estimated from default selectivities. The
+ * selectivities of the children of a composite restriction are assumed to
+ * be independent of each other. A {@link KeysetRestriction} is estimated
+ * but is not reordered, so that a provider can still recognize it.</p>
+ *
+ * <p>This class is intended for in-memory evaluation, and for Jakarta Data
+ * providers for datastores that evaluate restrictions in the order in which
+ * they are written rather than with a cost-based query optimizer.</p>
+ *
+ * @since 1.1
+ */
+public final class RestrictionPlanner {
+
+    /**
+     * Selectivity of equality with a value when the number of distinct
+     * values is not known.
+     */
+    private static final double DEFAULT_EQUALITY = 0.005;
+
+    /**
+     * Selectivity of a pattern that is not a prefix when there are
+     * statistics, or of any pattern otherwise.
+     */
+    private static final double DEFAULT_MATCH = 0.1;
+
+    /**
+     * Selectivity of comparison with a single bound when the position of
+     * the bound among the values is not known.
+     */
+    private static final double DEFAULT_RANGE = 1.0 / 3.0;
+
+    // prevent instantiation
+    private RestrictionPlanner() {
+    }
+
+    /**
+     * <p>Reorders the children of the composite restrictions within the given
+     * restriction and estimates the fraction and number of entities that
+     * satisfy it.</p>
+     *
+     * @param <T>         entity type.
+     * @param restriction the restriction.
+     * @param statistics  statistics about the entities.
+     * @return the plan.
+     * @throws NullPointerException if the restriction or the statistics are
+     *                              {@code null}.
+     */
+    @Nonnull
+    public static <T> RestrictionPlan<T> plan(@Nonnull Restriction<T> restriction,
+                                              @Nonnull Statistics statistics) {
+        Messages.requireNonNull(restriction, "restriction");
+        Messages.requireNonNull(statistics, "statistics");
+
+        Planned<T> planned = planned(restriction, statistics);
+        return new RestrictionPlan<>(planned.restriction(),
+                                     planned.selectivity(),
+                                     Math.round(planned.selectivity() * statistics.rowCount()));
+    }
+
+    /**
+     * <p>Estimates the fraction of entities that satisfy the given
+     * restriction, without reordering it.</p>
+     *
+     * @param restriction the restriction.
+     * @param statistics  statistics about the entities.
+     * @return the estimated fraction, from {@code 0.0} to {@code 1.0}.
+     * @throws NullPointerException if the restriction or the statistics are
+     *                              {@code null}.
+     */
+    public static double selectivity(@Nonnull Restriction<?> restriction,
+                                     @Nonnull Statistics statistics) {
+        Messages.requireNonNull(restriction, "restriction");
+        Messages.requireNonNull(statistics, "statistics");
+
+        return planned(restriction, statistics).selectivity();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Planned<T> planned(Restriction<T> restriction,
+                                          Statistics statistics) {
+        return (Planned<T>) restriction.accept(new Planner(statistics));
+    }
+
+    /**
+     * Estimates a restriction on an expression. Statistics are used if the
+     * expression is an entity attribute.
+     */
+    private static double selectivity(BasicRestriction<?, ?> basic,
+                                      Statistics statistics) {
+        AttributeStatistics stats = basic.expression() instanceof Attribute<?> attribute
+                ? statistics.attribute(attribute.name()).orElse(null)
+                : null;
+        double selectivity = basic.constraint().accept(new Estimator(stats));
+        return Math.max(0.0, Math.min(1.0, selectivity));
+    }
+
+    private static double above(AttributeStatistics stats, Expression<?, ?> bound) {
+        double position = position(stats, bound);
+        return Double.isNaN(position) ? DEFAULT_RANGE : 1.0 - position;
+    }
+
+    private static double below(AttributeStatistics stats, Expression<?, ?> bound) {
+        double position = position(stats, bound);
+        return Double.isNaN(position) ? DEFAULT_RANGE : position;
+    }
+
+    private static double between(AttributeStatistics stats,
+                                  Expression<?, ?> lower,
+                                  Expression<?, ?> upper) {
+        double from = position(stats, lower);
+        double to = position(stats, upper);
+        return Double.isNaN(from) || Double.isNaN(to)
+                ? DEFAULT_RANGE * DEFAULT_RANGE
+                : Math.max(0.0, to - from);
+    }
+
+    /**
+     * Estimates the fraction of values that are not {@code null} and match
+     * a pattern, where the fraction for exact text is given. A prefix is
+     * estimated as the range of text that begins with the prefix.
+     */
+    private static double like(AttributeStatistics stats,
+                               Optional<LikePattern> parsed,
+                               double exact) {
+        if (parsed.isPresent()) {
+            LikePattern pattern = parsed.get();
+            if (pattern.kind() == LikePattern.Kind.EXACT) {
+                return exact;
+            } else if (pattern.kind() == LikePattern.Kind.PREFIX && stats != null) {
+                double from = position(stats, pattern.prefix());
+                double to = pattern.prefixEnd().isPresent()
+                        ? position(stats, pattern.prefixEnd().get())
+                        : 1.0;
+                if (!Double.isNaN(from) && !Double.isNaN(to)) {
+                    return Math.max(0.0, to - from);
+                }
+            }
+        }
+        return DEFAULT_MATCH;
+    }
+
+    private static double position(AttributeStatistics stats, Expression<?, ?> bound) {
+        return bound instanceof Literal<?> literal
+                ? position(stats, literal.value())
+                : Double.NaN;
+    }
+
+    /**
+     * Estimates the fraction of values that are not {@code null} and are
+     * less than the given value, by locating the value within the buckets
+     * of the histogram. The position of a numeric value within its bucket
+     * is interpolated.
+     *
+     * @return the fraction, or {@code NaN} if it cannot be estimated.
+     */
+    private static double position(AttributeStatistics stats, Object value) {
+        List<? extends Comparable<?>> bounds = stats == null ? List.of() : stats.histogram();
+        int buckets = bounds.size() - 1;
+        if (buckets < 1) {
+            return Double.NaN;
+        }
+
+        try {
+            if (compare(value, bounds.get(0)) <= 0) {
+                return 0.0;
+            } else if (compare(value, bounds.get(buckets)) >= 0) {
+                return 1.0;
+            }
+            int i = 0;
+            while (compare(value, bounds.get(i + 1)) > 0) {
+                i++;
+            }
+            return (i + interpolate(bounds.get(i), bounds.get(i + 1), value)) / buckets;
+        } catch (ClassCastException x) {
+            // the value is not comparable with the histogram
+            return Double.NaN;
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int compare(Object value, Object other) {
+        return ((Comparable) value).compareTo(other);
+    }
+
+    private static double interpolate(Object lower, Object upper, Object value) {
+        if (lower instanceof Number l && upper instanceof Number u && value instanceof Number v) {
+            double width = u.doubleValue() - l.doubleValue();
+            if (width > 0.0) {
+                return (v.doubleValue() - l.doubleValue()) / width;
+            }
+        }
+        return 0.5;
+    }
+
+    /**
+     * Estimates restrictions, reordering the children of composite
+     * restrictions other than keyset restrictions.
+     */
+    private static class Planner implements RestrictionVisitor<Planned<?>> {
+        private final Statistics statistics;
+
+        Planner(Statistics statistics) {
+            this.statistics = statistics;
+        }
+
+        @Override
+        public Planned<?> visitBasic(BasicRestriction<?, ?> restriction) {
+            return new Planned<>(restriction, selectivity(restriction, statistics));
+        }
+
+        @Override
+        public Planned<?> visitComposite(CompositeRestriction<?> restriction) {
+            return composite(restriction, true);
+        }
+
+        @Override
+        public Planned<?> visitKeyset(KeysetRestriction<?> restriction) {
+            // the order of a keyset restriction follows the sort criteria
+            return composite(restriction, false);
+        }
+
+        /**
+         * Estimates a composite restriction from its children, which are
+         * reordered if requested.
+         */
+        @SuppressWarnings("unchecked")
+        private <T> Planned<T> composite(CompositeRestriction<T> composite,
+                                         boolean reorder) {
+            boolean all = composite.type() == CompositeRestriction.Type.ALL;
+
+            List<Planned<? super T>> children = new ArrayList<>(composite.restrictions().size());
+            double product = 1.0;
+            for (Restriction<? super T> restriction : composite.restrictions()) {
+                Planned<? super T> child = (Planned<? super T>) restriction.accept(this);
+                children.add(child);
+                product *= all ? child.selectivity() : 1.0 - child.selectivity();
+            }
+            double selectivity = all ? product : 1.0 - product;
+            if (composite.isNegated()) {
+                selectivity = 1.0 - selectivity;
+            }
+
+            if (!reorder || children.size() < 2) {
+                return new Planned<>(composite, selectivity);
+            }
+
+            Comparator<Planned<?>> order = Comparator.comparingDouble(Planned::selectivity);
+            children.sort(all ? order : order.reversed());
+
+            boolean unchanged = true;
+            List<Restriction<? super T>> restrictions = new ArrayList<>(children.size());
+            for (int i = 0; i < children.size(); i++) {
+                Restriction<? super T> restriction = children.get(i).restriction();
+                restrictions.add(restriction);
+                unchanged &= restriction == composite.restrictions().get(i);
+            }
+            if (unchanged) {
+                return new Planned<>(composite, selectivity);
+            }
+
+            Restriction<T> reordered = all
+                    ? Restrict.all(restrictions)
+                    : Restrict.any(restrictions);
+            return new Planned<>(composite.isNegated() ? reordered.negate() : reordered,
+                                 selectivity);
+        }
+    }
+
+    /**
+     * Estimates the fraction of entities that satisfy a constraint on an
+     * expression, given the statistics about the expression, if known.
+     */
+    private static class Estimator implements ConstraintVisitor<Double> {
+        private final AttributeStatistics stats;
+
+        /**
+         * Fraction of values that are not {@code null}.
+         */
+        private final double nonNull;
+
+        /**
+         * Fraction of values that are not {@code null} that equal a value.
+         */
+        private final double distinct;
+
+        /**
+         * Fraction of values that equal a value.
+         */
+        private final double equality;
+
+        Estimator(AttributeStatistics stats) {
+            this.stats = stats;
+            this.nonNull = stats == null ? 1.0 : 1.0 - stats.nullFraction();
+            this.distinct = stats == null || stats.distinctValues() == 0
+                    ? DEFAULT_EQUALITY
+                    : 1.0 / stats.distinctValues();
+            this.equality = nonNull * distinct;
+        }
+
+        @Override
+        public Double visitAtLeast(AtLeast<?> atLeast) {
+            return nonNull * above(stats, atLeast.bound());
+        }
+
+        @Override
+        public Double visitAtMost(AtMost<?> atMost) {
+            return nonNull * below(stats, atMost.bound());
+        }
+
+        @Override
+        public Double visitBetween(Between<?> between) {
+            return nonNull * between(stats, between.lowerBound(), between.upperBound());
+        }
+
+        @Override
+        public Double visitEqualTo(EqualTo<?> equalTo) {
+            return equality;
+        }
+
+        @Override
+        public Double visitGreaterThan(GreaterThan<?> greaterThan) {
+            return nonNull * above(stats, greaterThan.bound());
+        }
+
+        @Override
+        public Double visitIn(In<?> in) {
+            return Math.min(nonNull, equality * (in.bulkValues().isPresent()
+                    ? in.bulkValues().get().size()
+                    : in.expressions().size()));
+        }
+
+        @Override
+        public Double visitLessThan(LessThan<?> lessThan) {
+            return nonNull * below(stats, lessThan.bound());
+        }
+
+        @Override
+        public Double visitLike(Like like) {
+            return nonNull * like(stats, like.parsed(), distinct);
+        }
+
+        @Override
+        public Double visitNotBetween(NotBetween<?> notBetween) {
+            return nonNull * (1.0 - between(stats, notBetween.lowerBound(), notBetween.upperBound()));
+        }
+
+        @Override
+        public Double visitNotEqualTo(NotEqualTo<?> notEqualTo) {
+            return nonNull - equality;
+        }
+
+        @Override
+        public Double visitNotIn(NotIn<?> notIn) {
+            return nonNull - Math.min(nonNull, equality * (notIn.bulkValues().isPresent()
+                    ? notIn.bulkValues().get().size()
+                    : notIn.expressions().size()));
+        }
+
+        @Override
+        public Double visitNotLike(NotLike notLike) {
+            return nonNull * (1.0 - like(stats, notLike.parsed(), distinct));
+        }
+
+        @Override
+        public Double visitNotNull(NotNull<?> notNull) {
+            return stats == null ? 1.0 - DEFAULT_EQUALITY : nonNull;
+        }
+
+        @Override
+        public Double visitNull(Null<?> isNull) {
+            return stats == null ? DEFAULT_EQUALITY : stats.nullFraction();
+        }
+    }
+
+    /**
+     * A restriction with its estimated selectivity.
+     */
+    private record Planned<T>(Restriction<T> restriction, double selectivity) {
+    }
+}
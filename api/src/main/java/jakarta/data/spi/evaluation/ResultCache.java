@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.Order;
+import jakarta.data.messages.Messages;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * <p>Caches the results of queries by their {@link Restriction}, such that a
+ * query can be answered from the cached results of a query that is less
+ * restrictive. If a restriction {@linkplain Restrict#implies implies} the
+ * restriction of cached results, the entities that satisfy the restriction
+ * are among the cached results and are obtained by filtering the cached
+ * results in memory with the {@link RestrictionEvaluator}. Filtering keeps
+ * the order of the cached results, so cached results are only used for
+ * queries with the same {@link Order}.</p>
+ *
+ * <p>For example, a dashboard that narrows a listing of products by
+ * progressively narrower filters might request results as follows,</p>
+ *
+ * <pre>
+ * static final ResultCache&lt;Product&gt; cache =
+ *         new ResultCache&lt;&gt;(100, 20, AttributeAccessor.reflective());
+ * ...
+ * Order&lt;Product&gt; order = Order.by(_Product.price.asc(), _Product.id.asc());
+ * Restriction&lt;Product&gt; restriction = _Product.price.lessThan(maxPrice);
+ * List&lt;Product&gt; found =
+ *         cache.results(List.of("byCategory", category),
+ *                       order,
+ *                       restriction,
+ *                       () -&gt; products.byCategory(category, restriction, order));
+ * </pre>
+ *
+ * <p>after which a request for a lower maximum price is answered from the
+ * cache.</p>
+ *
+ * <p>The queries of the results are identified by a query shape, which is
+ * supplied by the application and identifies the query along with its
+ * parameters other than the restriction, together with the {@link Order}.
+ * Results that are cached must be the complete results of a query, not a
+ * page of the results. Cached results are only as current as the data
+ * allows. Use {@link #invalidate(Object)} to discard the results of a query
+ * after the data changes. Cached results are only suitable for answering
+ * more restrictive queries if the in-memory evaluation of the restrictions
+ * agrees with the database, which is not the case if, for example, the
+ * database compares text without regard to case.</p>
+ *
+ * <p>The results of the least recently used queries are discarded when more
+ * than the maximum number of queries is reached, and the least recently used
+ * results of a query are discarded when more than the maximum number of
+ * restrictions is reached for the query.</p>
+ *
+ * <p>Instances of this class are safe for use by multiple threads.</p>
+ *
+ * @param <T> entity type.
+ * @since 1.1
+ */
+public class ResultCache<T> {
+
+    private final AttributeAccessor accessor;
+
+    private final int maxRestrictionsPerQuery;
+
+    /**
+     * Results per query and normalized restriction, in order of least to
+     * most recent use.
+     */
+    private final Map<Key, Map<Restriction<T>, List<T>>> queries;
+
+    /**
+     * Number of times that results were invalidated or cleared.
+     */
+    private long generation;
+
+    /**
+     * Generation at which the cache was most recently cleared.
+     */
+    private long clearedAt;
+
+    /**
+     * Generation at which the results of each query shape were most
+     * recently invalidated, retained only while results are being obtained
+     * outside of the lock.
+     */
+    private final Map<Object, Long> invalidatedAt = new HashMap<>();
+
+    /**
+     * Number of queries and filters that are obtaining results outside of
+     * the lock.
+     */
+    private int pending;
+
+    /**
+     * Creates an empty cache of results.
+     *
+     * @param maxQueries              maximum number of queries for which to
+     *                                retain results.
+     * @param maxRestrictionsPerQuery maximum number of restrictions of a
+     *                                query for which to retain results.
+     * @param accessor                reads entity attributes in order to
+     *                                filter cached results.
+     * @throws IllegalArgumentException if any maximum is less than 1.
+     * @throws NullPointerException     if the accessor is {@code null}.
+     */
+    public ResultCache(int maxQueries, int maxRestrictionsPerQuery,
+                       @Nonnull AttributeAccessor accessor) {
+        if (maxQueries < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "maxQueries", maxQueries));
+        }
+        if (maxRestrictionsPerQuery < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "maxRestrictionsPerQuery", maxRestrictionsPerQuery));
+        }
+        Messages.requireNonNull(accessor, "accessor");
+
+        this.accessor = accessor;
+        this.maxRestrictionsPerQuery = maxRestrictionsPerQuery;
+        this.queries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Map<Restriction<T>, List<T>>> eldest) {
+                return size() > maxQueries;
+            }
+        };
+    }
+
+    /**
+     * Discards all cached results.
+     */
+    public synchronized void clear() {
+        queries.clear();
+        clearedAt = ++generation;
+        invalidatedAt.clear();
+    }
+
+    /**
+     * Discards the cached results of a query, for all sort criteria and
+     * restrictions.
+     *
+     * @param queryShape identifies the query and its parameters.
+     */
+    public synchronized void invalidate(@Nonnull Object queryShape) {
+        queries.keySet().removeIf(key -> key.queryShape().equals(queryShape));
+        generation++;
+        if (pending > 0) {
+            invalidatedAt.put(queryShape, generation);
+        }
+    }
+
+    /**
+     * <p>Obtains the results of a query from the cache, either from results
+     * that were cached for an equivalent restriction, or by filtering the
+     * fewest cached results of a restriction that the given restriction
+     * {@linkplain Restrict#implies implies}. Results that are obtained by
+     * filtering are cached as well, so that a query that is even more
+     * restrictive can be answered from them, unless the results of the query
+     * are {@linkplain #invalidate invalidated} while they are filtered.</p>
+     *
+     * @param queryShape  identifies the query and its parameters other than
+     *                    the restriction.
+     * @param order       sort criteria of the query.
+     * @param restriction restriction of the query.
+     * @return the results, which cannot be modified, or
+     *         {@link Optional#empty()} if the query cannot be answered from
+     *         the cache.
+     * @throws NullPointerException if any of the arguments is {@code null}.
+     */
+    @Nonnull
+    public Optional<List<T>> get(@Nonnull Object queryShape,
+                                 @Nonnull Order<? super T> order,
+                                 @Nonnull Restriction<T> restriction) {
+        Messages.requireNonNull(queryShape, "queryShape");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(restriction, "restriction");
+
+        Key key = new Key(queryShape, order);
+        Restriction<T> normalized = Restrict.normalize(restriction);
+        List<T> superset = null;
+        long since;
+        synchronized (this) {
+            Map<Restriction<T>, List<T>> cached = queries.get(key);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            List<T> results = cached.get(normalized);
+            if (results != null) {
+                return Optional.of(results);
+            }
+            Restriction<T> supersetRestriction = null;
+            for (Map.Entry<Restriction<T>, List<T>> entry : cached.entrySet()) {
+                if ((superset == null || entry.getValue().size() < superset.size())
+                        && Restrict.implies(normalized, entry.getKey())) {
+                    supersetRestriction = entry.getKey();
+                    superset = entry.getValue();
+                }
+            }
+            if (supersetRestriction == null) {
+                return Optional.empty();
+            }
+            // the results that answered the query count as recently used
+            cached.get(supersetRestriction);
+            since = begin();
+        }
+
+        // The cached results are filtered without holding a lock on this cache
+        try {
+            Predicate<T> filter;
+            try {
+                filter = RestrictionEvaluator.compile(normalized, accessor);
+            } catch (IllegalArgumentException | UnsupportedOperationException x) {
+                // the restriction cannot be evaluated in memory
+                return Optional.empty();
+            }
+            List<T> results = new ArrayList<>();
+            for (T entity : superset) {
+                if (filter.test(entity)) {
+                    results.add(entity);
+                }
+            }
+            return Optional.of(cache(key, normalized, results, since));
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * <p>Caches the complete results of a query.</p>
+     *
+     * @param queryShape  identifies the query and its parameters other than
+     *                    the restriction.
+     * @param order       sort criteria of the query.
+     * @param restriction restriction of the query.
+     * @param results     all results of the query, in order.
+     * @throws NullPointerException if any of the arguments, or any of the
+     *                              results, is {@code null}.
+     */
+    public void put(@Nonnull Object queryShape,
+                    @Nonnull Order<? super T> order,
+                    @Nonnull Restriction<T> restriction,
+                    @Nonnull List<T> results) {
+        Messages.requireNonNull(queryShape, "queryShape");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(restriction, "restriction");
+        Messages.requireNonNull(results, "results");
+
+        cache(new Key(queryShape, order), Restrict.normalize(restriction), results);
+    }
+
+    /**
+     * <p>Obtains the results of a query from the cache if
+     * {@linkplain #get possible}, and otherwise runs the query and
+     * {@linkplain #put caches} its results.</p>
+     *
+     * <p>The query is run without holding a lock on this cache, such that
+     * multiple threads can run queries concurrently. If the results of the
+     * query are {@linkplain #invalidate invalidated}, or the cache is
+     * {@linkplain #clear cleared}, while the query runs, the results are
+     * returned but are not cached, because they might predate the
+     * change to the data.</p>
+     *
+     * @param queryShape  identifies the query and its parameters other than
+     *                    the restriction.
+     * @param order       sort criteria of the query.
+     * @param restriction restriction of the query.
+     * @param query       runs the query, returning all of its results.
+     * @return the results, which cannot be modified.
+     * @throws NullPointerException if any of the arguments, or any of the
+     *                              results of the query, is {@code null}.
+     */
+    @Nonnull
+    public List<T> results(@Nonnull Object queryShape,
+                           @Nonnull Order<? super T> order,
+                           @Nonnull Restriction<T> restriction,
+                           @Nonnull Supplier<? extends List<T>> query) {
+        Messages.requireNonNull(query, "query");
+
+        Optional<List<T>> cached = get(queryShape, order, restriction);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long since = begin();
+        try {
+            List<T> results = query.get();
+            Messages.requireNonNull(results, "results");
+            return cache(new Key(queryShape, order), Restrict.normalize(restriction), results, since);
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * Begins obtaining results outside of the lock.
+     *
+     * @return the current generation.
+     */
+    private synchronized long begin() {
+        pending++;
+        return generation;
+    }
+
+    private synchronized List<T> cache(Key key,
+                                       Restriction<T> normalized,
+                                       List<T> results) {
+        List<T> copy = List.copyOf(results);
+        queries.computeIfAbsent(key, k -> restrictions()).put(normalized, copy);
+        return copy;
+    }
+
+    /**
+     * Caches results that were obtained outside of the lock, unless the
+     * results of the query were invalidated since they began to be obtained.
+     *
+     * @param since the generation at which the results began to be obtained.
+     * @return an unmodifiable copy of the results.
+     */
+    private synchronized List<T> cache(Key key,
+                                       Restriction<T> normalized,
+                                       List<T> results,
+                                       long since) {
+        return clearedAt > since
+                || invalidatedAt.getOrDefault(key.queryShape(), since) > since
+                ? List.copyOf(results)
+                : cache(key, normalized, results);
+    }
+
+    /**
+     * Ends obtaining results outside of the lock.
+     */
+    private synchronized void end() {
+        if (--pending == 0) {
+            invalidatedAt.clear();
+        }
+    }
+
+    /**
+     * Creates a map of results per restriction that retains the most
+     * recently used restrictions.
+     */
+    private Map<Restriction<T>, List<T>> restrictions() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Restriction<T>, List<T>> eldest) {
+                return size() > maxRestrictionsPerQuery;
+            }
+        };
+    }
+
+    /**
+     * Identifies the results of a query.
+     *
+     * @param queryShape identifies the query and its parameters.
+     * @param order      sort criteria of the query.
+     */
+    record Key(Object queryShape, Order<?> order) {
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.messages.Messages;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>Statistics about the entities of a type, which a Jakarta Data provider
+ * or an application supplies to the {@linkplain RestrictionPlanner planner}.
+ * A provider for a datastore that maintains statistics, such as the
+ * cardinality and histograms of indexes, can expose them through this
+ * interface. Otherwise, statistics can be sampled from the data and
+ * supplied with {@link #of(long, Map)}.</p>
+ *
+ * <p>Statistics need not be accurate. They only guide the order in which
+ * restrictions are evaluated and the estimate of the number of results.
+ * </p>
+ *
+ * @since 1.1
+ */
+public interface Statistics {
+
+    /**
+     * <p>Obtains the statistics about an entity attribute.</p>
+     *
+     * @param attributeName name of the attribute.
+     * @return statistics about the attribute, or {@link Optional#empty()}
+     *         if none are available.
+     */
+    @Nonnull
+    Optional<AttributeStatistics> attribute(@Nonnull String attributeName);
+
+    /**
+     * <p>Returns statistics with the given number of entities and the given
+     * statistics per attribute name.</p>
+     *
+     * @param rowCount   number of entities.
+     * @param attributes statistics per attribute name.
+     * @return the statistics.
+     * @throws IllegalArgumentException if the number of entities is
+     *                                  negative.
+     * @throws NullPointerException     if the map of statistics is
+     *                                  {@code null}.
+     */
+    @Nonnull
+    static Statistics of(long rowCount,
+                         @Nonnull Map<String, AttributeStatistics> attributes) {
+        Messages.requireNonNull(attributes, "attributes");
+        if (rowCount < 0) {
+            throw new IllegalArgumentException(
+                    Messages.get("004.arg.negative", "rowCount"));
+        }
+
+        return new StatisticsRecord(rowCount, Map.copyOf(attributes));
+    }
+
+    /**
+     * <p>The number of entities.</p>
+     *
+     * @return the number of entities.
+     */
+    long rowCount();
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Map;
+import java.util.Optional;
+
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the static Statistics.of method
+record StatisticsRecord(long rowCount,
+                        Map<String, AttributeStatistics> attributes)
+        implements Statistics {
+
+    @Override
+    @Nonnull
+    public Optional<AttributeStatistics> attribute(@Nonnull String attributeName) {
+        return Optional.ofNullable(attributes.get(attributeName));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+/**
+ * <p>The value of a condition under the three-valued logic of query
+ * language, where a comparison with a {@code null} value is neither true
+ * nor false, but unknown.</p>
+ */
+// Internal implementation class.
+// The proper way for users to evaluate restrictions is via
+// the static RestrictionEvaluator.compile method
+enum Truth {
+    FALSE,
+    TRUE,
+    UNKNOWN;
+
+    static Truth of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    Truth and(Truth other) {
+        if (this == FALSE || other == FALSE) {
+            return FALSE;
+        } else if (this == UNKNOWN || other == UNKNOWN) {
+            return UNKNOWN;
+        } else {
+            return TRUE;
+        }
+    }
+
+    Truth not() {
+        return switch (this) {
+            case FALSE -> TRUE;
+            case TRUE -> FALSE;
+            case UNKNOWN -> UNKNOWN;
+        };
+    }
+
+    Truth or(Truth other) {
+        if (this == TRUE || other == TRUE) {
+            return TRUE;
+        } else if (this == UNKNOWN || other == UNKNOWN) {
+            return UNKNOWN;
+        } else {
+            return FALSE;
+        }
+    }
+}
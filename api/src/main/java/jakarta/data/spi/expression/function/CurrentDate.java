@@ -21,6 +21,7 @@ import java.time.LocalDate;
 
 import jakarta.annotation.Nonnull;
 import jakarta.data.expression.Expression;
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.expression.TemporalExpression;
 
 /**
@@ -43,6 +44,11 @@ public interface CurrentDate<T> extends TemporalExpression<T, LocalDate> {
     static <T> CurrentDate<T> now() {
         return (CurrentDate<T>) CurrentDateInstance.instance;
     }
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitCurrentDate(this);
+    }
 }
 
 // Internal implementation of single instance obtained from CurrentDate.now()
@@ -21,6 +21,7 @@ import java.time.LocalDateTime;
 
 import jakarta.annotation.Nonnull;
 import jakarta.data.expression.Expression;
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.expression.TemporalExpression;
 
 /**
@@ -43,6 +44,11 @@ public interface CurrentDateTime<T> extends TemporalExpression<T, LocalDateTime>
     static <T> CurrentDateTime<T> now() {
         return (CurrentDateTime<T>) CurrentDateTimeInstance.instance;
     }
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitCurrentDateTime(this);
+    }
 }
 
 // Internal implementation of single instance obtained from CurrentDateTime.now()
@@ -21,6 +21,7 @@ import java.time.LocalTime;
 
 import jakarta.annotation.Nonnull;
 import jakarta.data.expression.Expression;
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.expression.TemporalExpression;
 
 /**
@@ -43,6 +44,11 @@ public interface CurrentTime<T> extends TemporalExpression<T, LocalTime> {
     static <T> CurrentTime<T> now() {
         return (CurrentTime<T>) CurrentTimeInstance.instance;
     }
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitCurrentTime(this);
+    }
 }
 
 // Internal implementation of single instance obtained from CurrentTime.now()
@@ -20,6 +20,7 @@ package jakarta.data.spi.expression.function;
 import java.util.List;
 
 import jakarta.data.expression.Expression;
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.expression.TextExpression;
 import jakarta.annotation.Nonnull;
 
@@ -68,4 +69,9 @@ public interface FunctionExpression<T, V> extends Expression<T, V> {
      */
     @Nonnull
     List<? extends Expression<? super T, ?>> arguments();
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitFunction(this);
+    }
 }
@@ -17,6 +17,7 @@
  */
 package jakarta.data.spi.expression.function;
 
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.expression.NumericExpression;
 import jakarta.annotation.Nonnull;
 
@@ -74,4 +75,9 @@ public interface NumericCast<T, N extends Number & Comparable<N>>
 
         return new NumericCastRecord<>(expression, type);
     }
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitNumericCast(this);
+    }
 }
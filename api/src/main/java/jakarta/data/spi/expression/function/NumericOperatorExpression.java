@@ -17,6 +17,7 @@
  */
 package jakarta.data.spi.expression.function;
 
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.expression.NumericExpression;
 import jakarta.data.messages.Messages;
 import jakarta.data.spi.expression.literal.NumericLiteral;
@@ -195,4 +196,9 @@ public interface NumericOperatorExpression<T, N extends Number & Comparable<N>>
             @Nonnull NumericExpression<? super T, N> right) {
         return new NumericOperatorExpressionRecord<>(operator, left, right);
     }
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitNumericOperator(this);
+    }
 }
@@ -18,6 +18,7 @@
 package jakarta.data.spi.expression.literal;
 
 import jakarta.data.expression.Expression;
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.metamodel.Attribute;
 import jakarta.annotation.Nonnull;
 
@@ -95,4 +96,9 @@ public interface Literal<V> extends Expression<Object, V> {
     @Override
     @Nonnull
     String toString();
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitLiteral(this);
+    }
 }
@@ -18,6 +18,7 @@
 package jakarta.data.spi.expression.path;
 
 import jakarta.data.expression.BooleanExpression;
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.expression.NavigableExpression;
 import jakarta.data.metamodel.BooleanAttribute;
 import jakarta.annotation.Nonnull;
@@ -32,4 +33,9 @@ public interface BooleanPath<T, U>
 
         return new BooleanPathRecord<>(expression, attribute);
     }
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitPath(this);
+    }
 }
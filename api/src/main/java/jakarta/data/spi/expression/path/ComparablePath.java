@@ -18,6 +18,7 @@
 package jakarta.data.spi.expression.path;
 
 import jakarta.data.expression.ComparableExpression;
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.expression.NavigableExpression;
 import jakarta.data.metamodel.ComparableAttribute;
 import jakarta.annotation.Nonnull;
@@ -29,4 +30,9 @@ public interface ComparablePath<T, U, C extends Comparable<?>>
     of(@Nonnull NavigableExpression<T, U> expression, @Nonnull ComparableAttribute<U, C> attribute) {
         return new ComparablePathRecord<>(expression, attribute);
     }
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitPath(this);
+    }
 }
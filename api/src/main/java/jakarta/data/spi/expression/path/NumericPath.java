@@ -17,6 +17,7 @@
  */
 package jakarta.data.spi.expression.path;
 
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.expression.NavigableExpression;
 import jakarta.data.expression.NumericExpression;
 import jakarta.data.metamodel.NumericAttribute;
@@ -29,4 +30,9 @@ public interface NumericPath<T, U, N extends Number & Comparable<N>>
     of(@Nonnull NavigableExpression<T, U> expression, @Nonnull NumericAttribute<U, N> attribute) {
         return new NumericPathRecord<>(expression, attribute);
     }
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitPath(this);
+    }
 }
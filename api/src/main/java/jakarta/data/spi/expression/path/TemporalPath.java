@@ -19,6 +19,7 @@ package jakarta.data.spi.expression.path;
 
 import java.time.temporal.Temporal;
 
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.expression.NavigableExpression;
 import jakarta.data.expression.TemporalExpression;
 import jakarta.data.metamodel.TemporalAttribute;
@@ -34,4 +35,9 @@ public interface TemporalPath<T, U, V extends Temporal & Comparable<? extends Te
 
         return new TemporalPathRecord<>(expression, attribute);
     }
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitPath(this);
+    }
 }
@@ -17,6 +17,7 @@
  */
 package jakarta.data.spi.expression.path;
 
+import jakarta.data.expression.ExpressionVisitor;
 import jakarta.data.expression.NavigableExpression;
 import jakarta.data.expression.TextExpression;
 import jakarta.data.metamodel.TextAttribute;
@@ -28,4 +29,9 @@ public interface TextPath<T, U>
     static <T, U> TextPath<T, U> of(@Nonnull NavigableExpression<T, U> expression, @Nonnull TextAttribute<U> attribute) {
         return new TextPathRecord<>(expression, attribute);
     }
+
+    @Override
+    default <R> R accept(@Nonnull ExpressionVisitor<R> visitor) {
+        return visitor.visitPath(this);
+    }
 }
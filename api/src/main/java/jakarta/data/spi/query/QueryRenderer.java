@@ -0,0 +1,659 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.BulkValues;
+import jakarta.data.constraint.ConstraintVisitor;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.expression.Expression;
+import jakarta.data.expression.ExpressionVisitor;
+import jakarta.data.expression.NavigableExpression;
+import jakarta.data.expression.TextExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.metamodel.Attribute;
+import jakarta.data.metamodel.BasicAttribute;
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.CompositeRestriction;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.restrict.RestrictionVisitor;
+import jakarta.data.spi.expression.function.CurrentDate;
+import jakarta.data.spi.expression.function.CurrentDateTime;
+import jakarta.data.spi.expression.function.CurrentTime;
+import jakarta.data.spi.expression.function.FunctionExpression;
+import jakarta.data.spi.expression.function.NumericCast;
+import jakarta.data.spi.expression.function.NumericFunctionExpression;
+import jakarta.data.spi.expression.function.NumericOperatorExpression;
+import jakarta.data.spi.expression.function.TextFunctionExpression;
+import jakarta.data.spi.expression.literal.Literal;
+import jakarta.data.spi.expression.path.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <p>Writes {@linkplain Restriction restrictions},
+ * {@linkplain Expression expressions}, and {@linkplain Order sort criteria}
+ * as Jakarta Common Query Language (JCQL), formerly known as Jakarta Data
+ * Query Language (JDQL), in which every {@link Literal} is replaced by an
+ * input parameter. The values of the input parameters are collected in the
+ * order of the parameters, so that a Jakarta Data provider can bind them to
+ * a prepared statement. Restrictions that differ only in the values of
+ * their literals are written as the same query text, which allows the
+ * database to reuse a cached statement for the query. For example,</p>
+ *
+ * <pre>
+ * QueryRenderer renderer = QueryRenderer.positional();
+ * String jcql = renderer.append("FROM Car")
+ *                       .where(restriction)
+ *                       .orderBy(order)
+ *                       .query();
+ * Query query = session.createQuery(jcql);
+ * List&lt;Object&gt; values = renderer.parameters();
+ * for (int i = 0; i &lt; values.size(); i++) {
+ *     query.setParameter(i + 1, values.get(i));
+ * }
+ * </pre>
+ *
+ * <p>Input parameters are written as {@code ?1}, {@code ?2}, and so forth
+ * by a {@linkplain #positional() positional} renderer, and as
+ * {@code :p1}, {@code :p2}, and so forth, with a prefix of choice, by a
+ * {@linkplain #named(String) named} renderer. The values of a constraint
+ * that was created from {@linkplain In#bulkValues() bulk values} are bound
+ * to a single input parameter, as in {@code IN (?1)}, whose value is the
+ * {@link List} of the bulk values. The escape character of a {@link Like}
+ * or {@link NotLike} constraint is always written with {@code ESCAPE}, so
+ * that the query text does not depend on the pattern and does not rely on
+ * the default escape character of the database.</p>
+ *
+ * <p>Composite restrictions within a composite restriction, and negated
+ * composite restrictions, are enclosed in parentheses, as are arithmetic
+ * operations. Sort criteria that {@linkplain Sort#ignoreCase() ignore case}
+ * are written as the {@code UPPER} of the sort key, as keyset restrictions
+ * compare text that ignores case, so that the same index on the upper case
+ * form of the text can serve both.</p>
+ *
+ * <p>A renderer writes into a {@link StringBuilder} that is retained by
+ * {@link #reset()}, so that a renderer can be reused for many queries.
+ * Instances of this class are not safe for use by multiple threads.</p>
+ *
+ * @since 1.1
+ */
+public final class QueryRenderer {
+
+    private final StringBuilder jcql = new StringBuilder(200);
+
+    private final List<Object> parameters = new ArrayList<>();
+
+    /**
+     * Prefix of named parameters, or {@code null} for positional parameters.
+     */
+    private final String prefix;
+
+    private final Writer writer = new Writer();
+
+    private QueryRenderer(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * <p>Obtains a renderer that writes positional input parameters,
+     * {@code ?1}, {@code ?2}, and so forth.</p>
+     *
+     * @return a new renderer.
+     */
+    @Nonnull
+    public static QueryRenderer positional() {
+        return new QueryRenderer(null);
+    }
+
+    /**
+     * <p>Obtains a renderer that writes named input parameters, consisting
+     * of the given prefix followed by the position of the parameter. For
+     * example, the prefix {@code p} results in {@code :p1}, {@code :p2},
+     * and so forth.</p>
+     *
+     * @param prefix prefix of the parameter names.
+     * @return a new renderer.
+     * @throws IllegalArgumentException if the prefix is not a valid
+     *                                  identifier.
+     * @throws NullPointerException     if the prefix is {@code null}.
+     */
+    @Nonnull
+    public static QueryRenderer named(@Nonnull String prefix) {
+        Messages.requireNonNull(prefix, "prefix");
+        boolean valid = !prefix.isEmpty()
+                && Character.isJavaIdentifierStart(prefix.charAt(0));
+        for (int i = 1; valid && i < prefix.length(); i++) {
+            valid = Character.isJavaIdentifierPart(prefix.charAt(i));
+        }
+        if (!valid) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "prefix", prefix));
+        }
+
+        return new QueryRenderer(prefix);
+    }
+
+    /**
+     * <p>Appends text, such as a clause of the query, as it is.</p>
+     *
+     * @param text the text.
+     * @return this renderer.
+     * @throws NullPointerException if the text is {@code null}.
+     */
+    @Nonnull
+    public QueryRenderer append(@Nonnull CharSequence text) {
+        Messages.requireNonNull(text, "text");
+
+        jcql.append(text);
+        return this;
+    }
+
+    /**
+     * <p>Writes an expression.</p>
+     *
+     * @param expression the expression.
+     * @return this renderer.
+     * @throws NullPointerException          if the expression is
+     *                                       {@code null}.
+     * @throws UnsupportedOperationException if the expression, or an
+     *                                       expression within it, is not
+     *                                       of a kind that can be written.
+     */
+    @Nonnull
+    public QueryRenderer expression(@Nonnull Expression<?, ?> expression) {
+        Messages.requireNonNull(expression, "expression");
+
+        expression.accept(writer);
+        return this;
+    }
+
+    /**
+     * <p>Writes the sort criteria, separated by commas, without the
+     * {@code ORDER BY} keywords.</p>
+     *
+     * @param order the sort criteria.
+     * @return this renderer.
+     * @throws NullPointerException if the sort criteria are {@code null}.
+     */
+    @Nonnull
+    public QueryRenderer order(@Nonnull Order<?> order) {
+        Messages.requireNonNull(order, "order");
+
+        boolean first = true;
+        for (Sort<?> sort : order) {
+            if (first) {
+                first = false;
+            } else {
+                jcql.append(", ");
+            }
+            sort(sort);
+        }
+        return this;
+    }
+
+    /**
+     * <p>Writes {@code ORDER BY} followed by the sort criteria, preceded by
+     * a space, unless there are no sort criteria.</p>
+     *
+     * @param order the sort criteria.
+     * @return this renderer.
+     * @throws NullPointerException if the sort criteria are {@code null}.
+     */
+    @Nonnull
+    public QueryRenderer orderBy(@Nonnull Order<?> order) {
+        Messages.requireNonNull(order, "order");
+
+        if (order.iterator().hasNext()) {
+            jcql.append(" ORDER BY ");
+            order(order);
+        }
+        return this;
+    }
+
+    /**
+     * <p>The values of the input parameters that have been written, in the
+     * order of the parameters.</p>
+     *
+     * @return the values, which cannot be modified.
+     */
+    @Nonnull
+    public List<Object> parameters() {
+        return Collections.unmodifiableList(new ArrayList<>(parameters));
+    }
+
+    /**
+     * <p>The values of the input parameters that have been written, by the
+     * name of the parameter, without the colon. For a positional renderer,
+     * the names are the positions of the parameters.</p>
+     *
+     * @return the values by name, in the order of the parameters, which
+     *         cannot be modified.
+     */
+    @Nonnull
+    public Map<String, Object> namedParameters() {
+        Map<String, Object> named = new LinkedHashMap<>(parameters.size() * 2);
+        for (int i = 0; i < parameters.size(); i++) {
+            named.put(prefix == null ? Integer.toString(i + 1) : prefix + (i + 1),
+                      parameters.get(i));
+        }
+        return Collections.unmodifiableMap(named);
+    }
+
+    /**
+     * <p>The query text that has been written.</p>
+     *
+     * @return the query text.
+     */
+    @Nonnull
+    public String query() {
+        return jcql.toString();
+    }
+
+    /**
+     * <p>Discards the query text and parameters that have been written,
+     * keeping the capacity that was allocated for them, so that the renderer
+     * can be reused for another query.</p>
+     *
+     * @return this renderer.
+     */
+    @Nonnull
+    public QueryRenderer reset() {
+        jcql.setLength(0);
+        parameters.clear();
+        return this;
+    }
+
+    /**
+     * <p>Writes a restriction as a conditional expression. An unrestricted
+     * restriction is written as {@code TRUE} and an unmatchable restriction
+     * as {@code FALSE}.</p>
+     *
+     * @param restriction the restriction.
+     * @return this renderer.
+     * @throws NullPointerException          if the restriction is
+     *                                       {@code null}.
+     * @throws UnsupportedOperationException if an expression within the
+     *                                       restriction is not of a kind
+     *                                       that can be written.
+     */
+    @Nonnull
+    public QueryRenderer restriction(@Nonnull Restriction<?> restriction) {
+        Messages.requireNonNull(restriction, "restriction");
+
+        restriction.accept(writer);
+        return this;
+    }
+
+    /**
+     * <p>The query text that has been written.</p>
+     *
+     * @return the query text.
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return jcql.toString();
+    }
+
+    /**
+     * <p>Writes {@code WHERE} followed by the restriction, preceded by a
+     * space, unless the restriction is unrestricted.</p>
+     *
+     * @param restriction the restriction.
+     * @return this renderer.
+     * @throws NullPointerException          if the restriction is
+     *                                       {@code null}.
+     * @throws UnsupportedOperationException if an expression within the
+     *                                       restriction is not of a kind
+     *                                       that can be written.
+     */
+    @Nonnull
+    public QueryRenderer where(@Nonnull Restriction<?> restriction) {
+        Messages.requireNonNull(restriction, "restriction");
+
+        if (!(restriction instanceof CompositeRestriction<?> composite
+                && composite.restrictions().isEmpty()
+                && isSatisfied(composite))) {
+            jcql.append(" WHERE ");
+            restriction.accept(writer);
+        }
+        return this;
+    }
+
+    /**
+     * Whether a composite restriction of no restrictions is satisfied.
+     */
+    private static boolean isSatisfied(CompositeRestriction<?> empty) {
+        return empty.isNegated() != (empty.type() == CompositeRestriction.Type.ALL);
+    }
+
+    private void parameter(Object value) {
+        parameters.add(value);
+        if (prefix == null) {
+            jcql.append('?');
+        } else {
+            jcql.append(':').append(prefix);
+        }
+        jcql.append(parameters.size());
+    }
+
+    private void sort(Sort<?> sort) {
+        if (sort.ignoreCase()) {
+            jcql.append("UPPER(");
+        }
+        if (sort.expression() == null) {
+            jcql.append(sort.property());
+        } else {
+            sort.expression().accept(writer);
+        }
+        if (sort.ignoreCase()) {
+            jcql.append(')');
+        }
+        jcql.append(sort.isAscending() ? " ASC" : " DESC");
+        switch (sort.nullOrdering()) {
+            case FIRST:
+                jcql.append(" NULLS FIRST");
+                break;
+            case LAST:
+                jcql.append(" NULLS LAST");
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Writes restrictions, constraints, and expressions.
+     */
+    private class Writer implements RestrictionVisitor<Void>,
+            ConstraintVisitor<Void>, ExpressionVisitor<Void> {
+
+        @Override
+        public Void visitBasic(BasicRestriction<?, ?> restriction) {
+            restriction.expression().accept(this);
+            jcql.append(' ');
+            return restriction.constraint().accept(this);
+        }
+
+        @Override
+        public Void visitComposite(CompositeRestriction<?> restriction) {
+            if (restriction.restrictions().isEmpty()) {
+                jcql.append(isSatisfied(restriction) ? "TRUE" : "FALSE");
+                return null;
+            }
+
+            if (restriction.isNegated()) {
+                jcql.append("NOT (");
+            }
+            String operator = restriction.type() == CompositeRestriction.Type.ALL
+                    ? " AND "
+                    : " OR ";
+            boolean first = true;
+            for (Restriction<?> r : restriction.restrictions()) {
+                if (first) {
+                    first = false;
+                } else {
+                    jcql.append(operator);
+                }
+                if (r instanceof CompositeRestriction<?> composite
+                        && !composite.isNegated()
+                        && !composite.restrictions().isEmpty()) {
+                    jcql.append('(');
+                    r.accept(this);
+                    jcql.append(')');
+                } else {
+                    r.accept(this);
+                }
+            }
+            if (restriction.isNegated()) {
+                jcql.append(')');
+            }
+            return null;
+        }
+
+        @Override
+        public Void visitAtLeast(AtLeast<?> constraint) {
+            return operation(">= ", constraint.bound());
+        }
+
+        @Override
+        public Void visitAtMost(AtMost<?> constraint) {
+            return operation("<= ", constraint.bound());
+        }
+
+        @Override
+        public Void visitBetween(Between<?> constraint) {
+            operation("BETWEEN ", constraint.lowerBound());
+            return operation(" AND ", constraint.upperBound());
+        }
+
+        @Override
+        public Void visitEqualTo(EqualTo<?> constraint) {
+            return operation("= ", constraint.expression());
+        }
+
+        @Override
+        public Void visitGreaterThan(GreaterThan<?> constraint) {
+            return operation("> ", constraint.bound());
+        }
+
+        @Override
+        public Void visitIn(In<?> constraint) {
+            return constraint.bulkValues().isPresent()
+                    ? bulk("IN (", constraint.bulkValues().get())
+                    : list("IN (", constraint.expressions());
+        }
+
+        @Override
+        public Void visitLessThan(LessThan<?> constraint) {
+            return operation("< ", constraint.bound());
+        }
+
+        @Override
+        public Void visitLike(Like constraint) {
+            return like("LIKE ", constraint.pattern(), constraint.escape());
+        }
+
+        @Override
+        public Void visitNotBetween(NotBetween<?> constraint) {
+            operation("NOT BETWEEN ", constraint.lowerBound());
+            return operation(" AND ", constraint.upperBound());
+        }
+
+        @Override
+        public Void visitNotEqualTo(NotEqualTo<?> constraint) {
+            return operation("<> ", constraint.expression());
+        }
+
+        @Override
+        public Void visitNotIn(NotIn<?> constraint) {
+            return constraint.bulkValues().isPresent()
+                    ? bulk("NOT IN (", constraint.bulkValues().get())
+                    : list("NOT IN (", constraint.expressions());
+        }
+
+        @Override
+        public Void visitNotLike(NotLike constraint) {
+            return like("NOT LIKE ", constraint.pattern(), constraint.escape());
+        }
+
+        @Override
+        public Void visitNotNull(NotNull<?> constraint) {
+            jcql.append("IS NOT NULL");
+            return null;
+        }
+
+        @Override
+        public Void visitNull(Null<?> constraint) {
+            jcql.append("IS NULL");
+            return null;
+        }
+
+        @Override
+        public Void visitAttribute(BasicAttribute<?, ?> attribute) {
+            jcql.append(attribute.name());
+            return null;
+        }
+
+        @Override
+        public Void visitPath(Path<?, ?> path) {
+            NavigableExpression<?, ?> parent = path.expression();
+            if (parent instanceof Path<?, ?> parentPath) {
+                visitPath(parentPath);
+            } else if (parent instanceof Attribute<?> attribute) {
+                jcql.append(attribute.name());
+            } else {
+                throw new UnsupportedOperationException(Messages.get(
+                        "023.expr.unvisitable",
+                        parent,
+                        parent.getClass().getName(),
+                        getClass().getName()));
+            }
+            jcql.append('.').append(path.attribute().name());
+            return null;
+        }
+
+        @Override
+        public Void visitLiteral(Literal<?> literal) {
+            parameter(literal.value());
+            return null;
+        }
+
+        @Override
+        public Void visitFunction(FunctionExpression<?, ?> function) {
+            String name = function.name();
+            List<? extends Expression<?, ?>> arguments = function.arguments();
+            if (NumericFunctionExpression.NEG.equals(name)) {
+                jcql.append("-(");
+                arguments.get(0).accept(this);
+                jcql.append(')');
+            } else if (TextFunctionExpression.CONCAT.equals(name)) {
+                jcql.append('(');
+                arguments.get(0).accept(this);
+                jcql.append(" || ");
+                arguments.get(1).accept(this);
+                jcql.append(')');
+            } else {
+                list(name + '(', arguments);
+            }
+            return null;
+        }
+
+        @Override
+        public Void visitNumericOperator(NumericOperatorExpression<?, ?> operation) {
+            jcql.append('(');
+            operation.left().accept(this);
+            jcql.append(switch (operation.operator()) {
+                case PLUS -> " + ";
+                case MINUS -> " - ";
+                case TIMES -> " * ";
+                case DIVIDE -> " / ";
+            });
+            operation.right().accept(this);
+            jcql.append(')');
+            return null;
+        }
+
+        @Override
+        public Void visitNumericCast(NumericCast<?, ?> cast) {
+            jcql.append("CAST(");
+            cast.expression().accept(this);
+            jcql.append(" AS ")
+                .append(cast.type().getSimpleName().toUpperCase(Locale.ROOT))
+                .append(')');
+            return null;
+        }
+
+        @Override
+        public Void visitCurrentDate(CurrentDate<?> currentDate) {
+            jcql.append("LOCAL DATE");
+            return null;
+        }
+
+        @Override
+        public Void visitCurrentDateTime(CurrentDateTime<?> currentDateTime) {
+            jcql.append("LOCAL DATETIME");
+            return null;
+        }
+
+        @Override
+        public Void visitCurrentTime(CurrentTime<?> currentTime) {
+            jcql.append("LOCAL TIME");
+            return null;
+        }
+
+        private Void bulk(String prefix, BulkValues<?> bulkValues) {
+            jcql.append(prefix);
+            parameter(bulkValues.values());
+            jcql.append(')');
+            return null;
+        }
+
+        private Void like(String operator, TextExpression<?> pattern, char escape) {
+            operation(operator, pattern);
+            jcql.append(" ESCAPE '").append(escape);
+            if (escape == '\'') {
+                jcql.append('\'');
+            }
+            jcql.append('\'');
+            return null;
+        }
+
+        private Void list(String prefix, List<? extends Expression<?, ?>> expressions) {
+            jcql.append(prefix);
+            boolean first = true;
+            for (Expression<?, ?> expression : expressions) {
+                if (first) {
+                    first = false;
+                } else {
+                    jcql.append(", ");
+                }
+                expression.accept(this);
+            }
+            jcql.append(')');
+            return null;
+        }
+
+        private Void operation(String operator, Expression<?, ?> operand) {
+            jcql.append(operator);
+            operand.accept(this);
+            return null;
+        }
+    }
+}
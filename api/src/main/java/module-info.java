@@ -39,6 +39,7 @@ import jakarta.data.repository.Is;
 import jakarta.data.repository.OrderBy;
 import jakarta.data.repository.Param;
 import jakarta.data.repository.Query;
+import jakarta.data.repository.ReactiveCrudRepository;
 import jakarta.data.repository.Repository;
 import jakarta.data.repository.Save;
 import jakarta.data.repository.Select;
@@ -48,6 +49,7 @@ import jakarta.data.restrict.Restriction;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.Set;
 
 /**
@@ -149,7 +151,10 @@ import java.util.Set;
  * are parameterized by the entity type and by its id type. Other built-in
  * repository interfaces, such as {@link BasicRepository}, may be used in
  * place of {@link DataRepository} and provide a base set of predefined
- * repository operations serving as an optional starting point. The Java
+ * repository operations serving as an optional starting point.
+ * {@link ReactiveCrudRepository} provides the same operations without
+ * blocking the caller, with results that are published to a
+ * {@link Flow.Subscriber} as it requests them. The Java
  * application programmer may extend these built-in interfaces, adding
  * custom methods. Alternatively, the programmer may define a repository
  * interface without inheriting the built-in superinterfaces. A programmer
@@ -867,6 +872,13 @@ import java.util.Set;
  * <td>{@code Page<E>}, {@code CursoredPage<E>}</td>
  * <td>For use with pagination</td></tr>
  *
+ * <tr style="vertical-align: top"><td>{@code find}</td>
+ * <td>{@code Flow.Publisher<E>}</td>
+ * <td>Results are read from the database no faster than the
+ * {@linkplain Flow.Subscriber subscriber} {@linkplain Flow.Subscription#request
+ * requests} them, with the demand of the subscriber mapped onto the fetch size
+ * or page size. See {@link ReactiveCrudRepository}</td></tr>
+ *
  * </table>
  *
  * <p>The following examples illustrate the difference between Query By Method
@@ -1318,6 +1330,39 @@ import java.util.Set;
  * </li>
  * </ol>
  *
+ * <h2>Asynchronous repository methods</h2>
+ *
+ * <p>An asynchronous repository method returns immediately, without waiting
+ * for the database to perform the operation. A repository method is
+ * asynchronous if its return type is:</p>
+ * <ul>
+ * <li>{@code CompletionStage<R>}, where {@code R} is a type that would be a
+ *     valid return type for a non-asynchronous repository method, or
+ *     {@code Void} for a method that would otherwise return {@code void}, or
+ *     </li>
+ * <li>{@link Flow.Publisher Flow.Publisher}{@code <E>}, for a find operation
+ *     that would otherwise return multiple results of type {@code E}. The
+ *     results are read from the database no faster than the
+ *     {@linkplain Flow.Subscriber subscriber} requests them.</li>
+ * </ul>
+ *
+ * <p>The asynchronous behavior of a method that returns
+ * {@code CompletionStage} is provided either by Jakarta Concurrency, if the
+ * method is annotated {@code jakarta.enterprise.concurrent.Asynchronous}, as
+ * described under <em>Jakarta Concurrency</em> below, or otherwise by the
+ * Jakarta Data provider. The asynchronous behavior of a method that returns
+ * {@code Flow.Publisher} is always provided by the Jakarta Data provider.
+ * The methods of {@link ReactiveCrudRepository} are asynchronous methods
+ * for which the Jakarta Data provider provides the asynchronous behavior.
+ * The {@code Asynchronous} annotation must not be used on a repository that
+ * extends {@code ReactiveCrudRepository} or on any of its methods.</p>
+ *
+ * <p>Every Jakarta Data provider is encouraged, but not required, to support
+ * asynchronous repository methods. A Jakarta Data provider that does not
+ * support an asynchronous return type raises
+ * {@link UnsupportedOperationException} when the operation is attempted, or
+ * rejects the return type at compile time.</p>
+ *
  * <h2>Jakarta Validation</h2>
  *
  * <p>When a Jakarta Validation provider is present, constraints that are defined on
@@ -1399,9 +1444,15 @@ import java.util.Set;
  * annotated with {@code jakarta.enterprise.concurrent.Asynchronous} to cause the
  * method to run asynchronously to the method invoker, as outlined by the section
  * titled <em>Asynchronous Methods</em> in the Jakarta Concurrency specification.
- * The return type must be {@code void} or {@code CompletionStage<R>} where
- * {@code R} is a type that would be a valid return type for a non-asynchronous
- * repository method.</p>
+ * The return type of a method that is annotated {@code Asynchronous} must be
+ * {@code void} or {@code CompletionStage<R>} where {@code R} is a type that would
+ * be a valid return type for a non-asynchronous repository method. In this case,
+ * the Jakarta Data provider returns an already-completed {@code CompletionStage},
+ * so that Jakarta Concurrency controls the asynchronous behavior. Repository
+ * methods that return {@code CompletionStage} without the {@code Asynchronous}
+ * annotation, such as the methods of {@link ReactiveCrudRepository}, are made
+ * asynchronous by the Jakarta Data provider instead, as described under
+ * <em>Asynchronous repository methods</em>.</p>
  *
  * <p>In the following example, the method {@code setPriceAsync()}
  * immediately returns a {@code CompletionStage<Integer>} to the caller.
@@ -1447,7 +1498,9 @@ module jakarta.data {
     exports jakarta.data.restrict;
     opens jakarta.data.repository;
     exports jakarta.data.spi;
+    exports jakarta.data.spi.evaluation;
     exports jakarta.data.spi.expression.function;
     exports jakarta.data.spi.expression.literal;
     exports jakarta.data.spi.expression.path;
+    exports jakarta.data.spi.query;
 }
@@ -20,6 +20,14 @@ package jakarta.data;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
@@ -137,4 +145,36 @@ class LimitTest {
             softly.assertThat(limit.startAt()).isEqualTo(5);
         });
     }
+
+    @Test
+    @DisplayName("should collect the sorted results within the limit")
+    void shouldCollectResultsWithinLimit() {
+        List<Integer> shuffled = IntStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+        Collections.shuffle(shuffled, new Random(7));
+
+        assertSoftly(softly -> {
+            softly.assertThat(shuffled.stream().collect(Limit.of(3).collector(Comparator.naturalOrder())))
+                    .containsExactly(1, 2, 3);
+            softly.assertThat(shuffled.stream().collect(Limit.range(11, 14).collector(Comparator.reverseOrder())))
+                    .containsExactly(990, 989, 988, 987);
+            softly.assertThat(shuffled.parallelStream().collect(Limit.of(5, 995).collector(Comparator.naturalOrder())))
+                    .containsExactly(996, 997, 998, 999, 1000);
+            softly.assertThat(shuffled.stream().collect(Limit.range(999, 2000).collector(Comparator.naturalOrder())))
+                    .containsExactly(999, 1000);
+        });
+    }
+
+    @Test
+    @DisplayName("should keep equal results in encounter order")
+    void shouldCollectStably() {
+        List<String> words = List.of("pear", "fig", "plum", "kiwi", "lime", "date", "apple");
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+
+        assertSoftly(softly -> {
+            softly.assertThat(words.stream().collect(Limit.of(4).collector(byLength)))
+                    .containsExactly("fig", "pear", "plum", "kiwi");
+            softly.assertThat(words.parallelStream().collect(Limit.range(2, 5).collector(byLength)))
+                    .containsExactly("pear", "plum", "kiwi", "lime");
+        });
+    }
 }
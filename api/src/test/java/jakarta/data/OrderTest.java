@@ -63,6 +63,24 @@ class OrderTest {
         });
     }
 
+    @Test
+    @DisplayName("should reverse the direction and null ordering of each sort")
+    void shouldReverseSorts() {
+        Order<Book> order = Order.by(_Book.title.ascIgnoreCase().nullsLast(),
+                                     _Book.publicationDate.desc().nullsFirst(),
+                                     _Book.id.asc());
+        Order<Book> reversed = order.reversed();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(reversed.sorts()).containsExactly(
+                    _Book.title.descIgnoreCase().nullsFirst(),
+                    _Book.publicationDate.asc().nullsLast(),
+                    _Book.id.desc());
+            soft.assertThat(reversed.reversed()).isEqualTo(order);
+            soft.assertThat(order.sorts().get(0).isAscending()).isTrue();
+        });
+    }
+
     @Test
     @DisplayName("should support equals and hashCode for same sorts")
     void shouldSupportEqualsAndHashCode() {
@@ -96,4 +114,21 @@ class OrderTest {
 
         SoftAssertions.assertSoftly(soft -> soft.assertThat(order.toString()).contains("published"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should intern equal orders and their sorts")
+    void shouldInternOrders() {
+        Order<Book> order = Order.by(_Book.numPages.desc(), Sort.asc("id"));
+        Order<Book> same = Order.by(_Book.numPages.desc(), Sort.asc("id"));
+
+        Order<Book> canonical = order.intern();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(same.intern()).isSameAs(canonical);
+            soft.assertThat(canonical).isEqualTo(order);
+            soft.assertThat(canonical.hashCode()).isEqualTo(same.hashCode());
+            soft.assertThat(canonical.sorts().get(1)).isSameAs(Sort.<Book>asc("id").intern());
+            soft.assertThat(Order.by(_Book.numPages.asc()).intern()).isNotSameAs(canonical);
+        });
+    }
+}
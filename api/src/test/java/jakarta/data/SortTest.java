@@ -176,4 +176,36 @@ class SortTest {
             softly.assertThat(sort.nullOrdering()).isEqualTo(Nulls.LAST);
         });
     }
+
+    @Test
+    @DisplayName("should reuse the sorts of an attribute and intern other sorts")
+    void shouldInternSorts() {
+        Sort<Book> byTitle = Sort.asc(NAME);
+
+        assertSoftly(softly -> {
+            softly.assertThat(_Book.title.asc().intern()).isSameAs(_Book.title.asc().intern());
+            softly.assertThat(_Book.title.descIgnoreCase().intern()).isSameAs(_Book.title.descIgnoreCase().intern());
+            softly.assertThat(_Book.title.asc().intern()).isNotSameAs(_Book.title.desc().intern());
+            softly.assertThat(_Book.title.asc()).isSameAs(_Book.title.asc());
+            softly.assertThat(_Book.title.ascIgnoreCase()).isSameAs(_Book.title.ascIgnoreCase());
+            softly.assertThat(_Book.numPages.desc()).isSameAs(_Book.numPages.desc());
+            softly.assertThat(_Book.title.asc()).isEqualTo(Sort.asc(_Book.title));
+            softly.assertThat(_Book.title.upper().asc()).isEqualTo(_Book.title.upper().asc());
+            softly.assertThat(Sort.<Book>asc(NAME).intern()).isSameAs(byTitle.intern());
+            softly.assertThat(byTitle.nullsFirst().intern()).isNotSameAs(byTitle.intern());
+        });
+    }
+
+    @Test
+    @DisplayName("should compute equal hash codes for equal sorts")
+    void shouldHashEqualSorts() {
+        Sort<Book> sort = _Book.numPages.desc().nullsLast();
+        Sort<Book> same = _Book.numPages.desc().nullsLast();
+
+        assertSoftly(softly -> {
+            softly.assertThat(sort).isEqualTo(same);
+            softly.assertThat(sort.hashCode()).isEqualTo(same.hashCode());
+            softly.assertThat(sort).isNotEqualTo(_Book.numPages.desc().nullsFirst());
+        });
+    }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import jakarta.data.expression.Expression;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import jakarta.data.restrict.Fingerprint;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.evaluation.AttributeAccessor;
+import jakarta.data.spi.evaluation.RestrictionEvaluator;
+import jakarta.data.spi.expression.literal.Literal;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@code In} and {@code NotIn} constraints that are created from
+ * bulk values.
+ */
+class BulkInTest {
+
+    @Test
+    @DisplayName("Primitive values are sorted without duplicates and looked up numerically")
+    void longValues() {
+        In<Long> in = In.bulk(new long[] {42L, 7L, 19L, 7L, 3L});
+        BulkValues<Long> bulk = in.bulkValues().orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(bulk.size()).isEqualTo(4);
+            soft.assertThat(bulk.values()).containsExactly(3L, 7L, 19L, 42L);
+            soft.assertThat(bulk.contains(19L)).isTrue();
+            soft.assertThat(bulk.contains(19)).isTrue();
+            soft.assertThat(bulk.contains(20L)).isFalse();
+            soft.assertThat(bulk.contains("19")).isFalse();
+            soft.assertThat(bulk.contains(null)).isFalse();
+            soft.assertThat(in.toString()).isEqualTo("IN [3, 7, 19, 42]");
+            soft.assertThat(in).isEqualTo(In.bulk(new long[] {3L, 7L, 19L, 42L}));
+        });
+    }
+
+    @Test
+    @DisplayName("Int values outside the range of int are not contained")
+    void intValues() {
+        NotIn<Integer> notIn = NotIn.bulk(new int[] {5, 1, 3});
+        BulkValues<Integer> bulk = notIn.bulkValues().orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(bulk.values()).containsExactly(1, 3, 5);
+            soft.assertThat(bulk.contains(5L)).isTrue();
+            soft.assertThat(bulk.contains(5L + (1L << 32))).isFalse();
+            soft.assertThat(notIn.toString()).isEqualTo("NOT IN [1, 3, 5]");
+        });
+    }
+
+    @Test
+    @DisplayName("Set values are chunked in iteration order")
+    void setValues() {
+        Set<String> codes = new LinkedHashSet<>(List.of("e", "d", "c", "b", "a"));
+        In<String> in = In.bulk(codes);
+        BulkValues<String> bulk = in.bulkValues().orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(bulk.contains("c")).isTrue();
+            soft.assertThat(bulk.contains("f")).isFalse();
+            soft.assertThat(bulk.chunks(2)).isEqualTo(
+                    List.of(List.of("e", "d"), List.of("c", "b"), List.of("a")));
+            soft.assertThat(bulk.chunks(5)).isEqualTo(List.of(List.of("e", "d", "c", "b", "a")));
+        });
+    }
+
+    @Test
+    @DisplayName("Set values are a snapshot that later changes to the set do not affect")
+    void setValuesSnapshot() {
+        Set<String> codes = new LinkedHashSet<>(List.of("a", "b"));
+        In<String> in = In.bulk(codes);
+        BulkValues<String> bulk = in.bulkValues().orElseThrow();
+        int hash = in.hashCode();
+        codes.add("c");
+        codes.remove("a");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(bulk.values()).containsExactly("a", "b");
+            soft.assertThat(bulk.contains("a")).isTrue();
+            soft.assertThat(bulk.contains("c")).isFalse();
+            soft.assertThat(bulk.size()).isEqualTo(2);
+            soft.assertThat(in.hashCode()).isEqualTo(hash);
+            soft.assertThat(in).isEqualTo(In.bulk(Set.of("a", "b")));
+        });
+    }
+
+    @Test
+    @DisplayName("A maximum chunk size of Integer.MAX_VALUE yields a single chunk")
+    void singleChunk() {
+        BulkValues<Long> bulk = In.bulk(new long[] {3L, 1L, 2L}).bulkValues().orElseThrow();
+
+        assertThat(bulk.chunks(Integer.MAX_VALUE)).isEqualTo(List.of(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    @DisplayName("Expressions are literals that are created as they are read")
+    void expressions() {
+        In<Long> in = In.bulk(new long[] {2L, 1L});
+        List<Expression<?, Long>> expressions = in.expressions();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(expressions).hasSize(2);
+            soft.assertThat(((Literal<?>) expressions.get(0)).value()).isEqualTo(1L);
+            soft.assertThat(((Literal<?>) expressions.get(1)).value()).isEqualTo(2L);
+            soft.assertThat(In.values(1L, 2L).bulkValues()).isEmpty();
+        });
+        assertThatThrownBy(() -> expressions.add(Literal.of(3L)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Negation keeps the same bulk values")
+    void negate() {
+        In<Long> in = In.bulk(new long[] {1L, 2L});
+        NotIn<Long> notIn = (NotIn<Long>) in.negate();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(notIn.bulkValues().orElseThrow()).isSameAs(in.bulkValues().orElseThrow());
+            soft.assertThat(notIn.negate()).isEqualTo(in);
+        });
+    }
+
+    @Test
+    @DisplayName("Invalid bulk values are rejected")
+    void invalid() {
+        Set<String> withNull = new LinkedHashSet<>();
+        withNull.add(null);
+
+        assertThatThrownBy(() -> In.bulk(Set.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NotIn.bulk(new long[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> In.bulk((int[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> In.bulk(withNull))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> In.bulk(new long[] {1L}).bulkValues().orElseThrow().chunks(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Bulk values are evaluated by lookup and fingerprinted as a single value")
+    void evaluateAndFingerprint() {
+        Restriction<Book> in = _Book.numChapters.satisfies(In.bulk(new int[] {8, 20}));
+        Restriction<Book> notIn = _Book.numChapters.satisfies(NotIn.bulk(new int[] {8, 15, 20}));
+        Predicate<Book> inPredicate =
+                RestrictionEvaluator.compile(in, AttributeAccessor.reflective());
+        Predicate<Book> notInPredicate =
+                RestrictionEvaluator.compile(notIn, AttributeAccessor.reflective());
+        Book book = Book.of("1", "Jakarta Data", "author", 12, 340, null, null);
+        Book other = Book.of("2", "Jakarta Persistence", "author", 20, 560, null, null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(inPredicate.test(book)).isFalse();
+            soft.assertThat(inPredicate.test(other)).isTrue();
+            soft.assertThat(notInPredicate.test(book)).isTrue();
+            soft.assertThat(notInPredicate.test(other)).isFalse();
+            soft.assertThat(Fingerprint.of(in)).isEqualTo(
+                    Fingerprint.of(_Book.numChapters.satisfies(In.bulk(new int[] {7}))));
+            soft.assertThat(Fingerprint.of(notIn).shape()).isEqualTo("numChapters NOT IN ?1");
+        });
+        assertThat(Fingerprint.of(in).values())
+                .containsExactly(In.bulk(new int[] {20, 8}).bulkValues().orElseThrow());
+    }
+}
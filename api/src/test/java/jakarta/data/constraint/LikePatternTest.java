@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import jakarta.data.mock.entity._Book;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the classification of patterns of {@code Like} constraints and
+ * for matching text against them.
+ */
+class LikePatternTest {
+
+    @Test
+    @DisplayName("Patterns are classified by their wildcards")
+    void classify() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Like.literal("100%").parsed().orElseThrow().kind())
+                    .isEqualTo(LikePattern.Kind.EXACT);
+            soft.assertThat(Like.prefix("JTP").parsed().orElseThrow().kind())
+                    .isEqualTo(LikePattern.Kind.PREFIX);
+            soft.assertThat(Like.suffix("EV").parsed().orElseThrow().kind())
+                    .isEqualTo(LikePattern.Kind.SUFFIX);
+            soft.assertThat(Like.substring("Hybrid").parsed().orElseThrow().kind())
+                    .isEqualTo(LikePattern.Kind.CONTAINS);
+            soft.assertThat(Like.pattern("JHM___E%").parsed().orElseThrow().kind())
+                    .isEqualTo(LikePattern.Kind.GENERAL);
+            soft.assertThat(LikePattern.of("a%b", '\\').kind())
+                    .isEqualTo(LikePattern.Kind.GENERAL);
+            soft.assertThat(LikePattern.of("%%a%%", '\\').kind())
+                    .isEqualTo(LikePattern.Kind.CONTAINS);
+            soft.assertThat(LikePattern.of("%", '\\').kind())
+                    .isEqualTo(LikePattern.Kind.CONTAINS);
+            soft.assertThat(LikePattern.of("", '\\').kind())
+                    .isEqualTo(LikePattern.Kind.EXACT);
+        });
+    }
+
+    @Test
+    @DisplayName("Literal text and prefix exclude escape characters and wildcards")
+    void literalAndPrefix() {
+        LikePattern exact = Like.literal("50%_off").parsed().orElseThrow();
+        LikePattern contains = Like.substring("a_b").parsed().orElseThrow();
+        LikePattern general = Like.pattern("JHM---^CC", '-', 'C', '^').parsed().orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(exact.literal()).contains("50%_off");
+            soft.assertThat(exact.prefix()).isEqualTo("50%_off");
+            soft.assertThat(contains.literal()).contains("a_b");
+            soft.assertThat(contains.prefix()).isEmpty();
+            soft.assertThat(general.literal()).isEmpty();
+            soft.assertThat(general.prefix()).isEqualTo("JHM");
+            soft.assertThat(general.prefixEnd()).contains("JHN");
+            soft.assertThat(LikePattern.of("a\uFFFF%", '\\').prefixEnd()).contains("b");
+            soft.assertThat(LikePattern.of("%a", '\\').prefixEnd()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Matching agrees with the equivalent regular expression")
+    void matchesLikeRegex() {
+        List<String> patterns = List.of("", "%", "abc", "abc%", "%abc", "%abc%", "%abcdef%",
+                "a_c", "a%c", "%a%b%", "_%_", "a\\%c", "a\\_c%", "%abab%", "ab%ab");
+        List<String> texts = List.of("", "a", "abc", "abcd", "xabc", "xabcx", "a%c", "a_cx",
+                "axc", "ab", "xxabcdefyy", "abababab", "ababab", "aab", "ba");
+
+        SoftAssertions.assertSoftly(soft -> {
+            for (String pattern : patterns) {
+                LikePattern like = LikePattern.of(pattern, '\\');
+                Pattern regex = regex(pattern);
+                for (String text : texts) {
+                    soft.assertThat(like.matches(text))
+                            .as("%s LIKE %s", text, pattern)
+                            .isEqualTo(regex.matcher(text).matches());
+                }
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Patterns that are not literals are not parsed")
+    void expressionPattern() {
+        assertThat(Like.pattern(_Book.title, '\\').parsed()).isEmpty();
+        assertThat(NotLike.prefix("Jakarta").parsed().orElseThrow().matches("Jakarta Data"))
+                .isTrue();
+    }
+
+    private static Pattern regex(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == '\\') {
+                regex.append(Pattern.quote(String.valueOf(pattern.charAt(++i))));
+            } else if (ch == '_') {
+                regex.append('.');
+            } else if (ch == '%') {
+                regex.append(".*");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(ch)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
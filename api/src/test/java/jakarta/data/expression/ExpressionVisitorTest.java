@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.expression;
+
+import jakarta.data.metamodel.BasicAttribute;
+import jakarta.data.mock.entity._Book;
+import jakarta.data.spi.expression.function.CurrentDate;
+import jakarta.data.spi.expression.function.CurrentDateTime;
+import jakarta.data.spi.expression.function.CurrentTime;
+import jakarta.data.spi.expression.function.FunctionExpression;
+import jakarta.data.spi.expression.function.NumericCast;
+import jakarta.data.spi.expression.function.NumericOperatorExpression;
+import jakarta.data.spi.expression.function.TextFunctionExpression;
+import jakarta.data.spi.expression.literal.Literal;
+import jakarta.data.spi.expression.path.Path;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpressionVisitorTest {
+
+    // Describes an expression by the name of the visitor method
+    static class ExpressionNames implements ExpressionVisitor<String> {
+        @Override
+        public String visitAttribute(BasicAttribute<?, ?> attribute) {
+            return "attribute " + attribute.name();
+        }
+
+        @Override
+        public String visitPath(Path<?, ?> path) {
+            return "path";
+        }
+
+        @Override
+        public String visitLiteral(Literal<?> literal) {
+            return "literal " + literal.value();
+        }
+
+        @Override
+        public String visitFunction(FunctionExpression<?, ?> function) {
+            return "function " + function.name();
+        }
+
+        @Override
+        public String visitNumericOperator(NumericOperatorExpression<?, ?> operation) {
+            return "operator " + operation.operator();
+        }
+
+        @Override
+        public String visitNumericCast(NumericCast<?, ?> cast) {
+            return "cast";
+        }
+
+        @Override
+        public String visitCurrentDate(CurrentDate<?> currentDate) {
+            return "current date";
+        }
+
+        @Override
+        public String visitCurrentDateTime(CurrentDateTime<?> currentDateTime) {
+            return "current date time";
+        }
+
+        @Override
+        public String visitCurrentTime(CurrentTime<?> currentTime) {
+            return "current time";
+        }
+    }
+
+    @Test
+    @DisplayName("should dispatch each kind of expression to its visitor method")
+    void shouldDispatchExpressions() {
+        ExpressionNames names = new ExpressionNames();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(_Book.title.accept(names)).isEqualTo("attribute title");
+            soft.assertThat(_Book.numPages.accept(names)).isEqualTo("attribute numPages");
+            soft.assertThat(Literal.of(10).accept(names)).isEqualTo("literal 10");
+            soft.assertThat(_Book.title.upper().accept(names)).isEqualTo("function " + TextFunctionExpression.UPPER);
+            soft.assertThat(_Book.numPages.plus(1).accept(names))
+                    .isEqualTo("operator " + NumericOperatorExpression.Operator.PLUS);
+            soft.assertThat(_Book.numPages.asLong().accept(names)).isEqualTo("cast");
+            soft.assertThat(CurrentDate.now().accept(names)).isEqualTo("current date");
+            soft.assertThat(CurrentDateTime.now().accept(names)).isEqualTo("current date time");
+            soft.assertThat(CurrentTime.now().accept(names)).isEqualTo("current time");
+        });
+    }
+
+    @Test
+    @DisplayName("should reject expressions that the visitor does not handle")
+    void shouldRejectOtherExpressions() {
+        Expression<Object, String> other = () -> String.class;
+
+        assertThatThrownBy(() -> other.accept(new ExpressionNames()))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining(ExpressionNames.class.getName());
+    }
+}
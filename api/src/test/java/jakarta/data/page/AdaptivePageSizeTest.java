@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.page.impl.CursoredPageRecord;
+import jakarta.data.page.impl.PageRecord;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("AdaptivePageSize")
+class AdaptivePageSizeTest {
+
+    private static final List<String> ROWS =
+            Collections.nCopies(10, "x".repeat(100));
+
+    private static Page<String> page(PageRequest pageRequest, List<String> content) {
+        return new CursoredPageRecord<>(content, PageRequest.Cursor::forKey, -1,
+                                        pageRequest, true, content.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should size pages towards the byte budget within bounds")
+    void shouldAdjustToByteBudget() {
+        Page<String> page = page(PageRequest.ofSize(10), ROWS);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(AdaptivePageSize.<String>bytes(1500, String::length, 1, 1000)
+                    .nextSize(page, Duration.ZERO)).isEqualTo(15);
+            soft.assertThat(AdaptivePageSize.<String>bytes(100000, String::length, 1, 1000)
+                    .nextSize(page, Duration.ZERO)).isEqualTo(20);
+            soft.assertThat(AdaptivePageSize.<String>bytes(100, String::length, 1, 1000)
+                    .nextSize(page, Duration.ZERO)).isEqualTo(5);
+            soft.assertThat(AdaptivePageSize.<String>bytes(100000, String::length, 1, 12)
+                    .nextSize(page, Duration.ZERO)).isEqualTo(12);
+            soft.assertThat(AdaptivePageSize.<String>bytes(100, String::length, 8, 1000)
+                    .nextSize(page, Duration.ZERO)).isEqualTo(8);
+        });
+    }
+
+    @Test
+    @DisplayName("should size pages towards the target latency")
+    void shouldAdjustToLatency() {
+        AdaptivePageSize<Object> pageSize =
+                AdaptivePageSize.latency(Duration.ofMillis(50), 1, 1000);
+        Page<String> page = page(PageRequest.ofSize(10), ROWS);
+        Page<String> empty = page(PageRequest.ofSize(10), List.of());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(pageSize.nextSize(page, Duration.ofMillis(100))).isEqualTo(5);
+            soft.assertThat(pageSize.nextSize(page, Duration.ofMillis(40))).isEqualTo(13);
+            soft.assertThat(pageSize.nextSize(empty, Duration.ofMillis(100))).isEqualTo(10);
+        });
+    }
+
+    @Test
+    @DisplayName("should only resize the next page request of cursor-based pagination")
+    void shouldResizeCursorRequestsOnly() {
+        AdaptivePageSize<Object> pageSize =
+                AdaptivePageSize.latency(Duration.ofMillis(50), 1, 1000);
+        Page<String> cursored = page(PageRequest.ofSize(10), ROWS);
+        Page<String> offset = new PageRecord<>(PageRequest.ofSize(10), ROWS, 100);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(pageSize.nextPageRequest(cursored, Duration.ofMillis(100)))
+                    .isEqualTo(cursored.nextPageRequest().size(5));
+            soft.assertThat(pageSize.nextPageRequest(offset, Duration.ofMillis(100)))
+                    .isEqualTo(offset.nextPageRequest());
+        });
+    }
+
+    @Test
+    @DisplayName("should reject invalid targets and bounds")
+    void shouldRejectInvalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                AdaptivePageSize.latency(Duration.ZERO, 1, 10));
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                AdaptivePageSize.bytes(0, Object::hashCode, 1, 10));
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                AdaptivePageSize.latency(Duration.ofSeconds(1), 0, 10));
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                AdaptivePageSize.latency(Duration.ofSeconds(1), 10, 9));
+    }
+
+    @Test
+    @DisplayName("should grow the pages of a stream up to the byte budget")
+    void shouldStreamAdaptivePages() {
+        List<Integer> data = IntStream.rangeClosed(1, 100).boxed()
+                .collect(Collectors.toList());
+        List<Integer> sizes = new ArrayList<>();
+
+        List<Integer> results = Pages.stream(PageRequest.ofSize(5),
+                req -> {
+                    sizes.add(req.size());
+                    int after = req.cursor().map(c -> (Integer) c.get(0)).orElse(0);
+                    List<Integer> content = data.stream()
+                            .filter(i -> i > after)
+                            .limit(req.size())
+                            .toList();
+                    return new CursoredPageRecord<>(content, PageRequest.Cursor::forKey, -1,
+                                                    req, after == 0, content.size() < req.size());
+                },
+                AdaptivePageSize.bytes(96, i -> 4, 1, 24))
+                .toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(results).isEqualTo(data);
+            soft.assertThat(sizes.subList(0, 5)).containsExactly(5, 10, 20, 24, 24);
+        });
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.page.impl.CursoredPageRecord;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("CursorCheckpoints")
+class CursorCheckpointsTest {
+
+    private static final int TOTAL = 1000;
+
+    private static final Order<Object> ORDER = Order.by(Sort.asc("id"));
+
+    private final List<PageRequest> requests = new ArrayList<>();
+
+    // Values 1 to TOTAL, where the cursor is the value itself.
+    // The position of the first result is computed for offset pagination
+    // and located by the cursor otherwise.
+    private CursoredPage<Long> query(PageRequest pageRequest) {
+        requests.add(pageRequest);
+        long first;
+        if (pageRequest.mode() == PageRequest.Mode.OFFSET) {
+            first = (pageRequest.pageNumber() - 1) * pageRequest.size() + 1;
+        } else if (pageRequest.mode() == PageRequest.Mode.CURSOR_NEXT) {
+            first = pageRequest.cursor().orElseThrow().getLong(0) + 1;
+        } else {
+            first = Math.max(1, pageRequest.cursor().orElseThrow().getLong(0) - pageRequest.size());
+        }
+        List<Long> content = new ArrayList<>();
+        for (long i = first; i <= TOTAL && content.size() < pageRequest.size(); i++) {
+            content.add(i);
+        }
+        return new CursoredPageRecord<>(content, PageRequest.Cursor::ofLong, TOTAL,
+                pageRequest, first == 1, content.isEmpty() || content.get(content.size() - 1) == TOTAL);
+    }
+
+    @Test
+    @DisplayName("should use offset pagination when no checkpoint is near")
+    void shouldUseOffsetWithoutCheckpoints() {
+        CursorCheckpoints checkpoints = new CursorCheckpoints(10, 100, 5);
+
+        CursoredPage<Long> page = checkpoints.page("all", ORDER,
+                PageRequest.ofPage(57).size(10), this::query);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.content().get(0)).isEqualTo(561L);
+            soft.assertThat(requests).hasSize(1);
+            soft.assertThat(requests.get(0).mode()).isEqualTo(PageRequest.Mode.OFFSET);
+        });
+    }
+
+    @Test
+    @DisplayName("should walk forward from the nearest checkpoint with cursors")
+    void shouldWalkForwardFromCheckpoint() {
+        CursorCheckpoints checkpoints = new CursorCheckpoints(10, 100, 5);
+        checkpoints.page("all", ORDER, PageRequest.ofPage(55).size(10), this::query);
+        requests.clear();
+
+        CursoredPage<Long> page = checkpoints.page("all", ORDER,
+                PageRequest.ofPage(57).size(10), this::query);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.content().get(0)).isEqualTo(561L);
+            soft.assertThat(page.pageRequest().pageNumber()).isEqualTo(57L);
+            soft.assertThat(requests).hasSize(2);
+            soft.assertThat(requests.get(0).mode()).isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+            soft.assertThat(requests.get(0).cursor()).contains(PageRequest.Cursor.ofLong(550L));
+        });
+    }
+
+    @Test
+    @DisplayName("should walk backward from a checkpoint after the requested page")
+    void shouldWalkBackwardFromCheckpoint() {
+        CursorCheckpoints checkpoints = new CursorCheckpoints(10, 100, 5);
+        checkpoints.page("all", ORDER, PageRequest.ofPage(60).size(10), this::query);
+        requests.clear();
+
+        CursoredPage<Long> page = checkpoints.page("all", ORDER,
+                PageRequest.ofPage(58).size(10), this::query);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.content().get(0)).isEqualTo(571L);
+            soft.assertThat(requests).hasSize(2);
+            soft.assertThat(requests.get(0).mode()).isEqualTo(PageRequest.Mode.CURSOR_PREVIOUS);
+            soft.assertThat(requests.get(0).cursor()).contains(PageRequest.Cursor.ofLong(591L));
+        });
+    }
+
+    @Test
+    @DisplayName("should keep checkpoints separate per query shape, order, and size")
+    void shouldKeyCheckpointsByQuery() {
+        CursorCheckpoints checkpoints = new CursorCheckpoints(10, 100, 5);
+        checkpoints.page("all", ORDER, PageRequest.ofPage(55).size(10), this::query);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(checkpoints.nearest("other", ORDER, PageRequest.ofPage(56).size(10)))
+                .isEqualTo(PageRequest.ofPage(56).size(10));
+            soft.assertThat(checkpoints.nearest("all", Order.by(Sort.desc("id")), PageRequest.ofPage(56).size(10)))
+                .isEqualTo(PageRequest.ofPage(56).size(10));
+            soft.assertThat(checkpoints.nearest("all", ORDER, PageRequest.ofPage(56).size(20)))
+                .isEqualTo(PageRequest.ofPage(56).size(20));
+            soft.assertThat(checkpoints.nearest("all", ORDER, PageRequest.ofPage(56).size(10)).mode())
+                .isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+        });
+
+        checkpoints.invalidate("all");
+        SoftAssertions.assertSoftly(soft ->
+            soft.assertThat(checkpoints.nearest("all", ORDER, PageRequest.ofPage(56).size(10)))
+                .isEqualTo(PageRequest.ofPage(56).size(10)));
+    }
+
+    @Test
+    @DisplayName("should discard checkpoints of the least recently used query")
+    void shouldEvictLeastRecentlyUsedQuery() {
+        CursorCheckpoints checkpoints = new CursorCheckpoints(2, 100, 5);
+        checkpoints.page("a", ORDER, PageRequest.ofPage(3).size(10), this::query);
+        checkpoints.page("b", ORDER, PageRequest.ofPage(3).size(10), this::query);
+        checkpoints.nearest("a", ORDER, PageRequest.ofPage(4).size(10));
+        checkpoints.page("c", ORDER, PageRequest.ofPage(3).size(10), this::query);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(checkpoints.nearest("a", ORDER, PageRequest.ofPage(4).size(10)).mode())
+                .isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+            soft.assertThat(checkpoints.nearest("b", ORDER, PageRequest.ofPage(4).size(10)).mode())
+                .isEqualTo(PageRequest.Mode.OFFSET);
+        });
+    }
+
+    @Test
+    @DisplayName("should keep checkpoints spread out when the maximum is reached")
+    void shouldThinCheckpoints() {
+        CursorCheckpoints checkpoints = new CursorCheckpoints(1, 3, 1);
+        for (long p : new long[] {10, 20, 21, 40}) {
+            checkpoints.page("all", ORDER, PageRequest.ofPage(p).size(10), this::query);
+        }
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(checkpoints.nearest("all", ORDER, PageRequest.ofPage(11).size(10)).mode())
+                .isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+            soft.assertThat(checkpoints.nearest("all", ORDER, PageRequest.ofPage(22).size(10)).mode())
+                .isEqualTo(PageRequest.Mode.OFFSET);
+            soft.assertThat(checkpoints.nearest("all", ORDER, PageRequest.ofPage(41).size(10)).mode())
+                .isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+        });
+    }
+
+    @Test
+    @DisplayName("should reject maximums that are less than 1")
+    void shouldRejectInvalidMaximums() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CursorCheckpoints(0, 1, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new CursorCheckpoints(1, 0, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new CursorCheckpoints(1, 1, 0));
+    }
+}
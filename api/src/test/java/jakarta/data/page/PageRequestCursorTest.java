@@ -239,5 +239,63 @@ class PageRequestCursorTest {
                     .hasSize(cursor.size());
         });
     }
-}
 
+    @Test
+    @DisplayName("Should store a single long key without boxing")
+    void shouldCreateLongCursor() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.ofLong(1050L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor.size()).isEqualTo(1);
+            softly.assertThat(cursor.getLong(0)).isEqualTo(1050L);
+            softly.assertThat(cursor.get(0)).isEqualTo(1050L);
+            softly.assertThat(cursor.elements()).containsExactly(1050L);
+            softly.assertThat(cursor).isEqualTo(PageRequest.Cursor.ofLong(1050L));
+            softly.assertThat(cursor).isEqualTo(PageRequest.Cursor.ofLongs(1050L));
+            softly.assertThat(cursor).isNotEqualTo(PageRequest.Cursor.ofLong(1051L));
+            softly.assertThat(cursor.hashCode())
+                  .isEqualTo(PageRequest.Cursor.forKey(1050L).hashCode());
+            softly.assertThatThrownBy(() -> cursor.getLong(1))
+                  .isInstanceOf(IndexOutOfBoundsException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should store a composite key of long values without boxing")
+    void shouldCreateLongArrayCursor() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.ofLongs(2024L, 17L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor.size()).isEqualTo(2);
+            softly.assertThat(cursor.getLong(0)).isEqualTo(2024L);
+            softly.assertThat(cursor.getLong(1)).isEqualTo(17L);
+            softly.assertThat(cursor.get(1)).isEqualTo(17L);
+            softly.assertThat(cursor.elements()).containsExactly(2024L, 17L);
+            softly.assertThat(cursor).isEqualTo(PageRequest.Cursor.ofLongs(2024L, 17L));
+            softly.assertThat(cursor).isNotEqualTo(PageRequest.Cursor.ofLongs(17L, 2024L));
+            softly.assertThat(cursor.hashCode())
+                  .isEqualTo(PageRequest.Cursor.forKey(2024L, 17L).hashCode());
+            softly.assertThat(cursor.toString()).endsWith(" with 2 values");
+        });
+    }
+
+    @Test
+    @DisplayName("Should obtain numeric key values of other cursors as long")
+    void shouldConvertKeyValuesToLong() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forKey("Jakarta", 25, 36L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor.getLong(1)).isEqualTo(25L);
+            softly.assertThat(cursor.getLong(2)).isEqualTo(36L);
+            softly.assertThatThrownBy(() -> cursor.getLong(0))
+                  .isInstanceOf(ClassCastException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should require at least one long key value")
+    void shouldRequireLongKeyValues() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(PageRequest.Cursor::ofLongs);
+    }
+}
@@ -0,0 +1,527 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.page.impl.CursoredPageRecord;
+import jakarta.data.page.impl.PageRecord;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+@DisplayName("Pages")
+class PagesTest {
+
+    private static final List<Integer> DATA =
+            IntStream.rangeClosed(1, 23).boxed().collect(Collectors.toList());
+
+    private final AtomicInteger queries = new AtomicInteger();
+
+    // offset pagination over DATA
+    private Page<Integer> offsetQuery(PageRequest pageRequest) {
+        queries.incrementAndGet();
+        int from = (int) Math.min(DATA.size(),
+                (pageRequest.pageNumber() - 1) * pageRequest.size());
+        int to = Math.min(DATA.size(), from + pageRequest.size());
+        return new PageRecord<>(pageRequest, DATA.subList(from, to), DATA.size());
+    }
+
+    // cursor-based pagination over DATA, where the cursor is the value itself
+    private CursoredPage<Integer> cursorQuery(PageRequest pageRequest) {
+        queries.incrementAndGet();
+        int after = pageRequest.cursor()
+                .map(c -> (Integer) c.get(0))
+                .orElse(0);
+        List<Integer> content = DATA.stream()
+                .filter(i -> i > after)
+                .limit(pageRequest.size())
+                .toList();
+        List<PageRequest.Cursor> cursors = new ArrayList<>();
+        for (Integer i : content) {
+            cursors.add(PageRequest.Cursor.forKey(i));
+        }
+        boolean lastPage = content.isEmpty() ||
+                content.get(content.size() - 1).equals(DATA.get(DATA.size() - 1));
+        return new CursoredPageRecord<>(content, cursors, -1, pageRequest,
+                pageRequest.cursor().isEmpty(), lastPage);
+    }
+
+    @Test
+    @DisplayName("should iterate over the results of every page")
+    void shouldIterateOverAllPages() {
+        Iterator<Integer> it = Pages.iterator(PageRequest.ofSize(5),
+                                              this::offsetQuery);
+        List<Integer> results = new ArrayList<>();
+        it.forEachRemaining(results::add);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(results).isEqualTo(DATA);
+            soft.assertThat(queries.get()).isEqualTo(5);
+            soft.assertThat(it.hasNext()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should not run a query until results are requested")
+    void shouldBeLazy() {
+        Stream<Integer> stream = Pages.stream(PageRequest.ofSize(5),
+                                              this::offsetQuery);
+        assertThat(queries.get()).isZero();
+
+        List<Integer> first = stream.limit(7).toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).containsExactly(1, 2, 3, 4, 5, 6, 7);
+            soft.assertThat(queries.get()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("should follow the cursor of each cursored page")
+    void shouldFollowCursors() {
+        List<Integer> results = Pages.stream(PageRequest.ofSize(10),
+                                             this::cursorQuery)
+                .toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(results).isEqualTo(DATA);
+            soft.assertThat(queries.get()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("should retrieve pages ahead of the consumer on the executor")
+    void shouldPrefetchPages() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Stream<Integer> stream = Pages.stream(PageRequest.ofSize(4),
+                                                   this::cursorQuery,
+                                                   executor,
+                                                   2)) {
+            assertThat(stream.toList()).isEqualTo(DATA);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(queries.get()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("should stop retrieving pages when the stream is closed")
+    void shouldStopPrefetchingWhenClosed() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<Integer> first;
+        try (Stream<Integer> stream = Pages.stream(PageRequest.ofSize(2),
+                                                   this::offsetQuery,
+                                                   executor,
+                                                   1)) {
+            first = stream.limit(3).toList();
+        }
+        executor.shutdown();
+        boolean terminated = executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).containsExactly(1, 2, 3);
+            soft.assertThat(terminated).isTrue();
+            soft.assertThat(queries.get()).isLessThanOrEqualTo(4);
+        });
+    }
+
+    @Test
+    @DisplayName("should raise the failure of a query to the consumer")
+    void shouldRaiseQueryFailure() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Stream<Integer> stream = Pages.stream(PageRequest.ofSize(5),
+                req -> {
+                    if (req.pageNumber() == 3) {
+                        throw new IllegalStateException("database unavailable");
+                    }
+                    return offsetQuery(req);
+                },
+                executor,
+                1)) {
+            assertThatThrownBy(stream::toList)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("database unavailable");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("should reject a prefetch depth that is less than 1")
+    void shouldRejectInvalidPrefetch() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThatIllegalArgumentException().isThrownBy(() ->
+                    Pages.stream(PageRequest.ofSize(5), this::offsetQuery,
+                                 executor, 0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("should split the pages of a parallel stream by page number")
+    void shouldStreamPagesInParallel() {
+        Queue<PageRequest> requests = new ConcurrentLinkedQueue<>();
+        List<Integer> results = Pages.parallelStream(PageRequest.ofSize(2).withoutTotal(),
+                req -> {
+                    requests.add(req);
+                    return offsetQuery(req);
+                })
+                .map(i -> i * 10)
+                .toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(results).isEqualTo(DATA.stream().map(i -> i * 10).toList());
+            soft.assertThat(queries.get()).isEqualTo(12);
+            soft.assertThat(requests.peek().requestTotal()).isTrue();
+            soft.assertThat(requests.stream().filter(PageRequest::requestTotal).count())
+                    .isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("should follow the pages that come after a total that is too low")
+    void shouldFollowPagesAfterEstimatedTotal() {
+        List<Integer> results = Pages.parallelStream(
+                PageRequest.ofSize(5).withTotal(PageRequest.TotalStrategy.ESTIMATE),
+                req -> {
+                    Page<Integer> page = offsetQuery(req);
+                    return new PageRecord<>(req, page.content(), req.requestTotal() ? 8 : -1);
+                })
+                .toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(results).isEqualTo(DATA);
+            soft.assertThat(queries.get()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    @DisplayName("should retrieve pages one after the other when there is no total")
+    void shouldStreamSequentiallyWithoutTotal() {
+        List<Integer> offsetResults = Pages.parallelStream(PageRequest.ofSize(5),
+                req -> {
+                    Page<Integer> page = offsetQuery(req);
+                    return new PageRecord<>(req, page.content(), -1);
+                })
+                .toList();
+        List<Integer> cursorResults = Pages.parallelStream(PageRequest.ofSize(10),
+                                                           this::cursorQuery)
+                .toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(offsetResults).isEqualTo(DATA);
+            soft.assertThat(cursorResults).isEqualTo(DATA);
+            soft.assertThat(queries.get()).isEqualTo(8);
+        });
+    }
+
+    @Test
+    @DisplayName("should retrieve pages as the subscriber requests results")
+    void shouldPublishOnDemand() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        Pages.publisher(PageRequest.ofSize(5), this::offsetQuery, Runnable::run)
+                .subscribe(subscriber);
+        int beforeRequest = queries.get();
+
+        subscriber.subscription.request(3);
+        int afterFirstRequest = queries.get();
+        subscriber.subscription.request(3);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(beforeRequest).isZero();
+            soft.assertThat(afterFirstRequest).isEqualTo(1);
+            soft.assertThat(queries.get()).isEqualTo(2);
+            soft.assertThat(subscriber.results).containsExactly(1, 2, 3, 4, 5, 6);
+            soft.assertThat(subscriber.completed).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should complete after publishing the results of every page")
+    void shouldPublishAllPages() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        Pages.publisher(PageRequest.ofSize(10), this::cursorQuery, Runnable::run)
+                .subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.results).isEqualTo(DATA);
+            soft.assertThat(subscriber.completed).isTrue();
+            soft.assertThat(subscriber.error).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should signal an error for failures and invalid requests")
+    void shouldSignalPublisherErrors() {
+        RecordingSubscriber invalid = new RecordingSubscriber();
+        Pages.publisher(PageRequest.ofSize(5), this::offsetQuery, Runnable::run)
+                .subscribe(invalid);
+        invalid.subscription.request(0);
+
+        RecordingSubscriber failed = new RecordingSubscriber();
+        Pages.<Integer>publisher(PageRequest.ofSize(5),
+                        req -> {
+                            throw new IllegalStateException("database unavailable");
+                        },
+                        Runnable::run)
+                .subscribe(failed);
+        failed.subscription.request(1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(invalid.error).isInstanceOf(IllegalArgumentException.class);
+            soft.assertThat(failed.error).isInstanceOf(IllegalStateException.class);
+            soft.assertThat(failed.completed).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should stop publishing when the subscription is cancelled")
+    void shouldStopPublishingWhenCancelled() {
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                if (item == 7) {
+                    subscription.cancel();
+                }
+            }
+        };
+        Pages.publisher(PageRequest.ofSize(5), this::offsetQuery, Runnable::run)
+                .subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.results).containsExactly(1, 2, 3, 4, 5, 6, 7);
+            soft.assertThat(queries.get()).isEqualTo(2);
+            soft.assertThat(subscriber.completed).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should size cursor-based pages to the demand of the subscriber")
+    void shouldSizePagesToDemand() {
+        List<Integer> sizes = new ArrayList<>();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        Pages.publisher(PageRequest.ofSize(10).afterCursor(PageRequest.Cursor.forKey(0)),
+                        req -> {
+                            sizes.add(req.size());
+                            return cursorQuery(req);
+                        },
+                        Runnable::run)
+                .subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+        subscriber.subscription.request(12);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(sizes).containsExactly(3, 10, 2);
+            soft.assertThat(subscriber.results).isEqualTo(DATA.subList(0, 15));
+            soft.assertThat(subscriber.completed).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should cancel without signaling an error when the subscriber fails")
+    void shouldCancelWhenSubscriberFails() {
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                if (item == 2) {
+                    throw new IllegalStateException("subscriber failed");
+                }
+            }
+        };
+        Pages.publisher(PageRequest.ofSize(5), this::offsetQuery, Runnable::run)
+                .subscribe(subscriber);
+
+        assertThatThrownBy(() -> subscriber.subscription.request(5))
+                .isInstanceOf(IllegalStateException.class);
+        subscriber.subscription.request(5);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.results).containsExactly(1, 2);
+            soft.assertThat(subscriber.error).isNull();
+            soft.assertThat(subscriber.completed).isFalse();
+        });
+    }
+
+    // cursor-based pagination over the values of one shard
+    private static CursoredPage<Integer> shardQuery(List<Integer> shard, PageRequest pageRequest) {
+        int after = pageRequest.cursor()
+                .map(c -> (Integer) c.get(0))
+                .orElse(0);
+        List<Integer> content = shard.stream()
+                .filter(i -> i > after)
+                .limit(pageRequest.size())
+                .toList();
+        List<PageRequest.Cursor> cursors = new ArrayList<>();
+        for (Integer i : content) {
+            cursors.add(PageRequest.Cursor.forKey(i));
+        }
+        boolean lastPage = content.isEmpty() ||
+                content.get(content.size() - 1).equals(shard.get(shard.size() - 1));
+        return new CursoredPageRecord<>(content, cursors, -1, pageRequest,
+                pageRequest.cursor().isEmpty(), lastPage);
+    }
+
+    @Test
+    @DisplayName("should merge sorted streams lazily and close them")
+    void shouldMergeStreams() {
+        AtomicInteger closed = new AtomicInteger();
+        AtomicInteger read = new AtomicInteger();
+        List<Stream<Integer>> streams = List.of(
+                Stream.of(1, 4, 7, 10).peek(i -> read.incrementAndGet()).onClose(closed::incrementAndGet),
+                Stream.of(2, 5, 8).peek(i -> read.incrementAndGet()).onClose(closed::incrementAndGet),
+                Stream.of(3, 6, 9).peek(i -> read.incrementAndGet()).onClose(closed::incrementAndGet));
+
+        List<Integer> firstFive;
+        try (Stream<Integer> merged = Pages.merge(streams, Comparator.<Integer>naturalOrder())) {
+            firstFive = merged.limit(5).toList();
+        }
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(firstFive).containsExactly(1, 2, 3, 4, 5);
+            // the next result of each stream is read ahead of the merged result
+            soft.assertThat(read.get()).isEqualTo(8);
+            soft.assertThat(closed.get()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("should close every merged stream and raise the first failure to close")
+    void shouldCloseEveryMergedStream() {
+        AtomicInteger closed = new AtomicInteger();
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalStateException second = new IllegalStateException("second");
+        List<Stream<Integer>> streams = List.of(
+                Stream.of(1).onClose(() -> {
+                    throw first;
+                }),
+                Stream.of(2).onClose(closed::incrementAndGet),
+                Stream.of(3).onClose(() -> {
+                    throw second;
+                }));
+
+        Stream<Integer> merged = Pages.merge(streams, Comparator.<Integer>naturalOrder());
+
+        assertThatThrownBy(merged::close)
+                .hasMessage("first")
+                .hasSuppressedException(second);
+        assertThat(closed.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should merge pages of shards and continue each shard after its last merged result")
+    void shouldMergePages() {
+        List<Integer> east = List.of(1, 2, 5, 8, 9, 12, 15);
+        List<Integer> west = List.of(3, 4, 6, 7, 10);
+        List<Integer> merged = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+
+        List<PageRequest> requests = List.of(PageRequest.ofSize(4), PageRequest.ofSize(4));
+        MergedPage<Integer> page;
+        do {
+            List<CursoredPage<Integer>> pages = Arrays.asList(
+                    requests.get(0) == null ? null : shardQuery(east, requests.get(0)),
+                    requests.get(1) == null ? null : shardQuery(west, requests.get(1)));
+            page = Pages.merge(pages, Comparator.naturalOrder(), 4);
+            merged.addAll(page.content());
+            sizes.add(page.content().size());
+            requests = page.nextPageRequests();
+        } while (page.hasNext());
+
+        List<Integer> expected = new ArrayList<>(east);
+        expected.addAll(west);
+        expected.sort(Comparator.naturalOrder());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(merged).isEqualTo(expected);
+            soft.assertThat(sizes).containsExactly(4, 4, 4);
+        });
+    }
+
+    @Test
+    @DisplayName("should end a merged page when a page with a next page is exhausted")
+    void shouldEndMergedPageAtExhaustedPage() {
+        CursoredPage<Integer> small = shardQuery(List.of(1, 2, 3, 20), PageRequest.ofSize(2));
+        CursoredPage<Integer> large = shardQuery(List.of(4, 5, 6, 7), PageRequest.ofSize(5));
+
+        MergedPage<Integer> page = Pages.merge(List.of(small, large), Comparator.naturalOrder(), 4);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.content()).containsExactly(1, 2);
+            soft.assertThat(page.nextPageRequest(0)).isEqualTo(small.nextPageRequest());
+            soft.assertThat(page.nextPageRequest(1)).isEqualTo(large.pageRequest());
+            soft.assertThatThrownBy(() -> Pages.merge(List.of(small), Comparator.naturalOrder(), 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    // subscriber that records the signals it receives
+    static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+        boolean completed;
+        Throwable error;
+        final List<Integer> results = new ArrayList<>();
+        Flow.Subscription subscription;
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+    }
+}
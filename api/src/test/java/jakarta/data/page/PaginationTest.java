@@ -17,6 +17,9 @@
  */
 package jakarta.data.page;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -113,5 +116,62 @@ class PaginationTest {
                 .contains("pageNumber=2", "size=50", "mode=CURSOR_NEXT", "cursor size=2");
     }
 
+    @Test
+    @DisplayName("should create a Pagination with a total strategy")
+    void shouldReturnPaginationWithTotalStrategy() {
+        var original = new Pagination(1, 10, PageRequest.Mode.OFFSET, null, false);
+        var estimate = original.withTotal(PageRequest.TotalStrategy.ESTIMATE);
+        var none = estimate.withTotal(PageRequest.TotalStrategy.NONE);
+
+        assertThat(original.totalStrategy()).isEqualTo(PageRequest.TotalStrategy.NONE);
+        assertThat(estimate.totalStrategy()).isEqualTo(PageRequest.TotalStrategy.ESTIMATE);
+        assertThat(estimate.requestTotal()).isTrue();
+        assertThat(estimate.withTotal().totalStrategy()).isEqualTo(PageRequest.TotalStrategy.EXACT);
+        assertThat(estimate.size(20).totalStrategy()).isEqualTo(PageRequest.TotalStrategy.ESTIMATE);
+        assertThat(none.requestTotal()).isFalse();
+        assertThat(none).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("should carry a known total that is not part of equality")
+    void shouldCarryKnownTotal() {
+        var original = new Pagination(1, 10, PageRequest.Mode.OFFSET, null, true);
+        var known = original.withKnownTotal(250L, Duration.ofMinutes(5));
+        var next = known.pageNumber(2).afterCursor(PageRequest.Cursor.forKey("k"));
+
+        assertThat(original.knownTotal()).isEmpty();
+        assertThat(known.knownTotal().map(PageRequest.KnownTotal::totalElements)).contains(250L);
+        assertThat(known).isEqualTo(original);
+        assertThat(known.hashCode()).isEqualTo(original.hashCode());
+        assertThat(next.knownTotal()).isEqualTo(known.knownTotal());
+        assertThat(known.toString()).isEqualTo(original.toString())
+                .doesNotContain("250");
+    }
+
+    @Test
+    @DisplayName("should remove a known total")
+    void shouldRemoveKnownTotal() {
+        var original = new Pagination(1, 10, PageRequest.Mode.OFFSET, null, true);
+        var known = original.withKnownTotal(250L, Duration.ofMinutes(5));
 
+        assertThat(original.withoutKnownTotal()).isSameAs(original);
+        assertThat(known.withoutKnownTotal().knownTotal()).isEmpty();
+        assertThat(known.withoutKnownTotal()).isEqualTo(known);
+        assertThat(known.withoutKnownTotal().totalStrategy())
+                .isEqualTo(PageRequest.TotalStrategy.EXACT);
+    }
+
+    @Test
+    @DisplayName("should consider a known total fresh until its maximum age elapses")
+    void shouldDetermineFreshnessOfKnownTotal() {
+        Instant asOf = Instant.parse("2026-01-15T10:00:00Z");
+        var knownTotal = new PageRequest.KnownTotal(80L, asOf, Duration.ofSeconds(30));
+
+        assertThat(knownTotal.isFresh(asOf.plusSeconds(30))).isTrue();
+        assertThat(knownTotal.isFresh(asOf.plusSeconds(31))).isFalse();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PageRequest.KnownTotal(-1L, asOf, Duration.ZERO));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PageRequest.KnownTotal(1L, asOf, Duration.ofSeconds(-1)));
+    }
 }
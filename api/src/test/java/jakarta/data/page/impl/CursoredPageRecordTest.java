@@ -29,8 +29,11 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class CursoredPageRecordTest {
 
@@ -263,4 +266,115 @@ class CursoredPageRecordTest {
             soft.assertThatThrownBy(page::totalPages).isInstanceOf(IllegalStateException.class);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should compute cursors from a function only when requested")
+    void shouldComputeCursorsOnDemand() {
+        AtomicInteger computed = new AtomicInteger();
+        List<String> content = new ArrayList<>(List.of("b", "c", "d", "e"));
+
+        CursoredPage<String> page = new CursoredPageRecord<>(
+                content,
+                s -> {
+                    computed.incrementAndGet();
+                    return Cursor.forKey(s);
+                },
+                -1,
+                PageRequest.ofPage(2).size(4).withoutTotal()
+                           .afterCursor(Cursor.forKey("a")),
+                false,
+                false
+        );
+
+        int computedForPageRequests = computed.get();
+        content.clear();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(computedForPageRequests).isEqualTo(2);
+            soft.assertThat(page.content()).containsExactly("b", "c", "d", "e");
+            soft.assertThat(page.nextPageRequest().cursor())
+                .contains(Cursor.forKey("e"));
+            soft.assertThat(page.previousPageRequest().cursor())
+                .contains(Cursor.forKey("b"));
+            soft.assertThat(page.cursor(2)).isEqualTo(Cursor.forKey("d"));
+            soft.assertThat(computed.get()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("should be equal to a page with the same precomputed cursors")
+    void shouldEqualPageWithPrecomputedCursors() {
+        PageRequest pageRequest = PageRequest.ofSize(3).withoutTotal();
+
+        var lazy = new CursoredPageRecord<>(
+                List.of("x", "y", "z"),
+                Cursor::forKey,
+                -1,
+                pageRequest,
+                true,
+                true
+        );
+
+        var eager = new CursoredPageRecord<>(
+                List.of("x", "y", "z"),
+                List.of(Cursor.forKey("x"), Cursor.forKey("y"), Cursor.forKey("z")),
+                -1,
+                pageRequest,
+                true,
+                true
+        );
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(lazy).isEqualTo(eager);
+            soft.assertThat(lazy.cursors()).hasSize(3);
+            soft.assertThat(lazy.hasNext()).isFalse();
+            soft.assertThat(lazy.hasPrevious()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should carry a known total forward to the next and previous page requests")
+    void shouldCarryKnownTotalForward() {
+        PageRequest pageRequest = PageRequest.ofPage(2).size(2)
+                .afterCursor(Cursor.forKey("b"))
+                .withKnownTotal(6L, Duration.ofMinutes(10));
+
+        var page = new CursoredPageRecord<>(
+                List.of("c", "d"),
+                Cursor::forKey,
+                6L,
+                pageRequest,
+                false,
+                false
+        );
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.nextPageRequest().knownTotal())
+                .isEqualTo(pageRequest.knownTotal());
+            soft.assertThat(page.previousPageRequest().knownTotal())
+                .isEqualTo(pageRequest.knownTotal());
+        });
+    }
+
+    @Test
+    @DisplayName("should report the total strategy that the repository used")
+    void shouldReportStrategyUsed() {
+        PageRequest pageRequest = PageRequest.ofSize(2)
+                .withTotal(PageRequest.TotalStrategy.ESTIMATE);
+
+        var requested = new CursoredPageRecord<>(
+                List.of("a", "b"), Cursor::forKey, 40L, pageRequest, true, false);
+        var exact = new TotalStrategyCursoredPage<>(new CursoredPageRecord<>(
+                List.of("a", "b"), Cursor::forKey, 37L, pageRequest, true, false),
+                PageRequest.TotalStrategy.EXACT);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(requested.totalStrategy()).isEqualTo(PageRequest.TotalStrategy.ESTIMATE);
+            soft.assertThat(requested.isTotalApproximate()).isTrue();
+            soft.assertThat(exact.totalStrategy()).isEqualTo(PageRequest.TotalStrategy.EXACT);
+            soft.assertThat(exact.isTotalApproximate()).isFalse();
+            soft.assertThat(exact.cursor(1)).isEqualTo(Cursor.forKey("b"));
+            soft.assertThat(exact.nextPageRequest()).isEqualTo(exact.page().nextPageRequest());
+        });
+    }
+}
@@ -26,6 +26,8 @@ import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 import jakarta.data.page.PageRequest.Cursor;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -174,4 +176,140 @@ class PageRecordTest {
         });
     }
 
+    @Test
+    @DisplayName("should not use an estimated total to determine whether there are more results")
+    void shouldIgnoreEstimatedTotalForMoreResults() {
+        PageRequest page2Request = PageRequest.ofPage(2).size(5)
+                .withTotal(PageRequest.TotalStrategy.ESTIMATE);
+        PageRecord<String> page2 = new PageRecord<>(page2Request,
+                List.of("F", "G", "H", "I", "J"), 9L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page2.hasNext()).isEqualTo(true);
+            softly.assertThat(page2.isTotalApproximate()).isEqualTo(true);
+            softly.assertThat(page2.totalStrategy())
+                  .isEqualTo(PageRequest.TotalStrategy.ESTIMATE);
+            softly.assertThat(page2.nextPageRequest().totalStrategy())
+                  .isEqualTo(PageRequest.TotalStrategy.ESTIMATE);
+            softly.assertThat(page2.previousPageRequest().totalStrategy())
+                  .isEqualTo(PageRequest.TotalStrategy.ESTIMATE);
+        });
+    }
+
+    @Test
+    @DisplayName("should report the total strategy of an exact total")
+    void shouldReportExactTotalStrategy() {
+        PageRecord<String> exact = new PageRecord<>(PageRequest.ofPage(1).size(3),
+                List.of("A", "B", "C"), 3L);
+        PageRecord<String> none = new PageRecord<>(PageRequest.ofPage(1).size(3).withoutTotal(),
+                List.of("A", "B", "C"), -1L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(exact.hasNext()).isEqualTo(false);
+            softly.assertThat(exact.isTotalApproximate()).isEqualTo(false);
+            softly.assertThat(exact.totalStrategy()).isEqualTo(PageRequest.TotalStrategy.EXACT);
+            softly.assertThat(none.totalStrategy()).isEqualTo(PageRequest.TotalStrategy.NONE);
+            softly.assertThat(none.isTotalApproximate()).isEqualTo(false);
+        });
+    }
+
+    @Test
+    @DisplayName("should report the total strategy that the repository used")
+    void shouldReportStrategyUsed() {
+        PageRequest page2Request = PageRequest.ofPage(2).size(5)
+                .withTotal(PageRequest.TotalStrategy.ESTIMATE);
+        PageRecord<String> record = new PageRecord<>(page2Request,
+                List.of("F", "G", "H", "I", "J"), 10L, false);
+        Page<String> page2 = new TotalStrategyPage<>(record, PageRequest.TotalStrategy.EXACT);
+        Page<String> none = new PageRecord<>(page2Request, List.of("F"), -1L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(record.totalStrategy()).isEqualTo(PageRequest.TotalStrategy.ESTIMATE);
+            softly.assertThat(page2.totalStrategy()).isEqualTo(PageRequest.TotalStrategy.EXACT);
+            softly.assertThat(page2.isTotalApproximate()).isEqualTo(false);
+            softly.assertThat(page2.totalElements()).isEqualTo(10L);
+            softly.assertThat(page2.content()).isEqualTo(record.content());
+            softly.assertThat(page2.hasNext()).isEqualTo(false);
+            softly.assertThat(page2.previousPageRequest()).isEqualTo(record.previousPageRequest());
+            softly.assertThatThrownBy(() -> new TotalStrategyPage<>(none,
+                            PageRequest.TotalStrategy.ESTIMATE))
+                  .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> new TotalStrategyPage<>(record,
+                            PageRequest.TotalStrategy.NONE))
+                  .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("should carry an unchanged known total forward as is")
+    void shouldCarryKnownTotalForward() {
+        PageRequest page2Request = PageRequest.ofPage(2).size(5)
+                .withKnownTotal(18L, Duration.ofMinutes(1));
+        PageRequest.KnownTotal knownTotal = page2Request.knownTotal().orElseThrow();
+        PageRecord<String> page2 = new PageRecord<>(page2Request,
+                List.of("F", "G", "H", "I", "J"), 18L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page2.nextPageRequest().knownTotal()).contains(knownTotal);
+            softly.assertThat(page2.previousPageRequest().knownTotal()).contains(knownTotal);
+            softly.assertThat(page2.nextPageRequest()).isEqualTo(PageRequest.ofPage(3).size(5));
+        });
+    }
+
+    @Test
+    @DisplayName("should carry a recomputed total forward with the same maximum age")
+    void shouldCarryRecomputedTotalForward() {
+        PageRequest.KnownTotal stale = new PageRequest.KnownTotal(
+                18L, Instant.now().minusSeconds(120), Duration.ofMinutes(1));
+        PageRequest page2Request = PageRequest.ofPage(2).size(5).withKnownTotal(stale);
+        PageRecord<String> page2 = new PageRecord<>(page2Request,
+                List.of("F", "G", "H", "I", "J"), 21L);
+
+        PageRequest.KnownTotal carried =
+                page2.nextPageRequest().knownTotal().orElseThrow();
+
+        assertSoftly(softly -> {
+            softly.assertThat(carried.totalElements()).isEqualTo(21L);
+            softly.assertThat(carried.maxAge()).isEqualTo(Duration.ofMinutes(1));
+            softly.assertThat(carried.isFresh()).isEqualTo(true);
+            softly.assertThat(stale.isFresh()).isEqualTo(false);
+        });
+    }
+
+    @Test
+    @DisplayName("should not add a known total to requests that did not have one")
+    void shouldNotAddKnownTotal() {
+        PageRecord<String> page1 = new PageRecord<>(PageRequest.ofPage(1).size(2),
+                List.of("A", "B"), 10L);
+        PageRequest known = PageRequest.ofPage(2).size(2)
+                .withKnownTotal(10L, Duration.ofMinutes(5));
+        PageRecord<String> page2 = new PageRecord<>(known.withoutKnownTotal(),
+                List.of("C", "D"), 10L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page1.nextPageRequest().knownTotal()).isEmpty();
+            softly.assertThat(page2.nextPageRequest().knownTotal()).isEmpty();
+            softly.assertThat(page2.previousPageRequest().knownTotal()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("should not carry forward an estimated or unavailable total")
+    void shouldNotCarryEstimatedTotal() {
+        PageRecord<String> estimated = new PageRecord<>(PageRequest.ofPage(1).size(2)
+                .withTotal(PageRequest.TotalStrategy.ESTIMATE), List.of("A", "B"), 10L);
+        PageRequest known = PageRequest.ofPage(2).size(2)
+                .withTotal(PageRequest.TotalStrategy.ESTIMATE)
+                .withKnownTotal(12L, Duration.ofMinutes(1));
+        PageRecord<String> reestimated = new PageRecord<>(known, List.of("C", "D"), 10L);
+        PageRecord<String> none = new PageRecord<>(PageRequest.ofPage(1).size(2).withoutTotal(),
+                List.of("A", "B"), -1L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(estimated.nextPageRequest().knownTotal()).isEmpty();
+            softly.assertThat(reestimated.nextPageRequest().knownTotal())
+                  .isEqualTo(known.knownTotal());
+            softly.assertThat(none.nextPageRequest().knownTotal()).isEmpty();
+        });
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+class ContainmentTest {
+
+    @Test
+    @DisplayName("should determine containment of ranges on the same expression")
+    void shouldCompareRanges() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.implies(_Book.numPages.lessThan(50), _Book.numPages.lessThan(100))).isTrue();
+            soft.assertThat(Restrict.implies(_Book.numPages.lessThan(100), _Book.numPages.lessThan(50))).isFalse();
+            soft.assertThat(Restrict.implies(_Book.numPages.between(10, 20), _Book.numPages.greaterThan(5))).isTrue();
+            soft.assertThat(Restrict.implies(_Book.numPages.lessThanEqual(100), _Book.numPages.lessThan(100))).isFalse();
+            soft.assertThat(Restrict.implies(_Book.numPages.equalTo(7), _Book.numPages.notBetween(10, 20))).isTrue();
+            soft.assertThat(Restrict.implies(_Book.numPages.lessThan(50), _Book.numChapters.lessThan(100))).isFalse();
+            soft.assertThat(Restrict.implies(_Book.numPages.lessThan(50), _Book.numPages.notNull())).isTrue();
+            soft.assertThat(Restrict.implies(_Book.numPages.isNull(), _Book.numPages.lessThan(50))).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should determine containment of values")
+    void shouldCompareValues() {
+        Restriction<Book> bulk = _Book.numPages.satisfies(In.bulk(Set.of(10, 20, 30)));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.implies(_Book.numPages.in(10, 20), _Book.numPages.in(10, 20, 30))).isTrue();
+            soft.assertThat(Restrict.implies(_Book.numPages.in(10, 40), _Book.numPages.in(10, 20, 30))).isFalse();
+            soft.assertThat(Restrict.implies(_Book.numPages.in(10, 20), bulk)).isTrue();
+            soft.assertThat(Restrict.implies(bulk, _Book.numPages.between(10, 30))).isTrue();
+            soft.assertThat(Restrict.implies(bulk, _Book.numPages.lessThan(30))).isFalse();
+            soft.assertThat(Restrict.implies(_Book.numPages.notIn(1, 2, 3), _Book.numPages.notEqualTo(2))).isTrue();
+            soft.assertThat(Restrict.implies(_Book.numPages.greaterThan(5), _Book.numPages.notIn(1, 2, 3))).isTrue();
+            soft.assertThat(Restrict.implies(_Book.numPages.satisfies(NotIn.bulk(new int[] {1, 2, 3})),
+                                             _Book.numPages.notEqualTo(3))).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("should determine containment of patterns")
+    void shouldComparePatterns() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.implies(_Book.title.startsWith("Jakarta D"), _Book.title.startsWith("Jakarta"))).isTrue();
+            soft.assertThat(Restrict.implies(_Book.title.startsWith("Jakarta"), _Book.title.startsWith("Jakarta D"))).isFalse();
+            soft.assertThat(Restrict.implies(_Book.title.startsWith("Jakarta Data"), _Book.title.contains("Data"))).isTrue();
+            soft.assertThat(Restrict.implies(_Book.title.equalTo("Jakarta Data"), _Book.title.endsWith("Data"))).isTrue();
+            soft.assertThat(Restrict.implies(_Book.title.endsWith("Data"), _Book.title.startsWith("Jakarta"))).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should decompose composite restrictions")
+    void shouldDecomposeComposites() {
+        Restriction<Book> drilldown = Restrict.all(_Book.title.startsWith("Jakarta"),
+                                                   _Book.numPages.greaterThan(100),
+                                                   _Book.numPages.lessThan(200));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.implies(drilldown, _Book.numPages.between(100, 200))).isTrue();
+            soft.assertThat(Restrict.implies(drilldown, _Book.title.startsWith("Jakarta"))).isTrue();
+            soft.assertThat(Restrict.implies(drilldown, Restrict.all(_Book.title.startsWith("Jak"),
+                                                                     _Book.numPages.lessThan(300)))).isTrue();
+            soft.assertThat(Restrict.implies(drilldown, Restrict.all(_Book.title.startsWith("Jak"),
+                                                                     _Book.numChapters.lessThan(300)))).isFalse();
+            soft.assertThat(Restrict.implies(Restrict.any(_Book.numPages.lessThan(10), _Book.numPages.greaterThan(90)),
+                                             _Book.numPages.notBetween(10, 90))).isTrue();
+            soft.assertThat(Restrict.implies(_Book.numPages.between(1, 9),
+                                             Restrict.any(_Book.numPages.lessThan(5), _Book.numPages.greaterThanEqual(5)))).isTrue();
+            soft.assertThat(Restrict.implies(drilldown, Restrict.unrestricted())).isTrue();
+            soft.assertThat(Restrict.implies(Restrict.unrestricted(), drilldown)).isFalse();
+            soft.assertThat(Restrict.implies(Restrict.not(_Book.numPages.greaterThanEqual(50)),
+                                             _Book.numPages.lessThan(100))).isTrue();
+        });
+    }
+}
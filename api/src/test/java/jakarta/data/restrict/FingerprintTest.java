@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.data.expression.Expression;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FingerprintTest {
+
+    private static Restriction<Book> search(String title, int minPages, String... ids) {
+        return Restrict.all(_Book.title.upper().startsWith(title),
+                            _Book.numPages.between(minPages, minPages * 2),
+                            _Book.id.in(ids));
+    }
+
+    @Test
+    @DisplayName("should have equal fingerprints for restrictions that differ only in values")
+    void shouldIgnoreValues() {
+        Restriction<Book> first = search("JAKARTA", 100, "1", "2");
+        Restriction<Book> second = search("JAVA", 300, "7", "8");
+
+        Fingerprint fingerprint1 = Fingerprint.of(first);
+        Fingerprint fingerprint2 = Fingerprint.of(second);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).isNotEqualTo(second);
+            soft.assertThat(fingerprint1).isEqualTo(fingerprint2);
+            soft.assertThat(fingerprint1.hashCode()).isEqualTo(fingerprint2.hashCode());
+            soft.assertThat(fingerprint1.shape()).isEqualTo(
+                    "(UPPER(title) LIKE ?1 ESCAPE '\\')" +
+                    " AND (numPages BETWEEN ?2 AND ?3)" +
+                    " AND (id IN (?4, ?5))");
+        });
+    }
+
+    @Test
+    @DisplayName("should extract literal values in slot order")
+    void shouldExtractValues() {
+        Fingerprint fingerprint = Fingerprint.of(search("JAVA", 300, "7", "8"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(fingerprint.slots()).isEqualTo(5);
+            soft.assertThat(fingerprint.values()).containsExactly("JAVA%", 300, 600, "7", "8");
+        });
+    }
+
+    @Test
+    @DisplayName("should distinguish restrictions with different structure")
+    void shouldDistinguishStructure() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Fingerprint.of(search("JAVA", 300, "7", "8")))
+                    .isNotEqualTo(Fingerprint.of(search("JAVA", 300, "7", "8", "9")));
+            soft.assertThat(Fingerprint.of(_Book.numPages.greaterThan(10)))
+                    .isNotEqualTo(Fingerprint.of(_Book.numPages.greaterThanEqual(10)));
+            soft.assertThat(Fingerprint.of(_Book.numPages.greaterThan(10)))
+                    .isNotEqualTo(Fingerprint.of(_Book.numChapters.greaterThan(10)));
+            soft.assertThat(Fingerprint.of(Restrict.not(Restrict.any(_Book.title.isNull(),
+                                                                      _Book.publicationDate.lessThan(LocalDate.MIN))))
+                                    .shape())
+                    .isEqualTo("NOT ((title IS NULL) OR (publicationDate < ?1))");
+            soft.assertThat(Fingerprint.of(Restrict.unrestricted()).shape()).isEqualTo("UNRESTRICTED");
+        });
+    }
+
+    @Test
+    @DisplayName("should fingerprint expressions")
+    void shouldFingerprintExpressions() {
+        Fingerprint fingerprint = Fingerprint.of(_Book.numPages.times(3).plus(_Book.numChapters).asLong());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(fingerprint.shape()).isEqualTo("CAST(((numPages * ?1) + numChapters) AS Long)");
+            soft.assertThat(fingerprint.values()).containsExactly(3);
+        });
+        assertThat(Fingerprint.of(_Book.title.left(4))).isEqualTo(Fingerprint.of(_Book.title.left(5)));
+    }
+
+    @Test
+    @DisplayName("should distinguish entities with attributes of the same names")
+    void shouldDistinguishEntities() {
+        record Magazine(String title) {
+        }
+        TextAttribute<Magazine> magazineTitle = TextAttribute.of(Magazine.class, _Book.TITLE);
+
+        Fingerprint book = Fingerprint.of(_Book.title.equalTo("Jakarta Data"));
+        Fingerprint magazine = Fingerprint.of(magazineTitle.equalTo("Jakarta Data"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(magazine.shape()).isEqualTo(book.shape());
+            soft.assertThat(magazine).isNotEqualTo(book);
+        });
+    }
+
+    @Test
+    @DisplayName("should reject expressions that it cannot represent")
+    void shouldRejectUnknownExpressions() {
+        Expression<Book, String> unknown = () -> String.class;
+
+        assertThatThrownBy(() -> Fingerprint.of(unknown.equalTo("secret")))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> Fingerprint.of(unknown))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.metamodel.ComparableAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.PageRequest.Cursor;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("KeysetRestriction")
+class KeysetRestrictionRecordTest {
+    // Mock static metamodel class for tests
+    interface _Person {
+        String ID = "id";
+        String LASTNAME = "lastName";
+
+        ComparableAttribute<Person, Integer> id = ComparableAttribute.of(
+                Person.class, ID, int.class);
+        TextAttribute<Person> lastName = TextAttribute.of(
+                Person.class, LASTNAME);
+    }
+
+    // Mock entity class for tests
+    static class Person {
+        int id;
+        String lastName;
+    }
+
+    @Test
+    @DisplayName("should expand the sort criteria and cursor into alternatives")
+    void shouldExpandAfterCursor() {
+        Order<Person> order = Order.by(_Person.lastName.asc(), _Person.id.asc());
+        KeysetRestriction<Person> keyset = Restrict.after(order, Cursor.forKey("Smith", 1234));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(keyset.type()).isEqualTo(CompositeRestriction.Type.ANY);
+            soft.assertThat(keyset.isNegated()).isFalse();
+            soft.assertThat(keyset.order()).isEqualTo(order);
+            soft.assertThat(keyset.cursor()).isEqualTo(Cursor.forKey("Smith", 1234));
+            soft.assertThat(keyset.isRowValueComparable()).isTrue();
+            soft.assertThat(keyset.restrictions()).hasSize(2);
+            soft.assertThat(keyset.restrictions().get(0))
+                    .isEqualTo(_Person.lastName.greaterThan("Smith"));
+            soft.assertThat(keyset.restrictions().get(1))
+                    .isEqualTo(Restrict.all(_Person.lastName.equalTo("Smith"),
+                                            _Person.id.greaterThan(1234)));
+            soft.assertThat(keyset.toString()).isEqualTo(
+                    "(lastName > 'Smith') OR ((lastName = 'Smith') AND (id > 1234))");
+        });
+    }
+
+    @Test
+    @DisplayName("should reverse the sort criteria to restrict before a cursor")
+    void shouldExpandBeforeCursor() {
+        Order<Person> order = Order.by(_Person.lastName.asc(), _Person.id.desc());
+        KeysetRestriction<Person> keyset = Restrict.before(order, Cursor.forKey("Smith", 1234));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(keyset.order()).isEqualTo(order.reversed());
+            soft.assertThat(keyset.isRowValueComparable()).isFalse();
+            soft.assertThat(keyset.toString()).isEqualTo(
+                    "(lastName < 'Smith') OR ((lastName = 'Smith') AND (id > 1234))");
+        });
+    }
+
+    @Test
+    @DisplayName("should compare the upper case form of text when ignoring case")
+    void shouldIgnoreCase() {
+        Order<Person> order = Order.by(_Person.lastName.ascIgnoreCase(), _Person.id.asc());
+        KeysetRestriction<Person> keyset = Restrict.after(order, Cursor.forKey("Smith", 1234));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(keyset.isRowValueComparable()).isFalse();
+            soft.assertThat(keyset.toString()).isEqualTo(
+                    "(UPPER(person.lastName) > UPPER('Smith'))" +
+                    " OR ((UPPER(person.lastName) = UPPER('Smith')) AND (id > 1234))");
+        });
+    }
+
+    @Test
+    @DisplayName("should match null values according to the ordering of nulls")
+    void shouldOrderNulls() {
+        KeysetRestriction<Person> nullsLast = Restrict.after(
+                Order.by(_Person.lastName.asc().nullsLast(), _Person.id.asc()),
+                Cursor.forKey("Smith", 1234));
+        KeysetRestriction<Person> afterNullFirst = Restrict.after(
+                Order.by(_Person.lastName.asc().nullsFirst(), _Person.id.asc()),
+                Cursor.forKey(null, 1234));
+        KeysetRestriction<Person> afterNullLast = Restrict.after(
+                Order.by(_Person.lastName.asc().nullsLast()),
+                Cursor.forKey((Object) null));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(nullsLast.toString()).isEqualTo(
+                    "((lastName > 'Smith') OR (lastName IS NULL))" +
+                    " OR ((lastName = 'Smith') AND (id > 1234))");
+            soft.assertThat(afterNullFirst.toString()).isEqualTo(
+                    "(lastName IS NOT NULL) OR ((lastName IS NULL) AND (id > 1234))");
+            soft.assertThat(afterNullLast.restrictions()).isEmpty();
+            soft.assertThat(afterNullLast.toString()).isEqualTo("UNMATCHABLE");
+            soft.assertThat(afterNullLast.negate().toString()).isEqualTo("UNRESTRICTED");
+        });
+    }
+
+    @Test
+    @DisplayName("should negate the expanded form")
+    void shouldNegate() {
+        Restriction<Person> negated = Restrict.after(Order.by(_Person.id.asc()),
+                                                     Cursor.forKey(1234))
+                .negate();
+
+        assertThat(negated.toString()).isEqualTo("NOT ((id > 1234))");
+    }
+
+    @Test
+    @DisplayName("should obtain the restriction for the mode of a page request")
+    void shouldRestrictPageRequest() {
+        Order<Person> order = Order.by(_Person.id.asc());
+        PageRequest first = PageRequest.ofSize(10);
+        PageRequest next = first.afterCursor(Cursor.forKey(20));
+        PageRequest previous = first.beforeCursor(Cursor.forKey(11));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.keyset(order, first))
+                    .isEqualTo(Restrict.unrestricted());
+            soft.assertThat(Restrict.keyset(order, next).toString())
+                    .isEqualTo("(id > 20)");
+            soft.assertThat(Restrict.keyset(order, previous).toString())
+                    .isEqualTo("(id < 11)");
+        });
+    }
+
+    @Test
+    @DisplayName("should reject a cursor that cannot be combined with the sort criteria")
+    void shouldRejectMismatchedCursor() {
+        Order<Person> byId = Order.by(_Person.id.asc());
+        Order<Person> byName = Order.by(Sort.asc("lastName"));
+
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                Restrict.after(byId, Cursor.forKey(1, 2)));
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                Restrict.after(byName, Cursor.forKey("Smith")));
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                Restrict.after(byId, Cursor.forKey((Object) null)));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.Constraint;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RangeSetTest {
+
+    private static RangeSet<Integer> range(Constraint<Integer> constraint) {
+        return RangeSet.of(constraint).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("should represent constraints as sorted disjoint intervals")
+    void shouldRepresentConstraints() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(range(GreaterThan.bound(10)).toString()).isEqualTo("(10, +inf)");
+            soft.assertThat(range(AtMost.max(10)).toString()).isEqualTo("(-inf, 10]");
+            soft.assertThat(range(Between.bounds(1, 5)).toString()).isEqualTo("[1, 5]");
+            soft.assertThat(range(NotBetween.bounds(1, 5)).toString()).isEqualTo("(-inf, 1) U (5, +inf)");
+            soft.assertThat(range(NotEqualTo.value(3)).toString()).isEqualTo("(-inf, 3) U (3, +inf)");
+            soft.assertThat(range(In.values(7, 3, 5, 3)).toString()).isEqualTo("[3, 3] U [5, 5] U [7, 7]");
+            soft.assertThat(range(Between.bounds(5, 1)).isEmpty()).isTrue();
+            soft.assertThat(range(NotBetween.bounds(5, 1)).isAll()).isTrue();
+            soft.assertThat(range(Between.bounds(1, 5)).contains(5)).isTrue();
+            soft.assertThat(range(GreaterThan.bound(10)).contains(10)).isFalse();
+            soft.assertThat(RangeSet.of(Like.pattern("a%"))).isEmpty();
+            soft.assertThat(RangeSet.of(Between.bounds(_Book.numChapters, _Book.numPages))).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("should intersect, unite, and complement range sets")
+    void shouldCombine() {
+        RangeSet<Integer> above10 = range(GreaterThan.bound(10));
+        RangeSet<Integer> upTo20 = range(AtMost.max(20));
+        RangeSet<Integer> between = range(Between.bounds(20, 30));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(above10.intersect(upTo20).toString()).isEqualTo("(10, 20]");
+            soft.assertThat(upTo20.intersect(between).toString()).isEqualTo("[20, 20]");
+            soft.assertThat(upTo20.union(between).toString()).isEqualTo("(-inf, 30]");
+            soft.assertThat(upTo20.union(above10).isAll()).isTrue();
+            soft.assertThat(upTo20.complement()).isEqualTo(range(GreaterThan.bound(20)));
+            soft.assertThat(above10.complement().intersect(between).isEmpty()).isTrue();
+            soft.assertThat(RangeSet.<Integer>none().complement()).isEqualTo(RangeSet.all());
+        });
+    }
+
+    @Test
+    @DisplayName("should combine range constraints on the same expression")
+    void shouldSimplifyRanges() {
+        Restriction<Book> ranges = Restrict.all(_Book.numPages.greaterThan(100),
+                                                _Book.numPages.lessThanEqual(400),
+                                                _Book.numPages.notBetween(200, 300),
+                                                _Book.title.contains("Data"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.simplifyRanges(ranges)).isEqualTo(
+                    Restrict.all(Restrict.any(Restrict.all(_Book.numPages.greaterThan(100),
+                                                           _Book.numPages.lessThan(200)),
+                                              Restrict.all(_Book.numPages.greaterThan(300),
+                                                           _Book.numPages.lessThanEqual(400))),
+                                 _Book.title.contains("Data")));
+            soft.assertThat(Restrict.simplifyRanges(Restrict.all(_Book.numPages.between(100, 200),
+                                                                 _Book.numPages.greaterThanEqual(150))))
+                    .isEqualTo(_Book.numPages.between(150, 200));
+            soft.assertThat(Restrict.simplifyRanges(Restrict.all(_Book.numPages.in(100, 200, 300),
+                                                                 _Book.numPages.greaterThan(150))))
+                    .isEqualTo(_Book.numPages.in(200, 300));
+            soft.assertThat(Restrict.simplifyRanges(Restrict.any(_Book.numPages.lessThan(100),
+                                                                 _Book.numPages.greaterThan(200))))
+                    .isEqualTo(_Book.numPages.notBetween(100, 200));
+            soft.assertThat(Restrict.simplifyRanges(Restrict.any(_Book.numPages.lessThan(100),
+                                                                 _Book.numPages.greaterThanEqual(100))))
+                    .isEqualTo(_Book.numPages.notNull());
+            soft.assertThat(Restrict.simplifyRanges(longBookOrData()))
+                    .isEqualTo(longBookOrData());
+        });
+    }
+
+    @Test
+    @DisplayName("should detect ranges that no value satisfies")
+    void shouldDetectEmptyRanges() {
+        Restriction<Book> empty = Restrict.all(_Book.numPages.greaterThan(500),
+                                               _Book.numPages.lessThan(100),
+                                               _Book.title.contains("Data"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.simplifyRanges(empty)).isInstanceOf(Unmatchable.class);
+            soft.assertThat(Restrict.simplifyRanges(_Book.numPages.between(500, 100)))
+                    .isInstanceOf(Unmatchable.class);
+            soft.assertThat(Restrict.simplifyRanges(Restrict.any(empty, _Book.title.contains("Java"))))
+                    .isEqualTo(_Book.title.contains("Java"));
+        });
+        assertThat(Restrict.simplifyRanges(Restrict.not(Restrict.any(_Book.numPages.lessThan(100),
+                                                                     _Book.numPages.greaterThanEqual(100)))))
+                .isInstanceOf(Unmatchable.class);
+    }
+
+    @Test
+    @DisplayName("should keep constraints on text, which the database might collate differently")
+    void shouldKeepTextConstraints() {
+        Restriction<Book> sameTitle = Restrict.all(_Book.title.equalTo("abc"),
+                                                   _Book.title.equalTo("ABC"));
+        Restriction<Book> titleRange = Restrict.all(_Book.title.greaterThanEqual("a"),
+                                                    _Book.title.lessThanEqual("B"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(RangeSet.of(EqualTo.value("abc"))).isEmpty();
+            soft.assertThat(Restrict.simplifyRanges(sameTitle)).isEqualTo(sameTitle);
+            soft.assertThat(Restrict.simplifyRanges(titleRange)).isEqualTo(titleRange);
+        });
+    }
+
+    private static Restriction<Book> longBookOrData() {
+        return Restrict.any(_Book.numPages.greaterThan(500), _Book.title.contains("Data"));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.data.Order;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import jakarta.data.page.PageRequest;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestrictionNormalizerTest {
+
+    private final Restriction<Book> longBook = _Book.numPages.greaterThan(500);
+    private final Restriction<Book> shortTitle = _Book.title.length().lessThan(10);
+    private final Restriction<Book> dataTitle = _Book.title.contains("Data");
+
+    @Test
+    @DisplayName("should flatten nested composite restrictions of the same type")
+    void shouldFlatten() {
+        Restriction<Book> nested = Restrict.all(longBook, Restrict.all(shortTitle, Restrict.all(dataTitle)));
+
+        assertThat(Restrict.normalize(nested))
+                .isEqualTo(Restrict.all(longBook, shortTitle, dataTitle));
+    }
+
+    @Test
+    @DisplayName("should push negation down to constraints")
+    void shouldPushNegationDown() {
+        Restriction<Book> negated = Restrict.not(Restrict.any(longBook, Restrict.all(shortTitle, dataTitle)));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.normalize(negated))
+                    .isEqualTo(Restrict.all(_Book.numPages.lessThanEqual(500),
+                                            Restrict.any(shortTitle.negate(), dataTitle.negate())));
+            soft.assertThat(Restrict.normalize(negated.negate()))
+                    .isEqualTo(Restrict.any(longBook, Restrict.all(shortTitle, dataTitle)));
+        });
+    }
+
+    @Test
+    @DisplayName("should fold unrestricted and unmatchable restrictions")
+    void shouldFoldConstants() {
+        Restriction<Book> unrestricted = Restrict.unrestricted();
+        Restriction<Book> unmatchable = unrestricted.negate();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.normalize(Restrict.all(longBook, unrestricted))).isEqualTo(longBook);
+            soft.assertThat(Restrict.normalize(Restrict.any(longBook, unrestricted))).isSameAs(unrestricted);
+            soft.assertThat(Restrict.normalize(Restrict.all(longBook, Restrict.any(shortTitle, unmatchable))))
+                    .isEqualTo(Restrict.all(longBook, shortTitle));
+            soft.assertThat(Restrict.normalize(Restrict.all(longBook, Restrict.not(Restrict.any(unrestricted)))))
+                    .isSameAs(unmatchable);
+        });
+    }
+
+    @Test
+    @DisplayName("should merge equality into In and inequality into NotIn")
+    void shouldMergeMembership() {
+        Restriction<Book> anyOf = Restrict.any(_Book.id.equalTo("1"),
+                                               longBook,
+                                               _Book.id.in("3", "1"),
+                                               _Book.id.equalTo("2"));
+        Restriction<Book> noneOf = Restrict.all(_Book.id.notEqualTo("1"),
+                                                _Book.id.notEqualTo("2"),
+                                                _Book.numPages.notEqualTo(0));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.normalize(anyOf))
+                    .isEqualTo(Restrict.any(_Book.id.in("1", "3", "2"), longBook));
+            soft.assertThat(Restrict.normalize(noneOf))
+                    .isEqualTo(Restrict.all(_Book.id.notIn("1", "2"), _Book.numPages.notEqualTo(0)));
+            soft.assertThat(Restrict.normalize(Restrict.not(anyOf)))
+                    .isEqualTo(Restrict.all(_Book.id.notIn("1", "3", "2"), longBook.negate()));
+        });
+    }
+
+    @Test
+    @DisplayName("should remove repeated restrictions and single-element composites")
+    void shouldDeduplicate() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.normalize(Restrict.any(longBook, shortTitle, _Book.numPages.greaterThan(500))))
+                    .isEqualTo(Restrict.any(longBook, shortTitle));
+            soft.assertThat(Restrict.normalize(Restrict.all(longBook, Restrict.all(longBook))))
+                    .isEqualTo(longBook);
+        });
+    }
+
+    @Test
+    @DisplayName("should keep keyset restrictions")
+    void shouldKeepKeysetRestrictions() {
+        KeysetRestriction<Book> keyset = Restrict.after(Order.by(_Book.numPages.asc(), _Book.id.asc()),
+                                                        PageRequest.Cursor.forKey(100, "5"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.normalize(keyset)).isSameAs(keyset);
+            soft.assertThat(Restrict.normalize(Restrict.all(longBook, keyset)))
+                    .isEqualTo(Restrict.all(longBook, keyset));
+        });
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.data.constraint.In;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class RestrictionTemplateTest {
+
+    private final RestrictionTemplate<Book> search = RestrictionTemplate.of(
+            Restrict.all(_Book.title.startsWith(""),
+                         _Book.numPages.between(0, 0),
+                         _Book.numChapters.greaterThan(_Book.numPages.dividedBy(100)),
+                         _Book.id.notIn("", "")),
+            "title", "minPages", "maxPages", "id1", "id2");
+
+    @Test
+    @DisplayName("should bind values to positional parameters")
+    void shouldBindPositionalParameters() {
+        RestrictionTemplate<Book> template = RestrictionTemplate.of(
+                Restrict.any(_Book.numPages.lessThan(0), _Book.title.equalTo("")));
+        Restriction<Book> bound = template.bind(100, "Jakarta Data");
+        Restriction<Book> expected = Restrict.any(_Book.numPages.lessThan(100),
+                                                  _Book.title.equalTo("Jakarta Data"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.names()).isEmpty();
+            soft.assertThat(template.types()).containsExactly(Integer.class, String.class);
+            soft.assertThat(bound.toString()).isEqualTo(expected.toString());
+            soft.assertThat(Fingerprint.of(bound)).isEqualTo(template.fingerprint());
+            soft.assertThat(Fingerprint.of(bound).values()).containsExactly(100, "Jakarta Data");
+        });
+    }
+
+    @Test
+    @DisplayName("should bind values to named parameters")
+    void shouldBindNamedParameters() {
+        Restriction<Book> byPosition = search.bind("Jakarta%", 100, 400, "B1", "B2");
+        Restriction<Book> byName = search.bind(Map.of("title", "Jakarta%",
+                                                      "minPages", 100,
+                                                      "maxPages", 400,
+                                                      "id1", "B1",
+                                                      "id2", "B2"));
+        Restriction<Book> expected = Restrict.all(_Book.title.startsWith("Jakarta"),
+                                                  _Book.numPages.between(100, 400),
+                                                  _Book.numChapters.greaterThan(_Book.numPages.dividedBy(100)),
+                                                  _Book.id.notIn("B1", "B2"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(byPosition.toString()).isEqualTo(expected.toString());
+            soft.assertThat(byName.toString()).isEqualTo(expected.toString());
+            soft.assertThat(Fingerprint.of(byName)).isEqualTo(search.fingerprint());
+            soft.assertThat(Fingerprint.of(byName).values())
+                    .isEqualTo(Fingerprint.of(expected).values());
+        });
+    }
+
+    @Test
+    @DisplayName("should share restrictions without parameters")
+    void shouldShareRestrictionsWithoutParameters() {
+        Restriction<Book> fixed = _Book.numPages.satisfies(In.bulk(Set.of(1, 2, 3)));
+        Restriction<Book> notNull = _Book.title.notNull();
+        RestrictionTemplate<Book> template = RestrictionTemplate.of(
+                Restrict.all(fixed, notNull, _Book.numChapters.lessThan(0)));
+
+        CompositeRestriction<?> bound = (CompositeRestriction<?>) template.bind(10);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.types()).containsExactly(Integer.class);
+            soft.assertThat(bound.restrictions().get(0)).isSameAs(fixed);
+            soft.assertThat(bound.restrictions().get(1)).isSameAs(notNull);
+            soft.assertThat(RestrictionTemplate.of(fixed).bind()).isSameAs(fixed);
+        });
+    }
+
+    @Test
+    @DisplayName("should keep negation of composite restrictions")
+    void shouldKeepNegation() {
+        RestrictionTemplate<Book> template = RestrictionTemplate.of(
+                Restrict.not(Restrict.any(_Book.numPages.lessThan(0), _Book.numChapters.lessThan(0))));
+
+        CompositeRestriction<?> bound = (CompositeRestriction<?>) template.bind(10, 2);
+
+        assertThat(bound.isNegated()).isTrue();
+        assertThat(bound.toString())
+                .isEqualTo(Restrict.not(Restrict.any(_Book.numPages.lessThan(10),
+                                                     _Book.numChapters.lessThan(2))).toString());
+    }
+
+    @Test
+    @DisplayName("should reject invalid parameters and values")
+    void shouldRejectInvalidValues() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RestrictionTemplate.of(_Book.numPages.lessThan(0), "a", "b"));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RestrictionTemplate.of(_Book.numPages.between(0, 0), "a", "a"));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> search.bind("Jakarta%", 100, 400, "B1"));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> search.bind("Jakarta%", 100L, 400, "B1", "B2"));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> search.bind(Map.of("title", "Jakarta%",
+                                                     "minPages", 100,
+                                                     "maxPages", 400,
+                                                     "id1", "B1",
+                                                     "id3", "B2")));
+        assertThatNullPointerException()
+                .isThrownBy(() -> search.bind("Jakarta%", 100, null, "B1", "B2"));
+    }
+}
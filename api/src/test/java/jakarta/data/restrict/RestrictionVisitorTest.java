@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import jakarta.data.Order;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.ConstraintVisitor;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import jakarta.data.page.PageRequest.Cursor;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestrictionVisitorTest {
+
+    // Describes a constraint by the name of the visitor method
+    static class ConstraintNames implements ConstraintVisitor<String> {
+        @Override
+        public String visitAtLeast(AtLeast<?> constraint) {
+            return "AtLeast";
+        }
+
+        @Override
+        public String visitAtMost(AtMost<?> constraint) {
+            return "AtMost";
+        }
+
+        @Override
+        public String visitBetween(Between<?> constraint) {
+            return "Between";
+        }
+
+        @Override
+        public String visitEqualTo(EqualTo<?> constraint) {
+            return "EqualTo";
+        }
+
+        @Override
+        public String visitGreaterThan(GreaterThan<?> constraint) {
+            return "GreaterThan";
+        }
+
+        @Override
+        public String visitIn(In<?> constraint) {
+            return "In";
+        }
+
+        @Override
+        public String visitLessThan(LessThan<?> constraint) {
+            return "LessThan";
+        }
+
+        @Override
+        public String visitLike(Like constraint) {
+            return "Like";
+        }
+
+        @Override
+        public String visitNotBetween(NotBetween<?> constraint) {
+            return "NotBetween";
+        }
+
+        @Override
+        public String visitNotEqualTo(NotEqualTo<?> constraint) {
+            return "NotEqualTo";
+        }
+
+        @Override
+        public String visitNotIn(NotIn<?> constraint) {
+            return "NotIn";
+        }
+
+        @Override
+        public String visitNotLike(NotLike constraint) {
+            return "NotLike";
+        }
+
+        @Override
+        public String visitNotNull(NotNull<?> constraint) {
+            return "NotNull";
+        }
+
+        @Override
+        public String visitNull(Null<?> constraint) {
+            return "Null";
+        }
+    }
+
+    // Counts the basic restrictions within a restriction
+    static class BasicCounter implements RestrictionVisitor<Integer> {
+        @Override
+        public Integer visitBasic(BasicRestriction<?, ?> restriction) {
+            return 1;
+        }
+
+        @Override
+        public Integer visitComposite(CompositeRestriction<?> restriction) {
+            int count = 0;
+            for (Restriction<?> r : restriction.restrictions()) {
+                count += r.accept(this);
+            }
+            return count;
+        }
+    }
+
+    @Test
+    @DisplayName("should dispatch each constraint to its visitor method")
+    void shouldDispatchConstraints() {
+        ConstraintNames names = new ConstraintNames();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(AtLeast.min(1).accept(names)).isEqualTo("AtLeast");
+            soft.assertThat(AtMost.max(1).accept(names)).isEqualTo("AtMost");
+            soft.assertThat(Between.bounds(1, 2).accept(names)).isEqualTo("Between");
+            soft.assertThat(EqualTo.value(1).accept(names)).isEqualTo("EqualTo");
+            soft.assertThat(GreaterThan.bound(1).accept(names)).isEqualTo("GreaterThan");
+            soft.assertThat(In.values(1, 2).accept(names)).isEqualTo("In");
+            soft.assertThat(In.bulk(new long[] {1L, 2L}).accept(names)).isEqualTo("In");
+            soft.assertThat(LessThan.bound(1).accept(names)).isEqualTo("LessThan");
+            soft.assertThat(Like.prefix("a").accept(names)).isEqualTo("Like");
+            soft.assertThat(NotBetween.bounds(1, 2).accept(names)).isEqualTo("NotBetween");
+            soft.assertThat(NotEqualTo.value(1).accept(names)).isEqualTo("NotEqualTo");
+            soft.assertThat(NotIn.values(1, 2).accept(names)).isEqualTo("NotIn");
+            soft.assertThat(NotIn.bulk(Set.of(1, 2)).accept(names)).isEqualTo("NotIn");
+            soft.assertThat(Like.prefix("a").negate().accept(names)).isEqualTo("NotLike");
+            soft.assertThat(NotNull.instance().accept(names)).isEqualTo("NotNull");
+            soft.assertThat(Null.instance().accept(names)).isEqualTo("Null");
+        });
+    }
+
+    @Test
+    @DisplayName("should dispatch basic, composite, and keyset restrictions")
+    void shouldDispatchRestrictions() {
+        Restriction<Book> restriction = Restrict.any(
+                _Book.title.startsWith("Jakarta"),
+                Restrict.all(_Book.numPages.greaterThan(100),
+                             _Book.numChapters.lessThan(20)).negate(),
+                Restrict.unrestricted());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(restriction.accept(new BasicCounter())).isEqualTo(3);
+            soft.assertThat(_Book.title.isNull().accept(new BasicCounter())).isEqualTo(1);
+            soft.assertThat(Restrict.<Book>unrestricted().negate().accept(new BasicCounter())).isEqualTo(0);
+        });
+    }
+
+    @Test
+    @DisplayName("should dispatch keyset restrictions to visitKeyset")
+    void shouldDispatchKeysetRestrictions() {
+        KeysetRestriction<Book> keyset = Restrict.after(
+                Order.by(_Book.title.asc(), _Book.id.asc()),
+                Cursor.forKey("Jakarta Data", "B1"));
+
+        // by default, keyset restrictions are visited as composite restrictions
+        assertThat(keyset.accept(new BasicCounter())).isEqualTo(3);
+
+        String visited = keyset.accept(new RestrictionVisitor<String>() {
+            @Override
+            public String visitBasic(BasicRestriction<?, ?> restriction) {
+                return "basic";
+            }
+
+            @Override
+            public String visitComposite(CompositeRestriction<?> restriction) {
+                return "composite";
+            }
+
+            @Override
+            public String visitKeyset(KeysetRestriction<?> restriction) {
+                return "keyset " + restriction.cursor().size();
+            }
+        });
+        assertThat(visited).isEqualTo("keyset 2");
+    }
+
+    @Test
+    @DisplayName("should apply a constraint visitor to basic restrictions")
+    void shouldVisitConstraintsOfBasicRestrictions() {
+        String name = _Book.numPages.between(100, 200).accept(new RestrictionVisitor<String>() {
+            @Override
+            public String visitBasic(BasicRestriction<?, ?> restriction) {
+                return restriction.constraint().accept(new ConstraintNames());
+            }
+
+            @Override
+            public String visitComposite(CompositeRestriction<?> restriction) {
+                return "composite";
+            }
+        });
+
+        assertThat(name).isEqualTo("Between");
+    }
+}
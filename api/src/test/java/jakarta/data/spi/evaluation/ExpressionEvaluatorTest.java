@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.data.expression.TextExpression;
+import jakarta.data.metamodel.NavigableAttribute;
+import jakarta.data.metamodel.NumericAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpressionEvaluatorTest {
+
+    record Address(String city, int zipCode) {
+    }
+
+    record Customer(String name, Address address, Integer points) {
+    }
+
+    static final TextAttribute<Customer> name =
+            TextAttribute.of(Customer.class, "name");
+    static final NavigableAttribute<Customer, Address> address =
+            NavigableAttribute.of(Customer.class, "address", Address.class);
+    static final NumericAttribute<Customer, Integer> points =
+            NumericAttribute.of(Customer.class, "points", Integer.class);
+    static final TextAttribute<Address> city =
+            TextAttribute.of(Address.class, "city");
+
+    private final Customer customer =
+            new Customer("Maria", new Address("Rochester", 55901), 120);
+
+    private final Customer homeless = new Customer(null, null, null);
+
+    @Test
+    @DisplayName("should read attributes through getters, fields, and record components")
+    void shouldReadAttributes() {
+        Book book = Book.of("1", "Jakarta Data", "author", 12, 340, null, null);
+        AttributeAccessor accessor = AttributeAccessor.reflective();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ExpressionEvaluator.compile(_Book.title, accessor).apply(book))
+                    .isEqualTo("Jakarta Data");
+            soft.assertThat(ExpressionEvaluator.compile(_Book.fiction, accessor).apply(book))
+                    .isEqualTo(false);
+            soft.assertThat(ExpressionEvaluator.compile(name, accessor).apply(customer))
+                    .isEqualTo("Maria");
+            soft.assertThat(ExpressionEvaluator.compile("address.zipCode", accessor).apply(customer))
+                    .isEqualTo(55901);
+        });
+    }
+
+    @Test
+    @DisplayName("should navigate paths and propagate null values")
+    void shouldNavigatePaths() {
+        Function<Customer, Object> cityOf = ExpressionEvaluator.compile(
+                address.navigate(city).upper(), AttributeAccessor.reflective());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cityOf.apply(customer)).isEqualTo("ROCHESTER");
+            soft.assertThat(cityOf.apply(homeless)).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should evaluate text functions")
+    void shouldEvaluateTextFunctions() {
+        AttributeAccessor accessor = AttributeAccessor.reflective();
+        TextExpression<Customer> greeting = name.prepend("Hello, ").append("!");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ExpressionEvaluator.compile(greeting, accessor).apply(customer))
+                    .isEqualTo("Hello, Maria!");
+            soft.assertThat(ExpressionEvaluator.compile(name.lower().left(3), accessor).apply(customer))
+                    .isEqualTo("mar");
+            soft.assertThat(ExpressionEvaluator.compile(name.right(2), accessor).apply(customer))
+                    .isEqualTo("ia");
+            soft.assertThat(ExpressionEvaluator.compile(name.length(), accessor).apply(customer))
+                    .isEqualTo(5);
+            soft.assertThat(ExpressionEvaluator.compile(greeting, accessor).apply(homeless))
+                    .isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should evaluate arithmetic and numeric casts")
+    void shouldEvaluateArithmetic() {
+        AttributeAccessor accessor = AttributeAccessor.reflective();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ExpressionEvaluator.compile(points.times(2).minus(40), accessor).apply(customer))
+                    .isEqualTo(200);
+            soft.assertThat(ExpressionEvaluator.compile(points.negated().abs(), accessor).apply(customer))
+                    .isEqualTo(120);
+            soft.assertThat(ExpressionEvaluator.compile(points.asBigDecimal().dividedBy(new BigDecimal("8")), accessor)
+                            .apply(customer))
+                    .isEqualTo(new BigDecimal("15"));
+            soft.assertThat(ExpressionEvaluator.compile(points.asLong(), accessor).apply(customer))
+                    .isEqualTo(120L);
+            soft.assertThat(ExpressionEvaluator.compile(points.plus(1), accessor).apply(homeless))
+                    .isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should read attributes from maps")
+    void shouldReadMaps() {
+        Function<Map<String, Object>, Object> title =
+                ExpressionEvaluator.compile("title", AttributeAccessor.ofMap());
+
+        assertThat(title.apply(Map.of("title", "Jakarta Data"))).isEqualTo("Jakarta Data");
+    }
+
+    @Test
+    @DisplayName("should reject attributes that the class does not have")
+    void shouldRejectUnknownAttribute() {
+        TextAttribute<Customer> email = TextAttribute.of(Customer.class, "email");
+
+        assertThatThrownBy(() -> ExpressionEvaluator.compile(email, AttributeAccessor.reflective()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("email");
+    }
+}
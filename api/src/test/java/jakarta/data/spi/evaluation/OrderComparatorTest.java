@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import jakarta.data.page.PageRequest;
+import jakarta.data.restrict.Restrict;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderComparatorTest {
+
+    private static Book book(String id, String title, int numPages, LocalDate published) {
+        return Book.of(id, title, "author", 10, numPages, null, published);
+    }
+
+    private static List<String> ids(List<Book> books) {
+        List<String> ids = new ArrayList<>();
+        for (Book book : books) {
+            ids.add(book.getId());
+        }
+        return ids;
+    }
+
+    private final List<Book> books = List.of(
+            book("1", "banana", 300, LocalDate.of(2020, 1, 1)),
+            book("2", "Apple", 200, null),
+            book("3", "cherry", 300, LocalDate.of(2019, 6, 1)),
+            book("4", "apple", 100, LocalDate.of(2021, 3, 1)),
+            book("5", null, 200, LocalDate.of(2018, 2, 1)));
+
+    @Test
+    @DisplayName("should order by multiple sorts in order of precedence")
+    void shouldOrderByPrecedence() {
+        Order<Book> order = Order.by(_Book.numPages.desc(), _Book.id.asc());
+
+        List<Book> sorted = new ArrayList<>(books);
+        sorted.sort(OrderComparator.of(order, AttributeAccessor.reflective()));
+
+        assertThat(ids(sorted)).containsExactly("1", "3", "2", "5", "4");
+    }
+
+    @Test
+    @DisplayName("should ignore case and place nulls as requested")
+    void shouldIgnoreCaseAndOrderNulls() {
+        Comparator<Book> nullsFirst = OrderComparator.of(
+                Order.by(_Book.title.ascIgnoreCase().nullsFirst(), _Book.id.desc()),
+                AttributeAccessor.reflective());
+        Comparator<Book> nullsLast = OrderComparator.of(
+                Order.by(_Book.title.descIgnoreCase().nullsLast(), _Book.id.asc()),
+                AttributeAccessor.reflective());
+
+        List<Book> ascending = new ArrayList<>(books);
+        ascending.sort(nullsFirst);
+        List<Book> descending = new ArrayList<>(books);
+        descending.sort(nullsLast);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(ascending)).containsExactly("5", "4", "2", "1", "3");
+            soft.assertThat(ids(descending)).containsExactly("3", "1", "2", "4", "5");
+        });
+    }
+
+    @Test
+    @DisplayName("should order unspecified nulls as larger than other values")
+    void shouldOrderUnspecifiedNullsAsLargest() {
+        List<Book> ascending = new ArrayList<>(books);
+        ascending.sort(OrderComparator.of(Order.by(_Book.publicationDate.asc()),
+                                          AttributeAccessor.reflective()));
+        List<Book> descending = new ArrayList<>(books);
+        descending.sort(OrderComparator.of(Order.by(_Book.publicationDate.desc()),
+                                           AttributeAccessor.reflective()));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(ascending)).containsExactly("5", "3", "1", "4", "2");
+            soft.assertThat(ids(descending)).containsExactly("2", "4", "1", "3", "5");
+        });
+    }
+
+    @Test
+    @DisplayName("should sort with precomputed keys in the same order as the comparator")
+    void shouldSortWithPrecomputedKeys() {
+        Order<Book> order = Order.by(_Book.title.ascIgnoreCase(), _Book.numPages.desc());
+
+        List<Book> compared = new ArrayList<>(books);
+        compared.sort(OrderComparator.of(order, AttributeAccessor.reflective()));
+        List<Book> sorted = new ArrayList<>(books);
+        OrderComparator.of(order, AttributeAccessor.reflective()).sort(sorted);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(sorted)).containsExactly("2", "4", "1", "3", "5");
+            soft.assertThat(sorted).isEqualTo(compared);
+        });
+    }
+
+    @Test
+    @DisplayName("should collect the entities within a limit")
+    void shouldCollectWithinLimit() {
+        Order<Book> order = Order.by(_Book.numPages.asc(), _Book.id.desc());
+
+        List<Book> top = books.stream()
+                .collect(OrderComparator.of(order, AttributeAccessor.reflective())
+                                 .collector(Limit.range(2, 4)));
+
+        assertThat(ids(top)).containsExactly("5", "2", "3");
+    }
+
+    @Test
+    @DisplayName("should sort maps by name through the map accessor")
+    void shouldSortMaps() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (String name : Arrays.asList("Carol", "alice", "Bob")) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("name", name);
+            rows.add(row);
+        }
+
+        OrderComparator.of(Order.<Map<String, Object>>by(Sort.ascIgnoreCase("name")),
+                           AttributeAccessor.ofMap())
+                .sort(rows);
+
+        List<Object> names = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            names.add(row.get("name"));
+        }
+        assertThat(names).containsExactly("alice", "Bob", "Carol");
+    }
+
+    @Test
+    @DisplayName("should fold case as keyset restrictions do in memory")
+    void shouldFoldCaseAsKeysetRestrictions() {
+        Order<Book> order = Order.by(_Book.title.ascIgnoreCase());
+        Book strasse = book("1", "STRASSE", 100, null);
+        Book sharpS = book("2", "straße", 100, null);
+        Predicate<Book> after = RestrictionEvaluator.compile(
+                Restrict.after(order, PageRequest.Cursor.forKey("STRASSE")),
+                AttributeAccessor.reflective());
+        List<Book> sorted = new ArrayList<>(List.of(sharpS, strasse));
+        OrderComparator.of(order, AttributeAccessor.reflective()).sort(sorted);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(OrderComparator.of(order, AttributeAccessor.reflective())
+                            .compare(strasse, sharpS))
+                    .isZero();
+            soft.assertThat(after.test(sharpS)).isFalse();
+            soft.assertThat(ids(sorted)).containsExactly("2", "1");
+        });
+    }
+
+    @Test
+    @DisplayName("should reject an attribute that the entity does not have")
+    void shouldRejectUnknownAttribute() {
+        Order<Book> order = Order.by(Sort.asc("isbn"));
+        Comparator<Book> comparator = OrderComparator.of(order, AttributeAccessor.reflective());
+        Book book = books.get(0);
+
+        assertThatThrownBy(() -> comparator.compare(book, book))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.data.Order;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import jakarta.data.page.PageRequest;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestrictionEvaluatorTest {
+
+    private final List<Book> books = List.of(
+            Book.of("1", "Jakarta Data", "author", 12, 340, null, LocalDate.of(2024, 6, 1)),
+            Book.of("2", "Jakarta Persistence", "author", 20, 560, null, LocalDate.of(2022, 5, 1)),
+            Book.of("3", "Java 100% Explained", "author", 8, 120, null, null),
+            Book.of("4", null, "author", 15, 410, null, LocalDate.of(2019, 1, 1)));
+
+    private List<String> matching(Restriction<Book> restriction) {
+        Predicate<Book> predicate =
+                RestrictionEvaluator.compile(restriction, AttributeAccessor.reflective());
+        List<String> ids = new ArrayList<>();
+        for (Book book : books) {
+            if (predicate.test(book)) {
+                ids.add(book.getId());
+            }
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("should evaluate comparison constraints")
+    void shouldEvaluateComparisons() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(_Book.numPages.greaterThan(340))).containsExactly("2", "4");
+            soft.assertThat(matching(_Book.numPages.greaterThanEqual(340))).containsExactly("1", "2", "4");
+            soft.assertThat(matching(_Book.numPages.lessThan(340))).containsExactly("3");
+            soft.assertThat(matching(_Book.numPages.between(300, 420))).containsExactly("1", "4");
+            soft.assertThat(matching(_Book.numPages.notBetween(300, 420))).containsExactly("2", "3");
+            soft.assertThat(matching(_Book.numChapters.equalTo(20))).containsExactly("2");
+            soft.assertThat(matching(_Book.numChapters.in(8, 15))).containsExactly("3", "4");
+            soft.assertThat(matching(_Book.numChapters.notIn(8, 15))).containsExactly("1", "2");
+            soft.assertThat(matching(_Book.publicationDate.lessThan(LocalDate.of(2023, 1, 1))))
+                    .containsExactly("2", "4");
+        });
+    }
+
+    @Test
+    @DisplayName("should compare attributes with expressions that involve attributes")
+    void shouldCompareWithExpressions() {
+        assertThat(matching(_Book.numPages.greaterThan(_Book.numChapters.times(25))))
+                .containsExactly("1", "2", "4");
+    }
+
+    @Test
+    @DisplayName("should match patterns")
+    void shouldMatchPatterns() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(_Book.title.startsWith("Jakarta"))).containsExactly("1", "2");
+            soft.assertThat(matching(_Book.title.contains("100%"))).containsExactly("3");
+            soft.assertThat(matching(_Book.title.like("J_va%"))).containsExactly("3");
+            soft.assertThat(matching(_Book.title.notLike("%Data"))).containsExactly("2", "3");
+            soft.assertThat(matching(_Book.title.upper().endsWith("DATA"))).containsExactly("1");
+        });
+    }
+
+    @Test
+    @DisplayName("should apply three-valued logic to null values")
+    void shouldApplyThreeValuedLogic() {
+        Restriction<Book> recent = _Book.publicationDate.greaterThan(LocalDate.of(2020, 1, 1));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(recent)).containsExactly("1", "2");
+            soft.assertThat(matching(recent.negate())).containsExactly("4");
+            soft.assertThat(matching(Restrict.not(Restrict.all(recent, _Book.numPages.greaterThan(0)))))
+                    .containsExactly("4");
+            soft.assertThat(matching(Restrict.any(recent, _Book.numPages.lessThan(200))))
+                    .containsExactly("1", "2", "3");
+            soft.assertThat(matching(_Book.title.isNull())).containsExactly("4");
+            soft.assertThat(matching(_Book.publicationDate.notNull())).containsExactly("1", "2", "4");
+        });
+    }
+
+    @Test
+    @DisplayName("should evaluate unrestricted and keyset restrictions")
+    void shouldEvaluateCompositeRestrictions() {
+        Order<Book> order = Order.by(_Book.numPages.desc(), _Book.id.asc());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(Restrict.unrestricted())).containsExactly("1", "2", "3", "4");
+            soft.assertThat(matching(Restrict.<Book>unrestricted().negate())).isEmpty();
+            soft.assertThat(matching(Restrict.after(order, PageRequest.Cursor.forKey(410, "4"))))
+                    .containsExactly("1", "3");
+        });
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import jakarta.data.restrict.CompositeRestriction;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestrictionPlannerTest {
+
+    private static final Offset<Double> PRECISION = Offset.offset(0.0001);
+
+    private final Statistics statistics = Statistics.of(1000, Map.of(
+            "id", AttributeStatistics.of(1000, 0.0),
+            "title", new AttributeStatistics(800, 0.1, List.of("A", "H", "M", "T", "Z")),
+            "numPages", new AttributeStatistics(500, 0.0, List.of(0, 100, 200, 400, 1000))));
+
+    private final Restriction<Book> longBook = _Book.numPages.greaterThan(400);
+    private final Restriction<Book> oneBook = _Book.id.equalTo("1");
+    private final Restriction<Book> noTitle = _Book.title.isNull();
+
+    @Test
+    @DisplayName("should estimate selectivity from statistics")
+    void shouldEstimateSelectivity() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(RestrictionPlanner.selectivity(longBook, statistics)).isCloseTo(0.25, PRECISION);
+            soft.assertThat(RestrictionPlanner.selectivity(_Book.numPages.lessThan(300), statistics))
+                    .isCloseTo(0.625, PRECISION);
+            soft.assertThat(RestrictionPlanner.selectivity(_Book.numPages.between(100, 200), statistics))
+                    .isCloseTo(0.25, PRECISION);
+            soft.assertThat(RestrictionPlanner.selectivity(oneBook, statistics)).isCloseTo(0.001, PRECISION);
+            soft.assertThat(RestrictionPlanner.selectivity(_Book.id.in("1", "2", "3"), statistics))
+                    .isCloseTo(0.003, PRECISION);
+            soft.assertThat(RestrictionPlanner.selectivity(noTitle, statistics)).isCloseTo(0.1, PRECISION);
+            soft.assertThat(RestrictionPlanner.selectivity(_Book.title.startsWith("M"), statistics))
+                    .isCloseTo(0.9 * 0.25, PRECISION);
+            soft.assertThat(RestrictionPlanner.selectivity(_Book.numChapters.greaterThan(5), statistics))
+                    .isCloseTo(1.0 / 3.0, PRECISION);
+            soft.assertThat(RestrictionPlanner.selectivity(Restrict.unrestricted(), statistics))
+                    .isCloseTo(1.0, PRECISION);
+        });
+    }
+
+    @Test
+    @DisplayName("should order ALL by ascending and ANY by descending selectivity")
+    void shouldReorder() {
+        RestrictionPlan<Book> all = RestrictionPlanner.plan(
+                Restrict.all(longBook, noTitle, oneBook), statistics);
+        RestrictionPlan<Book> any = RestrictionPlanner.plan(
+                Restrict.any(oneBook, noTitle, longBook), statistics);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(all.restriction()).isEqualTo(Restrict.all(oneBook, noTitle, longBook));
+            soft.assertThat(all.selectivity()).isCloseTo(0.25 * 0.1 * 0.001, PRECISION);
+            soft.assertThat(all.estimatedRows()).isEqualTo(0L);
+            soft.assertThat(any.restriction()).isEqualTo(Restrict.any(longBook, noTitle, oneBook));
+            soft.assertThat(any.selectivity()).isCloseTo(1.0 - 0.75 * 0.9 * 0.999, PRECISION);
+            soft.assertThat(any.estimatedRows()).isEqualTo(326L);
+        });
+    }
+
+    @Test
+    @DisplayName("should reorder nested restrictions and keep negation")
+    void shouldReorderNested() {
+        Restriction<Book> ordered = Restrict.all(oneBook, longBook);
+        Restriction<Book> negated = Restrict.not(Restrict.all(longBook, Restrict.any(oneBook, noTitle)));
+        RestrictionPlan<Book> plan = RestrictionPlanner.plan(negated, statistics);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(RestrictionPlanner.plan(ordered, statistics).restriction()).isSameAs(ordered);
+            soft.assertThat(plan.restriction()).isEqualTo(
+                    Restrict.not(Restrict.all(Restrict.any(noTitle, oneBook), longBook)));
+            soft.assertThat(((CompositeRestriction<?>) plan.restriction()).isNegated()).isTrue();
+            soft.assertThat(plan.selectivity()).isCloseTo(1.0 - 0.25 * (1.0 - 0.999 * 0.9), PRECISION);
+        });
+    }
+
+    @Test
+    @DisplayName("should reject invalid statistics")
+    void shouldRejectInvalidStatistics() {
+        assertThatThrownBy(() -> AttributeStatistics.of(-1, 0.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AttributeStatistics.of(10, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Statistics.of(-1, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(Statistics.of(5, Map.of()).attribute("id")).isEmpty();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import jakarta.data.Order;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ResultCacheTest {
+
+    private final List<Book> books = List.of(
+            Book.of("1", "Jakarta Data", "author", 12, 340, null, LocalDate.of(2024, 6, 1)),
+            Book.of("2", "Jakarta Persistence", "author", 20, 560, null, LocalDate.of(2022, 5, 1)),
+            Book.of("3", "Java 100% Explained", "author", 8, 120, null, null),
+            Book.of("4", null, "author", 15, 410, null, LocalDate.of(2019, 1, 1)));
+
+    private final Order<Book> order = Order.by(_Book.id.asc());
+
+    private ResultCache<Book> cache;
+
+    private int queries;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResultCache<>(10, 5, AttributeAccessor.reflective());
+        queries = 0;
+    }
+
+    private List<String> ids(List<Book> results) {
+        List<String> ids = new ArrayList<>();
+        for (Book book : results) {
+            ids.add(book.getId());
+        }
+        return ids;
+    }
+
+    // Runs a query against the list of books, counting the queries
+    private List<String> query(Restriction<Book> restriction) {
+        return ids(cache.results("books", order, restriction, () -> {
+            queries++;
+            Predicate<Book> predicate =
+                    RestrictionEvaluator.compile(restriction, AttributeAccessor.reflective());
+            List<Book> results = new ArrayList<>();
+            for (Book book : books) {
+                if (predicate.test(book)) {
+                    results.add(book);
+                }
+            }
+            return results;
+        }));
+    }
+
+    @Test
+    @DisplayName("should answer narrower queries from cached results")
+    void shouldAnswerNarrowerQueries() {
+        assertThat(query(_Book.numPages.lessThan(500))).containsExactly("1", "3", "4");
+        assertThat(query(_Book.numPages.lessThan(400))).containsExactly("1", "3");
+        assertThat(query(Restrict.all(_Book.numPages.lessThan(400),
+                                      _Book.title.startsWith("Jakarta")))).containsExactly("1");
+        assertThat(queries).isEqualTo(1);
+
+        assertThat(query(_Book.numPages.lessThan(600))).containsExactly("1", "2", "3", "4");
+        assertThat(queries).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should answer equivalent queries from cached results")
+    void shouldAnswerEquivalentQueries() {
+        query(Restrict.all(_Book.numChapters.greaterThan(10), _Book.numPages.lessThan(500)));
+        List<String> found = query(Restrict.not(Restrict.any(_Book.numPages.greaterThanEqual(500),
+                                                             _Book.numChapters.lessThanEqual(10))));
+
+        assertThat(found).containsExactly("1", "4");
+        assertThat(queries).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not answer queries with other sort criteria or shapes")
+    void shouldSeparateQueries() {
+        cache.put("books", order, _Book.numPages.lessThan(500), books);
+
+        assertThat(cache.get("books", Order.by(_Book.id.desc()), _Book.numPages.lessThan(400))).isEmpty();
+        assertThat(cache.get("authors", order, _Book.numPages.lessThan(400))).isEmpty();
+        assertThat(cache.get("books", order, _Book.numPages.lessThan(400))).isPresent();
+
+        cache.invalidate("books");
+        assertThat(cache.get("books", order, _Book.numPages.lessThan(400))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should not cache results of a query that is invalidated while it runs")
+    void shouldNotCacheInvalidatedResults() {
+        List<Book> stale = cache.results("books", order, _Book.numPages.lessThan(500), () -> {
+            cache.invalidate("books");
+            return books;
+        });
+        assertThat(stale).isEqualTo(books);
+        assertThat(cache.get("books", order, _Book.numPages.lessThan(500))).isEmpty();
+
+        cache.results("authors", order, _Book.numPages.lessThan(500), () -> {
+            cache.clear();
+            return books;
+        });
+        assertThat(cache.get("authors", order, _Book.numPages.lessThan(500))).isEmpty();
+
+        cache.results("books", order, _Book.numPages.lessThan(500), () -> {
+            cache.invalidate("authors");
+            return books;
+        });
+        assertThat(cache.get("books", order, _Book.numPages.lessThan(500))).contains(books);
+    }
+
+    @Test
+    @DisplayName("should discard the least recently used results")
+    void shouldDiscardLeastRecentlyUsed() {
+        ResultCache<Book> small = new ResultCache<>(10, 2, AttributeAccessor.reflective());
+        small.put("books", order, _Book.numPages.lessThan(100), List.of());
+        small.put("books", order, _Book.numChapters.lessThan(10), List.of());
+        small.get("books", order, _Book.numPages.lessThan(100));
+        small.put("books", order, _Book.title.startsWith("J"), List.of());
+
+        assertThat(small.get("books", order, _Book.numChapters.lessThan(5))).isEmpty();
+        assertThat(small.get("books", order, _Book.numPages.lessThan(100))).isPresent();
+        assertThat(small.get("books", order, _Book.title.startsWith("J"))).isPresent();
+    }
+
+    @Test
+    @DisplayName("should reject invalid maximums")
+    void shouldRejectInvalidMaximums() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ResultCache<Book>(0, 1, AttributeAccessor.reflective()));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ResultCache<Book>(1, 0, AttributeAccessor.reflective()));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.Like;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity._Book;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class QueryRendererTest {
+
+    @Test
+    @DisplayName("should write literals as positional parameters")
+    void shouldWritePositionalParameters() {
+        QueryRenderer renderer = QueryRenderer.positional()
+                .append("FROM Book")
+                .where(Restrict.all(_Book.numPages.between(100, 400),
+                                    _Book.author.equalTo("Ann")));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(renderer.query())
+                    .isEqualTo("FROM Book WHERE numPages BETWEEN ?1 AND ?2 AND author = ?3");
+            soft.assertThat(renderer.parameters()).containsExactly(100, 400, "Ann");
+            soft.assertThat(renderer.namedParameters().keySet()).containsExactly("1", "2", "3");
+        });
+    }
+
+    @Test
+    @DisplayName("should write literals as named parameters")
+    void shouldWriteNamedParameters() {
+        QueryRenderer renderer = QueryRenderer.named("p")
+                .restriction(Restrict.any(_Book.numChapters.lessThan(5),
+                                          _Book.title.notNull()));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(renderer.query()).isEqualTo("numChapters < :p1 OR title IS NOT NULL");
+            soft.assertThat(renderer.namedParameters()).isEqualTo(Map.of("p1", 5));
+        });
+    }
+
+    @Test
+    @DisplayName("should parenthesize nested and negated composite restrictions")
+    void shouldParenthesizeComposites() {
+        Restriction<Book> restriction = Restrict.all(
+                _Book.id.notEqualTo("B0"),
+                Restrict.any(_Book.numPages.greaterThan(10), _Book.numChapters.lessThanEqual(3)),
+                Restrict.not(Restrict.all(_Book.title.isNull(), _Book.author.isNull())));
+
+        assertThat(QueryRenderer.positional().restriction(restriction).query())
+                .isEqualTo("id <> ?1 AND (numPages > ?2 OR numChapters <= ?3)"
+                        + " AND NOT (title IS NULL AND author IS NULL)");
+    }
+
+    @Test
+    @DisplayName("should write unrestricted and unmatchable restrictions")
+    void shouldWriteUnrestricted() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(QueryRenderer.positional().append("FROM Book")
+                            .where(Restrict.unrestricted()).query())
+                    .isEqualTo("FROM Book");
+            soft.assertThat(QueryRenderer.positional()
+                            .restriction(Restrict.unrestricted()).query())
+                    .isEqualTo("TRUE");
+            soft.assertThat(QueryRenderer.positional().append("FROM Book")
+                            .where(Restrict.<Book>unrestricted().negate()).query())
+                    .isEqualTo("FROM Book WHERE FALSE");
+        });
+    }
+
+    @Test
+    @DisplayName("should write IN with a parameter per value, or one for bulk values")
+    void shouldWriteIn() {
+        QueryRenderer values = QueryRenderer.positional()
+                .restriction(_Book.id.in("B1", "B2"));
+        QueryRenderer bulk = QueryRenderer.positional()
+                .restriction(_Book.numPages.satisfies(In.bulk(Set.of(1))));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(values.query()).isEqualTo("id IN (?1, ?2)");
+            soft.assertThat(values.parameters()).containsExactly("B1", "B2");
+            soft.assertThat(bulk.query()).isEqualTo("numPages IN (?1)");
+            soft.assertThat(bulk.parameters()).hasSize(1);
+            soft.assertThat((Iterable<?>) bulk.parameters().get(0)).containsExactly(1);
+        });
+    }
+
+    @Test
+    @DisplayName("should always write ESCAPE")
+    void shouldAlwaysWriteEscape() {
+        QueryRenderer plain = QueryRenderer.positional()
+                .restriction(_Book.title.like(Like.pattern("Jakarta%")));
+        QueryRenderer escaped = QueryRenderer.positional()
+                .restriction(_Book.title.like(Like.prefix("100%")));
+        QueryRenderer expression = QueryRenderer.positional()
+                .restriction(_Book.title.like(Like.pattern(_Book.id, '\'')));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(plain.query()).isEqualTo("title LIKE ?1 ESCAPE '\\'");
+            soft.assertThat(plain.parameters()).containsExactly("Jakarta%");
+            soft.assertThat(escaped.query()).isEqualTo("title LIKE ?1 ESCAPE '\\'");
+            soft.assertThat(escaped.parameters()).containsExactly("100\\%%");
+            soft.assertThat(expression.query()).isEqualTo("title LIKE id ESCAPE ''''");
+            soft.assertThat(QueryRenderer.positional().restriction(_Book.title.startsWith("a_b")).query())
+                    .isEqualTo(QueryRenderer.positional().restriction(_Book.title.startsWith("ab")).query());
+        });
+    }
+
+    @Test
+    @DisplayName("should write expressions")
+    void shouldWriteExpressions() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(QueryRenderer.positional()
+                            .expression(_Book.numPages.plus(_Book.numChapters).times(2)).query())
+                    .isEqualTo("((numPages + numChapters) * ?1)");
+            soft.assertThat(QueryRenderer.positional()
+                            .expression(_Book.title.upper().append("!")).query())
+                    .isEqualTo("(UPPER(title) || ?1)");
+            soft.assertThat(QueryRenderer.positional()
+                            .expression(_Book.numPages.negated().asLong()).query())
+                    .isEqualTo("CAST(-(numPages) AS LONG)");
+        });
+    }
+
+    @Test
+    @DisplayName("should write sort criteria")
+    void shouldWriteOrder() {
+        Order<Book> order = Order.by(_Book.title.ascIgnoreCase(),
+                                     Sort.<Book>desc("author").nullsLast(),
+                                     _Book.id.asc());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(QueryRenderer.positional().append("FROM Book")
+                            .orderBy(order).query())
+                    .isEqualTo("FROM Book ORDER BY UPPER(title) ASC, author DESC NULLS LAST, id ASC");
+            soft.assertThat(QueryRenderer.positional().append("FROM Book")
+                            .orderBy(Order.by()).query())
+                    .isEqualTo("FROM Book");
+        });
+    }
+
+    @Test
+    @DisplayName("should write the same query for the same shape after reset")
+    void shouldReuseAfterReset() {
+        QueryRenderer renderer = QueryRenderer.positional();
+        String first = renderer.append("FROM Book")
+                .where(_Book.numPages.greaterThan(100))
+                .query();
+        List<Object> firstValues = renderer.parameters();
+        String second = renderer.reset()
+                .append("FROM Book")
+                .where(_Book.numPages.greaterThan(500))
+                .query();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(second).isEqualTo(first).isEqualTo(renderer.toString());
+            soft.assertThat(firstValues).containsExactly(100);
+            soft.assertThat(renderer.parameters()).containsExactly(500);
+        });
+    }
+
+    @Test
+    @DisplayName("should reject invalid arguments")
+    void shouldRejectInvalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> QueryRenderer.named(""));
+        assertThatIllegalArgumentException().isThrownBy(() -> QueryRenderer.named("1p"));
+        assertThatNullPointerException().isThrownBy(() -> QueryRenderer.named(null));
+        assertThatNullPointerException()
+                .isThrownBy(() -> QueryRenderer.positional().restriction(null));
+    }
+}
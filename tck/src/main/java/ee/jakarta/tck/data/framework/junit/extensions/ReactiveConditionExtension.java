@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.data.framework.junit.extensions;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import ee.jakarta.tck.data.framework.utilities.TestPropertyUtility;
+
+/**
+ * Evaluates whether the Jakarta Data provider supports repositories that
+ * inherit ReactiveCrudRepository to determine if a test class/method is
+ * enabled/disabled.
+ *
+ * @see ee.jakarta.tck.data.framework.junit.anno.ReactiveRequired
+ */
+public class ReactiveConditionExtension implements ExecutionCondition {
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        return TestPropertyUtility.reactiveSupported()
+                ? ConditionEvaluationResult.enabled("Reactive repositories are supported")
+                : ConditionEvaluationResult.disabled("Reactive repositories are not supported");
+    }
+
+}
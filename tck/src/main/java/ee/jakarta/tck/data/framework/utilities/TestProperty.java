@@ -65,6 +65,10 @@ public enum TestProperty {
     databaseName(false, "jakarta.tck.database.name",
             "The name of database being used. The database name is used to make assertions based on the underlying database. "
                     + "Default: none"),
+    reactiveSupported(false, "jakarta.tck.reactive.supported",
+            "If false, the Jakarta Data provider does not support repositories that inherit ReactiveCrudRepository, "
+                    + "which is optional, and tests of such repositories are skipped rather than deployed. "
+                    + "Default: true", "true"),
 
     //Signature testing properties
     signatureClasspath(false, "signature.sigTestClasspath", "The path to the Jakarta Data API JAR used by your implementation. "
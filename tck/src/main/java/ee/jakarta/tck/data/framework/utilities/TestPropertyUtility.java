@@ -39,6 +39,16 @@ public class TestPropertyUtility {
         return Boolean.valueOf(TestProperty.skipDeployment.getValue());
     }
 
+    /**
+     * Checks whether the Jakarta Data provider supports repositories that
+     * inherit ReactiveCrudRepository, which is optional.
+     *
+     * @return - true if reactive repositories are supported, false otherwise.
+     */
+    public static boolean reactiveSupported() {
+        return TestProperty.reactiveSupported.getBoolean();
+    }
+
     /**
      * If a delay was configured for eventual consistency then sleep this thread
      * for that amount of time. A warning is produced if the thread is
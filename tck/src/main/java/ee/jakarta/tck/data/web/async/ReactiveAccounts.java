@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.data.web.async;
+
+import java.util.concurrent.Flow;
+
+import jakarta.data.repository.Find;
+import jakarta.data.repository.OrderBy;
+import jakarta.data.repository.ReactiveCrudRepository;
+import jakarta.data.repository.Repository;
+
+/**
+ * A repository for which the Jakarta Data provider, rather than Jakarta
+ * Concurrency, provides the asynchronous behavior.
+ */
+@Repository
+public interface ReactiveAccounts extends ReactiveCrudRepository<Account, Integer> {
+
+    @Find
+    @OrderBy(_Account.ACCOUNTID)
+    Flow.Publisher<Account> active(boolean active);
+
+}
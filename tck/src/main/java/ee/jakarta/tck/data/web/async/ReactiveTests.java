@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.data.web.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+import ee.jakarta.tck.data.framework.junit.anno.AnyEntity;
+import ee.jakarta.tck.data.framework.junit.anno.Assertion;
+import ee.jakarta.tck.data.framework.junit.anno.ReactiveRequired;
+import ee.jakarta.tck.data.framework.junit.anno.Web;
+import ee.jakarta.tck.data.framework.utilities.TestPropertyUtility;
+import jakarta.inject.Inject;
+
+@Web
+@AnyEntity
+@ReactiveRequired
+public class ReactiveTests {
+    /**
+     * Maximum amount of time to wait for asynchronous operations to complete.
+     */
+    static final long TIMEOUT_SECONDS = TimeUnit.MINUTES.toSeconds(2);
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(_Account.class, Account.class, ReactiveAccounts.class);
+    }
+
+    @Inject
+    ReactiveAccounts accounts;
+
+    @Assertion(id = "19", strategy = """
+            Tests the asynchronous lifecycle and find operations of a
+            repository that extends ReactiveCrudRepository.
+            """)
+    public void testReactiveLifecycleMethods() throws Exception {
+        List<Account> testData = List.of(
+                Account.of(201, true, 12.99f,
+                           LocalDateTime.of(2026, 6, 1, 9, 10, 20),
+                           "reactiveUser201@eclipse.org"),
+                Account.of(202, false, 22.99f,
+                           LocalDateTime.of(2026, 6, 2, 9, 20, 30),
+                           "reactiveUser202@eclipse.org"));
+
+        List<Account> inserted = collect(accounts.insertAll(testData), Long.MAX_VALUE);
+        assertEquals(2, inserted.size());
+
+        TestPropertyUtility.waitForEventualConsistency();
+
+        Optional<Account> found = accounts.findById(202)
+                .toCompletableFuture()
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(true, found.isPresent());
+        assertEquals(false, found.get().active);
+        assertEquals(22.99f, found.get().balance, 0.001f);
+        assertEquals("reactiveUser202@eclipse.org", found.get().email);
+
+        accounts.deleteAll(testData)
+                .toCompletableFuture()
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        TestPropertyUtility.waitForEventualConsistency();
+
+        assertEquals(false, accounts.findById(201)
+                .toCompletableFuture()
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .isPresent());
+    }
+
+    @Assertion(id = "19", strategy = """
+            Tests a find method that returns a Flow.Publisher to a
+            subscriber that requests one result at a time.
+            """)
+    public void testReactivePublisher() throws Exception {
+        List<Account> testData = List.of(
+                Account.of(211, true, 1.99f,
+                           LocalDateTime.of(2026, 6, 11, 8, 0, 0),
+                           "reactiveUser211@eclipse.org"),
+                Account.of(212, false, 2.99f,
+                           LocalDateTime.of(2026, 6, 12, 8, 0, 0),
+                           "reactiveUser212@eclipse.org"),
+                Account.of(213, true, 3.99f,
+                           LocalDateTime.of(2026, 6, 13, 8, 0, 0),
+                           "reactiveUser213@eclipse.org"),
+                Account.of(214, true, 4.99f,
+                           LocalDateTime.of(2026, 6, 14, 8, 0, 0),
+                           "reactiveUser214@eclipse.org"));
+
+        collect(accounts.saveAll(testData), Long.MAX_VALUE);
+
+        TestPropertyUtility.waitForEventualConsistency();
+
+        List<Integer> ids = new ArrayList<>();
+        for (Account account : collect(accounts.active(true), 1)) {
+            if (account.accountId > 200 && account.accountId < 220) {
+                ids.add(account.accountId);
+            }
+        }
+        assertEquals(List.of(211, 213, 214), ids);
+
+        accounts.deleteAll(testData)
+                .toCompletableFuture()
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        TestPropertyUtility.waitForEventualConsistency();
+    }
+
+    /**
+     * Subscribes to a publisher, requesting the given number of results at
+     * a time, and waits for all of the results.
+     */
+    private static <T> List<T> collect(Flow.Publisher<T> publisher,
+                                       long batchSize) throws Exception {
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<T>() {
+            private final List<T> results = new ArrayList<>();
+            private Flow.Subscription subscription;
+            private long remaining;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                remaining = batchSize;
+                subscription.request(batchSize);
+            }
+
+            @Override
+            public void onNext(T item) {
+                results.add(item);
+                if (batchSize != Long.MAX_VALUE && --remaining == 0) {
+                    remaining = batchSize;
+                    subscription.request(batchSize);
+                }
+            }
+
+            @Override
+            public void onError(Throwable failure) {
+                future.completeExceptionally(failure);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(results);
+            }
+        });
+        return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}